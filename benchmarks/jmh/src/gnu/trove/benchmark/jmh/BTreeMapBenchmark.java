@@ -0,0 +1,114 @@
+package gnu.trove.benchmark.jmh;
+
+import gnu.trove.map.tree.TLongIntBTreeMap;
+import gnu.trove.procedure.TLongIntProcedure;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares TLongIntBTreeMap with TreeMap&lt;Long,Integer&gt; for random
+ * lookups, floor lookups and a scan over a range of 1000 keys.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class BTreeMapBenchmark {
+	@Param( { "10000", "1000000" } )
+	public int size;
+
+	@Param( { "1000" } )
+	public int lookups;
+
+	private long[] queries;
+	private TLongIntBTreeMap btree;
+	private TreeMap<Long,Integer> tree;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random( 0 );
+		btree = new TLongIntBTreeMap();
+		tree = new TreeMap<Long,Integer>();
+		for( int i = 0; i < size; i++ ) {
+			long key = random.nextInt( size * 4 );
+			btree.put( key, i );
+			tree.put( key, i );
+		}
+		queries = new long[ lookups ];
+		for( int i = 0; i < lookups; i++ ) {
+			queries[ i ] = random.nextInt( size * 4 );
+		}
+	}
+
+	@Benchmark
+	public int btreeGet() {
+		int sum = 0;
+		for( int i = 0; i < queries.length; i++ ) {
+			sum += btree.get( queries[ i ] );
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int treeGet() {
+		int sum = 0;
+		for( int i = 0; i < queries.length; i++ ) {
+			Integer value = tree.get( queries[ i ] );
+			if ( value != null ) {
+				sum += value;
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long btreeFloor() {
+		long sum = 0;
+		for( int i = 0; i < queries.length; i++ ) {
+			sum += btree.floorKey( queries[ i ] );
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long treeFloor() {
+		long sum = 0;
+		for( int i = 0; i < queries.length; i++ ) {
+			Long key = tree.floorKey( queries[ i ] );
+			if ( key != null ) {
+				sum += key;
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int btreeRange() {
+		final int[] sum = new int[ 1 ];
+		long from = queries[ 0 ];
+		btree.forEachEntry( from, from + 1000, new TLongIntProcedure() {
+			public boolean execute( long key, int value ) {
+				sum[ 0 ] += value;
+				return true;
+			}
+		} );
+		return sum[ 0 ];
+	}
+
+	@Benchmark
+	public int treeRange() {
+		int sum = 0;
+		long from = queries[ 0 ];
+		for( Map.Entry<Long,Integer> entry : tree.subMap( from, from + 1000 ).entrySet() ) {
+			sum += entry.getValue();
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,70 @@
+package gnu.trove.benchmark.jmh;
+
+import gnu.trove.map.hash.TLongIntHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares looking up an array of keys with a loop of <tt>get()</tt> calls
+ * against a single <tt>getAll()</tt> call on TLongIntHashMap.  The keys are
+ * drawn at random from the map, so once it outgrows the caches nearly every
+ * lookup is a cache miss.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class BulkLookupBenchmark {
+	@Param( { "10000", "1000000", "10000000" } )
+	public int size;
+
+	@Param( { "10000" } )
+	public int lookups;
+
+	private long[] queries;
+	private int[] values;
+	private long[] found;
+	private TLongIntHashMap map;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random( 0 );
+		long[] keys = new long[ size ];
+		map = new TLongIntHashMap( size );
+		for( int i = 0; i < size; i++ ) {
+			keys[ i ] = random.nextLong();
+			map.put( keys[ i ], i );
+		}
+		queries = new long[ lookups ];
+		for( int i = 0; i < lookups; i++ ) {
+			queries[ i ] = keys[ random.nextInt( size ) ];
+		}
+		values = new int[ lookups ];
+		found = new long[ ( lookups + 63 ) / 64 ];
+	}
+
+	@Benchmark
+	public int[] getLoop() {
+		for( int i = 0; i < queries.length; i++ ) {
+			values[ i ] = map.get( queries[ i ] );
+		}
+		return values;
+	}
+
+	@Benchmark
+	public int[] getAll() {
+		map.getAll( queries, values );
+		return values;
+	}
+
+	@Benchmark
+	public long[] containsKeys() {
+		map.containsKeys( queries, found );
+		return found;
+	}
+}
@@ -0,0 +1,132 @@
+package gnu.trove.benchmark.jmh;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * The fastutil baseline for TIntIntMapBenchmark, TIntSetBenchmark and
+ * TIntListBenchmark: primitive collections with linear probing.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class FastutilBenchmark {
+	@Param( { "1000", "100000", "1000000" } )
+	public int size;
+
+	@Param( { "0.5", "0.75" } )
+	public float loadFactor;
+
+	private int[] keys;
+	private Int2IntOpenHashMap map;
+	private IntOpenHashSet set;
+	private IntArrayList list;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random( size );
+		keys = new int[ size ];
+		map = new Int2IntOpenHashMap( size, loadFactor );
+		set = new IntOpenHashSet( size, loadFactor );
+		for( int i = 0; i < size; i++ ) {
+			keys[ i ] = ( int ) random.nextLong();
+			map.put( keys[ i ], i );
+			set.add( keys[ i ] );
+		}
+		list = new IntArrayList( keys );
+	}
+
+	@Benchmark
+	public Int2IntOpenHashMap mapPut() {
+		Int2IntOpenHashMap fresh = new Int2IntOpenHashMap( 10, loadFactor );
+		for( int key : keys ) {
+			fresh.put( key, 1 );
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public void mapGet( Blackhole blackhole ) {
+		for( int key : keys ) {
+			blackhole.consume( map.get( key ) );
+		}
+	}
+
+	@Benchmark
+	public void mapRemoveAndPut( Blackhole blackhole ) {
+		for( int key : keys ) {
+			blackhole.consume( map.put( key, map.remove( key ) ) );
+		}
+	}
+
+	@Benchmark
+	public void mapIterate( Blackhole blackhole ) {
+		ObjectIterator<Int2IntMap.Entry> iter = map.int2IntEntrySet().fastIterator();
+		while( iter.hasNext() ) {
+			Int2IntMap.Entry entry = iter.next();
+			blackhole.consume( entry.getIntKey() );
+			blackhole.consume( entry.getIntValue() );
+		}
+	}
+
+	@Benchmark
+	public IntOpenHashSet setAdd() {
+		IntOpenHashSet fresh = new IntOpenHashSet( 10, loadFactor );
+		for( int key : keys ) {
+			fresh.add( key );
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public void setContains( Blackhole blackhole ) {
+		for( int key : keys ) {
+			blackhole.consume( set.contains( key ) );
+		}
+	}
+
+	@Benchmark
+	public void setIterate( Blackhole blackhole ) {
+		IntIterator iter = set.iterator();
+		while( iter.hasNext() ) {
+			blackhole.consume( iter.nextInt() );
+		}
+	}
+
+	@Benchmark
+	public IntArrayList listAdd() {
+		IntArrayList fresh = new IntArrayList();
+		for( int key : keys ) {
+			fresh.add( key );
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public void listGet( Blackhole blackhole ) {
+		for( int i = 0; i < size; i++ ) {
+			blackhole.consume( list.getInt( i ) );
+		}
+	}
+
+	@Benchmark
+	public void listIterate( Blackhole blackhole ) {
+		IntIterator iter = list.iterator();
+		while( iter.hasNext() ) {
+			blackhole.consume( iter.nextInt() );
+		}
+	}
+}
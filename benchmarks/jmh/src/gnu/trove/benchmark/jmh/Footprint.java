@@ -0,0 +1,223 @@
+package gnu.trove.benchmark.jmh;
+
+import gnu.trove.list.TLinkableAdapter;
+import gnu.trove.list.linked.TLinkedList;
+import gnu.trove.map.hash.TCustomHashMap;
+import gnu.trove.map.hash.THashMap;
+import gnu.trove.set.hash.THashSet;
+import gnu.trove.set.hash.TLinkedHashSet;
+import gnu.trove.strategy.IdentityHashingStrategy;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+
+/**
+ * Reports the heap retained per element and the bytes allocated per insertion
+ * of the Trove collections and their java.util equivalents.
+ * <p/>
+ * Retained sizes are measured by walking the object graph (see
+ * {@link ObjectSizer}); the keys of object collections are shared and not
+ * counted, so the numbers are the overhead of the collection itself.
+ * Allocation is measured with the per thread allocation counter of HotSpot
+ * while the collection is filled from empty, so it includes the tables
+ * discarded while growing.  For allocation per operation of the other
+ * operations run the JMH benchmarks with <tt>-prof gc</tt>.
+ * <p/>
+ * Usage: <tt>Footprint [sizes] [load factors] [name filter]</tt>, e.g.
+ * <tt>Footprint 1000,1000000 0.5,0.75 Int</tt>.  On Java 9 and later the
+ * Unsafe based sizer needs no extra flags.
+ */
+public class Footprint {
+	public static void main( String[] args ) {
+		int[] sizes = parseInts( args.length > 0 ? args[ 0 ] : "1000,100000,1000000" );
+		float[] load_factors = parseFloats( args.length > 1 ? args[ 1 ] : "0.5,0.75" );
+		String filter = args.length > 2 ? args[ 2 ] : "";
+
+		int max_size = 0;
+		for( int size : sizes ) max_size = Math.max( max_size, size );
+		Random random = new Random( 0 );
+		long[] keys = new long[ max_size ];
+		Integer[] boxed = new Integer[ max_size ];
+		Map<Object,Object> excluded = new IdentityHashMap<Object,Object>();
+		for( int i = 0; i < max_size; i++ ) {
+			keys[ i ] = random.nextLong();
+			boxed[ i ] = Integer.valueOf( ( int ) keys[ i ] );
+			excluded.put( boxed[ i ], boxed[ i ] );
+		}
+
+		List<FootprintCase> cases = new ArrayList<FootprintCase>();
+		addObjectCases( cases );
+		PrimitiveFootprints.addCases( cases );
+
+		ObjectSizer sizer = new ObjectSizer();
+		System.out.printf( "%-28s %10s %6s %14s %12s %14s%n", "Collection", "Size",
+			"Load", "Retained", "Bytes/entry", "Alloc/insert" );
+		for( FootprintCase c : cases ) {
+			if ( !c.getName().contains( filter ) ) continue;
+			for( int size : sizes ) {
+				for( float load_factor : load_factors ) {
+					long allocated = allocatedBytes();
+					Object collection = c.create( keys, boxed, size, load_factor );
+					allocated = allocatedBytes() - allocated;
+
+					int entries = c.size( collection );
+					long retained = sizer.sizeOf( collection, excluded );
+					System.out.printf( "%-28s %10d %6.2f %14d %12.2f %14s%n", c.getName(),
+						entries, load_factor, retained, retained / ( double ) entries,
+						allocated < 0 ? "n/a" : String.format( "%.2f", allocated / ( double ) size ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the bytes allocated by the current thread so far, or a negative
+	 * number if the VM doesn't count them.
+	 */
+	private static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if ( bean instanceof com.sun.management.ThreadMXBean ) {
+			return ( ( com.sun.management.ThreadMXBean ) bean ).getThreadAllocatedBytes(
+				Thread.currentThread().getId() );
+		}
+		return Long.MIN_VALUE / 2;
+	}
+
+	private static void addObjectCases( List<FootprintCase> cases ) {
+		cases.add( new MapCase( "THashMap" ) {
+			Map<Integer,Integer> newMap( float loadFactor ) {
+				return new THashMap<Integer,Integer>( 10, loadFactor );
+			}
+		} );
+		cases.add( new MapCase( "TCustomHashMap" ) {
+			Map<Integer,Integer> newMap( float loadFactor ) {
+				return new TCustomHashMap<Integer,Integer>(
+					IdentityHashingStrategy.INSTANCE, 10, loadFactor );
+			}
+		} );
+		cases.add( new MapCase( "java.util.HashMap" ) {
+			Map<Integer,Integer> newMap( float loadFactor ) {
+				return new HashMap<Integer,Integer>( 10, loadFactor );
+			}
+		} );
+		cases.add( new CollectionCase( "THashSet" ) {
+			Collection<Object> newCollection( float loadFactor ) {
+				return new THashSet<Object>( 10, loadFactor );
+			}
+		} );
+		cases.add( new CollectionCase( "TLinkedHashSet" ) {
+			Collection<Object> newCollection( float loadFactor ) {
+				return new TLinkedHashSet<Object>( 10, loadFactor );
+			}
+		} );
+		cases.add( new CollectionCase( "java.util.HashSet" ) {
+			Collection<Object> newCollection( float loadFactor ) {
+				return new HashSet<Object>( 10, loadFactor );
+			}
+		} );
+		cases.add( new CollectionCase( "java.util.LinkedHashSet" ) {
+			Collection<Object> newCollection( float loadFactor ) {
+				return new LinkedHashSet<Object>( 10, loadFactor );
+			}
+		} );
+		cases.add( new CollectionCase( "java.util.ArrayList" ) {
+			Collection<Object> newCollection( float loadFactor ) {
+				return new ArrayList<Object>();
+			}
+		} );
+		cases.add( new CollectionCase( "java.util.LinkedList" ) {
+			Collection<Object> newCollection( float loadFactor ) {
+				return new LinkedList<Object>();
+			}
+		} );
+		cases.add( new FootprintCase( "TLinkedList" ) {
+			public Object create( long[] keys, Integer[] boxed, int size, float loadFactor ) {
+				// the links are the elements, so they are counted; their values aren't
+				TLinkedList<Link> list = new TLinkedList<Link>();
+				for( int i = 0; i < size; i++ ) {
+					list.add( new Link( boxed[ i ] ) );
+				}
+				return list;
+			}
+			public int size( Object collection ) {
+				return ( ( Collection<?> ) collection ).size();
+			}
+		} );
+	}
+
+	private static class Link extends TLinkableAdapter<Link> {
+		final Integer value;
+
+		Link( Integer value ) {
+			this.value = value;
+		}
+	}
+
+	private abstract static class MapCase extends FootprintCase {
+		MapCase( String name ) {
+			super( name );
+		}
+
+		abstract Map<Integer,Integer> newMap( float loadFactor );
+
+		public Object create( long[] keys, Integer[] boxed, int size, float loadFactor ) {
+			Map<Integer,Integer> map = newMap( loadFactor );
+			for( int i = 0; i < size; i++ ) {
+				map.put( boxed[ i ], boxed[ i ] );
+			}
+			return map;
+		}
+
+		public int size( Object collection ) {
+			return ( ( Map<?,?> ) collection ).size();
+		}
+	}
+
+	private abstract static class CollectionCase extends FootprintCase {
+		CollectionCase( String name ) {
+			super( name );
+		}
+
+		abstract Collection<Object> newCollection( float loadFactor );
+
+		public Object create( long[] keys, Integer[] boxed, int size, float loadFactor ) {
+			Collection<Object> collection = newCollection( loadFactor );
+			for( int i = 0; i < size; i++ ) {
+				collection.add( boxed[ i ] );
+			}
+			return collection;
+		}
+
+		public int size( Object collection ) {
+			return ( ( Collection<?> ) collection ).size();
+		}
+	}
+
+	private static int[] parseInts( String list ) {
+		String[] parts = list.split( "," );
+		int[] values = new int[ parts.length ];
+		for( int i = 0; i < parts.length; i++ ) {
+			values[ i ] = Integer.parseInt( parts[ i ].trim() );
+		}
+		return values;
+	}
+
+	private static float[] parseFloats( String list ) {
+		String[] parts = list.split( "," );
+		float[] values = new float[ parts.length ];
+		for( int i = 0; i < parts.length; i++ ) {
+			values[ i ] = Float.parseFloat( parts[ i ].trim() );
+		}
+		return values;
+	}
+}
@@ -0,0 +1,36 @@
+package gnu.trove.benchmark.jmh;
+
+/**
+ * A collection measured by {@link Footprint}.
+ */
+public abstract class FootprintCase {
+	private final String name;
+
+	protected FootprintCase( String name ) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Creates a collection of the measured kind and fills it with
+	 * <tt>size</tt> elements.
+	 *
+	 * @param keys the keys to use, at least <tt>size</tt> of them.  Boxed
+	 *             collections must use the objects in <tt>boxed</tt> so that
+	 *             the keys themselves aren't counted.
+	 * @param boxed the keys as Integers.
+	 * @param size the number of elements to add.
+	 * @param loadFactor the load factor of hashed collections.
+	 * @return the collection.
+	 */
+	public abstract Object create( long[] keys, Integer[] boxed, int size, float loadFactor );
+
+	/**
+	 * Returns the number of elements in <tt>collection</tt>, which may be
+	 * less than requested when the key type has fewer distinct values.
+	 */
+	public abstract int size( Object collection );
+}
@@ -0,0 +1,87 @@
+package gnu.trove.benchmark.jmh;
+
+import gnu.trove.map.hash.TLongIntFrozenHashMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares looking keys up in a TLongIntHashMap with looking them up in the
+ * TLongIntFrozenHashMap it freezes into, for keys drawn at random from the
+ * map and for keys that miss.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class FrozenHashMapBenchmark {
+	@Param( { "10000", "1000000", "10000000" } )
+	public int size;
+
+	@Param( { "10000" } )
+	public int lookups;
+
+	private long[] hits;
+	private long[] misses;
+	private TLongIntHashMap map;
+	private TLongIntFrozenHashMap frozen;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random( 0 );
+		long[] keys = new long[ size ];
+		map = new TLongIntHashMap( size );
+		for( int i = 0; i < size; i++ ) {
+			keys[ i ] = random.nextLong();
+			map.put( keys[ i ], i );
+		}
+		frozen = map.freeze();
+		hits = new long[ lookups ];
+		misses = new long[ lookups ];
+		for( int i = 0; i < lookups; i++ ) {
+			hits[ i ] = keys[ random.nextInt( size ) ];
+			misses[ i ] = random.nextLong();
+		}
+	}
+
+	@Benchmark
+	public int hashHits() {
+		int sum = 0;
+		for( int i = 0; i < hits.length; i++ ) {
+			sum += map.get( hits[ i ] );
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int frozenHits() {
+		int sum = 0;
+		for( int i = 0; i < hits.length; i++ ) {
+			sum += frozen.get( hits[ i ] );
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int hashMisses() {
+		int sum = 0;
+		for( int i = 0; i < misses.length; i++ ) {
+			sum += map.get( misses[ i ] );
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int frozenMisses() {
+		int sum = 0;
+		for( int i = 0; i < misses.length; i++ ) {
+			sum += frozen.get( misses[ i ] );
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,117 @@
+package gnu.trove.benchmark.jmh;
+
+import gnu.trove.map.hash.THashMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the hash code cache of the object hashes on composite keys,
+ * whose <tt>hashCode()</tt> and <tt>equals()</tt> walk several fields.
+ * <tt>put</tt> grows the map from its default capacity, so it is dominated
+ * by rehashing; <tt>getMissing</tt> looks for keys that share long
+ * prefixes with the stored ones.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@State( Scope.Thread )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class HashCodeCachingBenchmark {
+	@Param( { "false", "true" } )
+	public boolean cache;
+
+	@Param( { "1000000" } )
+	public int size;
+
+	private Key[] keys;
+	private Key[] missing;
+	private THashMap<Key, Integer> map;
+
+
+	/**
+	 * A key of a tenant, a path and an id, which computes its hash code from
+	 * all of their characters on every call, as a key without a hash code
+	 * field of its own would.
+	 */
+	static final class Key {
+		final String tenant;
+		final String path;
+		final long id;
+
+		Key( String tenant, String path, long id ) {
+			this.tenant = tenant;
+			this.path = path;
+			this.id = id;
+		}
+
+		public int hashCode() {
+			int hash = 0;
+			for( int i = 0; i < tenant.length(); i++ ) {
+				hash = 31 * hash + tenant.charAt( i );
+			}
+			for( int i = 0; i < path.length(); i++ ) {
+				hash = 31 * hash + path.charAt( i );
+			}
+			return 31 * hash + ( int ) ( id ^ ( id >>> 32 ) );
+		}
+
+		public boolean equals( Object other ) {
+			if ( !( other instanceof Key ) ) {
+				return false;
+			}
+			Key key = ( Key ) other;
+			return id == key.id && tenant.equals( key.tenant ) && path.equals( key.path );
+		}
+	}
+
+
+	@Setup
+	public void setUp() {
+		keys = new Key[ size ];
+		missing = new Key[ size ];
+		for( int i = 0; i < size; i++ ) {
+			keys[ i ] = new Key( "tenant-" + i % 100,
+				"/accounts/ledger/entries/" + i / 100, i );
+			missing[ i ] = new Key( "tenant-" + i % 100,
+				"/accounts/ledger/entries/" + i / 100, i + ( long ) size );
+		}
+		map = newMap();
+		for( Key key : keys ) {
+			map.put( key, Integer.valueOf( 0 ) );
+		}
+	}
+
+	private THashMap<Key, Integer> newMap() {
+		THashMap<Key, Integer> fresh = new THashMap<Key, Integer>();
+		fresh.setHashCodeCaching( cache );
+		return fresh;
+	}
+
+	@Benchmark
+	public THashMap<Key, Integer> put() {
+		THashMap<Key, Integer> fresh = newMap();
+		Integer value = Integer.valueOf( 0 );
+		for( Key key : keys ) {
+			fresh.put( key, value );
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public void get( Blackhole blackhole ) {
+		for( Key key : keys ) {
+			blackhole.consume( map.get( key ) );
+		}
+	}
+
+	@Benchmark
+	public void getMissing( Blackhole blackhole ) {
+		for( Key key : missing ) {
+			blackhole.consume( map.get( key ) );
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package gnu.trove.benchmark.jmh;
+
+import gnu.trove.map.hash.TLongLongHashMap;
+import gnu.trove.strategy.HashMixer;
+import gnu.trove.strategy.ProbeStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares the hash mixers of the primitive hashes on key sets that the
+ * plain hash codes handle badly:
+ * <ul>
+ * <li><tt>sequential</tt>: 0, 1, 2, ..., like ids</li>
+ * <li><tt>strided</tt>: a start plus multiples of 1000, like timestamps</li>
+ * <li><tt>halves</tt>: keys whose two halves are equal, which the plain long
+ * hash code folds to 0</li>
+ * <li><tt>random</tt>: random keys, as a baseline that needs no mixing</li>
+ * </ul>
+ * The <tt>halves</tt> keys make every plain hash collide, so the
+ * <tt>NONE</tt> runs on them take quadratic time; keep the size small.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class HashMixerBenchmark {
+	@Param( { "NONE", "MURMUR3", "XXHASH" } )
+	public HashMixer mixer;
+
+	@Param( { "sequential", "strided", "halves", "random" } )
+	public String keySet;
+
+	@Param( { "DOUBLE_HASHING", "LINEAR" } )
+	public ProbeStrategy strategy;
+
+	@Param( { "false", "true" } )
+	public boolean powerOfTwo;
+
+	@Param( { "20000" } )
+	public int size;
+
+	private long[] keys;
+	private long[] missing;
+	private TLongLongHashMap map;
+
+	@Setup
+	public void setUp() {
+		keys = keys( keySet, size, 0 );
+		missing = keys( keySet, size, size );
+		map = newMap();
+		for( long key : keys ) {
+			map.put( key, key );
+		}
+	}
+
+	private static long[] keys( String keySet, int size, int offset ) {
+		Random random = new Random( offset );
+		long[] keys = new long[ size ];
+		for( int i = 0; i < size; i++ ) {
+			long n = i + offset;
+			if ( keySet.equals( "sequential" ) ) {
+				keys[ i ] = n;
+			}
+			else if ( keySet.equals( "strided" ) ) {
+				keys[ i ] = 1300000000000L + n * 1000;
+			}
+			else if ( keySet.equals( "halves" ) ) {
+				keys[ i ] = ( n << 32 ) | n;
+			}
+			else {
+				keys[ i ] = random.nextLong();
+			}
+		}
+		return keys;
+	}
+
+	private TLongLongHashMap newMap() {
+		TLongLongHashMap fresh = new TLongLongHashMap();
+		fresh.setPowerOfTwoCapacity( powerOfTwo );
+		fresh.setProbeStrategy( strategy );
+		fresh.setHashMixer( mixer );
+		return fresh;
+	}
+
+	@Benchmark
+	public TLongLongHashMap put() {
+		TLongLongHashMap fresh = newMap();
+		for( long key : keys ) {
+			fresh.put( key, key );
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public void get( Blackhole blackhole ) {
+		for( long key : keys ) {
+			blackhole.consume( map.get( key ) );
+		}
+	}
+
+	@Benchmark
+	public void getMissing( Blackhole blackhole ) {
+		for( long key : missing ) {
+			blackhole.consume( map.get( key ) );
+		}
+	}
+}
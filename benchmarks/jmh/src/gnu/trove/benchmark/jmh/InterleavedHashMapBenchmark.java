@@ -0,0 +1,79 @@
+package gnu.trove.benchmark.jmh;
+
+import gnu.trove.map.TLongLongMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+import gnu.trove.map.hash.TLongLongInterleavedHashMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares TLongLongInterleavedHashMap, which keeps each key next to its
+ * value, with TLongLongHashMap, which keeps keys, values and slot states in
+ * separate arrays.  The difference shows once the tables outgrow the caches.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class InterleavedHashMapBenchmark {
+	@Param( { "hash", "interleaved" } )
+	public String map;
+
+	@Param( { "1000", "100000", "1000000" } )
+	public int size;
+
+	private long[] keys;
+	private long[] missing;
+	private TLongLongMap filled;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random( 0 );
+		keys = new long[ size ];
+		missing = new long[ size ];
+		for( int i = 0; i < size; i++ ) {
+			keys[ i ] = random.nextLong();
+			missing[ i ] = random.nextLong();
+		}
+		filled = newMap();
+		for( long key : keys ) {
+			filled.put( key, key );
+		}
+	}
+
+	private TLongLongMap newMap() {
+		if ( map.equals( "interleaved" ) ) {
+			return new TLongLongInterleavedHashMap();
+		}
+		return new TLongLongHashMap();
+	}
+
+	@Benchmark
+	public TLongLongMap put() {
+		TLongLongMap fresh = newMap();
+		for( long key : keys ) {
+			fresh.put( key, key );
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public void get( Blackhole blackhole ) {
+		for( long key : keys ) {
+			blackhole.consume( filled.get( key ) );
+		}
+	}
+
+	@Benchmark
+	public void getMissing( Blackhole blackhole ) {
+		for( long key : missing ) {
+			blackhole.consume( filled.get( key ) );
+		}
+	}
+}
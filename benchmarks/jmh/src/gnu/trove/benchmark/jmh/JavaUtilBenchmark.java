@@ -0,0 +1,131 @@
+package gnu.trove.benchmark.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * The java.util baseline for TIntIntMapBenchmark, TIntSetBenchmark and
+ * TIntListBenchmark: the same passes over the same keys with boxed
+ * collections.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class JavaUtilBenchmark {
+	@Param( { "1000", "100000", "1000000" } )
+	public int size;
+
+	@Param( { "0.5", "0.75" } )
+	public float loadFactor;
+
+	private Integer[] keys;
+	private Map<Integer,Integer> map;
+	private Set<Integer> set;
+	private List<Integer> list;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random( size );
+		keys = new Integer[ size ];
+		map = new HashMap<Integer,Integer>( size, loadFactor );
+		set = new HashSet<Integer>( size, loadFactor );
+		list = new ArrayList<Integer>( size );
+		for( int i = 0; i < size; i++ ) {
+			keys[ i ] = Integer.valueOf( ( int ) random.nextLong() );
+			map.put( keys[ i ], Integer.valueOf( i ) );
+			set.add( keys[ i ] );
+			list.add( keys[ i ] );
+		}
+	}
+
+	@Benchmark
+	public Map<Integer,Integer> mapPut() {
+		Map<Integer,Integer> fresh = new HashMap<Integer,Integer>( 10, loadFactor );
+		for( Integer key : keys ) {
+			fresh.put( key, key );
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public void mapGet( Blackhole blackhole ) {
+		for( Integer key : keys ) {
+			blackhole.consume( map.get( key ) );
+		}
+	}
+
+	@Benchmark
+	public void mapRemoveAndPut( Blackhole blackhole ) {
+		for( Integer key : keys ) {
+			blackhole.consume( map.put( key, map.remove( key ) ) );
+		}
+	}
+
+	@Benchmark
+	public void mapIterate( Blackhole blackhole ) {
+		for( Map.Entry<Integer,Integer> entry : map.entrySet() ) {
+			blackhole.consume( entry.getKey() );
+			blackhole.consume( entry.getValue() );
+		}
+	}
+
+	@Benchmark
+	public Set<Integer> setAdd() {
+		Set<Integer> fresh = new HashSet<Integer>( 10, loadFactor );
+		for( Integer key : keys ) {
+			fresh.add( key );
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public void setContains( Blackhole blackhole ) {
+		for( Integer key : keys ) {
+			blackhole.consume( set.contains( key ) );
+		}
+	}
+
+	@Benchmark
+	public void setIterate( Blackhole blackhole ) {
+		for( Iterator<Integer> iter = set.iterator(); iter.hasNext(); ) {
+			blackhole.consume( iter.next() );
+		}
+	}
+
+	@Benchmark
+	public List<Integer> listAdd() {
+		List<Integer> fresh = new ArrayList<Integer>();
+		for( Integer key : keys ) {
+			fresh.add( key );
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public void listGet( Blackhole blackhole ) {
+		for( int i = 0; i < size; i++ ) {
+			blackhole.consume( list.get( i ) );
+		}
+	}
+
+	@Benchmark
+	public void listIterate( Blackhole blackhole ) {
+		for( Integer value : list ) {
+			blackhole.consume( value );
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package gnu.trove.benchmark.jmh;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Measures the heap retained by an object graph on HotSpot.  Instance sizes
+ * come from the field offsets the VM reports, so they follow its actual
+ * layout, including compressed references and field packing.  Objects given
+ * as excluded, e.g. the keys put into a collection, and everything only
+ * reachable through them are not counted, nor are classes and static fields.
+ */
+public class ObjectSizer {
+	private static final sun.misc.Unsafe UNSAFE;
+	private static final int ALIGNMENT = 8;
+
+	static {
+		try {
+			Field field = sun.misc.Unsafe.class.getDeclaredField( "theUnsafe" );
+			field.setAccessible( true );
+			UNSAFE = ( sun.misc.Unsafe ) field.get( null );
+		}
+		catch( Exception ex ) {
+			throw new ExceptionInInitializerError( ex );
+		}
+	}
+
+	private final Map<Class<?>,Layout> layouts = new IdentityHashMap<Class<?>,Layout>();
+
+	/** the shallow size and reference fields of a class */
+	private static class Layout {
+		long size;
+		long[] references;
+	}
+
+	/**
+	 * Returns the number of bytes retained by <tt>root</tt>.
+	 *
+	 * @param root the root of the graph.
+	 * @param excluded objects not to count or follow.
+	 * @return the number of bytes of all objects reachable from <tt>root</tt>.
+	 */
+	public long sizeOf( Object root, Map<Object,Object> excluded ) {
+		Map<Object,Object> seen = new IdentityHashMap<Object,Object>( excluded );
+		Deque<Object> pending = new ArrayDeque<Object>();
+		pending.push( root );
+		seen.put( root, root );
+
+		long size = 0;
+		while( !pending.isEmpty() ) {
+			Object object = pending.pop();
+			Class<?> type = object.getClass();
+			if ( type.isArray() ) {
+				Class<?> component = type.getComponentType();
+				int length = java.lang.reflect.Array.getLength( object );
+				size += align( UNSAFE.arrayBaseOffset( type ) +
+					( long ) length * UNSAFE.arrayIndexScale( type ) );
+				if ( !component.isPrimitive() ) {
+					for( Object element : ( Object[] ) object ) {
+						visit( element, seen, pending );
+					}
+				}
+				continue;
+			}
+
+			Layout layout = layout( type );
+			size += layout.size;
+			for( long offset : layout.references ) {
+				visit( UNSAFE.getObject( object, offset ), seen, pending );
+			}
+		}
+		return size;
+	}
+
+	private static void visit( Object object, Map<Object,Object> seen, Deque<Object> pending ) {
+		if ( object == null || object instanceof Class || seen.containsKey( object ) ) return;
+		seen.put( object, object );
+		pending.push( object );
+	}
+
+	private Layout layout( Class<?> type ) {
+		Layout layout = layouts.get( type );
+		if ( layout != null ) return layout;
+
+		// the header is at least as large as the first field offset
+		long end = UNSAFE.addressSize() == 8 ? 12 : 8;
+		List<Long> references = new ArrayList<Long>();
+		for( Class<?> c = type; c != null; c = c.getSuperclass() ) {
+			for( Field field : c.getDeclaredFields() ) {
+				if ( Modifier.isStatic( field.getModifiers() ) ) continue;
+				long offset = UNSAFE.objectFieldOffset( field );
+				end = Math.max( end, offset + fieldSize( field.getType() ) );
+				if ( !field.getType().isPrimitive() ) references.add( Long.valueOf( offset ) );
+			}
+		}
+		layout = new Layout();
+		layout.size = align( end );
+		layout.references = new long[ references.size() ];
+		for( int i = 0; i < layout.references.length; i++ ) {
+			layout.references[ i ] = references.get( i ).longValue();
+		}
+		layouts.put( type, layout );
+		return layout;
+	}
+
+	private static int fieldSize( Class<?> type ) {
+		if ( type == long.class || type == double.class ) return 8;
+		if ( type == int.class || type == float.class ) return 4;
+		if ( type == short.class || type == char.class ) return 2;
+		if ( type == byte.class || type == boolean.class ) return 1;
+		return UNSAFE.arrayIndexScale( Object[].class );
+	}
+
+	private static long align( long size ) {
+		return ( size + ALIGNMENT - 1 ) / ALIGNMENT * ALIGNMENT;
+	}
+}
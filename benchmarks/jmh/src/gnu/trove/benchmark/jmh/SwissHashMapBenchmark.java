@@ -0,0 +1,90 @@
+package gnu.trove.benchmark.jmh;
+
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.map.hash.TIntIntSwissHashMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares TIntIntSwissHashMap with TIntIntHashMap at the load factors
+ * they are meant for: <tt>hash</tt> is TIntIntHashMap at 0.5, <tt>swiss</tt>
+ * the group probed map at 0.875, and <tt>hash-0.875</tt> shows what the
+ * double hashed table does at that load.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Thread )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class SwissHashMapBenchmark {
+	@Param( { "hash", "hash-0.875", "swiss" } )
+	public String map;
+
+	@Param( { "1000", "100000", "1000000" } )
+	public int size;
+
+	private int[] keys;
+	private int[] missing;
+	private TIntIntMap filled;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random( 0 );
+		keys = new int[ size ];
+		missing = new int[ size ];
+		for( int i = 0; i < size; i++ ) {
+			keys[ i ] = random.nextInt();
+			missing[ i ] = random.nextInt();
+		}
+		filled = newMap();
+		for( int key : keys ) {
+			filled.put( key, key );
+		}
+	}
+
+	private TIntIntMap newMap() {
+		if ( map.equals( "swiss" ) ) {
+			return new TIntIntSwissHashMap();
+		}
+		return new TIntIntHashMap( 10, map.equals( "hash" ) ? 0.5f : 0.875f );
+	}
+
+	@Benchmark
+	public TIntIntMap put() {
+		TIntIntMap fresh = newMap();
+		for( int key : keys ) {
+			fresh.put( key, key );
+		}
+		return fresh;
+	}
+
+	@Benchmark
+	public void get( Blackhole blackhole ) {
+		for( int key : keys ) {
+			blackhole.consume( filled.get( key ) );
+		}
+	}
+
+	@Benchmark
+	public void getMissing( Blackhole blackhole ) {
+		for( int key : missing ) {
+			blackhole.consume( filled.get( key ) );
+		}
+	}
+
+	@Benchmark
+	public TIntIntMap churn() {
+		TIntIntMap fresh = newMap();
+		for( int key : keys ) {
+			fresh.put( key, key );
+			fresh.remove( key ^ 1 );
+		}
+		return fresh;
+	}
+}
@@ -24,7 +24,9 @@ import java.util.concurrent.TimeUnit;
 
 
 /**
- *
+ * Times a few map operations with hand-rolled warmup loops and wall-clock
+ * timing.  The JMH benchmarks in <tt>benchmarks/jmh</tt> cover all the
+ * primitive collections and give more reliable numbers.
  */
 public class BenchmarkRunner {
 	private static final BenchmarkSet MAP_PUT_SET =
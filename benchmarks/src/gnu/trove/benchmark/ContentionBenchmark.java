@@ -0,0 +1,294 @@
+package gnu.trove.benchmark;
+
+import gnu.trove.TCollections;
+import gnu.trove.map.TIntLongMap;
+import gnu.trove.map.TObjectLongMap;
+import gnu.trove.map.hash.TConcurrentIntLongHashMap;
+import gnu.trove.map.hash.TIntLongHashMap;
+import gnu.trove.map.hash.TObjectLongAdderMap;
+import gnu.trove.map.hash.TObjectLongHashMap;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Measures how the thread-safe maps scale with the number of threads, in the
+ * spirit of MapHammer.  Every thread picks keys from the configured
+ * distribution and reads, increments or removes them in the configured mix.
+ * Throughput is counted over the measurement period after a warmup, and the
+ * time of every operation is recorded to report latency percentiles.
+ * <p/>
+ * Usage: <tt>ContentionBenchmark [name=value ...]</tt> with
+ * <ul>
+ * <li><tt>maps</tt>: comma separated, out of synchronized, synchronized-object,
+ *     striped, concurrent, adder and chm (ConcurrentHashMap of AtomicLongs).
+ *     Default: all.</li>
+ * <li><tt>threads</tt>: comma separated thread counts.  Default: 1,2,4,8,16,32,64.</li>
+ * <li><tt>mix</tt>: read/increment/remove percentages.  Default: 80/18/2.</li>
+ * <li><tt>keys</tt>: number of distinct keys.  Default: 100000.</li>
+ * <li><tt>distribution</tt>: uniform or zipf:&lt;exponent&gt;.  Default: zipf:0.99.</li>
+ * <li><tt>warmup</tt> and <tt>duration</tt>: seconds.  Default: 3 and 10.</li>
+ * </ul>
+ * Timing every operation adds the cost of two <tt>System.nanoTime()</tt>
+ * calls to each of them.
+ */
+public class ContentionBenchmark {
+	/** The operations of a map under test. */
+	interface Target {
+		long get( int key );
+		void increment( int key );
+		void remove( int key );
+	}
+
+	interface TargetFactory {
+		Target create( int keys );
+	}
+
+	private static final Map<String,TargetFactory> FACTORIES =
+		new LinkedHashMap<String,TargetFactory>();
+	static {
+		FACTORIES.put( "synchronized", new TargetFactory() {
+			public Target create( int keys ) {
+				return primitive( TCollections.synchronizedMap( new TIntLongHashMap( keys ) ) );
+			}
+		} );
+		FACTORIES.put( "synchronized-object", new TargetFactory() {
+			public Target create( int keys ) {
+				final TObjectLongMap<Integer> map =
+					TCollections.synchronizedMap( new TObjectLongHashMap<Integer>( keys ) );
+				return new Target() {
+					public long get( int key ) {
+						return map.get( BOXED[ key ] );
+					}
+					public void increment( int key ) {
+						map.adjustOrPutValue( BOXED[ key ], 1, 1 );
+					}
+					public void remove( int key ) {
+						map.remove( BOXED[ key ] );
+					}
+				};
+			}
+		} );
+		FACTORIES.put( "striped", new TargetFactory() {
+			public Target create( int keys ) {
+				return primitive( TCollections.stripedMap( new TIntLongHashMap(), 64 ) );
+			}
+		} );
+		FACTORIES.put( "concurrent", new TargetFactory() {
+			public Target create( int keys ) {
+				return primitive( new TConcurrentIntLongHashMap( keys, 0.5f, 64 ) );
+			}
+		} );
+		FACTORIES.put( "adder", new TargetFactory() {
+			public Target create( int keys ) {
+				final TObjectLongAdderMap<Integer> map = new TObjectLongAdderMap<Integer>();
+				return new Target() {
+					public long get( int key ) {
+						return map.sum( BOXED[ key ] );
+					}
+					public void increment( int key ) {
+						map.increment( BOXED[ key ] );
+					}
+					public void remove( int key ) {
+						map.remove( BOXED[ key ] );
+					}
+				};
+			}
+		} );
+		FACTORIES.put( "chm", new TargetFactory() {
+			public Target create( int keys ) {
+				final ConcurrentHashMap<Integer,AtomicLong> map =
+					new ConcurrentHashMap<Integer,AtomicLong>( keys, 0.75f, 64 );
+				return new Target() {
+					public long get( int key ) {
+						AtomicLong value = map.get( BOXED[ key ] );
+						return value == null ? 0 : value.get();
+					}
+					public void increment( int key ) {
+						AtomicLong value = map.get( BOXED[ key ] );
+						if ( value == null ) {
+							AtomicLong fresh = new AtomicLong();
+							value = map.putIfAbsent( BOXED[ key ], fresh );
+							if ( value == null ) value = fresh;
+						}
+						value.incrementAndGet();
+					}
+					public void remove( int key ) {
+						map.remove( BOXED[ key ] );
+					}
+				};
+			}
+		} );
+	}
+
+	private static Integer[] BOXED;
+
+	private static Target primitive( final TIntLongMap map ) {
+		return new Target() {
+			public long get( int key ) {
+				return map.get( key );
+			}
+			public void increment( int key ) {
+				map.adjustOrPutValue( key, 1, 1 );
+			}
+			public void remove( int key ) {
+				map.remove( key );
+			}
+		};
+	}
+
+	public static void main( String[] args ) throws InterruptedException {
+		Map<String,String> options = new LinkedHashMap<String,String>();
+		options.put( "maps", join( FACTORIES.keySet() ) );
+		options.put( "threads", "1,2,4,8,16,32,64" );
+		options.put( "mix", "80/18/2" );
+		options.put( "keys", "100000" );
+		options.put( "distribution", "zipf:0.99" );
+		options.put( "warmup", "3" );
+		options.put( "duration", "10" );
+		for( String arg : args ) {
+			int split = arg.indexOf( '=' );
+			if ( split < 0 || !options.containsKey( arg.substring( 0, split ) ) ) {
+				throw new IllegalArgumentException( "Unknown option: " + arg );
+			}
+			options.put( arg.substring( 0, split ), arg.substring( split + 1 ) );
+		}
+		System.out.println( options );
+
+		String[] mix = options.get( "mix" ).split( "/" );
+		int reads = Integer.parseInt( mix[ 0 ] );
+		int increments = Integer.parseInt( mix[ 1 ] );
+		int keys = Integer.parseInt( options.get( "keys" ) );
+		KeyDistribution distribution =
+			KeyDistribution.parse( options.get( "distribution" ), keys );
+		long warmup = Long.parseLong( options.get( "warmup" ) ) * 1000;
+		long duration = Long.parseLong( options.get( "duration" ) ) * 1000;
+
+		BOXED = new Integer[ keys ];
+		for( int i = 0; i < keys; i++ ) {
+			BOXED[ i ] = Integer.valueOf( i );
+		}
+
+		System.out.printf( "%-20s %7s %14s %9s %9s %9s %9s %11s%n", "Map", "Threads",
+			"Ops/sec", "p50 ns", "p90 ns", "p99 ns", "p99.9 ns", "Max ns" );
+		for( String name : options.get( "maps" ).split( "," ) ) {
+			TargetFactory factory = FACTORIES.get( name );
+			if ( factory == null ) throw new IllegalArgumentException( "Unknown map: " + name );
+			for( String threads : options.get( "threads" ).split( "," ) ) {
+				Target target = factory.create( keys );
+				for( int key = 0; key < keys; key++ ) {
+					target.increment( key );
+				}
+				run( name, target, Integer.parseInt( threads ), reads, increments,
+					distribution, warmup, duration );
+			}
+		}
+	}
+
+	private static void run( String name, final Target target, int thread_count,
+		final int reads, final int increments, final KeyDistribution distribution,
+		long warmup, long duration ) throws InterruptedException {
+
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final Worker[] workers = new Worker[ thread_count ];
+		for( int t = 0; t < thread_count; t++ ) {
+			workers[ t ] = new Worker( target, reads, increments, distribution, t, start );
+			workers[ t ].start();
+		}
+
+		start.countDown();
+		Thread.sleep( warmup );
+		for( Worker worker : workers ) {
+			worker.measuring = true;
+		}
+		long begin = System.nanoTime();
+		Thread.sleep( duration );
+		for( Worker worker : workers ) {
+			worker.measuring = false;
+		}
+		long elapsed = System.nanoTime() - begin;
+		for( Worker worker : workers ) {
+			worker.running = false;
+		}
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		for( Worker worker : workers ) {
+			worker.join();
+			histogram.add( worker.histogram );
+		}
+
+		NumberFormat format = NumberFormat.getIntegerInstance();
+		System.out.printf( "%-20s %7d %14s %9d %9d %9d %9d %11d%n", name, thread_count,
+			format.format( histogram.getTotalCount() * 1e9 / elapsed ),
+			histogram.getValueAtPercentile( 0.5 ), histogram.getValueAtPercentile( 0.9 ),
+			histogram.getValueAtPercentile( 0.99 ), histogram.getValueAtPercentile( 0.999 ),
+			histogram.getMax() );
+	}
+
+	private static class Worker extends Thread {
+		private final Target target;
+		private final int reads;
+		private final int writes;
+		private final KeyDistribution distribution;
+		private final Random random;
+		private final CountDownLatch start;
+		final LatencyHistogram histogram = new LatencyHistogram();
+
+		volatile boolean running = true;
+		volatile boolean measuring = false;
+
+		// sink for the values read, so the reads can't be optimized away
+		long sink;
+
+		Worker( Target target, int reads, int increments, KeyDistribution distribution,
+			int id, CountDownLatch start ) {
+
+			this.target = target;
+			this.reads = reads;
+			this.writes = reads + increments;
+			this.distribution = distribution;
+			this.random = new Random( id * 31 + 17 );
+			this.start = start;
+			setDaemon( true );
+		}
+
+		@Override
+		public void run() {
+			try {
+				start.await();
+			}
+			catch( InterruptedException ex ) {
+				return;
+			}
+			while( running ) {
+				int key = distribution.next( random );
+				int op = random.nextInt( 100 );
+
+				long begin = System.nanoTime();
+				if ( op < reads ) sink += target.get( key );
+				else if ( op < writes ) target.increment( key );
+				else target.remove( key );
+				long time = System.nanoTime() - begin;
+
+				if ( measuring ) histogram.record( time );
+			}
+		}
+	}
+
+	private static String join( Iterable<String> values ) {
+		StringBuilder buf = new StringBuilder();
+		for( String value : values ) {
+			if ( buf.length() > 0 ) buf.append( ',' );
+			buf.append( value );
+		}
+		return buf.toString();
+	}
+}
@@ -0,0 +1,48 @@
+package gnu.trove.benchmark;
+
+import gnu.trove.map.hash.TLongLongHashMap;
+
+import java.text.NumberFormat;
+
+
+/**
+ * Compares the pauses of a growing map with and without incremental
+ * rehashing.  The map starts out small and has to grow many times while
+ * <tt>size</tt> entries are put into it; the time of every put is recorded
+ * and the tail of the distribution is printed.
+ * <p/>
+ * Usage: <tt>GrowthPauses [size]</tt>
+ */
+public class GrowthPauses {
+	private static final long ONE_MILLISECOND = 1000000;
+
+	public static void main( String[] args ) {
+		int size = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 10000000;
+
+		// Warm up
+		run( false, size / 10 );
+		run( true, size / 10 );
+
+		for( int i = 0; i < 2; i++ ) {
+			boolean incremental = i == 1;
+			System.gc();
+			long[] times = run( incremental, size );
+			RemovalPauses.report( incremental ? "Incremental" : "Full", times );
+		}
+	}
+
+	private static long[] run( boolean incremental, int size ) {
+		TLongLongHashMap map = new TLongLongHashMap();
+		map.setIncrementalRehash( incremental );
+
+		long[] times = new long[ size ];
+		for( int i = 0; i < size; i++ ) {
+			long key = i * 0x9E3779B97F4A7C15L;
+
+			long start = System.nanoTime();
+			map.put( key, i );
+			times[ i ] = System.nanoTime() - start;
+		}
+		return times;
+	}
+}
@@ -0,0 +1,81 @@
+package gnu.trove.benchmark;
+
+import java.util.Random;
+
+
+/**
+ * Picks keys out of <tt>0 .. count - 1</tt>, either uniformly or following a
+ * Zipf distribution.  With Zipf the most frequent keys are spread randomly
+ * over the key range, so they don't all land in the same part of a table.
+ * Instances are immutable; each thread passes in its own random source.
+ */
+public abstract class KeyDistribution {
+	public abstract int next( Random random );
+
+	/**
+	 * Parses "uniform" or "zipf:&lt;exponent&gt;", e.g. "zipf:0.99".
+	 */
+	public static KeyDistribution parse( String spec, int count ) {
+		if ( spec.equals( "uniform" ) ) return uniform( count );
+		if ( spec.startsWith( "zipf:" ) ) {
+			return zipf( count, Double.parseDouble( spec.substring( "zipf:".length() ) ) );
+		}
+		throw new IllegalArgumentException( "Unknown key distribution: " + spec );
+	}
+
+	public static KeyDistribution uniform( final int count ) {
+		return new KeyDistribution() {
+			public int next( Random random ) {
+				return random.nextInt( count );
+			}
+
+			public String toString() {
+				return "uniform";
+			}
+		};
+	}
+
+	public static KeyDistribution zipf( int count, final double exponent ) {
+		// cumulative probabilities of the ranks
+		final double[] cdf = new double[ count ];
+		double sum = 0;
+		for( int rank = 0; rank < count; rank++ ) {
+			sum += 1 / Math.pow( rank + 1, exponent );
+			cdf[ rank ] = sum;
+		}
+		for( int rank = 0; rank < count; rank++ ) {
+			cdf[ rank ] /= sum;
+		}
+
+		// keys of the ranks
+		final int[] keys = new int[ count ];
+		for( int i = 0; i < count; i++ ) {
+			keys[ i ] = i;
+		}
+		Random shuffle = new Random( count );
+		for( int i = count - 1; i > 0; i-- ) {
+			int j = shuffle.nextInt( i + 1 );
+			int key = keys[ i ];
+			keys[ i ] = keys[ j ];
+			keys[ j ] = key;
+		}
+
+		return new KeyDistribution() {
+			public int next( Random random ) {
+				double p = random.nextDouble();
+				int low = 0;
+				int high = cdf.length - 1;
+				while( low < high ) {
+					int mid = ( low + high ) >>> 1;
+					if ( cdf[ mid ] < p ) low = mid + 1;
+					else high = mid;
+				}
+				return keys[ low ];
+			}
+
+			public String toString() {
+				return "zipf:" + exponent;
+			}
+		};
+	}
+}
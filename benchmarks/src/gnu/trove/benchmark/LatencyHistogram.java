@@ -0,0 +1,78 @@
+package gnu.trove.benchmark;
+
+/**
+ * Records values, e.g. operation times in nanoseconds, in log-linear buckets
+ * with a relative error of about three percent, so that percentiles can be
+ * recorded cheaply from hot loops and histograms of several threads can be
+ * added up.  Not thread safe; use one histogram per thread.
+ */
+public class LatencyHistogram {
+	/** bits of precision within each power of two */
+	private static final int SUB_BITS = 5;
+	private static final int SUB_COUNT = 1 << SUB_BITS;
+	private static final int HALF_COUNT = SUB_COUNT / 2;
+
+	private final long[] counts = new long[ SUB_COUNT + 64 * HALF_COUNT ];
+	private long total;
+	private long max;
+
+	public void record( long value ) {
+		if ( value < 0 ) value = 0;
+		counts[ index( value ) ]++;
+		total++;
+		if ( value > max ) max = value;
+	}
+
+	public void add( LatencyHistogram other ) {
+		for( int i = 0; i < counts.length; i++ ) {
+			counts[ i ] += other.counts[ i ];
+		}
+		total += other.total;
+		max = Math.max( max, other.max );
+	}
+
+	public void reset() {
+		java.util.Arrays.fill( counts, 0 );
+		total = 0;
+		max = 0;
+	}
+
+	public long getTotalCount() {
+		return total;
+	}
+
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Returns the upper bound of the bucket holding the value below which
+	 * <tt>fraction</tt> of the values fall.
+	 */
+	public long getValueAtPercentile( double fraction ) {
+		if ( total == 0 ) return 0;
+		long target = Math.max( 1, ( long ) Math.ceil( fraction * total ) );
+		long seen = 0;
+		for( int i = 0; i < counts.length; i++ ) {
+			seen += counts[ i ];
+			if ( seen >= target ) return Math.min( max, highestValue( i ) );
+		}
+		return max;
+	}
+
+	private static int index( long value ) {
+		int bits = 64 - Long.numberOfLeadingZeros( value );
+		if ( bits <= SUB_BITS ) return ( int ) value;
+		int shift = bits - SUB_BITS;
+		int top = ( int ) ( value >>> shift );		// in [HALF_COUNT, SUB_COUNT)
+		return SUB_COUNT + ( shift - 1 ) * HALF_COUNT + ( top - HALF_COUNT );
+	}
+
+	private static long highestValue( int index ) {
+		if ( index < SUB_COUNT ) return index;
+		int k = index - SUB_COUNT;
+		int shift = k / HALF_COUNT + 1;
+		long top = k % HALF_COUNT + HALF_COUNT;
+		return ( ( top + 1 ) << shift ) - 1;
+	}
+}
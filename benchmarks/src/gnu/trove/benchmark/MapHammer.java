@@ -1,5 +1,7 @@
 package gnu.trove.benchmark;
 
+import gnu.trove.impl.hash.THash;
+import gnu.trove.impl.hash.THashStatistics;
 import gnu.trove.map.TObjectLongMap;
 import gnu.trove.map.hash.TObjectLongHashMap;
 import gnu.trove.procedure.TObjectProcedure;
@@ -10,6 +12,7 @@ import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
@@ -18,6 +21,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class MapHammer {
 	public static void main( String[] args ) {
 		final TObjectLongMap<Integer> map = new TObjectLongHashMap<Integer>( 10000 );
+		( ( THash ) map ).setStatisticsEnabled( true );
 
 //		// Disable auto-compaction
 //		( ( TObjectLongHashMap ) map ).setAutoCompactionFactor( 0 );
@@ -35,11 +39,17 @@ public class MapHammer {
 
 		final AtomicBoolean compact_flag = new AtomicBoolean( false );
 
+		// the statistics are taken by the thread using the map
+		final AtomicBoolean stats_flag = new AtomicBoolean( true );
+		final AtomicReference<THashStatistics> latest_stats =
+			new AtomicReference<THashStatistics>();
+
 		Timer stat_timer = new Timer();
 		stat_timer.schedule( new TimerTask() {
 			int run_count = 0;
 			long start = System.currentTimeMillis();
 			long total_ops;
+			long compactions;
 
 			@Override
 			public void run() {
@@ -56,7 +66,15 @@ public class MapHammer {
 				int local_edits = edits.getAndSet( 0 );
 				int local_removes = removes.getAndSet( 0 );
 
-//				long local_compactions = ( ( THash ) map ).compactions.getAndSet( 0 );
+				THashStatistics stats = latest_stats.get();
+				stats_flag.set( true );
+				long local_compactions = 0;
+				double probe_length = 0;
+				if ( stats != null ) {
+					local_compactions = stats.getCompactionCount() - compactions;
+					compactions = stats.getCompactionCount();
+					probe_length = stats.getAverageProbeLength();
+				}
 
 				long total_ops = ( long ) local_adds + ( long ) local_edits +
 					( long ) local_removes;
@@ -66,7 +84,8 @@ public class MapHammer {
 
 				System.out.println( "A: " + local_adds + "  E: " + local_edits +
 					"  R: " + local_removes + "  Size: " + map.size() +
-//					"  Compact: " + local_compactions +
+					"  Compact: " + local_compactions +
+					"  Probe: " + NumberFormat.getNumberInstance().format( probe_length ) +
 					"  Ops/sec: " + total_ops );
 			}
 		}, 1000, 1000 );
@@ -85,6 +104,9 @@ public class MapHammer {
 			if ( compact_flag.compareAndSet( true, false ) ) {
 				( ( TObjectLongHashMap ) map ).compact();
 			}
+			if ( stats_flag.compareAndSet( true, false ) ) {
+				latest_stats.set( ( ( THash ) map ).getStatistics( 4096 ) );
+			}
 
 			int num = rand.nextInt( 3 );
 
@@ -0,0 +1,89 @@
+package gnu.trove.benchmark;
+
+import gnu.trove.map.hash.TLongLongHashMap;
+import gnu.trove.strategy.ProbeStrategy;
+
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.Random;
+
+
+/**
+ * Compares the pauses a remove heavy workload sees with each probe strategy.
+ * Every operation removes a random entry and puts a new one, so the size of
+ * the map stays the same while removals pile up; with double hashing that
+ * periodically triggers an auto-compaction of the whole table, the linear
+ * strategies clean up in place.  The time of every operation is recorded and
+ * the tail of the distribution is printed.
+ * <p/>
+ * Usage: <tt>RemovalPauses [size] [operations]</tt>
+ */
+public class RemovalPauses {
+	private static final long ONE_MILLISECOND = 1000000;
+
+	public static void main( String[] args ) {
+		int size = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 1000000;
+		int operations = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 5000000;
+
+		// Warm up
+		for( ProbeStrategy strategy : ProbeStrategy.values() ) {
+			run( strategy, size / 10, operations / 10 );
+		}
+
+		for( ProbeStrategy strategy : ProbeStrategy.values() ) {
+			System.gc();
+			report( strategy.toString(), run( strategy, size, operations ) );
+		}
+	}
+
+	private static long[] run( ProbeStrategy strategy, int size, int operations ) {
+		TLongLongHashMap map = new TLongLongHashMap( size );
+		map.setProbeStrategy( strategy );
+
+		Random rand = new Random( 0 );
+		long[] keys = new long[ size ];
+		for( int i = 0; i < size; i++ ) {
+			keys[ i ] = rand.nextLong();
+			map.put( keys[ i ], i );
+		}
+
+		long[] times = new long[ operations ];
+		for( int i = 0; i < operations; i++ ) {
+			int slot = rand.nextInt( size );
+			long key = rand.nextLong();
+
+			long start = System.nanoTime();
+			map.remove( keys[ slot ] );
+			map.put( key, slot );
+			times[ i ] = System.nanoTime() - start;
+
+			keys[ slot ] = key;
+		}
+		return times;
+	}
+
+	/**
+	 * Prints the mean and the tail of a set of operation times.
+	 */
+	static void report( String name, long[] times ) {
+		long total = 0;
+		int pauses = 0;
+		for( long time : times ) {
+			total += time;
+			if ( time >= ONE_MILLISECOND ) pauses++;
+		}
+		Arrays.sort( times );
+
+		NumberFormat format = NumberFormat.getNumberInstance();
+		System.out.println( name + ":  Mean: " + format.format( total / times.length ) +
+			" ns  99%: " + format.format( percentile( times, 0.99 ) ) +
+			" ns  99.9%: " + format.format( percentile( times, 0.999 ) ) +
+			" ns  99.99%: " + format.format( percentile( times, 0.9999 ) ) +
+			" ns  Max: " + format.format( times[ times.length - 1 ] ) +
+			" ns  Ops over 1 ms: " + pauses );
+	}
+
+	private static long percentile( long[] sorted, double fraction ) {
+		return sorted[ Math.min( sorted.length - 1, ( int ) ( sorted.length * fraction ) ) ];
+	}
+}
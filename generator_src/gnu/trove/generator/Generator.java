@@ -51,9 +51,18 @@ import java.util.regex.Pattern;
  *     <li>MIN (eg: "#EMIN#") - min value for the type (eg: "Integer.MIN_VALUE" or
  *         Float.NEGATIVE_INFINITY")</li>
  *     <li>underbar (eg: "_E_") - Only applicable in file names, same as "uppercase".</li>
+ *     <li>TOBITS (eg: "#KTOBITS#") - the conversion of a value of the type to the
+ *         integral type of the same width, applied as "#KTOBITS#( x )" (eg: "" or
+ *         "Float.floatToRawIntBits")</li>
+ *     <li>FROMBITS (eg: "#KFROMBITS#") - the reverse conversion (eg: "" or
+ *         "Float.intBitsToFloat")</li>
  * </ul>
  * </p>
  *
+ * <p>Templates with a key and a value type that contain "#SAME_WIDTH_ONLY#" (the line
+ * holding it is dropped) are only generated for pairs of types of the same width, for
+ * which "#s#" is the integral type of that width (eg: "int" for int/float).</p>
+ *
  * <p><b>Block Replication</b></p>
  *
  * <p>In addition to regular patterns, some classes use block replication. This allows
@@ -66,13 +75,16 @@ import java.util.regex.Pattern;
  */
 public class Generator {
     private static final WrapperInfo[] WRAPPERS = new WrapperInfo[]{
-            new WrapperInfo("double", "Double", "POSITIVE_INFINITY", "NEGATIVE_INFINITY"),
-            new WrapperInfo("float", "Float", "POSITIVE_INFINITY", "NEGATIVE_INFINITY"),
-            new WrapperInfo("int", "Integer", "MAX_VALUE", "MIN_VALUE"),
-            new WrapperInfo("long", "Long", "MAX_VALUE", "MIN_VALUE"),
-            new WrapperInfo("byte", "Byte", "MAX_VALUE", "MIN_VALUE"),
-            new WrapperInfo("short", "Short", "MAX_VALUE", "MIN_VALUE"),
-            new WrapperInfo("char", "Character", "MAX_VALUE", "MIN_VALUE")};
+            new WrapperInfo("double", "Double", "POSITIVE_INFINITY", "NEGATIVE_INFINITY",
+                    64, "Double.doubleToRawLongBits", "Double.longBitsToDouble"),
+            new WrapperInfo("float", "Float", "POSITIVE_INFINITY", "NEGATIVE_INFINITY",
+                    32, "Float.floatToRawIntBits", "Float.intBitsToFloat"),
+            new WrapperInfo("int", "Integer", "MAX_VALUE", "MIN_VALUE", 32, "", ""),
+            new WrapperInfo("long", "Long", "MAX_VALUE", "MIN_VALUE", 64, "", ""),
+            new WrapperInfo("byte", "Byte", "MAX_VALUE", "MIN_VALUE", 8, "", ""),
+            new WrapperInfo("short", "Short", "MAX_VALUE", "MIN_VALUE", 16, "", ""),
+            new WrapperInfo("char", "Character", "MAX_VALUE", "MIN_VALUE",
+                    16, "( short )", "( char )")};
 
     private static final Pattern PATTERN_v;
     private static final Pattern PATTERN_V;
@@ -81,6 +93,8 @@ public class Generator {
     private static final Pattern PATTERN_VMAX;
     private static final Pattern PATTERN_VMIN;
     private static final Pattern PATTERN_V_UNDERBAR;
+    private static final Pattern PATTERN_VTOBITS;
+    private static final Pattern PATTERN_VFROMBITS;
 
     private static final Pattern PATTERN_k;
     private static final Pattern PATTERN_K;
@@ -89,6 +103,11 @@ public class Generator {
     private static final Pattern PATTERN_KMAX;
     private static final Pattern PATTERN_KMIN;
     private static final Pattern PATTERN_K_UNDERBAR;
+    private static final Pattern PATTERN_KTOBITS;
+    private static final Pattern PATTERN_KFROMBITS;
+
+    private static final Pattern PATTERN_s;
+    private static final Pattern PATTERN_SAME_WIDTH_ONLY;
 
     private static final Pattern PATTERN_e;
     private static final Pattern PATTERN_E;
@@ -96,6 +115,7 @@ public class Generator {
     private static final Pattern PATTERN_ET;
     private static final Pattern PATTERN_EMAX;
     private static final Pattern PATTERN_EMIN;
+    private static final Pattern PATTERN_ETOBITS;
     private static final Pattern PATTERN_E_UNDERBAR;
 
     static {
@@ -106,6 +126,8 @@ public class Generator {
         PATTERN_VMAX = Pattern.compile("#VMAX#");
         PATTERN_VMIN = Pattern.compile("#VMIN#");
         PATTERN_V_UNDERBAR = Pattern.compile("_V_");
+        PATTERN_VTOBITS = Pattern.compile("#VTOBITS#");
+        PATTERN_VFROMBITS = Pattern.compile("#VFROMBITS#");
 
         PATTERN_k = Pattern.compile("#k#");
         PATTERN_K = Pattern.compile("#K#");
@@ -114,6 +136,11 @@ public class Generator {
         PATTERN_KMAX = Pattern.compile("#KMAX#");
         PATTERN_KMIN = Pattern.compile("#KMIN#");
         PATTERN_K_UNDERBAR = Pattern.compile("_K_");
+        PATTERN_KTOBITS = Pattern.compile("#KTOBITS#");
+        PATTERN_KFROMBITS = Pattern.compile("#KFROMBITS#");
+
+        PATTERN_s = Pattern.compile("#s#");
+        PATTERN_SAME_WIDTH_ONLY = Pattern.compile(".*#SAME_WIDTH_ONLY#.*\n");
 
         PATTERN_e = Pattern.compile("#e#");
         PATTERN_E = Pattern.compile("#E#");
@@ -121,6 +148,7 @@ public class Generator {
         PATTERN_ET = Pattern.compile("#ET#");
         PATTERN_EMAX = Pattern.compile("#EMAX#");
         PATTERN_EMIN = Pattern.compile("#EMIN#");
+        PATTERN_ETOBITS = Pattern.compile("#ETOBITS#");
         PATTERN_E_UNDERBAR = Pattern.compile("_E_");
     }
 
@@ -241,6 +269,11 @@ public class Generator {
     private static void processKVMarkers(String content, File output_dir,
                                          String file_name) throws IOException {
 
+        boolean same_width_only = PATTERN_SAME_WIDTH_ONLY.matcher(content).find();
+        if (same_width_only) {
+            content = PATTERN_SAME_WIDTH_ONLY.matcher(content).replaceAll("");
+        }
+
         for (WrapperInfo info : WRAPPERS) {
             String k = info.primitive;
             String KT = info.class_name;
@@ -256,11 +289,16 @@ public class Generator {
             out = PATTERN_KT.matcher(out).replaceAll(KT);
             out = PATTERN_KMAX.matcher(out).replaceAll(KMAX);
             out = PATTERN_KMIN.matcher(out).replaceAll(KMIN);
+            out = PATTERN_KTOBITS.matcher(out).replaceAll(info.to_bits);
+            out = PATTERN_KFROMBITS.matcher(out).replaceAll(info.from_bits);
+            out = PATTERN_s.matcher(out).replaceAll(info.bits_primitive);
 
             String out_file_name = "T" + file_name;
             out_file_name = PATTERN_K_UNDERBAR.matcher(out_file_name).replaceAll(K);
 
             for (WrapperInfo jinfo : WRAPPERS) {
+                if (same_width_only && jinfo.bits != info.bits) continue;
+
                 String v = jinfo.primitive;
                 String VT = jinfo.class_name;
                 String V = abbreviate(VT);
@@ -275,6 +313,8 @@ public class Generator {
                 vout = PATTERN_VC.matcher(vout).replaceAll(VC);
                 vout = PATTERN_VT.matcher(vout).replaceAll(VT);
                 vout = PATTERN_VMAX.matcher(vout).replaceAll(VMAX);
+                vout = PATTERN_VTOBITS.matcher(vout).replaceAll(jinfo.to_bits);
+                vout = PATTERN_VFROMBITS.matcher(vout).replaceAll(jinfo.from_bits);
                 String processed_output = PATTERN_VMIN.matcher(vout).replaceAll(VMIN);
 
                 StringBuilder processed_replication_output = new StringBuilder();
@@ -311,6 +351,7 @@ public class Generator {
             out = PATTERN_EC.matcher(out).replaceAll(EC);
             out = PATTERN_ET.matcher(out).replaceAll(ET);
             out = PATTERN_EMAX.matcher(out).replaceAll(EMAX);
+            out = PATTERN_ETOBITS.matcher(out).replaceAll(info.to_bits);
             String processed_output = PATTERN_EMIN.matcher(out).replaceAll(EMIN);
 
             String out_file_name = "T" + file_name;
@@ -625,14 +666,23 @@ public class Generator {
         final String class_name;
         final String max_value;
         final String min_value;
+        final int bits;
+        final String bits_primitive;
+        final String to_bits;
+        final String from_bits;
 
         WrapperInfo(String primitive, String class_name, String max_value,
-                    String min_value) {
+                    String min_value, int bits, String to_bits, String from_bits) {
 
             this.primitive = primitive;
             this.class_name = class_name;
             this.max_value = class_name + "." + max_value;
             this.min_value = class_name + "." + min_value;
+            this.bits = bits;
+            this.bits_primitive = bits == 8 ? "byte" : bits == 16 ? "short" :
+                    bits == 32 ? "int" : "long";
+            this.to_bits = to_bits;
+            this.from_bits = from_bits;
         }
     }
 }
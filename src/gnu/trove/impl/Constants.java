@@ -18,6 +18,8 @@
 // ////////////////////////////////////////////////////////////////////////////
 package gnu.trove.impl;
 
+import gnu.trove.strategy.HashMixer;
+
 /**
  * Central location for constants needed by various implementations.
  */
@@ -162,4 +164,18 @@ public class Constants {
                                 DEFAULT_DOUBLE_NO_ENTRY_VALUE );
         }
     }
+
+
+    /**
+     * the hash mixer new hash tables start out with, by default
+     * {@link HashMixer#NONE}.
+     */
+    public static final HashMixer DEFAULT_HASH_MIXER;
+    static {
+        String property = System.getProperty( "gnu.trove.hash_mixer", "NONE" );
+        DEFAULT_HASH_MIXER = HashMixer.valueOf( property.toUpperCase() );
+        if ( VERBOSE ) {
+            System.out.println( "DEFAULT_HASH_MIXER: " + DEFAULT_HASH_MIXER );
+        }
+    }
 }
@@ -10,6 +10,8 @@
 
 package gnu.trove.impl;
 
+import gnu.trove.strategy.HashMixer;
+
 /**
  * Provides various hash functions.
  *
@@ -17,6 +19,9 @@ package gnu.trove.impl;
  * @version 1.0, 09/24/99
  */
 public final class HashFunctions {
+    /** The largest power of two capacity a table can have. */
+    private static final int MAX_POWER_OF_TWO = 1 << 30;
+
     /**
      * Returns a hashcode for the specified value.
      *
@@ -73,6 +78,146 @@ public final class HashFunctions {
     }
 
 
+    /**
+     * Mixes the bits of a hash code so that every input bit affects every
+     * output bit (the finalizer of MurmurHash3).  Tables that index with
+     * the low bits of a hash code, such as power of two sized ones, need
+     * this to cope with identity hashed or otherwise patterned keys.
+     *
+     * @return  the mixed hash code.
+     */
+    public static int mix( int hash ) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+
+    /**
+     * Returns a hash code for the specified value computed by
+     * <tt>mixer</tt>.  With {@link HashMixer#NONE} this is the same as
+     * {@link #hash(int)}.  Byte, short and char values hash like ints.
+     *
+     * @return  a hash code value for the specified value.
+     */
+    public static int hash( int value, HashMixer mixer ) {
+        if ( mixer == HashMixer.NONE ) {
+            return value;
+        }
+        return mixer == HashMixer.MURMUR3 ? mix( value ) : xxHash32( value );
+    }
+
+    /**
+     * Returns a hash code for the specified value computed by
+     * <tt>mixer</tt>.  With {@link HashMixer#NONE} this is the same as
+     * {@link #hash(long)}; the other mixers mix all 64 bits before folding
+     * them into an int.
+     *
+     * @return  a hash code value for the specified value.
+     */
+    public static int hash( long value, HashMixer mixer ) {
+        if ( mixer == HashMixer.NONE ) {
+            return hash( value );
+        }
+        return (int) ( mixer == HashMixer.MURMUR3 ? mix64( value ) : xxHash64( value ) );
+    }
+
+    /**
+     * Returns a hash code for the specified value computed by
+     * <tt>mixer</tt> from its bits.  With {@link HashMixer#NONE} this is the
+     * same as {@link #hash(float)}.
+     *
+     * @return  a hash code value for the specified value.
+     */
+    public static int hash( float value, HashMixer mixer ) {
+        if ( mixer == HashMixer.NONE ) {
+            return hash( value );
+        }
+        return hash( Float.floatToIntBits( value ), mixer );
+    }
+
+    /**
+     * Returns a hash code for the specified value computed by
+     * <tt>mixer</tt> from its bits.  With {@link HashMixer#NONE} this is the
+     * same as {@link #hash(double)}.
+     *
+     * @return  a hash code value for the specified value.
+     */
+    public static int hash( double value, HashMixer mixer ) {
+        if ( mixer == HashMixer.NONE ) {
+            return hash( value );
+        }
+        return hash( Double.doubleToLongBits( value ), mixer );
+    }
+
+
+    /**
+     * Mixes the bits of a 64 bit hash code like {@link #mix(int)} does for
+     * 32 bits (the 64 bit finalizer of MurmurHash3).  It is a bijection, so
+     * distinct inputs give distinct outputs.
+     *
+     * @return  the mixed hash code.
+     */
+    public static long mix64( long hash ) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+
+    /**
+     * XXH32 of the four little endian bytes of <tt>value</tt>, with a seed
+     * of 0.
+     */
+    private static int xxHash32( int value ) {
+        int hash = 0x165667b1 + 4;
+        hash += value * 0xc2b2ae3d;
+        hash = Integer.rotateLeft( hash, 17 ) * 0x27d4eb2f;
+        hash ^= hash >>> 15;
+        hash *= 0x85ebca77;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae3d;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+
+    /**
+     * XXH64 of the eight little endian bytes of <tt>value</tt>, with a seed
+     * of 0.
+     */
+    private static long xxHash64( long value ) {
+        long lane = Long.rotateLeft( value * 0xc2b2ae3d27d4eb4fL, 31 ) * 0x9e3779b185ebca87L;
+        long hash = ( 0x27d4eb2f165667c5L + 8 ) ^ lane;
+        hash = Long.rotateLeft( hash, 27 ) * 0x9e3779b185ebca87L + 0x85ebca77c2b2ae63L;
+        hash ^= hash >>> 33;
+        hash *= 0xc2b2ae3d27d4eb4fL;
+        hash ^= hash >>> 29;
+        hash *= 0x165667b19e3779f9L;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+
+    /**
+     * Returns the smallest power of two that is at least
+     * <tt>desiredCapacity</tt>, capped at <tt>2^30</tt>, the largest power
+     * of two an array can hold.
+     */
+    public static int nextPowerOfTwo( int desiredCapacity ) {
+        if ( desiredCapacity > MAX_POWER_OF_TWO || desiredCapacity < 0 ) {
+            return MAX_POWER_OF_TWO;
+        }
+        return Integer.highestOneBit( Math.max( 2, desiredCapacity ) - 1 ) << 1;
+    }
+
+
     /**
      * In profiling, it has been found to be faster to have our own local implementation
      * of "ceil" rather than to call to {@link Math#ceil(double)}.
@@ -0,0 +1,99 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl;
+
+
+/**
+ * Converts primitive values to and from the bits of a <tt>long</tt>, so
+ * that values of every type can be kept in a
+ * {@link java.util.concurrent.atomic.AtomicLongArray}.  The conversions are
+ * exact: converting a value to bits and back yields the same value.
+ */
+public final class PrimitiveBits {
+
+    private PrimitiveBits() {}
+
+
+    public static long toBits( byte value ) {
+        return value;
+    }
+
+
+    public static long toBits( short value ) {
+        return value;
+    }
+
+
+    public static long toBits( char value ) {
+        return value;
+    }
+
+
+    public static long toBits( int value ) {
+        return value;
+    }
+
+
+    public static long toBits( long value ) {
+        return value;
+    }
+
+
+    public static long toBits( float value ) {
+        return Float.floatToRawIntBits( value );
+    }
+
+
+    public static long toBits( double value ) {
+        return Double.doubleToRawLongBits( value );
+    }
+
+
+    public static byte toByte( long bits ) {
+        return ( byte ) bits;
+    }
+
+
+    public static short toShort( long bits ) {
+        return ( short ) bits;
+    }
+
+
+    public static char toChar( long bits ) {
+        return ( char ) bits;
+    }
+
+
+    public static int toInt( long bits ) {
+        return ( int ) bits;
+    }
+
+
+    public static long toLong( long bits ) {
+        return bits;
+    }
+
+
+    public static float toFloat( long bits ) {
+        return Float.intBitsToFloat( ( int ) bits );
+    }
+
+
+    public static double toDouble( long bits ) {
+        return Double.longBitsToDouble( bits );
+    }
+}
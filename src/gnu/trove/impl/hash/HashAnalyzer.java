@@ -0,0 +1,717 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.hash;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.strategy.HashMixer;
+import gnu.trove.strategy.HashingStrategy;
+import gnu.trove.strategy.ProbeStrategy;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+
+/**
+ * Analyzes how well the keys of a hash table are spread over its slots, for
+ * choosing a hash function, a {@link HashingStrategy} or a table layout
+ * from data rather than by guessing.
+ * <p/>
+ * {@link #analyze} reports on the layout of an existing table.
+ * {@link #simulate} and {@link #compare} lay out a set of hash codes in
+ * simulated tables instead, under each {@link HashMixer hash mixer},
+ * capacity mode and {@link ProbeStrategy probe strategy}.  The
+ * hash codes can be taken from a table with {@link #hashCodes(THash)}, from
+ * any collection of objects with a given hashing strategy, or from arrays of
+ * primitive keys hashed like the primitive collections hash them.
+ * <p/>
+ * Each {@link Report} has
+ * <ul>
+ * <li>the cluster length histogram: the number of runs of consecutive
+ * non-FREE slots of each length.  Long clusters make linear probing slow
+ * and show that many keys share or neighbor their natural slots.</li>
+ * <li>the chi-square statistic of the number of keys per natural slot,
+ * divided by its degrees of freedom.  For uniformly spread keys this ratio
+ * is about 1; a much larger one means the hash codes collide.</li>
+ * <li>the average and longest probe length of the keys, which is what a
+ * successful lookup costs, and the average number of slots probed to find
+ * a FREE slot from a random hash code, which is what an unsuccessful lookup
+ * or an insertion costs.</li>
+ * </ul>
+ * Analyzing a table takes a pass over all of its slots and, like any other
+ * read, must not overlap with a modification of the table.  The command line
+ * entry point analyzes keys read one per line from a file or standard
+ * input: <tt>java gnu.trove.impl.hash.HashAnalyzer [-long] [file]</tt>.
+ */
+public class HashAnalyzer {
+
+    /** the number of random hash codes an unsuccessful lookup is timed with */
+    private static final int MISS_SAMPLES = 1024;
+
+    /** the capacity modes and probe strategies compared, with their names */
+    private static final boolean[] POWER_OF_TWO = { false, false, false, true, true, true };
+    private static final ProbeStrategy[] STRATEGIES = { ProbeStrategy.DOUBLE_HASHING,
+        ProbeStrategy.LINEAR, ProbeStrategy.ROBIN_HOOD, ProbeStrategy.DOUBLE_HASHING,
+        ProbeStrategy.LINEAR, ProbeStrategy.ROBIN_HOOD };
+
+
+    private HashAnalyzer() {
+    }
+
+
+    /**
+     * The analysis of the layout of a table.
+     */
+    public static final class Report {
+        private final String name;
+        private final int capacity;
+        private final int entries;
+        private final int[] clusters;
+        private final double chiSquare;
+        private final double averageProbeLength;
+        private final int maxProbeLength;
+        private final double averageMissProbeLength;
+
+
+        Report( String name, int capacity, int entries, int[] clusters, double chiSquare,
+            double averageProbeLength, int maxProbeLength, double averageMissProbeLength ) {
+
+            this.name = name;
+            this.capacity = capacity;
+            this.entries = entries;
+            this.clusters = clusters;
+            this.chiSquare = chiSquare;
+            this.averageProbeLength = averageProbeLength;
+            this.maxProbeLength = maxProbeLength;
+            this.averageMissProbeLength = averageMissProbeLength;
+        }
+
+
+        /** @return a description of the table or simulation analyzed. */
+        public String getName() {
+            return name;
+        }
+
+
+        /** @return the number of slots of the table. */
+        public int getCapacity() {
+            return capacity;
+        }
+
+
+        /** @return the number of entries in the table. */
+        public int getEntries() {
+            return entries;
+        }
+
+
+        /**
+         * Returns the number of clusters of <tt>length</tt> consecutive
+         * non-FREE slots.
+         *
+         * @param length a cluster length
+         * @return the number of clusters of that length.
+         */
+        public int getClusterCount( int length ) {
+            return length >= 0 && length < clusters.length ? clusters[ length ] : 0;
+        }
+
+
+        /** @return the length of the longest cluster of non-FREE slots. */
+        public int getLongestCluster() {
+            return clusters.length - 1;
+        }
+
+
+        /** @return the chi-square statistic of the keys per natural slot. */
+        public double getChiSquare() {
+            return chiSquare;
+        }
+
+
+        /**
+         * @return the chi-square statistic divided by its degrees of freedom,
+         *         about 1 for uniformly spread keys.
+         */
+        public double getChiSquareRatio() {
+            return capacity <= 1 ? 0 : chiSquare / ( capacity - 1 );
+        }
+
+
+        /** @return the average probe length of the entries. */
+        public double getAverageProbeLength() {
+            return averageProbeLength;
+        }
+
+
+        /** @return the longest probe length of the entries. */
+        public int getMaxProbeLength() {
+            return maxProbeLength;
+        }
+
+
+        /**
+         * @return the average number of slots probed from a random hash code
+         *         up to and including a FREE slot.
+         */
+        public double getAverageMissProbeLength() {
+            return averageMissProbeLength;
+        }
+
+
+        /**
+         * Returns a one line summary, with the cluster lengths counted in
+         * ranges of powers of two.
+         */
+        @Override
+        public String toString() {
+            StringBuilder buf = new StringBuilder();
+            buf.append( name ).append( ": capacity=" ).append( capacity );
+            buf.append( ", entries=" ).append( entries );
+            buf.append( ", probe=" ).append( format( averageProbeLength ) );
+            buf.append( " (max " ).append( maxProbeLength ).append( ')' );
+            buf.append( ", miss=" ).append( format( averageMissProbeLength ) );
+            buf.append( ", chi2/df=" ).append( format( getChiSquareRatio() ) );
+            buf.append( ", clusters={" );
+            for ( int low = 1; low < clusters.length; low <<= 1 ) {
+                int high = Math.min( clusters.length - 1, 2 * low - 1 );
+                int count = 0;
+                for ( int length = low; length <= high; length++ ) {
+                    count += clusters[ length ];
+                }
+                if ( low > 1 ) {
+                    buf.append( ", " );
+                }
+                buf.append( low );
+                if ( high > low ) {
+                    buf.append( '-' ).append( high );
+                }
+                buf.append( '=' ).append( count );
+            }
+            return buf.append( '}' ).toString();
+        }
+
+
+        private static String format( double value ) {
+            return String.valueOf( Math.round( value * 1000 ) / 1000.0 );
+        }
+    }
+
+
+    /**
+     * Analyzes the layout of an existing table.  The entries of the old
+     * table of an {@link THash#setIncrementalRehash incremental rehash} in
+     * progress are not included.
+     *
+     * @param hash the table to analyze
+     * @return the analysis of the table.
+     */
+    public static Report analyze( THash hash ) {
+        return analyze( hash.getClass().getSimpleName() + ", " + describe( hash ), hash );
+    }
+
+
+    /**
+     * Lays out <tt>hashCodes</tt> in a simulated table sized for them with
+     * the given load factor, and analyzes it.
+     *
+     * @param hashCodes  the hash codes of the keys, before spreading
+     * @param powerOfTwo whether the table has a power of two capacity
+     * @param strategy   the probe strategy of the table
+     * @param loadFactor the load factor of the table
+     * @return the analysis of the simulated table.
+     */
+    public static Report simulate( int[] hashCodes, boolean powerOfTwo,
+        ProbeStrategy strategy, float loadFactor ) {
+
+        return simulate( hashCodes, HashMixer.NONE, powerOfTwo, strategy, loadFactor );
+    }
+
+
+    /**
+     * Lays out <tt>hashCodes</tt>, run through <tt>mixer</tt> like a table
+     * with that {@link THash#setHashMixer hash mixer} runs int keys or the
+     * hash codes of object keys through it, in a simulated table sized for
+     * them with the given load factor, and analyzes it.
+     *
+     * @param hashCodes  the hash codes of the keys, before mixing
+     * @param mixer      the hash mixer of the table
+     * @param powerOfTwo whether the table has a power of two capacity
+     * @param strategy   the probe strategy of the table
+     * @param loadFactor the load factor of the table
+     * @return the analysis of the simulated table.
+     */
+    public static Report simulate( int[] hashCodes, HashMixer mixer, boolean powerOfTwo,
+        ProbeStrategy strategy, float loadFactor ) {
+
+        int[] mixed = new int[ hashCodes.length ];
+        for ( int i = 0; i < hashCodes.length; i++ ) {
+            mixed[ i ] = HashFunctions.hash( hashCodes[ i ], mixer );
+        }
+        return simulateMixed( mixed, mixer, powerOfTwo, strategy, loadFactor );
+    }
+
+
+    /**
+     * Simulates <tt>hashCodes</tt> under every {@link HashMixer hash mixer},
+     * in prime and power of two sized tables, with every probe strategy.
+     * This covers int keys and object keys; long keys lose bits when they
+     * are folded into a hash code, so they are better compared with
+     * {@link #compare(long[], float)}.
+     *
+     * @param hashCodes  the hash codes of the keys, before mixing
+     * @param loadFactor the load factor of the simulated tables
+     * @return one report per combination.
+     */
+    public static List<Report> compare( int[] hashCodes, float loadFactor ) {
+        List<Report> reports = new ArrayList<Report>();
+        for ( HashMixer mixer : HashMixer.values() ) {
+            for ( int layout = 0; layout < STRATEGIES.length; layout++ ) {
+                reports.add( simulate( hashCodes, mixer,
+                    POWER_OF_TWO[ layout ], STRATEGIES[ layout ], loadFactor ) );
+            }
+        }
+        return reports;
+    }
+
+
+    /**
+     * Simulates long <tt>keys</tt> under every {@link HashMixer hash mixer},
+     * in prime and power of two sized tables, with every probe strategy,
+     * hashing them like the primitive collections do.
+     *
+     * @param keys       the keys
+     * @param loadFactor the load factor of the simulated tables
+     * @return one report per combination.
+     */
+    public static List<Report> compare( long[] keys, float loadFactor ) {
+        List<Report> reports = new ArrayList<Report>();
+        int[] mixed = new int[ keys.length ];
+        for ( HashMixer mixer : HashMixer.values() ) {
+            for ( int i = 0; i < keys.length; i++ ) {
+                mixed[ i ] = HashFunctions.hash( keys[ i ], mixer );
+            }
+            for ( int layout = 0; layout < STRATEGIES.length; layout++ ) {
+                reports.add( simulateMixed( mixed, mixer,
+                    POWER_OF_TWO[ layout ], STRATEGIES[ layout ], loadFactor ) );
+            }
+        }
+        return reports;
+    }
+
+
+    private static Report simulateMixed( int[] mixed, HashMixer mixer, boolean powerOfTwo,
+        ProbeStrategy strategy, float loadFactor ) {
+
+        SimulatedHash table = new SimulatedHash( mixed.length, loadFactor,
+            powerOfTwo, strategy, mixer );
+        for ( int hashCode : mixed ) {
+            table.insert( hashCode );
+        }
+        return analyze( describe( table ), table );
+    }
+
+
+    /**
+     * Returns the hash codes of the keys in a table, before spreading.
+     *
+     * @param hash the table whose keys to hash
+     * @return the hash codes of the keys, in slot order.
+     */
+    public static int[] hashCodes( THash hash ) {
+        int capacity = hash.capacity();
+        int[] codes = new int[ capacity ];
+        int count = 0;
+        for ( int i = 0; i < capacity; i++ ) {
+            if ( hash.probeLength( i ) > 0 ) {
+                codes[ count++ ] = hash.slotHashCode( i );
+            }
+        }
+        int[] result = new int[ count ];
+        System.arraycopy( codes, 0, result, 0, count );
+        return result;
+    }
+
+
+    /**
+     * Returns the hash codes of <tt>keys</tt> computed by <tt>strategy</tt>,
+     * as a {@link gnu.trove.map.hash.TCustomHashMap} using it would see them.
+     *
+     * @param keys     the keys to hash
+     * @param strategy the hashing strategy, or null for <tt>hashCode()</tt>
+     * @return the hash codes of the keys.
+     */
+    public static <K> int[] hashCodes( Iterable<? extends K> keys,
+        HashingStrategy<? super K> strategy ) {
+
+        int[] codes = new int[ Constants.DEFAULT_CAPACITY ];
+        int count = 0;
+        for ( K key : keys ) {
+            if ( count == codes.length ) {
+                int[] grown = new int[ count * 2 ];
+                System.arraycopy( codes, 0, grown, 0, count );
+                codes = grown;
+            }
+            codes[ count++ ] = strategy == null || key == null ?
+                HashFunctions.hash( key ) : strategy.computeHashCode( key );
+        }
+        int[] result = new int[ count ];
+        System.arraycopy( codes, 0, result, 0, count );
+        return result;
+    }
+
+
+    /**
+     * Returns the hash codes the primitive collections use for
+     * <tt>keys</tt>.  Byte, short and char keys hash like int keys.
+     *
+     * @param keys the keys to hash
+     * @return the hash codes of the keys.
+     */
+    public static int[] hashCodes( int[] keys ) {
+        int[] codes = new int[ keys.length ];
+        for ( int i = 0; i < keys.length; i++ ) {
+            codes[ i ] = HashFunctions.hash( keys[ i ] );
+        }
+        return codes;
+    }
+
+
+    /**
+     * Returns the hash codes the primitive collections use for
+     * <tt>keys</tt>.
+     *
+     * @param keys the keys to hash
+     * @return the hash codes of the keys.
+     */
+    public static int[] hashCodes( long[] keys ) {
+        int[] codes = new int[ keys.length ];
+        for ( int i = 0; i < keys.length; i++ ) {
+            codes[ i ] = HashFunctions.hash( keys[ i ] );
+        }
+        return codes;
+    }
+
+
+    /**
+     * Returns the hash codes the primitive collections use for
+     * <tt>keys</tt>.
+     *
+     * @param keys the keys to hash
+     * @return the hash codes of the keys.
+     */
+    public static int[] hashCodes( float[] keys ) {
+        int[] codes = new int[ keys.length ];
+        for ( int i = 0; i < keys.length; i++ ) {
+            codes[ i ] = HashFunctions.hash( keys[ i ] );
+        }
+        return codes;
+    }
+
+
+    /**
+     * Returns the hash codes the primitive collections use for
+     * <tt>keys</tt>.
+     *
+     * @param keys the keys to hash
+     * @return the hash codes of the keys.
+     */
+    public static int[] hashCodes( double[] keys ) {
+        int[] codes = new int[ keys.length ];
+        for ( int i = 0; i < keys.length; i++ ) {
+            codes[ i ] = HashFunctions.hash( keys[ i ] );
+        }
+        return codes;
+    }
+
+
+    private static String describe( THash hash ) {
+        String description = ( hash.isPowerOfTwoCapacity() ? "power of two " : "prime " ) +
+            hash.getProbeStrategy().name().toLowerCase().replace( '_', ' ' );
+        if ( hash.getHashMixer() != HashMixer.NONE ) {
+            description += ", " + hash.getHashMixer().name().toLowerCase();
+        }
+        return description;
+    }
+
+
+    private static Report analyze( String name, THash hash ) {
+        int capacity = hash.capacity();
+
+        // probe lengths and natural slots of the entries
+        int[] homes = new int[ capacity ];
+        int entries = 0;
+        long totalProbes = 0;
+        int maxProbes = 0;
+        for ( int i = 0; i < capacity; i++ ) {
+            int probes = hash.probeLength( i );
+            if ( probes > 0 ) {
+                entries++;
+                totalProbes += probes;
+                maxProbes = Math.max( maxProbes, probes );
+                homes[ hash.indexFor( hash.spread( hash.slotHashCode( i ) ), capacity ) ]++;
+            }
+        }
+
+        double expected = (double) entries / capacity;
+        double chiSquare = 0;
+        if ( entries > 0 ) {
+            for ( int count : homes ) {
+                chiSquare += ( count - expected ) * ( count - expected );
+            }
+            chiSquare /= expected;
+        }
+
+        return new Report( name, capacity, entries, clusters( hash ), chiSquare,
+            entries == 0 ? 0 : (double) totalProbes / entries, maxProbes,
+            missProbeLength( hash ) );
+    }
+
+
+    /**
+     * Returns the histogram of the lengths of the runs of non-FREE slots.
+     */
+    private static int[] clusters( THash hash ) {
+        int capacity = hash.capacity();
+        int start = 0;
+        while ( start < capacity && !hash.isFree( start ) ) {
+            start++;
+        }
+        if ( start == capacity ) {
+            int[] histogram = new int[ capacity + 1 ];
+            histogram[ capacity ] = 1;
+            return histogram;
+        }
+
+        // go round the table once from a FREE slot, so no cluster wraps
+        int[] histogram = new int[ capacity + 1 ];
+        int longest = 0;
+        int length = 0;
+        for ( int i = 1; i <= capacity; i++ ) {
+            if ( hash.isFree( ( start + i ) % capacity ) ) {
+                if ( length > 0 ) {
+                    histogram[ length ]++;
+                    longest = Math.max( longest, length );
+                    length = 0;
+                }
+            }
+            else {
+                length++;
+            }
+        }
+        int[] result = new int[ longest + 1 ];
+        System.arraycopy( histogram, 0, result, 0, longest + 1 );
+        return result;
+    }
+
+
+    /**
+     * Returns the average number of slots probed from random hash codes
+     * until a FREE slot is met.
+     */
+    private static double missProbeLength( THash hash ) {
+        int capacity = hash.capacity();
+        boolean linear = hash.getProbeStrategy() != ProbeStrategy.DOUBLE_HASHING;
+        Random random = new Random( 0 );
+        long total = 0;
+        for ( int sample = 0; sample < MISS_SAMPLES; sample++ ) {
+            int code = hash.spread( random.nextInt() );
+            int index = hash.indexFor( code, capacity );
+            int probe = linear ? -1 : hash.probeFor( code, capacity );
+            int probes = 1;
+            while ( !hash.isFree( index ) && probes < capacity ) {
+                index -= probe;
+                if ( index < 0 ) {
+                    index += capacity;
+                }
+                else if ( index >= capacity ) {
+                    index -= capacity;
+                }
+                probes++;
+            }
+            total += probes;
+        }
+        return (double) total / MISS_SAMPLES;
+    }
+
+
+    /**
+     * A table of bare hash codes, already run through the hash mixer, laid
+     * out like the hashes of this package lay out their keys.  Equal hash
+     * codes are stored as different keys.
+     */
+    private static final class SimulatedHash extends THash {
+        static final long serialVersionUID = 1L;
+
+        private int[] _codes;
+        private boolean[] _full;
+
+
+        SimulatedHash( int size, float loadFactor, boolean powerOfTwo,
+            ProbeStrategy strategy, HashMixer mixer ) {
+
+            super( size, loadFactor );
+            _powerOfTwo = powerOfTwo;
+            _probeStrategy = strategy;
+            _hashMixer = mixer;
+            updateLayout();
+            setUp( HashFunctions.fastCeil( size / loadFactor ) );
+        }
+
+
+        @Override
+        protected int setUp( int initialCapacity ) {
+            int capacity = super.setUp( initialCapacity );
+            _codes = new int[ capacity ];
+            _full = new boolean[ capacity ];
+            return capacity;
+        }
+
+
+        @Override
+        public int capacity() {
+            return _codes.length;
+        }
+
+
+        void insert( int hashCode ) {
+            int length = _codes.length;
+            int hash = spread( hashCode );
+            int index = indexFor( hash, length );
+
+            if ( _probeStrategy == ProbeStrategy.DOUBLE_HASHING ) {
+                int probe = probeFor( hash, length );
+                while ( _full[ index ] ) {
+                    index -= probe;
+                    if ( index < 0 ) {
+                        index += length;
+                    }
+                }
+            }
+            else {
+                boolean robinHood = _probeStrategy == ProbeStrategy.ROBIN_HOOD;
+                int distance = 0;
+                while ( _full[ index ] ) {
+                    // Robin Hood tables hand the slot to the key further from home
+                    int resident = probeLength( index ) - 1;
+                    if ( robinHood && resident < distance ) {
+                        int displaced = _codes[ index ];
+                        _codes[ index ] = hashCode;
+                        hashCode = displaced;
+                        distance = resident;
+                    }
+                    if ( ++index == length ) {
+                        index = 0;
+                    }
+                    distance++;
+                }
+            }
+
+            _codes[ index ] = hashCode;
+            _full[ index ] = true;
+            _size++;
+            _free--;
+        }
+
+
+        @Override
+        protected int probeLength( int index ) {
+            return _full[ index ] ? probeLength( spread( _codes[ index ] ), index, _codes.length ) : 0;
+        }
+
+
+        @Override
+        protected int slotHashCode( int index ) {
+            return _codes[ index ];
+        }
+
+
+        @Override
+        protected boolean isFull( int index ) {
+            return _full[ index ];
+        }
+
+
+        @Override
+        protected boolean isFree( int index ) {
+            return !_full[ index ];
+        }
+
+
+        @Override
+        protected void rehash( int newCapacity ) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+
+    /**
+     * Analyzes keys read one per line from the file named by the last
+     * argument, or from standard input.  With <tt>-long</tt> the keys are
+     * parsed as longs and hashed like the primitive collections hash them,
+     * otherwise they are hashed as strings.
+     */
+    public static void main( String[] args ) throws IOException {
+        boolean longs = false;
+        String file = null;
+        for ( String arg : args ) {
+            if ( arg.equals( "-long" ) ) {
+                longs = true;
+            }
+            else {
+                file = arg;
+            }
+        }
+
+        BufferedReader in = new BufferedReader( file == null ?
+            new InputStreamReader( System.in ) : new FileReader( file ) );
+        List<String> lines = new ArrayList<String>();
+        try {
+            String line;
+            while ( ( line = in.readLine() ) != null ) {
+                if ( line.length() > 0 ) {
+                    lines.add( line );
+                }
+            }
+        }
+        finally {
+            in.close();
+        }
+
+        List<Report> reports;
+        if ( longs ) {
+            long[] keys = new long[ lines.size() ];
+            for ( int i = 0; i < keys.length; i++ ) {
+                keys[ i ] = Long.parseLong( lines.get( i ).trim() );
+            }
+            reports = compare( keys, Constants.DEFAULT_LOAD_FACTOR );
+        }
+        else {
+            reports = compare( hashCodes( lines, null ), Constants.DEFAULT_LOAD_FACTOR );
+        }
+
+        for ( Report report : reports ) {
+            System.out.println( report );
+        }
+    }
+}
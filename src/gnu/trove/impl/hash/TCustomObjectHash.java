@@ -101,6 +101,12 @@ abstract public class TCustomObjectHash<T> extends TObjectHash<T> {
 	}
 
 
+	@Override
+	protected boolean usesHashingStrategy() {
+		return true;
+	}
+
+
 	@Override
     public void writeExternal( ObjectOutput out ) throws IOException {
 
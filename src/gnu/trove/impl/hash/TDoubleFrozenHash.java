@@ -0,0 +1,326 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.hash;
+
+import gnu.trove.impl.HashFunctions;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+
+/**
+ * An immutable, minimal perfect hashing implementation for double primitives:
+ * the table holds exactly one slot per key, with no free slots and no
+ * states, and a lookup finds the only slot its key can be in without
+ * probing.
+ * <p/>
+ * The keys are hashed into buckets of two on average.  Each bucket has a
+ * displacement, chosen when the table is built, that sends the keys of the
+ * bucket to slots no other key takes: the buckets with the most keys are
+ * placed first, while most slots are free, and buckets of a single key
+ * finally fill the remaining slots directly.  A lookup hashes its key,
+ * reads the displacement of its bucket and compares the key in the slot
+ * that gives, which takes a cache miss or two however the keys collide.
+ * <p/>
+ * Nothing is written after construction, so any number of threads can
+ * read a table without locking once it has been safely published.
+ */
+abstract public class TDoubleFrozenHash implements Externalizable {
+    static final long serialVersionUID = 1L;
+
+    /** the average number of keys per bucket */
+    private static final int BUCKET_SIZE = 2;
+
+    /** the most displacements tried for a bucket before the table is laid out with another seed */
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    /** spreads the displacements and seeds over the 64 bit hash codes */
+    private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+    /** the keys, one per slot */
+    protected transient double[] _set;
+
+    /**
+     * the displacement of each bucket, or <tt>-1 - slot</tt> for a bucket
+     * whose only key was put into <tt>slot</tt> directly
+     */
+    protected transient int[] _displacements;
+
+    /** mixed into the hash code of every key, changed until a layout is found */
+    protected transient long _seed;
+
+
+    /**
+     * Creates an empty table.
+     */
+    public TDoubleFrozenHash() {
+        _set = new double[0];
+        _displacements = new int[1];
+    }
+
+
+    /**
+     * Creates a table that shares the layout and keys of <tt>hash</tt>,
+     * which is safe as neither of them can change.
+     *
+     * @param hash the table whose keys to share
+     */
+    protected TDoubleFrozenHash( TDoubleFrozenHash hash ) {
+        _set = hash._set;
+        _displacements = hash._displacements;
+        _seed = hash._seed;
+    }
+
+
+    /**
+     * Returns the number of keys in the table.
+     *
+     * @return an <code>int</code> value
+     */
+    public int size() {
+        return _set.length;
+    }
+
+
+    /**
+     * Tells whether the table holds no keys.
+     *
+     * @return true if the table is empty
+     */
+    public boolean isEmpty() {
+        return _set.length == 0;
+    }
+
+
+    /**
+     * Returns the hash code of <tt>key</tt> with <tt>seed</tt> mixed in.  Keys
+     * are compared with <tt>==</tt>, so both zeros of the floating point
+     * types hash alike.
+     */
+    private static long hash( double key, long seed ) {
+        return HashFunctions.mix64( ( key == 0 ? 0 : Double.doubleToRawLongBits( key ) ) ^ seed );
+    }
+
+
+    /** Maps <tt>hash</tt> evenly onto the range from 0 below <tt>length</tt>. */
+    private static int reduce( int hash, int length ) {
+        return ( int ) ( ( ( hash & 0xffffffffL ) * length ) >>> 32 );
+    }
+
+
+    /** Returns the slot that displacement <tt>d</tt> sends a key with the given hash code to. */
+    private static int displace( long hash, int d, int length ) {
+        return reduce( ( int ) HashFunctions.mix64( hash + d * GOLDEN_RATIO ), length );
+    }
+
+
+    /**
+     * Locates the slot of <tt>key</tt>.
+     *
+     * @param key an <code>double</code> value
+     * @return the slot of <tt>key</tt>, or -1 if it isn't in the table
+     */
+    protected int index( double key ) {
+        double[] set = _set;
+        if ( set.length == 0 ) {
+            return -1;
+        }
+        long hash = hash( key, _seed );
+        int d = _displacements[ reduce( ( int ) ( hash >>> 32 ), _displacements.length ) ];
+        int slot = d < 0 ? -1 - d : displace( hash, d, set.length );
+        return set[slot] == key ? slot : -1;
+    }
+
+
+    /**
+     * Lays the table out for <tt>keys</tt>, which must be distinct.
+     *
+     * @param keys the keys of the table
+     * @return the slot each of <tt>keys</tt> was put into, for subclasses to
+     *         put the values of the keys into the same slots
+     * @throws IllegalArgumentException if a key occurs twice
+     */
+    protected int[] build( double[] keys ) {
+        int size = keys.length;
+        int[] displacements = new int[ Math.max( 1, size / BUCKET_SIZE ) ];
+        int[] slots = new int[ size ];
+        long seed = 0;
+        while ( !layOut( keys, seed, displacements, slots ) ) {
+            seed += GOLDEN_RATIO;
+        }
+
+        double[] set = new double[ size ];
+        for ( int i = 0; i < size; i++ ) {
+            set[ slots[i] ] = keys[i];
+        }
+        _set = set;
+        _displacements = displacements;
+        _seed = seed;
+        return slots;
+    }
+
+
+    /**
+     * Tries to lay the table out with <tt>seed</tt>, filling in
+     * <tt>displacements</tt> and <tt>slots</tt>.
+     *
+     * @return false if a bucket could not be placed with this seed
+     */
+    private static boolean layOut( double[] keys, long seed, int[] displacements, int[] slots ) {
+        int size = keys.length;
+        int buckets = displacements.length;
+        long[] hashes = new long[ size ];
+        int[] starts = new int[ buckets + 1 ];
+        for ( int i = 0; i < size; i++ ) {
+            hashes[i] = hash( keys[i], seed );
+            starts[ reduce( ( int ) ( hashes[i] >>> 32 ), buckets ) + 1 ]++;
+        }
+
+        // the keys grouped by bucket, and the buckets ordered by their size
+        int largest = 0;
+        int[] bySize = new int[ size + 2 ];
+        for ( int b = 0; b < buckets; b++ ) {
+            largest = Math.max( largest, starts[b + 1] );
+            bySize[ starts[b + 1] + 1 ]++;
+            starts[b + 1] += starts[b];
+        }
+        int[] members = new int[ size ];
+        int[] fill = starts.clone();
+        for ( int i = 0; i < size; i++ ) {
+            members[ fill[ reduce( ( int ) ( hashes[i] >>> 32 ), buckets ) ]++ ] = i;
+        }
+        for ( int s = 1; s < bySize.length; s++ ) {
+            bySize[s] += bySize[s - 1];
+        }
+        int[] order = new int[ buckets ];
+        for ( int b = 0; b < buckets; b++ ) {
+            order[ bySize[ starts[b + 1] - starts[b] ]++ ] = b;
+        }
+
+        boolean[] taken = new boolean[ size ];
+        int[] placed = new int[ largest ];
+        int next = buckets;
+        for ( ; next > 0; next-- ) {
+            int b = order[next - 1];
+            int from = starts[b];
+            int count = starts[b + 1] - from;
+            if ( count < 2 ) {
+                break;
+            }
+            for ( int j = 1; j < count; j++ ) {
+                for ( int k = 0; k < j; k++ ) {
+                    if ( hashes[ members[from + j] ] == hashes[ members[from + k] ] ) {
+                        throw new IllegalArgumentException( "duplicate key: " +
+                            keys[ members[from + j] ] );
+                    }
+                }
+            }
+
+            int d = 0;
+            search:
+            for ( ; d < MAX_DISPLACEMENT; d++ ) {
+                for ( int j = 0; j < count; j++ ) {
+                    int slot = displace( hashes[ members[from + j] ], d, size );
+                    if ( taken[slot] ) {
+                        continue search;
+                    }
+                    for ( int k = 0; k < j; k++ ) {
+                        if ( placed[k] == slot ) {
+                            continue search;
+                        }
+                    }
+                    placed[j] = slot;
+                }
+                break;
+            }
+            if ( d == MAX_DISPLACEMENT ) {
+                return false;
+            }
+            displacements[b] = d;
+            for ( int j = 0; j < count; j++ ) {
+                taken[ placed[j] ] = true;
+                slots[ members[from + j] ] = placed[j];
+            }
+        }
+
+        // buckets of one key take the free slots in turn, empty buckets keep 0
+        int free = 0;
+        for ( ; next > 0; next-- ) {
+            int b = order[next - 1];
+            if ( starts[b + 1] == starts[b] ) {
+                displacements[b] = 0;
+                continue;
+            }
+            while ( taken[free] ) {
+                free++;
+            }
+            taken[free] = true;
+            displacements[b] = -1 - free;
+            slots[ members[ starts[b] ] ] = free;
+        }
+        return true;
+    }
+
+
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // SEED
+        out.writeLong( _seed );
+
+        // DISPLACEMENTS
+        out.writeInt( _displacements.length );
+        for ( int i = 0; i < _displacements.length; i++ ) {
+            out.writeInt( _displacements[i] );
+        }
+
+        // KEYS, in slot order
+        out.writeInt( _set.length );
+        for ( int i = 0; i < _set.length; i++ ) {
+            out.writeDouble( _set[i] );
+        }
+    }
+
+
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // SEED
+        _seed = in.readLong();
+
+        // DISPLACEMENTS
+        _displacements = new int[ in.readInt() ];
+        for ( int i = 0; i < _displacements.length; i++ ) {
+            _displacements[i] = in.readInt();
+        }
+
+        // KEYS
+        _set = new double[ in.readInt() ];
+        for ( int i = 0; i < _set.length; i++ ) {
+            _set[i] = in.readDouble();
+        }
+    }
+} // TDoubleFrozenHash
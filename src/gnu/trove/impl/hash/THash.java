@@ -23,6 +23,8 @@ package gnu.trove.impl.hash;
 import gnu.trove.impl.Constants;
 import gnu.trove.impl.HashFunctions;
 import gnu.trove.impl.PrimeFinder;
+import gnu.trove.strategy.HashMixer;
+import gnu.trove.strategy.ProbeStrategy;
 
 import java.io.Externalizable;
 import java.io.ObjectOutput;
@@ -59,6 +61,12 @@ abstract public class THash implements Externalizable {
      */
     protected static final int DEFAULT_CAPACITY = Constants.DEFAULT_CAPACITY;
 
+    /**
+     * the least number of slots of the old table that each insertion
+     * migrates during an incremental rehash.
+     */
+    protected static final int MIN_DRAIN_STEP = 8;
+
 
     /** the current number of occupied slots in the hash. */
     protected transient int _size;
@@ -95,6 +103,66 @@ abstract public class THash implements Externalizable {
     /** @see #tempDisableAutoCompaction */
     protected transient boolean _autoCompactTemporaryDisable = false;
 
+    /**
+     * Whether the table is sized to powers of two (and indexed with a mask)
+     * rather than to primes (and indexed with a modulo).
+     *
+     * @see #setPowerOfTwoCapacity
+     */
+    protected boolean _powerOfTwo = false;
+
+    /**
+     * How the table probes for a slot when the natural one is taken.
+     *
+     * @see #setProbeStrategy
+     */
+    protected ProbeStrategy _probeStrategy = ProbeStrategy.DOUBLE_HASHING;
+
+    /**
+     * The function the keys are run through to get their hash codes.
+     *
+     * @see #setHashMixer
+     */
+    protected HashMixer _hashMixer = Constants.DEFAULT_HASH_MIXER;
+
+    /**
+     * Whether growing the table migrates the entries a few at a time.
+     *
+     * @see #setIncrementalRehash
+     */
+    protected boolean _incrementalRehash = false;
+
+    /**
+     * Whether the table is laid out the way it was before the layout could
+     * be configured: prime capacity, double hashing, plain hash codes and no
+     * hashing strategy.  Lookups and insertions take a path of their own for
+     * such tables, which needs neither virtual <tt>hash()</tt> and
+     * <tt>equals()</tt> calls nor checks of the other settings.
+     *
+     * @see #updateLayout
+     */
+    protected transient boolean _defaultLayout;
+
+    /**
+     * The old table of an incremental rehash in progress, whose entries are
+     * still being moved over to this one, or null.
+     */
+    protected transient THash _draining;
+
+    /** The slots of {@link #_draining} below this index are not migrated yet. */
+    protected transient int _drainIndex;
+
+    /** How many slots of {@link #_draining} each insertion migrates. */
+    protected transient int _drainStep;
+
+    /**
+     * The rehash counters of the table, or null while statistics are
+     * disabled.
+     *
+     * @see #setStatisticsEnabled
+     */
+    private transient RehashCounters _rehashCounters;
+
 
     /**
      * Creates a new <code>THash</code> instance with the default
@@ -133,6 +201,7 @@ abstract public class THash implements Externalizable {
         // Through testing, the load factor (especially the default load factor) has been
         // found to be a pretty good starting auto-compaction factor.
         _autoCompactionFactor = loadFactor;
+        updateLayout();
 
         setUp( HashFunctions.fastCeil( initialCapacity / loadFactor ) );
     }
@@ -144,7 +213,7 @@ abstract public class THash implements Externalizable {
      * @return a <code>boolean</code> value
      */
     public boolean isEmpty() {
-        return 0 == _size;
+        return 0 == size();
     }
 
 
@@ -154,7 +223,7 @@ abstract public class THash implements Externalizable {
      * @return an <code>int</code> value
      */
     public int size() {
-        return _size;
+        return _draining == null ? _size : _size + _draining._size;
     }
 
 
@@ -171,9 +240,10 @@ abstract public class THash implements Externalizable {
      * @param desiredCapacity an <code>int</code> value
      */
     public void ensureCapacity( int desiredCapacity ) {
+        completeRehash();
         if ( desiredCapacity > ( _maxSize - size() ) ) {
-			rehash( PrimeFinder.nextPrime( Math.max( size() + 1,
-				HashFunctions.fastCeil( ( desiredCapacity + size() ) / _loadFactor ) + 1 ) ) );
+			timedRehash( nextCapacity( Math.max( size() + 1,
+				HashFunctions.fastCeil( ( desiredCapacity + size() ) / _loadFactor ) + 1 ) ), false );
             computeMaxSize( capacity() );
         }
     }
@@ -197,9 +267,11 @@ abstract public class THash implements Externalizable {
      * </ol>
      */
     public void compact() {
+        completeRehash();
+
         // need at least one free spot for open addressing
-        rehash( PrimeFinder.nextPrime( Math.max( _size + 1,
-	        HashFunctions.fastCeil( size() / _loadFactor ) + 1 ) ) );
+        timedRehash( nextCapacity( Math.max( _size + 1,
+	        HashFunctions.fastCeil( size() / _loadFactor ) + 1 ) ), true );
         computeMaxSize( capacity() );
 
         // If auto-compaction is enabled, re-determine the compaction interval
@@ -216,7 +288,9 @@ abstract public class THash implements Externalizable {
      * auto-compaction is the size of table at the time of the previous compaction
      * (or the initial capacity) multiplied by this factor.
      * <p/>
-     * Setting this value to zero will disable auto-compaction.
+     * Setting this value to zero will disable auto-compaction.  Tables using
+     * one of the linear {@link #setProbeStrategy probe strategies} never need
+     * compacting and ignore this value.
      *
      * @param factor a <tt>float</tt> that indicates the auto-compaction factor
      */
@@ -239,6 +313,522 @@ abstract public class THash implements Externalizable {
     }
 
 
+    /**
+     * Switches the table between prime and power of two capacities.
+     * <p/>
+     * Prime sized tables (the default) compute slots with a modulo, which
+     * tolerates weak hash codes but costs an integer division per lookup
+     * plus another for the double hashing step.  Power of two tables
+     * compute slots with a mask instead; every hash code is run through
+     * {@link HashFunctions#mix} first so that keys differing only in their
+     * high bits still spread over the whole table.
+     * <p/>
+     * Changing the mode rehashes the table, so it is cheapest to call this
+     * right after construction.  The setting is kept across
+     * serialization.
+     *
+     * @param power_of_two true to use power of two capacities
+     */
+    public void setPowerOfTwoCapacity( boolean power_of_two ) {
+        if ( _powerOfTwo == power_of_two ) {
+            return;
+        }
+
+        completeRehash();
+        _powerOfTwo = power_of_two;
+        updateLayout();
+        rehash( nextCapacity( capacity() ) );
+        computeMaxSize( capacity() );
+    }
+
+
+    /**
+     * @see #setPowerOfTwoCapacity
+     *
+     * @return true if the table is sized to powers of two.
+     */
+    public boolean isPowerOfTwoCapacity() {
+        return _powerOfTwo;
+    }
+
+
+    /**
+     * Selects how the table probes for a free slot when the natural slot of
+     * a key is taken.  {@link ProbeStrategy#LINEAR linear} and
+     * {@link ProbeStrategy#ROBIN_HOOD Robin Hood} probing keep a probe
+     * sequence within a few cache lines, which pays off on tables much
+     * larger than the CPU caches.  They rely on a well mixed hash, so they
+     * are best combined with {@link #setPowerOfTwoCapacity power of two
+     * capacities} or a good <tt>hashCode()</tt>.
+     * <p/>
+     * In the linear modes a removal shifts the rest of the cluster back
+     * into the freed slot instead of leaving a <tt>REMOVED</tt> marker, so
+     * entries may change slots and the table never needs to be compacted:
+     * the {@link #setAutoCompactionFactor auto-compaction factor} is
+     * ignored, and with it the pause of rehashing the whole table in the
+     * middle of a run of removals.  Only while auto-compaction is
+     * {@link #tempDisableAutoCompaction temporarily disabled}, as it is when
+     * removing through an iterator, is a marker left where the shift would
+     * move an entry from the start of the table to its end; such markers
+     * are swept by {@link #reenableAutoCompaction reenableAutoCompaction(true)}
+     * or the next rehash.
+     * <p/>
+     * Changing the strategy rehashes the table, so it is cheapest to call
+     * this right after construction.  The setting is kept across
+     * serialization.
+     *
+     * @param strategy the probe strategy to use
+     */
+    public void setProbeStrategy( ProbeStrategy strategy ) {
+        if ( strategy == null ) {
+            throw new IllegalArgumentException( "Strategy must not be null" );
+        }
+        if ( _probeStrategy == strategy ) {
+            return;
+        }
+
+        completeRehash();
+        _probeStrategy = strategy;
+        updateLayout();
+        rehash( capacity() );
+        computeMaxSize( capacity() );
+    }
+
+
+    /**
+     * @see #setProbeStrategy
+     *
+     * @return the probe strategy of the table.
+     */
+    public ProbeStrategy getProbeStrategy() {
+        return _probeStrategy;
+    }
+
+
+    /**
+     * Selects the function the keys of a primitive table are hashed with,
+     * or the hash codes of the keys of an object table are mixed with.
+     * The plain hash code of an int key is the key itself, so sequential or
+     * strided keys such as ids and timestamps fill runs of neighboring
+     * slots; the long hash code folds the two halves together, so keys whose
+     * halves are equal all collide.  The {@link HashMixer#MURMUR3} and
+     * {@link HashMixer#XXHASH} mixers spread such keys evenly at the cost of
+     * a few multiplications per hash, which makes them the right choice for
+     * the {@link #setProbeStrategy linear probe strategies} with prime
+     * capacities and for keys chosen by an adversary.  Power of two tables
+     * mix plain hash codes themselves, and skip that when a mixer is
+     * selected.
+     * <p/>
+     * The default is taken from the <tt>gnu.trove.hash_mixer</tt> system
+     * property, and is {@link HashMixer#NONE} unless it is set.  A subclass
+     * can select a mixer for all of its instances in its constructors.
+     * Changing the mixer rehashes the table, so it is cheapest to call this
+     * right after construction.  The setting is kept across serialization.
+     *
+     * @param mixer the hash mixer to use
+     */
+    public void setHashMixer( HashMixer mixer ) {
+        if ( mixer == null ) {
+            throw new IllegalArgumentException( "Mixer must not be null" );
+        }
+        if ( _hashMixer == mixer ) {
+            return;
+        }
+
+        completeRehash();
+        _hashMixer = mixer;
+        updateLayout();
+        rehash( capacity() );
+        computeMaxSize( capacity() );
+    }
+
+
+    /**
+     * @see #setHashMixer
+     *
+     * @return the hash mixer of the table.
+     */
+    public HashMixer getHashMixer() {
+        return _hashMixer;
+    }
+
+
+    /**
+     * Switches the recording of rehash and compaction statistics on or off.
+     * While it is on, the table counts and times every rehash it performs,
+     * which costs two calls to <tt>System.nanoTime()</tt> per rehash and
+     * nothing on any other operation.  Switching it off discards the counts.
+     * The probe length figures of {@link #getStatistics} don't depend on
+     * this setting, since they are taken from the table when asked for.
+     * <p/>
+     * The setting is not kept across serialization.
+     *
+     * @param enabled true to record rehash statistics
+     */
+    public void setStatisticsEnabled( boolean enabled ) {
+        if ( !enabled ) {
+            _rehashCounters = null;
+        }
+        else if ( _rehashCounters == null ) {
+            _rehashCounters = new RehashCounters();
+        }
+    }
+
+
+    /**
+     * @see #setStatisticsEnabled
+     *
+     * @return true if the table records rehash statistics.
+     */
+    public boolean isStatisticsEnabled() {
+        return _rehashCounters != null;
+    }
+
+
+    /**
+     * Returns the current statistics of the table, measuring the probe
+     * length of every entry.  That takes a pass over the whole table, so
+     * for large tables that are sampled often {@link #getStatistics(int)}
+     * is cheaper.  Like any other read, this must not run at the same time
+     * as a modification of the table.
+     *
+     * @return a snapshot of the statistics of the table.
+     */
+    public THashStatistics getStatistics() {
+        return getStatistics( Integer.MAX_VALUE );
+    }
+
+
+    /**
+     * Returns the current statistics of the table, measuring the probe
+     * lengths of at most <tt>maxSlots</tt> slots spread evenly over the
+     * table.  The average probe length is then an estimate and the maximum
+     * a lower bound.  Entries in the old table of an
+     * {@link #setIncrementalRehash incremental rehash} in progress are not
+     * measured.
+     *
+     * @param maxSlots the largest number of slots to look at.
+     * @return a snapshot of the statistics of the table.
+     */
+    public THashStatistics getStatistics( int maxSlots ) {
+        if ( maxSlots <= 0 ) {
+            throw new IllegalArgumentException( "maxSlots must be positive: " + maxSlots );
+        }
+
+        int capacity = capacity();
+        int samples = Math.min( capacity, maxSlots );
+        long entries = 0;
+        long totalProbes = 0;
+        int maxProbes = 0;
+        for ( int i = 0; i < samples; i++ ) {
+            int probes = probeLength( (int) ( (long) i * capacity / samples ) );
+            if ( probes > 0 ) {
+                entries++;
+                totalProbes += probes;
+                maxProbes = Math.max( maxProbes, probes );
+            }
+        }
+
+        RehashCounters counters = _rehashCounters;
+        if ( counters == null ) {
+            counters = new RehashCounters();
+        }
+        return new THashStatistics( capacity, size(), _free, removedSlots(),
+            entries == 0 ? 0 : (double) totalProbes / entries, maxProbes,
+            counters.rehashes, counters.rehashNanos,
+            counters.compactions, counters.compactionNanos, counters.maxPauseNanos );
+    }
+
+
+    /**
+     * Returns how many slots a lookup of the entry at <tt>index</tt> probes,
+     * counting the slot of the entry itself, or 0 if the slot holds no
+     * entry.  Implementations usually call
+     * {@link #probeLength(int, int, int)} with the spread hash code of the
+     * key.  The default implementation returns 0, which leaves the probe
+     * length statistics empty.
+     *
+     * @param index a slot of the table
+     * @return the probe length of the entry at <tt>index</tt>, or 0.
+     */
+    protected int probeLength( int index ) {
+        return 0;
+    }
+
+
+    /**
+     * Returns the hash code of the key stored at <tt>index</tt>, as computed
+     * by the {@link #setHashMixer hash mixer} and before it is
+     * {@link #spread spread}.  This is only called for slots with a
+     * positive {@link #probeLength(int) probe length}, by
+     * {@link HashAnalyzer}.  The default implementation throws an
+     * <tt>UnsupportedOperationException</tt>.
+     *
+     * @param index a slot of the table holding an entry
+     * @return the hash code of the key at <tt>index</tt>.
+     */
+    protected int slotHashCode( int index ) {
+        throw new UnsupportedOperationException();
+    }
+
+
+    /**
+     * Returns how many slots the probe sequence of a {@link #spread spread}
+     * hash code goes through to reach <tt>index</tt>, under the probe
+     * strategy of the table.
+     *
+     * @param hash   the spread hash code of the key stored at <tt>index</tt>
+     * @param index  the slot of the key
+     * @param length the length of the table
+     * @return the probe length, at least 1.
+     */
+    protected final int probeLength( int hash, int index, int length ) {
+        int slot = indexFor( hash, length );
+        if ( _probeStrategy != ProbeStrategy.DOUBLE_HASHING ) {
+            int distance = index - slot;
+            return ( distance < 0 ? distance + length : distance ) + 1;
+        }
+
+        int probe = probeFor( hash, length );
+        int probes = 1;
+        while ( slot != index && probes < length ) {
+            slot -= probe;
+            if ( slot < 0 ) {
+                slot += length;
+            }
+            probes++;
+        }
+        return probes;
+    }
+
+
+    /**
+     * Makes the table grow by an incremental rehash.  Normally a table that
+     * outgrows its capacity rehashes all of its entries into a larger one
+     * within the insertion that crossed the limit, which can take a long
+     * time for a large table.  With an incremental rehash the new table
+     * starts out empty, the old one is kept, and every insertion migrates a
+     * few slots of it until it is drained.  Removals and other updates find
+     * keys still in the old table and move them over first, so apart from
+     * allocating the new arrays no operation does more than a bounded amount
+     * of work.  Lookups such as <tt>get</tt> and <tt>contains</tt> look in
+     * both tables and never move an entry.
+     * <p/>
+     * Operations that go over the whole table, such as iteration,
+     * <tt>forEach</tt> and serialization, and anything that rehashes the
+     * table, {@link #completeRehash complete} a rehash in progress first.
+     * These do modify the table while a rehash is in progress, so a table
+     * that is shared with concurrent readers without locking should have
+     * {@link #completeRehash} called before it is published.
+     * Not every hash supports this mode.
+     * <p/>
+     * The setting is kept across serialization.
+     *
+     * @param incremental true to grow the table incrementally
+     * @throws UnsupportedOperationException if the hash does not support
+     *                                       incremental rehashing.
+     */
+    public void setIncrementalRehash( boolean incremental ) {
+        if ( incremental && !supportsIncrementalRehash() ) {
+            throw new UnsupportedOperationException(
+                getClass().getName() + " does not support incremental rehashing" );
+        }
+        if ( !incremental ) {
+            completeRehash();
+        }
+        _incrementalRehash = incremental;
+    }
+
+
+    /**
+     * @see #setIncrementalRehash
+     *
+     * @return true if the table grows by incremental rehashes.
+     */
+    public boolean isIncrementalRehash() {
+        return _incrementalRehash;
+    }
+
+
+    /**
+     * Migrates all entries left in the old table of an incremental rehash in
+     * progress, if there is one.  This can be called at a convenient time
+     * to take the remaining work out of the following operations.
+     *
+     * @see #setIncrementalRehash
+     */
+    public void completeRehash() {
+        THash old = _draining;
+        if ( old == null ) {
+            return;
+        }
+        _draining = null;
+
+        // make room for the rest of the entries first
+        int size = _size + old._size;
+        if ( size > _maxSize || _free <= old._size ) {
+            timedRehash( nextCapacity( Math.max( size + 1,
+                HashFunctions.fastCeil( size / _loadFactor ) + 1 ) ), false );
+            computeMaxSize( capacity() );
+        }
+
+        for ( int i = _drainIndex; i-- > 0 && old._size > 0; ) {
+            migrateSlot( old, i );
+        }
+    }
+
+
+    /**
+     * Returns true if the hash implements {@link #detachTable} and
+     * {@link #migrateSlot}, which incremental rehashing is built on.  The
+     * default implementation returns false.
+     */
+    protected boolean supportsIncrementalRehash() {
+        return false;
+    }
+
+
+    /**
+     * Starts an incremental rehash: hands the current table over to a new
+     * instance of the same class and sets this one up with empty arrays of
+     * <tt>newCapacity</tt> slots.  Only the arrays need to be moved; the
+     * caller takes care of the size and settings of both instances.
+     *
+     * @param newCapacity the capacity of the new table
+     * @return the instance now holding the old table
+     */
+    protected THash detachTable( int newCapacity ) {
+        throw new UnsupportedOperationException();
+    }
+
+
+    /**
+     * Moves the entry at <tt>index</tt> of the old table <tt>old</tt>, if
+     * there is one, into this table.  The slot must be marked as
+     * <tt>REMOVED</tt> and the size of <tt>old</tt> decreased, and the
+     * insertion counted with {@link #postMigrateHook}.  This is called while
+     * {@link #_draining} is null, so that the insertion neither looks into
+     * the old table nor migrates any further.
+     *
+     * @param old   the table being drained
+     * @param index the slot of the old table to migrate
+     */
+    protected void migrateSlot( THash old, int index ) {
+        throw new UnsupportedOperationException();
+    }
+
+
+    /**
+     * Migrates the entry at <tt>index</tt> of the old table ahead of the
+     * others, because an operation is about to update it.
+     *
+     * @param index the slot of {@link #_draining} holding the key
+     */
+    protected final void migrateAhead( int index ) {
+        THash old = _draining;
+        if ( _free <= 1 ) {
+            completeRehash();
+            return;
+        }
+
+        _draining = null;
+        migrateSlot( old, index );
+        if ( old._size > 0 ) {
+            _draining = old;
+        }
+    }
+
+
+    /**
+     * After an entry was migrated from the old table, adjusts the size and
+     * free values of this one.
+     *
+     * @param usedFreeSlot whether the entry took a FREE slot
+     */
+    protected final void postMigrateHook( boolean usedFreeSlot ) {
+        if ( usedFreeSlot ) {
+            _free--;
+        }
+        _size++;
+    }
+
+
+    /**
+     * Rehashes the table, timing the rehash if statistics are enabled.
+     *
+     * @param newCapacity the capacity to rehash to
+     * @param compaction  whether the rehash is done to get rid of removed
+     *                    slots rather than to grow the table
+     */
+    private void timedRehash( int newCapacity, boolean compaction ) {
+        RehashCounters counters = _rehashCounters;
+        if ( counters == null ) {
+            rehash( newCapacity );
+            return;
+        }
+
+        long start = System.nanoTime();
+        rehash( newCapacity );
+        counters.record( compaction, System.nanoTime() - start );
+    }
+
+
+    /**
+     * Hands the table over to a new instance that is drained into this one
+     * by the following insertions.
+     *
+     * @param newCapacity the capacity of the new table
+     */
+    private void startIncrementalRehash( int newCapacity ) {
+        long start = _rehashCounters == null ? 0 : System.nanoTime();
+        THash old = detachTable( newCapacity );
+        old._loadFactor = _loadFactor;
+        old._powerOfTwo = _powerOfTwo;
+        old._probeStrategy = _probeStrategy;
+        old._hashMixer = _hashMixer;
+        old.updateLayout();
+        old._autoCompactionFactor = 0;
+        old._size = _size;
+        old._free = _free;
+        old._maxSize = _maxSize;
+
+        _size = 0;
+        computeMaxSize( capacity() );
+        _draining = old;
+        _drainIndex = old.capacity();
+
+        // drain the old table well before the new one fills up
+        _drainStep = Math.max( MIN_DRAIN_STEP,
+            2 * _drainIndex / Math.max( 1, _maxSize - old._size ) + 1 );
+
+        if ( _rehashCounters != null ) {
+            _rehashCounters.record( false, System.nanoTime() - start );
+        }
+    }
+
+
+    /**
+     * Migrates the next <tt>count</tt> slots of the old table.
+     */
+    private void migrateSlots( int count ) {
+        THash old = _draining;
+        if ( _size + old._size >= _maxSize || _free <= old._size ) {
+            completeRehash();
+            return;
+        }
+
+        _draining = null;
+        int index = _drainIndex;
+        while ( count-- > 0 && index > 0 ) {
+            migrateSlot( old, --index );
+        }
+        _drainIndex = index;
+        if ( index > 0 && old._size > 0 ) {
+            _draining = old;
+        }
+    }
+
+
     /**
      * This simply calls {@link #compact compact}.  It is included for
      * symmetry with other collection classes.  Note that the name of this
@@ -262,6 +852,12 @@ abstract public class THash implements Externalizable {
     protected void removeAt( int index ) {
         _size--;
 
+        // The linear modes clean up in place, so there is nothing to compact
+        if ( _probeStrategy != ProbeStrategy.DOUBLE_HASHING ) {
+            closeGap( index );
+            return;
+        }
+
         // If auto-compaction is enabled, see if we need to compact
         if ( _autoCompactionFactor != 0 ) {
             _autoCompactRemovesRemaining--;
@@ -275,10 +871,211 @@ abstract public class THash implements Externalizable {
     }
 
 
+    /**
+     * Called by {@link #removeAt} in the linear probing modes, once the slot
+     * at <tt>index</tt> has been marked as removed, to shift the entries
+     * that follow it in its cluster back so that no probe sequence crosses a
+     * FREE slot (see Knuth, p. 533, Algorithm R), and free a slot.  Robin
+     * Hood tables move the whole run down by one slot up to the first entry
+     * that sits in its natural slot, which keeps their ordering intact.
+     * While auto-compaction is temporarily disabled, as it is during
+     * iteration, entries are never moved from the start of the table to its
+     * end; a REMOVED marker is left behind instead, so iterators (which walk
+     * the table downwards) never miss an entry.
+     *
+     * @param index the slot that was just released
+     */
+    protected final void closeGap( int index ) {
+        final int length = capacity();
+        final boolean robinHood = _probeStrategy == ProbeStrategy.ROBIN_HOOD;
+
+        int gap = index;
+        int next = index;
+        while ( true ) {
+            if ( ++next == length ) {
+                next = 0;
+            }
+            if ( isFree( next ) ) {
+                break;
+            }
+
+            if ( robinHood ) {
+                if ( isFull( next ) && probeDistance( next ) == 0 ) {
+                    break;
+                }
+            }
+            else {
+                if ( !isFull( next ) ) {
+                    continue;
+                }
+
+                // the entry can stay if its natural slot lies cyclically in (gap, next]
+                int home = naturalIndex( next );
+                if ( gap < next ? gap < home && home <= next : gap < home || home <= next ) {
+                    continue;
+                }
+            }
+
+            if ( next < gap && _autoCompactTemporaryDisable ) {
+                markSlot( gap, true );
+                return;
+            }
+
+            moveEntry( next, gap );
+            gap = next;
+        }
+
+        markSlot( gap, false );
+        _free++;
+    }
+
+
+    /**
+     * Called in the linear probing modes when auto-compaction is re-enabled,
+     * to close the gaps that {@link #closeGap} had to leave marked as removed
+     * while it was disabled.  Closing one gap can move a marker of a wrapped
+     * cluster into a slot that was already passed, so the sweep is repeated
+     * until it finds no more markers.
+     */
+    protected final void closeRemovedGaps() {
+        final int length = capacity();
+        boolean found;
+        do {
+            found = false;
+            for ( int i = 0; i < length; i++ ) {
+                while ( !isFull( i ) && !isFree( i ) ) {
+                    closeGap( i );
+                    found = true;
+                }
+            }
+        } while ( found );
+    }
+
+
+    /**
+     * Moves the entries from <tt>index</tt> up to the next FREE slot one
+     * slot up, leaving <tt>index</tt> free.  Robin Hood insertion calls this
+     * to make room at the slot of the first entry that is closer to its
+     * natural slot than the key being inserted.
+     *
+     * @param index start of the entries to move
+     */
+    protected final void shiftUp( int index ) {
+        final int length = capacity();
+
+        int free = index;
+        do {
+            if ( ++free == length ) {
+                free = 0;
+            }
+        } while ( !isFree( free ) );
+
+        while ( free != index ) {
+            int from = free == 0 ? length - 1 : free - 1;
+            moveEntry( from, free );
+            free = from;
+        }
+    }
+
+
+    /**
+     * Returns how many slots the entry stored at <tt>index</tt> sits above
+     * its natural slot.  A linear probe for a key that has come
+     * <tt>distance</tt> slots from its own natural slot can stop at an entry
+     * with a smaller distance in a Robin Hood table: the key would have
+     * taken that entry's slot.
+     *
+     * @param index a slot holding an entry
+     * @return the distance of the entry from its natural slot.
+     */
+    protected final int probeDistance( int index ) {
+        int distance = index - naturalIndex( index );
+        return distance < 0 ? distance + capacity() : distance;
+    }
+
+
+    /**
+     * Returns whether the slot at <tt>index</tt> holds an entry, as opposed
+     * to being FREE or marked as REMOVED.  One of the hooks the cluster
+     * walks of the linear probing modes are built on; the default
+     * implementation throws an <tt>UnsupportedOperationException</tt>.
+     *
+     * @param index a slot of the table
+     * @return true if the slot holds an entry.
+     */
+    protected boolean isFull( int index ) {
+        throw new UnsupportedOperationException();
+    }
+
+
+    /**
+     * Returns whether the slot at <tt>index</tt> is FREE, i.e. ends every
+     * probe sequence that reaches it.  The default implementation throws an
+     * <tt>UnsupportedOperationException</tt>.
+     *
+     * @param index a slot of the table
+     * @return true if the slot is FREE.
+     */
+    protected boolean isFree( int index ) {
+        throw new UnsupportedOperationException();
+    }
+
+
+    /**
+     * Marks the slot at <tt>index</tt>, which holds no entry, as FREE or as
+     * REMOVED.  The default implementation throws an
+     * <tt>UnsupportedOperationException</tt>.
+     *
+     * @param index   a slot holding no entry
+     * @param removed true to mark it as REMOVED, false to free it
+     */
+    protected void markSlot( int index, boolean removed ) {
+        throw new UnsupportedOperationException();
+    }
+
+
+    /**
+     * Returns the slot the key of the entry at <tt>index</tt> hashes to, the
+     * first one probed for it.  The default implementation throws an
+     * <tt>UnsupportedOperationException</tt>.
+     *
+     * @param index a slot holding an entry
+     * @return the natural slot of the entry.
+     */
+    protected int naturalIndex( int index ) {
+        throw new UnsupportedOperationException();
+    }
+
+
+    /**
+     * Moves the entry stored at <tt>from</tt> into slot <tt>to</tt>, leaving
+     * <tt>from</tt> FREE.  Used by the linear probe strategies, which move
+     * entries around on insertion and removal; subclasses that keep data in
+     * parallel arrays must override this to move that data as well.  The
+     * default implementation throws an
+     * <tt>UnsupportedOperationException</tt>.
+     *
+     * @param from the slot to empty
+     * @param to   the slot to fill
+     */
+    protected void moveEntry( int from, int to ) {
+        throw new UnsupportedOperationException();
+    }
+
+
+    /**
+     * Returns the number of slots holding a <tt>REMOVED</tt> marker.
+     */
+    protected final int removedSlots() {
+        return capacity() - _size - _free;
+    }
+
+
     /** Empties the collection. */
     public void clear() {
         _size = 0;
         _free = capacity();
+        _draining = null;
     }
 
 
@@ -292,7 +1089,7 @@ abstract public class THash implements Externalizable {
     protected int setUp( int initialCapacity ) {
         int capacity;
 
-        capacity = PrimeFinder.nextPrime( initialCapacity );
+        capacity = nextCapacity( initialCapacity );
         computeMaxSize( capacity );
         computeNextAutoCompactionAmount( initialCapacity );
 
@@ -300,6 +1097,65 @@ abstract public class THash implements Externalizable {
     }
 
 
+    /**
+     * Returns the table capacity to use for at least <tt>desiredCapacity</tt>
+     * slots: the next prime, or the next power of two if
+     * {@link #setPowerOfTwoCapacity power of two capacities} are enabled.
+     *
+     * @param desiredCapacity an <code>int</code> value
+     * @return the capacity to allocate
+     */
+    protected final int nextCapacity( int desiredCapacity ) {
+        return _powerOfTwo ? HashFunctions.nextPowerOfTwo( desiredCapacity ) :
+            PrimeFinder.nextPrime( desiredCapacity );
+    }
+
+
+    /**
+     * Turns a raw hash code into the non-negative value the table is
+     * indexed with.  Prime sized tables only need the sign bit cleared;
+     * power of two tables use just the low bits, so the hash code is
+     * mixed first unless a {@link #setHashMixer hash mixer} has already
+     * done so.
+     *
+     * @param hash the hash code of a key
+     * @return the spread hash code
+     */
+    protected final int spread( int hash ) {
+        if ( _powerOfTwo ) {
+            return _hashMixer == HashMixer.NONE ? HashFunctions.mix( hash ) : hash;
+        }
+        return hash & 0x7fffffff;
+    }
+
+
+    /**
+     * Returns the natural slot of a {@link #spread spread} hash code.
+     *
+     * @param hash   a spread hash code
+     * @param length the length of the table
+     * @return the first slot to probe
+     */
+    protected final int indexFor( int hash, int length ) {
+        return _powerOfTwo ? hash & ( length - 1 ) : hash % length;
+    }
+
+
+    /**
+     * Returns the double hashing step for a {@link #spread spread} hash
+     * code (see Knuth, p. 529).  In power of two tables the step is odd,
+     * which keeps it co-prime to the length so every slot is still visited.
+     *
+     * @param hash   a spread hash code
+     * @param length the length of the table
+     * @return the distance between two probed slots
+     */
+    protected final int probeFor( int hash, int length ) {
+        return _powerOfTwo ? ( ( hash >>> 16 ) | 1 ) & ( length - 1 ) :
+            1 + ( hash % ( length - 2 ) );
+    }
+
+
     /**
      * Rehashes the set.
      *
@@ -323,11 +1179,20 @@ abstract public class THash implements Externalizable {
      *
      * @param check_for_compaction True if compaction should be performed if needed
      *                             before returning. If false, no compaction will be
-     *                             performed.
+     *                             performed.  In the linear probe modes, true
+     *                             sweeps any <tt>REMOVED</tt> markers left
+     *                             while compaction was disabled instead.
      */
     public void reenableAutoCompaction( boolean check_for_compaction ) {
         _autoCompactTemporaryDisable = false;
 
+        if ( _probeStrategy != ProbeStrategy.DOUBLE_HASHING ) {
+            if ( check_for_compaction && removedSlots() > 0 ) {
+                closeRemovedGaps();
+            }
+            return;
+        }
+
         if ( check_for_compaction && _autoCompactRemovesRemaining <= 0 &&
              _autoCompactionFactor != 0 ) {
 
@@ -367,6 +1232,65 @@ abstract public class THash implements Externalizable {
     }
 
 
+    /**
+     * Returns whether the keys of this table are hashed and compared by a
+     * hashing strategy rather than by the hash codes of the key type, so
+     * that where a key is stored depends on the strategy.  False unless
+     * overridden.
+     *
+     * @return true if the table has a hashing strategy.
+     */
+    protected boolean usesHashingStrategy() {
+        return false;
+    }
+
+
+    /**
+     * Recomputes {@link #_defaultLayout} from the capacity mode, probe
+     * strategy and hash mixer.  Must be called whenever one of them is
+     * changed, before the table is used again.
+     */
+    protected final void updateLayout() {
+        _defaultLayout = !_powerOfTwo && _probeStrategy == ProbeStrategy.DOUBLE_HASHING
+            && _hashMixer == HashMixer.NONE && !usesHashingStrategy();
+    }
+
+
+    /**
+     * Decides whether a table read back by a bulk <tt>readFrom</tt> can be
+     * used as it is.  That is the case if it was laid out with the capacity
+     * mode, probe strategy and hash mixer of this table, and isn't fuller
+     * than the load factor of this table allows.  If so, the size and free counts are
+     * taken over and the caller installs the arrays it read; otherwise the
+     * caller has to insert the entries one by one.  Tables that hash their
+     * keys with a {@link #usesHashingStrategy hashing strategy} never adopt
+     * a table, as the strategy it was laid out with isn't known.
+     *
+     * @param powerOfTwo whether the table read has a power of two capacity.
+     * @param strategy the probe strategy of the table read.
+     * @param mixer the hash mixer of the table read, or null if it was laid
+     *              out by a hashing strategy.
+     * @param capacity the capacity of the table read.
+     * @param size the number of entries in the table read.
+     * @param free the number of FREE slots in the table read.
+     * @return true if the arrays read can be installed without rehashing.
+     */
+    protected final boolean adoptTable( boolean powerOfTwo, ProbeStrategy strategy,
+        HashMixer mixer, int capacity, int size, int free ) {
+
+        if ( powerOfTwo != _powerOfTwo || strategy != _probeStrategy || mixer != _hashMixer
+            || usesHashingStrategy()
+            || size > Math.min( capacity - 1, (int) ( capacity * _loadFactor ) ) ) {
+            return false;
+        }
+        _size = size;
+        computeMaxSize( capacity );
+        _free = free;
+        computeNextAutoCompactionAmount( size );
+        return true;
+    }
+
+
     /**
      * After an insert, this hook is called to adjust the size/free
      * values of the set and to perform rehashing if necessary.
@@ -380,13 +1304,28 @@ abstract public class THash implements Externalizable {
 
         // rehash whenever we exhaust the available space in the table
         if ( ++_size > _maxSize || _free == 0 ) {
+            if ( _draining != null ) {
+                // an incremental rehash is still going on; finishing it
+                // makes enough room
+                completeRehash();
+                return;
+            }
+
             // choose a new capacity suited to the new state of the table
             // if we've grown beyond our maximum size, double capacity;
             // if we've exhausted the free spots, rehash to the same capacity,
             // which will free up any stale removed slots for reuse.
-            int newCapacity = _size > _maxSize ? PrimeFinder.nextPrime( capacity() << 1 ) : capacity();
-            rehash( newCapacity );
-            computeMaxSize( capacity() );
+            int newCapacity = _size > _maxSize ? nextCapacity( capacity() << 1 ) : capacity();
+            if ( _incrementalRehash && newCapacity > capacity() ) {
+                startIncrementalRehash( newCapacity );
+            }
+            else {
+                timedRehash( newCapacity, newCapacity == capacity() );
+                computeMaxSize( capacity() );
+            }
+        }
+        else if ( _draining != null ) {
+            migrateSlots( _drainStep );
         }
     }
 
@@ -397,14 +1336,28 @@ abstract public class THash implements Externalizable {
 
 
     public void writeExternal( ObjectOutput out ) throws IOException {
+        completeRehash();
+
         // VERSION
-        out.writeByte( 0 );
+        out.writeByte( 4 );
 
         // LOAD FACTOR
         out.writeFloat( _loadFactor );
 
         // AUTO COMPACTION LOAD FACTOR
         out.writeFloat( _autoCompactionFactor );
+
+        // POWER OF TWO CAPACITY
+        out.writeBoolean( _powerOfTwo );
+
+        // PROBE STRATEGY
+        out.writeByte( _probeStrategy.ordinal() );
+
+        // INCREMENTAL REHASH
+        out.writeBoolean( _incrementalRehash );
+
+        // HASH MIXER
+        out.writeByte( _hashMixer.ordinal() );
     }
 
 
@@ -412,7 +1365,7 @@ abstract public class THash implements Externalizable {
             throws IOException, ClassNotFoundException {
 
         // VERSION
-        in.readByte();
+        int version = in.readByte();
 
         // LOAD FACTOR
         float old_factor = _loadFactor;
@@ -421,9 +1374,53 @@ abstract public class THash implements Externalizable {
         // AUTO COMPACTION LOAD FACTOR
         _autoCompactionFactor = in.readFloat();
 
+        // POWER OF TWO CAPACITY
+        boolean old_power_of_two = _powerOfTwo;
+        if ( version >= 1 ) {
+            _powerOfTwo = in.readBoolean();
+        }
+
+        // PROBE STRATEGY
+        if ( version >= 2 ) {
+            _probeStrategy = ProbeStrategy.values()[ in.readByte() ];
+        }
+
+        // INCREMENTAL REHASH
+        if ( version >= 3 ) {
+            _incrementalRehash = in.readBoolean();
+        }
+
+        // HASH MIXER
+        if ( version >= 4 ) {
+            _hashMixer = HashMixer.values()[ in.readByte() ];
+        }
+        updateLayout();
+
         // If we change the laod factor from the default, re-setup
-        if ( old_factor != _loadFactor ) {
+        if ( old_factor != _loadFactor || old_power_of_two != _powerOfTwo ) {
             setUp( (int) Math.ceil( DEFAULT_CAPACITY / _loadFactor ) );
         }
     }
+
+
+    /** The rehash statistics of a table, kept while they are enabled. */
+    private static final class RehashCounters {
+        long rehashes;
+        long rehashNanos;
+        long compactions;
+        long compactionNanos;
+        long maxPauseNanos;
+
+        void record( boolean compaction, long nanos ) {
+            if ( compaction ) {
+                compactions++;
+                compactionNanos += nanos;
+            }
+            else {
+                rehashes++;
+                rehashNanos += nanos;
+            }
+            maxPauseNanos = Math.max( maxPauseNanos, nanos );
+        }
+    }
 }// THash
\ No newline at end of file
@@ -70,6 +70,7 @@ public abstract class THashIterator<V> implements TIterator, Iterator<V> {
      * @param hash the object 
      */
     protected THashIterator( TObjectHash<V> hash ) {
+        hash.completeRehash();
         _hash = hash;
         _expectedSize = _hash.size();
         _index = _hash.capacity();
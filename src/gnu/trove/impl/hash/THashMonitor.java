@@ -0,0 +1,170 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.hash;
+
+
+
+/**
+ * Exposes the {@link THashStatistics statistics} of a hash table as a JMX
+ * MBean, for instance with
+ * <pre>
+ * map.setStatisticsEnabled( true );
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(
+ *     new THashMonitor( map, mutex, 4096, 1000 ),
+ *     new ObjectName( "com.example:type=THash,name=sessions" ) );
+ * </pre>
+ * A snapshot of the statistics is taken when an attribute is read and
+ * reused for the attributes read within <tt>maxAgeMillis</tt>, so that a
+ * console reading all attributes in turn looks at the table once.
+ * <p/>
+ * Reading the statistics must not overlap with a modification of the
+ * table.  If the table is shared between threads, pass the lock that
+ * guards it, such as the synchronized wrapper from
+ * {@link gnu.trove.TCollections}, and the monitor synchronizes on it while
+ * taking a snapshot.
+ */
+public class THashMonitor implements THashMonitorMBean {
+
+    private final THash _hash;
+    private final Object _lock;
+    private final int _maxSlots;
+    private final long _maxAgeMillis;
+
+    private THashStatistics _statistics;
+    private long _takenMillis;
+
+
+    /**
+     * Creates a monitor for a table only used by a single thread at a time,
+     * which measures every slot and takes a new snapshot for every
+     * attribute read.
+     *
+     * @param hash the table to monitor
+     */
+    public THashMonitor( THash hash ) {
+        this( hash, null, Integer.MAX_VALUE, 0 );
+    }
+
+
+    /**
+     * Creates a monitor.
+     *
+     * @param hash         the table to monitor
+     * @param lock         the object to synchronize on while taking a
+     *                     snapshot, or null
+     * @param maxSlots     the largest number of slots to measure, see
+     *                     {@link THash#getStatistics(int)}
+     * @param maxAgeMillis how long a snapshot is reused
+     */
+    public THashMonitor( THash hash, Object lock, int maxSlots, long maxAgeMillis ) {
+        if ( hash == null ) {
+            throw new NullPointerException( "hash" );
+        }
+        _hash = hash;
+        _lock = lock;
+        _maxSlots = maxSlots;
+        _maxAgeMillis = maxAgeMillis;
+    }
+
+
+    /**
+     * Returns the current statistics of the table, or the last snapshot if
+     * it is recent enough.
+     *
+     * @return a snapshot of the statistics of the table.
+     */
+    public synchronized THashStatistics getStatistics() {
+        long now = System.currentTimeMillis();
+        if ( _statistics == null || now - _takenMillis >= _maxAgeMillis ) {
+            if ( _lock == null ) {
+                _statistics = _hash.getStatistics( _maxSlots );
+            }
+            else {
+                synchronized ( _lock ) {
+                    _statistics = _hash.getStatistics( _maxSlots );
+                }
+            }
+            _takenMillis = now;
+        }
+        return _statistics;
+    }
+
+
+    public int getCapacity() {
+        return getStatistics().getCapacity();
+    }
+
+
+    public int getSize() {
+        return getStatistics().getSize();
+    }
+
+
+    public int getFree() {
+        return getStatistics().getFree();
+    }
+
+
+    public int getRemoved() {
+        return getStatistics().getRemoved();
+    }
+
+
+    public double getLoad() {
+        return getStatistics().getLoad();
+    }
+
+
+    public double getTombstoneRatio() {
+        return getStatistics().getTombstoneRatio();
+    }
+
+
+    public double getAverageProbeLength() {
+        return getStatistics().getAverageProbeLength();
+    }
+
+
+    public int getMaxProbeLength() {
+        return getStatistics().getMaxProbeLength();
+    }
+
+
+    public long getRehashCount() {
+        return getStatistics().getRehashCount();
+    }
+
+
+    public long getRehashNanos() {
+        return getStatistics().getRehashNanos();
+    }
+
+
+    public long getCompactionCount() {
+        return getStatistics().getCompactionCount();
+    }
+
+
+    public long getCompactionNanos() {
+        return getStatistics().getCompactionNanos();
+    }
+
+
+    public long getMaxPauseNanos() {
+        return getStatistics().getMaxPauseNanos();
+    }
+}
@@ -0,0 +1,52 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.hash;
+
+
+
+/**
+ * The management interface of {@link THashMonitor}.  The attributes are
+ * those of {@link THashStatistics}.
+ */
+public interface THashMonitorMBean {
+
+    int getCapacity();
+
+    int getSize();
+
+    int getFree();
+
+    int getRemoved();
+
+    double getLoad();
+
+    double getTombstoneRatio();
+
+    double getAverageProbeLength();
+
+    int getMaxProbeLength();
+
+    long getRehashCount();
+
+    long getRehashNanos();
+
+    long getCompactionCount();
+
+    long getCompactionNanos();
+
+    long getMaxPauseNanos();
+}
@@ -63,6 +63,7 @@ public abstract class THashPrimitiveIterator implements TPrimitiveIterator {
      * @param hash the <tt>TPrimitiveHash</tt> we want to iterate over.
      */
     public THashPrimitiveIterator( TPrimitiveHash hash ) {
+        hash.completeRehash();
         _hash = hash;
         _expectedSize = _hash.size();
         _index = _hash.capacity();
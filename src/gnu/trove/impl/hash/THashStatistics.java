@@ -0,0 +1,166 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.hash;
+
+import java.io.Serializable;
+
+
+
+/**
+ * A snapshot of the state of a hash table, as returned by
+ * {@link THash#getStatistics}.
+ * <p/>
+ * The probe length of an entry is the number of slots a lookup of its key
+ * goes through, including the slot of the entry itself; an entry in its
+ * natural slot has a probe length of 1.  A table whose keys have a poor
+ * <tt>hashCode()</tt> shows up with long probe lengths well before its
+ * lookups become noticeably slow.  Tables with many <tt>REMOVED</tt> slots
+ * (tombstones) probe longer for keys they don't hold and compact more
+ * often.
+ * <p/>
+ * The rehash figures are only counted while
+ * {@link THash#setStatisticsEnabled statistics are enabled}, and are zero
+ * otherwise.
+ */
+public final class THashStatistics implements Serializable {
+
+    static final long serialVersionUID = 1L;
+
+    private final int capacity;
+    private final int size;
+    private final int free;
+    private final int removed;
+    private final double averageProbeLength;
+    private final int maxProbeLength;
+    private final long rehashCount;
+    private final long rehashNanos;
+    private final long compactionCount;
+    private final long compactionNanos;
+    private final long maxPauseNanos;
+
+
+    THashStatistics( int capacity, int size, int free, int removed,
+        double averageProbeLength, int maxProbeLength,
+        long rehashCount, long rehashNanos,
+        long compactionCount, long compactionNanos, long maxPauseNanos ) {
+
+        this.capacity = capacity;
+        this.size = size;
+        this.free = free;
+        this.removed = removed;
+        this.averageProbeLength = averageProbeLength;
+        this.maxProbeLength = maxProbeLength;
+        this.rehashCount = rehashCount;
+        this.rehashNanos = rehashNanos;
+        this.compactionCount = compactionCount;
+        this.compactionNanos = compactionNanos;
+        this.maxPauseNanos = maxPauseNanos;
+    }
+
+
+    /** @return the number of slots of the table. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+
+    /** @return the number of entries in the table. */
+    public int getSize() {
+        return size;
+    }
+
+
+    /** @return the number of FREE slots of the table. */
+    public int getFree() {
+        return free;
+    }
+
+
+    /** @return the number of REMOVED slots of the table. */
+    public int getRemoved() {
+        return removed;
+    }
+
+
+    /** @return the fraction of the slots holding an entry. */
+    public double getLoad() {
+        return capacity == 0 ? 0 : (double) size / capacity;
+    }
+
+
+    /** @return the fraction of the slots holding a REMOVED marker. */
+    public double getTombstoneRatio() {
+        return capacity == 0 ? 0 : (double) removed / capacity;
+    }
+
+
+    /** @return the average probe length of the entries measured. */
+    public double getAverageProbeLength() {
+        return averageProbeLength;
+    }
+
+
+    /** @return the longest probe length of the entries measured. */
+    public int getMaxProbeLength() {
+        return maxProbeLength;
+    }
+
+
+    /** @return the number of times the table grew. */
+    public long getRehashCount() {
+        return rehashCount;
+    }
+
+
+    /** @return the total time spent growing the table, in nanoseconds. */
+    public long getRehashNanos() {
+        return rehashNanos;
+    }
+
+
+    /**
+     * @return the number of times the table was rehashed without growing,
+     *         to get rid of its REMOVED slots.
+     */
+    public long getCompactionCount() {
+        return compactionCount;
+    }
+
+
+    /** @return the total time spent compacting the table, in nanoseconds. */
+    public long getCompactionNanos() {
+        return compactionNanos;
+    }
+
+
+    /** @return the longest single rehash or compaction, in nanoseconds. */
+    public long getMaxPauseNanos() {
+        return maxPauseNanos;
+    }
+
+
+    @Override
+    public String toString() {
+        return "THashStatistics{capacity=" + capacity + ", size=" + size +
+            ", free=" + free + ", removed=" + removed +
+            ", averageProbeLength=" + averageProbeLength +
+            ", maxProbeLength=" + maxProbeLength +
+            ", rehashes=" + rehashCount + " (" + rehashNanos + " ns)" +
+            ", compactions=" + compactionCount + " (" + compactionNanos + " ns)" +
+            ", maxPause=" + maxPauseNanos + " ns}";
+    }
+}
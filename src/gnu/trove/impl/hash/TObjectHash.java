@@ -20,7 +20,9 @@
 
 package gnu.trove.impl.hash;
 
+import gnu.trove.impl.HashFunctions;
 import gnu.trove.procedure.TObjectProcedure;
+import gnu.trove.strategy.ProbeStrategy;
 
 import java.io.IOException;
 import java.io.ObjectInput;
@@ -53,6 +55,15 @@ abstract public class TObjectHash<T> extends THash {
 
     public static final Object REMOVED = new Object(), FREE = new Object();
 
+    /**
+     * the hash codes of the keys in {@link #_set}, as returned by
+     * {@link #hash(Object)}, or null unless the table caches them.  The
+     * entries of FREE and REMOVED slots and of the null key are undefined.
+     *
+     * @see #setHashCodeCaching
+     */
+    protected transient int[] _hashCodes;
+
     /**
      * Indicates whether the last insertKey() call used a FREE slot. This field
      * should be inspected right after call insertKey()
@@ -117,10 +128,56 @@ abstract public class TObjectHash<T> extends THash {
         capacity = super.setUp(initialCapacity);
         _set = new Object[capacity];
         Arrays.fill(_set, FREE);
+        if (_hashCodes != null) {
+            _hashCodes = new int[capacity];
+        }
         return capacity;
     }
 
 
+    /**
+     * Makes the table keep the hash code of every key next to it.  Lookups
+     * then compare the hash codes of the keys they pass before calling
+     * <tt>equals()</tt>, which saves most calls on colliding keys, and
+     * rehashing takes the hash codes from the cache instead of calling
+     * <tt>hashCode()</tt> again.  That pays off for keys with expensive
+     * <tt>equals()</tt> and <tt>hashCode()</tt> methods, such as long strings
+     * and composite keys, at a cost of four bytes per slot.  The setting is
+     * kept across serialization.
+     *
+     * @param cache true to cache the hash codes of the keys
+     */
+    public void setHashCodeCaching(boolean cache) {
+        if (cache == (_hashCodes != null))
+            return;
+
+        if (!cache) {
+            _hashCodes = null;
+            return;
+        }
+
+        completeRehash();
+        final Object[] set = _set;
+        int[] codes = new int[set.length];
+        for (int i = set.length; i-- > 0;) {
+            Object key = set[i];
+            if (key != FREE && key != REMOVED && key != null)
+                codes[i] = hash(key);
+        }
+        _hashCodes = codes;
+    }
+
+
+    /**
+     * @see #setHashCodeCaching
+     *
+     * @return true if the table caches the hash codes of its keys.
+     */
+    public boolean isHashCodeCaching() {
+        return _hashCodes != null;
+    }
+
+
     /**
      * Executes <tt>procedure</tt> for each element in the set.
      *
@@ -130,6 +187,7 @@ abstract public class TObjectHash<T> extends THash {
      */
     @SuppressWarnings({"unchecked"})
     public boolean forEach(TObjectProcedure<? super T> procedure) {
+        completeRehash();
         Object[] set = _set;
         for (int i = set.length; i-- > 0;) {
             if (set[i] != FREE
@@ -150,12 +208,15 @@ abstract public class TObjectHash<T> extends THash {
      */
     @SuppressWarnings({"unchecked"})
     public boolean contains(Object obj) {
-        return index(obj) >= 0;
+        return index(obj) >= 0
+            || (_draining != null && ((TObjectHash) _draining).contains(obj));
     }
 
 
     /**
-     * Locates the index of <tt>obj</tt>.
+     * Locates the index of <tt>obj</tt>.  During an incremental rehash this
+     * only looks at the new table; operations that update the entry call
+     * {@link #migrateKey} first.
      *
      * @param obj an <code>Object</code> value
      * @return the index of <tt>obj</tt> or -1 if it isn't in the set.
@@ -165,8 +226,17 @@ abstract public class TObjectHash<T> extends THash {
             return indexForNull();
 
         // From here on we know obj to be non-null
-        final int hash = hash(obj) & 0x7fffffff;
-        int index = hash % _set.length;
+        final int code = hash(obj);
+        final boolean plain = _defaultLayout;
+        final int hash;
+        int index;
+        if (plain) {
+            hash = code & 0x7fffffff;
+            index = hash % _set.length;
+        } else {
+            hash = spread(HashFunctions.hash(code, _hashMixer));
+            index = indexFor(hash, _set.length);
+        }
         Object cur = _set[index];
 
 
@@ -174,29 +244,59 @@ abstract public class TObjectHash<T> extends THash {
             return -1;
         }
 
-        if (cur == obj || equals(obj, cur)) {
+        if (cur == obj || matches(obj, code, cur, index)) {
             return index;
         }
 
-        return indexRehashed(obj, index, hash, cur);
+        if (!plain && _probeStrategy != ProbeStrategy.DOUBLE_HASHING)
+            return indexLinear(obj, code, index);
+
+        return indexRehashed(obj, code, index, hash, cur);
+    }
+
+    /**
+     * Compares non-null <tt>obj</tt> with the key <tt>cur</tt> stored at
+     * <tt>index</tt>, skipping the <tt>equals()</tt> call if their cached
+     * hash codes differ.
+     */
+    private boolean matches(Object obj, int code, Object cur, int index) {
+        final int[] codes = _hashCodes;
+        return (codes == null || codes[index] == code) && equals(obj, cur);
+    }
+
+    /**
+     * Moves <tt>obj</tt> over from the old table of an incremental rehash,
+     * if there is one and the key is still there, so that an update only
+     * needs to look for it in this table.  Lookups leave the old table
+     * alone and fall back to it instead.
+     */
+    protected final void migrateKey(Object obj) {
+        if (_draining == null)
+            return;
+
+        int index = ((TObjectHash) _draining).index(obj);
+        if (index >= 0) {
+            migrateAhead(index);
+        }
     }
 
     /**
      * Locates the index of non-null <tt>obj</tt>.
      *
      * @param obj   target key, know to be non-null
+     * @param code  the hash code of <tt>obj</tt>
      * @param index we start from
      * @param hash
      * @param cur
      * @return
      */
-    private int indexRehashed(Object obj, int index, int hash, Object cur) {
+    private int indexRehashed(Object obj, int code, int index, int hash, Object cur) {
         final Object[] set = _set;
         final int length = set.length;
 
         // NOTE: here it has to be REMOVED or FULL (some user-given value)
         // see Knuth, p. 529
-        int probe = 1 + (hash % (length - 2));
+        int probe = probeFor(hash, length);
 
         final int loopIndex = index;
 
@@ -211,13 +311,47 @@ abstract public class TObjectHash<T> extends THash {
                 return -1;
 
             //
-            if ((cur == obj || equals(obj, cur)))
+            if (cur == obj || matches(obj, code, cur, index))
                 return index;
         } while (index != loopIndex);
 
         return -1;
     }
 
+    /**
+     * Locates the index of non-null <tt>obj</tt> by probing the slots that
+     * follow its natural one.  Robin Hood tables stop as soon as they meet an
+     * entry closer to its own natural slot than <tt>obj</tt> would be.
+     *
+     * @param obj   target key, know to be non-null
+     * @param code  the hash code of <tt>obj</tt>
+     * @param index natural index, already checked
+     * @return the index of <tt>obj</tt> or -1 if it isn't in the set.
+     */
+    private int indexLinear(Object obj, int code, int index) {
+        final Object[] set = _set;
+        final int length = set.length;
+        final boolean robinHood = _probeStrategy == ProbeStrategy.ROBIN_HOOD;
+
+        for (int distance = 1; distance < length; distance++) {
+            if (++index == length) {
+                index = 0;
+            }
+            Object cur = set[index];
+
+            if (cur == FREE)
+                return -1;
+
+            if (cur == obj || matches(obj, code, cur, index))
+                return index;
+
+            if (robinHood && cur != REMOVED && probeDistance(index) < distance)
+                return -1;
+        }
+
+        return -1;
+    }
+
     /**
      * Locates the index <tt>null</tt>.
      * <p/>
@@ -272,26 +406,112 @@ abstract public class TObjectHash<T> extends THash {
      *         that index, minus 1: -index -1.
      */
     protected int insertKey(T key) {
+        if (_draining != null)
+            migrateKey(key);
+
         consumeFreeSlot = false;
 
-        if (key == null)
-            return insertKeyForNull();
+        if (key == null) {
+            if (_probeStrategy != ProbeStrategy.ROBIN_HOOD)
+                return insertKeyForNull();
+
+            // null has to take part in the displacement like any key hashing to 0
+            Object cur = _set[0];
+            if (cur == FREE) {
+                consumeFreeSlot = true;
+                _set[0] = null;
+                return 0;
+            }
+            if (cur == null) {
+                return -1;
+            }
+            return insertKeyLinear(null, 0, 0, cur);
+        }
+
+        return insertKeyHashed(key, hash(key));
+    }
+
+    /**
+     * Inserts a key taken from the old table of a rehash, like
+     * {@link #insertKey}, but takes its hash code from the cache of the old
+     * table if it has one instead of calling <tt>hashCode()</tt> again.
+     *
+     * @param key          key value
+     * @param oldHashCodes the cached hash codes of the old table, or null
+     * @param oldIndex     the slot of <tt>key</tt> in the old table
+     * @return the index of the slot <tt>key</tt> was inserted at, or
+     *         <tt>-index -1</tt> if it is already stored.
+     * @see #replaceHashCodes
+     */
+    protected int reinsertKey(T key, int[] oldHashCodes, int oldIndex) {
+        if (oldHashCodes == null || key == null)
+            return insertKey(key);
+
+        if (_draining != null)
+            migrateKey(key);
+
+        consumeFreeSlot = false;
+        return insertKeyHashed(key, oldHashCodes[oldIndex]);
+    }
 
-        final int hash = hash(key) & 0x7fffffff;
-        int index = hash % _set.length;
+    /**
+     * Installs a hash code cache for a new table of <tt>newCapacity</tt>
+     * slots, if the table caches hash codes, and returns the cache of the
+     * current one.  Subclasses call this where they replace {@link #_set}
+     * in <tt>rehash()</tt> and <tt>detachTable()</tt>, and pass the cache
+     * returned to {@link #reinsertKey}.
+     *
+     * @param newCapacity the capacity of the new table
+     * @return the cached hash codes of the current table, or null
+     */
+    protected final int[] replaceHashCodes(int newCapacity) {
+        int[] old = _hashCodes;
+        if (old != null) {
+            _hashCodes = new int[newCapacity];
+        }
+        return old;
+    }
+
+    /**
+     * Inserts non-null <tt>key</tt>, whose hash code is <tt>code</tt>.
+     */
+    private int insertKeyHashed(T key, int code) {
+        final boolean plain = _defaultLayout;
+        final int hash;
+        int index;
+        if (plain) {
+            hash = code & 0x7fffffff;
+            index = hash % _set.length;
+        } else {
+            hash = spread(HashFunctions.hash(code, _hashMixer));
+            index = indexFor(hash, _set.length);
+        }
         Object cur = _set[index];
 
         if (cur == FREE) {
             consumeFreeSlot = true;
-            _set[index] = key;  // insert value
+            insertKeyAt(index, key, code);
             return index;       // empty, all done
         }
 
-        if (cur == key || equals(key, cur)) {
+        if (cur == key || matches(key, code, cur, index)) {
             return -index - 1;   // already stored
         }
 
-        return insertKeyRehash(key, index, hash, cur);
+        if (!plain && _probeStrategy != ProbeStrategy.DOUBLE_HASHING)
+            return insertKeyLinear(key, code, index, cur);
+
+        return insertKeyRehash(key, code, index, hash, cur);
+    }
+
+    /**
+     * Stores <tt>key</tt> and its hash code in slot <tt>index</tt>.
+     */
+    private void insertKeyAt(int index, Object key, int code) {
+        _set[index] = key;
+        if (_hashCodes != null) {
+            _hashCodes[index] = code;
+        }
     }
 
     /**
@@ -299,17 +519,18 @@ abstract public class TObjectHash<T> extends THash {
      * in the slot
      *
      * @param key   non-null key value
+     * @param code  the hash code of <tt>key</tt>
      * @param index natural index
      * @param hash
      * @param cur   value of first matched slot
      * @return
      */
-    private int insertKeyRehash(T key, int index, int hash, Object cur) {
+    private int insertKeyRehash(T key, int code, int index, int hash, Object cur) {
         final Object[] set = _set;
         final int length = set.length;
         // already FULL or REMOVED, must probe
         // compute the double hash
-        final int probe = 1 + (hash % (length - 2));
+        final int probe = probeFor(hash, length);
 
         final int loopIndex = index;
         int firstRemoved = -1;
@@ -331,16 +552,16 @@ abstract public class TObjectHash<T> extends THash {
             // A FREE slot stops the search
             if (cur == FREE) {
                 if (firstRemoved != -1) {
-                    _set[firstRemoved] = key;
+                    insertKeyAt(firstRemoved, key, code);
                     return firstRemoved;
                 } else {
                     consumeFreeSlot = true;
-                    _set[index] = key;  // insert value
+                    insertKeyAt(index, key, code);
                     return index;
                 }
             }
 
-            if (cur == key || equals(key, cur)) {
+            if (cur == key || matches(key, code, cur, index)) {
                 return -index - 1;
             }
 
@@ -350,7 +571,7 @@ abstract public class TObjectHash<T> extends THash {
         // We inspected all reachable slots and did not find a FREE one
         // If we found a REMOVED slot we return the first one found
         if (firstRemoved != -1) {
-            _set[firstRemoved] = key;
+            insertKeyAt(firstRemoved, key, code);
             return firstRemoved;
         }
 
@@ -358,6 +579,143 @@ abstract public class TObjectHash<T> extends THash {
         throw new IllegalStateException("No free or removed slots available. Key set full?!!");
     }
 
+    /**
+     * Looks for a slot using linear or Robin Hood probing (where a null key is
+     * treated as hashing to 0) and inserts the value in the slot. Robin Hood insertion takes the slot of the
+     * first entry that is closer to its natural slot than the key and shifts that
+     * entry and the rest of its cluster one slot up.
+     *
+     * @param key   key value
+     * @param code  the hash code of <tt>key</tt>, 0 for null
+     * @param index natural index
+     * @param cur   value of first matched slot
+     * @return
+     */
+    private int insertKeyLinear(T key, int code, int index, Object cur) {
+        final Object[] set = _set;
+        final int length = set.length;
+        final boolean robinHood = _probeStrategy == ProbeStrategy.ROBIN_HOOD;
+        int firstRemoved = -1;
+
+        for (int distance = 1; distance < length; distance++) {
+            // Identify first removed slot, Robin Hood tables never reuse them
+            if (cur == REMOVED && firstRemoved == -1 && !robinHood)
+                firstRemoved = index;
+
+            if (++index == length) {
+                index = 0;
+            }
+            cur = set[index];
+
+            // A FREE slot stops the search
+            if (cur == FREE) {
+                if (firstRemoved != -1) {
+                    insertKeyAt(firstRemoved, key, code);
+                    return firstRemoved;
+                } else {
+                    consumeFreeSlot = true;
+                    insertKeyAt(index, key, code);
+                    return index;
+                }
+            }
+
+            if (cur == key || key != null && matches(key, code, cur, index)) {
+                return -index - 1;
+            }
+
+            if (robinHood && cur != REMOVED && probeDistance(index) < distance) {
+                shiftUp(index);
+                consumeFreeSlot = true;
+                insertKeyAt(index, key, code);
+                return index;
+            }
+        }
+
+        if (firstRemoved != -1) {
+            insertKeyAt(firstRemoved, key, code);
+            return firstRemoved;
+        }
+
+        throw new IllegalStateException("No free or removed slots available. Key set full?!!");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isFull(int index) {
+        Object cur = _set[index];
+        return cur != FREE && cur != REMOVED;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isFree(int index) {
+        return _set[index] == FREE;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void markSlot(int index, boolean removed) {
+        _set[index] = removed ? REMOVED : FREE;
+    }
+
+    /**
+     * Moves the key stored at <tt>from</tt> into slot <tt>to</tt>, leaving
+     * <tt>from</tt> FREE, together with its cached hash code.  Subclasses
+     * that keep data in parallel arrays must override this to move that
+     * data as well.
+     *
+     * @param from the slot to empty
+     * @param to   the slot to fill
+     */
+    @Override
+    protected void moveEntry(int from, int to) {
+        _set[to] = _set[from];
+        _set[from] = FREE;
+        if (_hashCodes != null) {
+            _hashCodes[to] = _hashCodes[from];
+        }
+    }
+
+    /**
+     * {@inheritDoc}  A null key is probed for from slot 0 upwards.
+     */
+    @Override
+    protected int probeLength(int index) {
+        Object key = _set[index];
+        if (key == FREE || key == REMOVED)
+            return 0;
+        if (key == null)
+            return index + 1;
+        return probeLength(spread(HashFunctions.hash(hashCodeAt(index, key), _hashMixer)),
+            index, _set.length);
+    }
+
+    /**
+     * {@inheritDoc}  A null key hashes to 0.
+     */
+    @Override
+    protected int slotHashCode(int index) {
+        Object key = _set[index];
+        return key == null ? 0 : HashFunctions.hash(hashCodeAt(index, key), _hashMixer);
+    }
+
+    /**
+     * Returns the hash code of the non-null key stored at <tt>index</tt>,
+     * from the cache if there is one.
+     */
+    private int hashCodeAt(int index, Object key) {
+        return _hashCodes != null ? _hashCodes[index] : hash(key);
+    }
+
+    /**
+     * {@inheritDoc}  A null key hashes to 0.
+     */
+    @Override
+    protected int naturalIndex(int index) {
+        Object key = _set[index];
+        return key == null ? 0 : indexFor(spread(HashFunctions.hash(hashCodeAt(index, key), _hashMixer)), _set.length);
+    }
+
     /**
      * Looks for a slot using double hashing for a null key value and inserts the value.
      * <p/>
@@ -599,10 +957,13 @@ abstract public class TObjectHash<T> extends THash {
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
         // VERSION
-        out.writeByte(0);
+        out.writeByte(1);
 
         // SUPER
         super.writeExternal(out);
+
+        // HASH CODE CACHING -- Added version 1
+        out.writeBoolean(_hashCodes != null);
     }
 
 
@@ -611,9 +972,14 @@ abstract public class TObjectHash<T> extends THash {
             throws IOException, ClassNotFoundException {
 
         // VERSION
-        in.readByte();
+        int version = in.readByte();
 
         // SUPER
         super.readExternal(in);
+
+        // HASH CODE CACHING, the entries are put back by the subclass
+        if (version >= 1 && in.readBoolean()) {
+            _hashCodes = new int[_set.length];
+        }
     }
 } // TObjectHash
@@ -120,6 +120,24 @@ abstract public class TPrimitiveHash extends THash {
     }
 
 
+    /** {@inheritDoc} */
+    protected boolean isFull( int index ) {
+        return _states[index] == FULL;
+    }
+
+
+    /** {@inheritDoc} */
+    protected boolean isFree( int index ) {
+        return _states[index] == FREE;
+    }
+
+
+    /** {@inheritDoc} */
+    protected void markSlot( int index, boolean removed ) {
+        _states[index] = removed ? REMOVED : FREE;
+    }
+
+
     /**
      * initializes the hashtable to a prime capacity which is at least
      * <tt>initialCapacity + 1</tt>.
@@ -0,0 +1,226 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+
+
+/**
+ * Reads the block format written by {@link BlockOutput}.  The reader never
+ * takes more bytes from the channel than the values it is asked for, so a
+ * stream may hold other data after a collection.
+ */
+public final class BlockInput {
+
+    private final ReadableByteChannel _channel;
+    private final ByteBuffer _buffer;
+
+
+    /**
+     * Creates a reader for <tt>channel</tt>.
+     *
+     * @param channel the channel to read from.
+     */
+    public BlockInput( ReadableByteChannel channel ) {
+        _channel = channel;
+        _buffer = ByteBuffer.allocateDirect( BlockOutput.BUFFER_SIZE );
+        _buffer.limit( 0 );
+    }
+
+
+    /**
+     * Reads the header written by {@link BlockOutput#writeHeader} and checks
+     * that the stream holds the expected kind of collection.
+     *
+     * @return the version of the block format the stream was written in.
+     * @throws IOException if the stream holds something else.
+     */
+    public int readHeader( char kind, char keyType, char valueType ) throws IOException {
+        _buffer.order( ByteOrder.BIG_ENDIAN );
+        require( 5 );
+        if ( _buffer.getInt() != BlockOutput.MAGIC ) {
+            throw new IOException( "Not a block stream" );
+        }
+        _buffer.order( _buffer.get() == 1 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN );
+
+        require( 4 );
+        byte version = _buffer.get();
+        if ( version > BlockOutput.VERSION ) {
+            throw new IOException( "Unsupported block stream version: " + version );
+        }
+        if ( _buffer.get() != ( byte ) kind || _buffer.get() != ( byte ) keyType
+            || _buffer.get() != ( byte ) valueType ) {
+            throw new IOException( "Block stream holds another type of collection" );
+        }
+        return version;
+    }
+
+
+    /**
+     * Makes at least <tt>bytes</tt> bytes available in the buffer, reading
+     * no more than that from the channel.
+     */
+    private void require( int bytes ) throws IOException {
+        int missing = bytes - _buffer.remaining();
+        if ( missing <= 0 ) {
+            return;
+        }
+        _buffer.compact();
+        _buffer.limit( _buffer.position() + missing );
+        while ( _buffer.hasRemaining() ) {
+            if ( _channel.read( _buffer ) < 0 ) {
+                throw new EOFException();
+            }
+        }
+        _buffer.flip();
+    }
+
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+
+    public byte readByte() throws IOException {
+        require( 1 );
+        return _buffer.get();
+    }
+
+
+    public short readShort() throws IOException {
+        require( 2 );
+        return _buffer.getShort();
+    }
+
+
+    public char readChar() throws IOException {
+        require( 2 );
+        return _buffer.getChar();
+    }
+
+
+    public int readInt() throws IOException {
+        require( 4 );
+        return _buffer.getInt();
+    }
+
+
+    public long readLong() throws IOException {
+        require( 8 );
+        return _buffer.getLong();
+    }
+
+
+    public float readFloat() throws IOException {
+        require( 4 );
+        return _buffer.getFloat();
+    }
+
+
+    public double readDouble() throws IOException {
+        require( 8 );
+        return _buffer.getDouble();
+    }
+
+
+    public void read( byte[] array, int offset, int length ) throws IOException {
+        int count = Math.min( length, _buffer.remaining() );
+        _buffer.get( array, offset, count );
+        ByteBuffer wrapped = ByteBuffer.wrap( array, offset + count, length - count );
+        while ( wrapped.hasRemaining() ) {
+            if ( _channel.read( wrapped ) < 0 ) {
+                throw new EOFException();
+            }
+        }
+    }
+
+
+    public void read( short[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            require( Math.min( length, BlockOutput.BUFFER_SIZE >> 1 ) << 1 );
+            int count = Math.min( length, _buffer.remaining() >> 1 );
+            _buffer.asShortBuffer().get( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 1 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void read( char[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            require( Math.min( length, BlockOutput.BUFFER_SIZE >> 1 ) << 1 );
+            int count = Math.min( length, _buffer.remaining() >> 1 );
+            _buffer.asCharBuffer().get( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 1 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void read( int[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            require( Math.min( length, BlockOutput.BUFFER_SIZE >> 2 ) << 2 );
+            int count = Math.min( length, _buffer.remaining() >> 2 );
+            _buffer.asIntBuffer().get( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 2 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void read( long[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            require( Math.min( length, BlockOutput.BUFFER_SIZE >> 3 ) << 3 );
+            int count = Math.min( length, _buffer.remaining() >> 3 );
+            _buffer.asLongBuffer().get( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 3 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void read( float[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            require( Math.min( length, BlockOutput.BUFFER_SIZE >> 2 ) << 2 );
+            int count = Math.min( length, _buffer.remaining() >> 2 );
+            _buffer.asFloatBuffer().get( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 2 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void read( double[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            require( Math.min( length, BlockOutput.BUFFER_SIZE >> 3 ) << 3 );
+            int count = Math.min( length, _buffer.remaining() >> 3 );
+            _buffer.asDoubleBuffer().get( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 3 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+
+
+/**
+ * Writes the block format used by the <tt>writeTo</tt> methods of the
+ * primitive collections.  Values are collected in a direct buffer and
+ * written in large blocks, and arrays are copied into the buffer in bulk.
+ * Everything after the first bytes of the header is written in the byte
+ * order of this machine, which the header records for the reader.
+ *
+ * @see BlockInput
+ */
+public final class BlockOutput {
+
+    /** the first bytes of every block stream: "TRVB" */
+    static final int MAGIC = 0x54525642;
+
+    /** the version of the block format */
+    static final byte VERSION = 2;
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel _channel;
+    private final ByteBuffer _buffer;
+
+
+    /**
+     * Creates a writer for <tt>channel</tt>.  Nothing is written before
+     * {@link #writeHeader}.
+     *
+     * @param channel the channel to write to.
+     */
+    public BlockOutput( WritableByteChannel channel ) {
+        _channel = channel;
+        _buffer = ByteBuffer.allocateDirect( BUFFER_SIZE );
+    }
+
+
+    /**
+     * Writes the header of a stream holding a collection of the given kind.
+     *
+     * @param kind a character naming the kind of collection.
+     * @param keyType the first letter of the element or key type.
+     * @param valueType the first letter of the value type, or 0.
+     */
+    public void writeHeader( char kind, char keyType, char valueType ) throws IOException {
+        ensureRoom( 9 );
+        _buffer.order( ByteOrder.BIG_ENDIAN );
+        _buffer.putInt( MAGIC );
+        _buffer.put( ( byte ) ( ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 1 : 2 ) );
+        _buffer.order( ByteOrder.nativeOrder() );
+        _buffer.put( VERSION );
+        _buffer.put( ( byte ) kind );
+        _buffer.put( ( byte ) keyType );
+        _buffer.put( ( byte ) valueType );
+    }
+
+
+    /**
+     * Writes out everything still buffered.  Must be called once the
+     * collection is written.
+     */
+    public void flush() throws IOException {
+        _buffer.flip();
+        while ( _buffer.hasRemaining() ) {
+            _channel.write( _buffer );
+        }
+        _buffer.clear();
+    }
+
+
+    private void ensureRoom( int bytes ) throws IOException {
+        if ( _buffer.remaining() < bytes ) {
+            flush();
+        }
+    }
+
+
+    public void writeBoolean( boolean value ) throws IOException {
+        writeByte( ( byte ) ( value ? 1 : 0 ) );
+    }
+
+
+    public void writeByte( byte value ) throws IOException {
+        ensureRoom( 1 );
+        _buffer.put( value );
+    }
+
+
+    public void writeShort( short value ) throws IOException {
+        ensureRoom( 2 );
+        _buffer.putShort( value );
+    }
+
+
+    public void writeChar( char value ) throws IOException {
+        ensureRoom( 2 );
+        _buffer.putChar( value );
+    }
+
+
+    public void writeInt( int value ) throws IOException {
+        ensureRoom( 4 );
+        _buffer.putInt( value );
+    }
+
+
+    public void writeLong( long value ) throws IOException {
+        ensureRoom( 8 );
+        _buffer.putLong( value );
+    }
+
+
+    public void writeFloat( float value ) throws IOException {
+        ensureRoom( 4 );
+        _buffer.putFloat( value );
+    }
+
+
+    public void writeDouble( double value ) throws IOException {
+        ensureRoom( 8 );
+        _buffer.putDouble( value );
+    }
+
+
+    public void write( byte[] array, int offset, int length ) throws IOException {
+        if ( length >= BUFFER_SIZE ) {
+            flush();
+            ByteBuffer wrapped = ByteBuffer.wrap( array, offset, length );
+            while ( wrapped.hasRemaining() ) {
+                _channel.write( wrapped );
+            }
+            return;
+        }
+        while ( length > 0 ) {
+            ensureRoom( 1 );
+            int count = Math.min( length, _buffer.remaining() );
+            _buffer.put( array, offset, count );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void write( short[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            ensureRoom( 2 );
+            int count = Math.min( length, _buffer.remaining() >> 1 );
+            _buffer.asShortBuffer().put( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 1 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void write( char[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            ensureRoom( 2 );
+            int count = Math.min( length, _buffer.remaining() >> 1 );
+            _buffer.asCharBuffer().put( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 1 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void write( int[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            ensureRoom( 4 );
+            int count = Math.min( length, _buffer.remaining() >> 2 );
+            _buffer.asIntBuffer().put( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 2 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void write( long[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            ensureRoom( 8 );
+            int count = Math.min( length, _buffer.remaining() >> 3 );
+            _buffer.asLongBuffer().put( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 3 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void write( float[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            ensureRoom( 4 );
+            int count = Math.min( length, _buffer.remaining() >> 2 );
+            _buffer.asFloatBuffer().put( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 2 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+
+
+    public void write( double[] array, int offset, int length ) throws IOException {
+        while ( length > 0 ) {
+            ensureRoom( 8 );
+            int count = Math.min( length, _buffer.remaining() >> 3 );
+            _buffer.asDoubleBuffer().put( array, offset, count );
+            _buffer.position( _buffer.position() + ( count << 3 ) );
+            offset += count;
+            length -= count;
+        }
+    }
+}
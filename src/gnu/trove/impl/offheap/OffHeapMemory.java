@@ -0,0 +1,351 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.offheap;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+
+/**
+ * A block of memory outside of the Java heap, either allocated or mapped
+ * from a file, addressed by <tt>long</tt> byte offsets.  A single direct buffer can hold at most 2 GB, so the block
+ * is split into chunks of {@link #CHUNK_SIZE} bytes.  Values must be
+ * aligned to their own size, which keeps every value inside one chunk.
+ * <p/>
+ * Memory is released by {@link #free}.  Blocks that are never freed are
+ * released when their buffers are garbage collected, like any other direct
+ * buffer.  Allocated memory counts against
+ * <tt>-XX:MaxDirectMemorySize</tt>.
+ */
+public final class OffHeapMemory {
+
+    /** log2 of {@link #CHUNK_SIZE} */
+    private static final int CHUNK_SHIFT = 30;
+
+    /** the number of bytes held by each chunk but the last */
+    public static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = ( int ) CHUNK_SIZE - 1;
+
+    /** releases a direct buffer right away; null if the VM offers no way */
+    private static final Method CLEANER;
+    private static final Object UNSAFE;
+    static {
+        Method cleaner = null;
+        Object unsafe = null;
+        try {
+            // Java 9 and later
+            Class<?> unsafe_class = Class.forName( "sun.misc.Unsafe" );
+            cleaner = unsafe_class.getMethod( "invokeCleaner", ByteBuffer.class );
+            Field field = unsafe_class.getDeclaredField( "theUnsafe" );
+            field.setAccessible( true );
+            unsafe = field.get( null );
+        }
+        catch ( Exception ex ) {
+            cleaner = null;
+            unsafe = null;
+        }
+        CLEANER = cleaner;
+        UNSAFE = unsafe;
+    }
+
+
+    private ByteBuffer[] _chunks;
+    private final long _size;
+
+
+    private OffHeapMemory( ByteBuffer[] chunks, long size ) {
+        _chunks = chunks;
+        _size = size;
+    }
+
+
+    /**
+     * Allocates <tt>size</tt> bytes of zeroed direct memory.
+     *
+     * @param size the number of bytes to allocate.
+     * @return the new block.
+     * @throws OutOfMemoryError if the direct memory limit is exhausted.
+     */
+    public static OffHeapMemory allocate( long size ) {
+        if ( size < 0 ) {
+            throw new IllegalArgumentException( "negative size: " + size );
+        }
+        ByteBuffer[] chunks = new ByteBuffer[ chunkCount( size ) ];
+        try {
+            for ( int i = 0; i < chunks.length; i++ ) {
+                chunks[i] = ByteBuffer.allocateDirect( chunkSize( size, i ) );
+                chunks[i].order( ByteOrder.nativeOrder() );
+            }
+        }
+        catch ( OutOfMemoryError error ) {
+            release( chunks );
+            throw error;
+        }
+        return new OffHeapMemory( chunks, size );
+    }
+
+
+    /**
+     * Maps <tt>size</tt> bytes of a file, starting at <tt>position</tt>,
+     * into memory.  Changes made in {@link FileChannel.MapMode#READ_WRITE}
+     * mode are written back to the file by the operating system, or right
+     * away by {@link #force}.  Writes to a
+     * {@link FileChannel.MapMode#READ_ONLY read only} block throw
+     * {@link java.nio.ReadOnlyBufferException}.
+     *
+     * @param channel the file to map; it may be closed once mapped.
+     * @param mode    how the file is mapped.
+     * @param position the offset in the file at which the block starts.
+     * @param size    the number of bytes to map.
+     * @return the mapped block.
+     * @throws IOException if the file can't be mapped.
+     */
+    public static OffHeapMemory map( FileChannel channel, FileChannel.MapMode mode,
+        long position, long size ) throws IOException {
+
+        ByteBuffer[] chunks = new ByteBuffer[ chunkCount( size ) ];
+        try {
+            for ( int i = 0; i < chunks.length; i++ ) {
+                chunks[i] = channel.map( mode, position + ( ( long ) i << CHUNK_SHIFT ),
+                    chunkSize( size, i ) );
+                chunks[i].order( ByteOrder.nativeOrder() );
+            }
+        }
+        catch ( IOException ex ) {
+            release( chunks );
+            throw ex;
+        }
+        return new OffHeapMemory( chunks, size );
+    }
+
+
+    static int chunkCount( long size ) {
+        return ( int ) ( ( size + CHUNK_SIZE - 1 ) >>> CHUNK_SHIFT );
+    }
+
+
+    static int chunkSize( long size, int chunk ) {
+        return ( int ) Math.min( CHUNK_SIZE, size - ( ( long ) chunk << CHUNK_SHIFT ) );
+    }
+
+
+    /**
+     * Returns the number of bytes in the block.
+     *
+     * @return the size of the block in bytes.
+     */
+    public long size() {
+        return _size;
+    }
+
+
+    /**
+     * Returns true once the block has been {@link #free freed}.
+     *
+     * @return true if the memory was released.
+     */
+    public boolean isFreed() {
+        return _chunks == null;
+    }
+
+
+    /**
+     * Releases the memory, or unmaps it if it was mapped from a file.  The
+     * block must not be accessed afterwards.  Freeing a block twice has no
+     * effect.
+     */
+    public void free() {
+        ByteBuffer[] chunks = _chunks;
+        _chunks = null;
+        if ( chunks != null ) {
+            release( chunks );
+        }
+    }
+
+
+    /**
+     * Writes the changes made to a mapped block back to its file.  Does
+     * nothing for blocks that are not mapped.
+     */
+    public void force() {
+        for ( ByteBuffer chunk : _chunks ) {
+            if ( chunk instanceof MappedByteBuffer ) {
+                ( ( MappedByteBuffer ) chunk ).force();
+            }
+        }
+    }
+
+
+    private static void release( ByteBuffer[] chunks ) {
+        for ( int i = 0; i < chunks.length; i++ ) {
+            if ( chunks[i] != null ) {
+                clean( chunks[i] );
+                chunks[i] = null;
+            }
+        }
+    }
+
+
+    private static void clean( ByteBuffer buffer ) {
+        try {
+            if ( CLEANER != null ) {
+                CLEANER.invoke( UNSAFE, buffer );
+                return;
+            }
+            Method method = buffer.getClass().getMethod( "cleaner" );
+            method.setAccessible( true );
+            Object cleaner = method.invoke( buffer );
+            if ( cleaner != null ) {
+                cleaner.getClass().getMethod( "clean" ).invoke( cleaner );
+            }
+        }
+        catch ( Exception ex ) {
+            // left to the garbage collector
+        }
+    }
+
+
+    /**
+     * Sets <tt>length</tt> bytes starting at <tt>offset</tt> to zero.
+     *
+     * @param offset the first byte to clear.
+     * @param length the number of bytes to clear.
+     */
+    public void clear( long offset, long length ) {
+        long end = offset + length;
+        while ( offset < end && ( offset & 7 ) != 0 ) {
+            putByte( offset++, ( byte ) 0 );
+        }
+        for ( ; offset + 8 <= end; offset += 8 ) {
+            putLong( offset, 0L );
+        }
+        while ( offset < end ) {
+            putByte( offset++, ( byte ) 0 );
+        }
+    }
+
+
+    /**
+     * Copies <tt>length</tt> bytes starting at <tt>offset</tt> into
+     * <tt>dest</tt>, starting at <tt>destOffset</tt>.  The two ranges must
+     * not overlap.
+     *
+     * @param offset the first byte to copy.
+     * @param dest the block to copy to, which may be this block.
+     * @param destOffset the offset in <tt>dest</tt> of the first copied byte.
+     * @param length the number of bytes to copy.
+     */
+    public void copyTo( long offset, OffHeapMemory dest, long destOffset, long length ) {
+        while ( length > 0 ) {
+            int from = ( int ) offset & CHUNK_MASK;
+            int to = ( int ) destOffset & CHUNK_MASK;
+            int count = ( int ) Math.min( length, CHUNK_SIZE - Math.max( from, to ) );
+
+            ByteBuffer source = chunk( offset ).duplicate();
+            source.limit( from + count );
+            source.position( from );
+            ByteBuffer target = dest.chunk( destOffset ).duplicate();
+            target.position( to );
+            target.put( source );
+
+            offset += count;
+            destOffset += count;
+            length -= count;
+        }
+    }
+
+
+    private ByteBuffer chunk( long offset ) {
+        return _chunks[ ( int ) ( offset >>> CHUNK_SHIFT ) ];
+    }
+
+
+    public byte getByte( long offset ) {
+        return chunk( offset ).get( ( int ) offset & CHUNK_MASK );
+    }
+
+
+    public void putByte( long offset, byte value ) {
+        chunk( offset ).put( ( int ) offset & CHUNK_MASK, value );
+    }
+
+
+    public short getShort( long offset ) {
+        return chunk( offset ).getShort( ( int ) offset & CHUNK_MASK );
+    }
+
+
+    public void putShort( long offset, short value ) {
+        chunk( offset ).putShort( ( int ) offset & CHUNK_MASK, value );
+    }
+
+
+    public char getChar( long offset ) {
+        return chunk( offset ).getChar( ( int ) offset & CHUNK_MASK );
+    }
+
+
+    public void putChar( long offset, char value ) {
+        chunk( offset ).putChar( ( int ) offset & CHUNK_MASK, value );
+    }
+
+
+    public int getInt( long offset ) {
+        return chunk( offset ).getInt( ( int ) offset & CHUNK_MASK );
+    }
+
+
+    public void putInt( long offset, int value ) {
+        chunk( offset ).putInt( ( int ) offset & CHUNK_MASK, value );
+    }
+
+
+    public long getLong( long offset ) {
+        return chunk( offset ).getLong( ( int ) offset & CHUNK_MASK );
+    }
+
+
+    public void putLong( long offset, long value ) {
+        chunk( offset ).putLong( ( int ) offset & CHUNK_MASK, value );
+    }
+
+
+    public float getFloat( long offset ) {
+        return chunk( offset ).getFloat( ( int ) offset & CHUNK_MASK );
+    }
+
+
+    public void putFloat( long offset, float value ) {
+        chunk( offset ).putFloat( ( int ) offset & CHUNK_MASK, value );
+    }
+
+
+    public double getDouble( long offset ) {
+        return chunk( offset ).getDouble( ( int ) offset & CHUNK_MASK );
+    }
+
+
+    public void putDouble( long offset, double value ) {
+        chunk( offset ).putDouble( ( int ) offset & CHUNK_MASK, value );
+    }
+}
@@ -0,0 +1,763 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.sync;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+////////////////////////////////////////////////////////////
+// THIS IS AN IMPLEMENTATION CLASS. DO NOT USE DIRECTLY!  //
+// Access to these methods should be through TCollections //
+////////////////////////////////////////////////////////////
+
+
+import gnu.trove.iterator.*;
+import gnu.trove.procedure.*;
+import gnu.trove.set.*;
+import gnu.trove.function.*;
+import gnu.trove.map.*;
+import gnu.trove.map.hash.*;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * A thread-safe map that spreads its keys over several TByteDoubleHashMap
+ * stripes by the high bits of their hash codes.  Every stripe is guarded by
+ * its own lock, so threads working on keys of different stripes don't wait
+ * for each other.
+ * <p/>
+ * Operations on a single key lock only its stripe, which makes
+ * <tt>putIfAbsent</tt>, <tt>adjustValue</tt> and <tt>adjustOrPutValue</tt>
+ * atomic.  Operations on the whole map - <tt>size</tt>, the
+ * <tt>forEach</tt> methods, <tt>transformValues</tt>, <tt>retainEntries</tt>
+ * and <tt>clear</tt> - lock one stripe at a time, so they are atomic per
+ * stripe but not for the whole map.  Iterators copy a stripe when they reach
+ * it and never need to be synchronized by the user; <tt>remove</tt> goes
+ * through the map.
+ * <p/>
+ * {@link #forEachEntryParallel} and {@link #transformValuesParallel} work on
+ * all stripes at once, one task per stripe.
+ */
+public class TStripedByteDoubleMap implements TByteDoubleMap {
+
+	/** the default number of stripes */
+	public static final int DEFAULT_STRIPES = 16;
+
+	private final TByteDoubleHashMap[] stripes;	// each one is its own lock
+	private final int shift;
+	private final byte no_entry_key;
+	private final double no_entry_value;
+
+	public TStripedByteDoubleMap() {
+		this( DEFAULT_STRIPES, Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR,
+			Constants.DEFAULT_BYTE_NO_ENTRY_VALUE, Constants.DEFAULT_DOUBLE_NO_ENTRY_VALUE );
+	}
+
+	/**
+	 * Creates a new striped map.
+	 *
+	 * @param stripes the number of stripes, rounded up to a power of two.
+	 * @param initialCapacity the number of entries the map holds without
+	 *                        growing, if the keys are spread evenly.
+	 * @param loadFactor the load factor of the stripes.
+	 * @param noEntryKey the value that represents null for the key set.
+	 * @param noEntryValue the value that represents null for the values.
+	 */
+	public TStripedByteDoubleMap( int stripes, int initialCapacity, float loadFactor,
+		byte noEntryKey, double noEntryValue ) {
+
+		if ( stripes <= 0 )
+			throw new IllegalArgumentException( "stripes must be positive: " + stripes );
+		int count = HashFunctions.nextPowerOfTwo( Math.min( stripes, 1 << 16 ) );
+		this.stripes = new TByteDoubleHashMap[ count ];
+		this.shift = 32 - Integer.numberOfTrailingZeros( count );
+		this.no_entry_key = noEntryKey;
+		this.no_entry_value = noEntryValue;
+		int capacity = ( Math.max( 0, initialCapacity ) + count - 1 ) / count;
+		for ( int i = 0; i < count; i++ ) {
+			this.stripes[ i ] =
+				new TByteDoubleHashMap( capacity, loadFactor, noEntryKey, noEntryValue );
+		}
+	}
+
+	/**
+	 * Creates a new striped map holding the entries of <tt>m</tt>.
+	 *
+	 * @param m the map to copy.
+	 * @param stripes the number of stripes, rounded up to a power of two.
+	 */
+	public TStripedByteDoubleMap( TByteDoubleMap m, int stripes ) {
+		this( stripes, m.size(), Constants.DEFAULT_LOAD_FACTOR,
+			m.getNoEntryKey(), m.getNoEntryValue() );
+		putAll( m );
+	}
+
+	private TByteDoubleHashMap stripe( byte key ) {
+		// the stripes index with the low bits of the hash, so use the high ones
+		if ( shift == 32 ) return stripes[ 0 ];
+		return stripes[ HashFunctions.mix( HashFunctions.hash( key ) ) >>> shift ];
+	}
+
+	/**
+	 * Returns the number of stripes.
+	 *
+	 * @return the number of stripes.
+	 */
+	public int getStripeCount() {
+		return stripes.length;
+	}
+
+	public int size() {
+		int size = 0;
+		for ( TByteDoubleHashMap s : stripes ) {
+			synchronized( s ) { size += s.size(); }
+		}
+		return size;
+	}
+	public boolean isEmpty(){
+		for ( TByteDoubleHashMap s : stripes ) {
+			synchronized( s ) { if ( !s.isEmpty() ) return false; }
+		}
+		return true;
+	}
+	public boolean containsKey( byte key ) {
+		TByteDoubleHashMap s = stripe( key );
+		synchronized( s ) { return s.containsKey( key ); }
+	}
+	public boolean containsValue( double value ){
+		for ( TByteDoubleHashMap s : stripes ) {
+			synchronized( s ) { if ( s.containsValue( value ) ) return true; }
+		}
+		return false;
+	}
+	public double get( byte key ) {
+		TByteDoubleHashMap s = stripe( key );
+		synchronized( s ) { return s.get( key ); }
+	}
+	public int getAll( byte[] keys, double[] values ) {
+		int count = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			// the value and the presence check must see the same state of the stripe
+			TByteDoubleHashMap s = stripe( keys[ i ] );
+			synchronized( s ) {
+				values[ i ] = s.get( keys[ i ] );
+				if ( values[ i ] != no_entry_value || s.containsKey( keys[ i ] ) ) count++;
+			}
+		}
+		return count;
+	}
+	public int containsKeys( byte[] keys, long[] found ) {
+		Arrays.fill( found, 0, ( keys.length + 63 ) >>> 6, 0L );
+		int count = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( containsKey( keys[ i ] ) ) {
+				found[ i >>> 6 ] |= 1L << i;
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public double put( byte key, double value ) {
+		TByteDoubleHashMap s = stripe( key );
+		synchronized( s ) { return s.put( key, value ); }
+	}
+	public double remove( byte key ) {
+		TByteDoubleHashMap s = stripe( key );
+		synchronized( s ) { return s.remove( key ); }
+	}
+	public void putAll( Map<? extends Byte, ? extends Double> map ) {
+		for ( Map.Entry<? extends Byte, ? extends Double> entry : map.entrySet() ) {
+			put( entry.getKey().byteValue(), entry.getValue().doubleValue() );
+		}
+	}
+	public void putAll( TByteDoubleMap map ) {
+		map.forEachEntry( new TByteDoubleProcedure() {
+			public boolean execute( byte key, double value ) {
+				put( key, value );
+				return true;
+			}
+		} );
+	}
+	public void putAll( byte[] keys, double[] values ) {
+		for ( int i = 0; i < keys.length; i++ ) {
+			put( keys[ i ], values[ i ] );
+		}
+	}
+	public void clear() {
+		for ( TByteDoubleHashMap s : stripes ) {
+			synchronized( s ) { s.clear(); }
+		}
+	}
+
+	public TByteSet keySet() {
+		return new KeyView();
+	}
+	public byte[] keys() {
+		return keys( new byte[ size() ] );
+	}
+	public byte[] keys( byte[] array ) {
+		int size = 0;
+		byte[][] parts = new byte[ stripes.length ][];
+		for ( int i = 0; i < stripes.length; i++ ) {
+			synchronized( stripes[ i ] ) { parts[ i ] = stripes[ i ].keys(); }
+			size += parts[ i ].length;
+		}
+		if ( array.length < size ) array = new byte[ size ];
+		int pos = 0;
+		for ( byte[] part : parts ) {
+			System.arraycopy( part, 0, array, pos, part.length );
+			pos += part.length;
+		}
+		if ( array.length > size ) array[ size ] = no_entry_key;
+		return array;
+	}
+
+	public TDoubleCollection valueCollection() {
+		return new ValueView();
+	}
+	public double[] values() {
+		return values( new double[ size() ] );
+	}
+	public double[] values( double[] array ) {
+		int size = 0;
+		double[][] parts = new double[ stripes.length ][];
+		for ( int i = 0; i < stripes.length; i++ ) {
+			synchronized( stripes[ i ] ) { parts[ i ] = stripes[ i ].values(); }
+			size += parts[ i ].length;
+		}
+		if ( array.length < size ) array = new double[ size ];
+		int pos = 0;
+		for ( double[] part : parts ) {
+			System.arraycopy( part, 0, array, pos, part.length );
+			pos += part.length;
+		}
+		if ( array.length > size ) array[ size ] = no_entry_value;
+		return array;
+	}
+
+	/**
+	 * Returns an iterator that copies each stripe when it reaches it, so it
+	 * needs no synchronization by the user and never fails because of
+	 * concurrent modification.
+	 */
+	public TByteDoubleIterator iterator() {
+		return new StripedIterator();
+	}
+
+	// these are unchanging over the life of the map, no need to lock
+	public byte getNoEntryKey() { return no_entry_key; }
+	public double getNoEntryValue() { return no_entry_value; }
+
+	public double putIfAbsent( byte key, double value ) {
+		TByteDoubleHashMap s = stripe( key );
+		synchronized( s ) { return s.putIfAbsent( key, value ); }
+	}
+	public boolean forEachKey( TByteProcedure procedure ) {
+		for ( TByteDoubleHashMap s : stripes ) {
+			synchronized( s ) { if ( !s.forEachKey( procedure ) ) return false; }
+		}
+		return true;
+	}
+	public boolean forEachValue( TDoubleProcedure procedure ) {
+		for ( TByteDoubleHashMap s : stripes ) {
+			synchronized( s ) { if ( !s.forEachValue( procedure ) ) return false; }
+		}
+		return true;
+	}
+	public boolean forEachEntry( TByteDoubleProcedure procedure ) {
+		for ( TByteDoubleHashMap s : stripes ) {
+			synchronized( s ) { if ( !s.forEachEntry( procedure ) ) return false; }
+		}
+		return true;
+	}
+	public void transformValues( TDoubleFunction function ) {
+		for ( TByteDoubleHashMap s : stripes ) {
+			synchronized( s ) { s.transformValues( function ); }
+		}
+	}
+	public boolean retainEntries( TByteDoubleProcedure procedure ) {
+		boolean modified = false;
+		for ( TByteDoubleHashMap s : stripes ) {
+			synchronized( s ) { if ( s.retainEntries( procedure ) ) modified = true; }
+		}
+		return modified;
+	}
+	public boolean increment( byte key ) {
+		TByteDoubleHashMap s = stripe( key );
+		synchronized( s ) { return s.increment( key ); }
+	}
+	public boolean adjustValue( byte key, double amount ) {
+		TByteDoubleHashMap s = stripe( key );
+		synchronized( s ) { return s.adjustValue( key, amount ); }
+	}
+	public double adjustOrPutValue( byte key, double adjust_amount, double put_amount ) {
+		TByteDoubleHashMap s = stripe( key );
+		synchronized( s ) { return s.adjustOrPutValue( key, adjust_amount, put_amount ); }
+	}
+
+	/**
+	 * Executes <tt>procedure</tt> for every entry, running one task per
+	 * stripe on <tt>executor</tt>.  Each task holds the lock of its stripe,
+	 * so the procedure is called from several threads at once but never for
+	 * two entries of the same stripe.  Once a call returns false the other
+	 * tasks stop at their next entry.
+	 *
+	 * @param procedure the procedure to execute for every entry.
+	 * @param executor the executor to run the tasks on.
+	 * @return false if <tt>procedure</tt> returned false for some entry.
+	 * @throws InterruptedException if interrupted while waiting for the tasks.
+	 */
+	public boolean forEachEntryParallel( final TByteDoubleProcedure procedure,
+		ExecutorService executor ) throws InterruptedException {
+
+		final AtomicBoolean stopped = new AtomicBoolean();
+		final TByteDoubleProcedure stoppable = new TByteDoubleProcedure() {
+			public boolean execute( byte key, double value ) {
+				if ( stopped.get() ) return false;
+				if ( procedure.execute( key, value ) ) return true;
+				stopped.set( true );
+				return false;
+			}
+		};
+		return runParallel( executor, new StripeTask() {
+			public boolean run( TByteDoubleHashMap s ) {
+				return s.forEachEntry( stoppable );
+			}
+		} );
+	}
+
+	/**
+	 * Transforms the values of all stripes, running one task per stripe on
+	 * <tt>executor</tt>.  Each task holds the lock of its stripe.
+	 *
+	 * @param function the function to apply to every value.
+	 * @param executor the executor to run the tasks on.
+	 * @throws InterruptedException if interrupted while waiting for the tasks.
+	 */
+	public void transformValuesParallel( final TDoubleFunction function,
+		ExecutorService executor ) throws InterruptedException {
+
+		runParallel( executor, new StripeTask() {
+			public boolean run( TByteDoubleHashMap s ) {
+				s.transformValues( function );
+				return true;
+			}
+		} );
+	}
+
+	private interface StripeTask {
+		boolean run( TByteDoubleHashMap s );
+	}
+
+	private boolean runParallel( ExecutorService executor, final StripeTask task )
+		throws InterruptedException {
+
+		List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>( stripes.length );
+		for ( final TByteDoubleHashMap s : stripes ) {
+			tasks.add( new Callable<Boolean>() {
+				public Boolean call() {
+					synchronized( s ) { return Boolean.valueOf( task.run( s ) ); }
+				}
+			} );
+		}
+		boolean result = true;
+		for ( Future<Boolean> future : executor.invokeAll( tasks ) ) {
+			try {
+				if ( !future.get().booleanValue() ) result = false;
+			}
+			catch ( ExecutionException ex ) {
+				Throwable cause = ex.getCause();
+				if ( cause instanceof RuntimeException ) throw ( RuntimeException ) cause;
+				if ( cause instanceof Error ) throw ( Error ) cause;
+				throw new IllegalStateException( cause );
+			}
+		}
+		return result;
+	}
+
+	public boolean equals( Object other ) {
+		if ( other == this ) return true;
+		if ( !( other instanceof TByteDoubleMap ) ) return false;
+		final TByteDoubleMap that = ( TByteDoubleMap ) other;
+		if ( that.size() != size() ) return false;
+		final double that_no_entry_value = that.getNoEntryValue();
+		return forEachEntry( new TByteDoubleProcedure() {
+			public boolean execute( byte key, double this_value ) {
+				double that_value = that.get( key );
+				return this_value == that_value ||
+					this_value == no_entry_value ||
+					that_value == that_no_entry_value;
+			}
+		} );
+	}
+	public int hashCode() {
+		int hashcode = 0;
+		for ( TByteDoubleHashMap s : stripes ) {
+			synchronized( s ) { hashcode += s.hashCode(); }
+		}
+		return hashcode;
+	}
+	public String toString() {
+		final StringBuilder buf = new StringBuilder( "{" );
+		forEachEntry( new TByteDoubleProcedure() {
+			private boolean first = true;
+			public boolean execute( byte key, double value ) {
+				if ( first ) first = false;
+				else buf.append( ", " );
+				buf.append( key ).append( "=" ).append( value );
+				return true;
+			}
+		} );
+		return buf.append( "}" ).toString();
+	}
+
+
+	/** Walks copies of the stripes, taken one stripe at a time. */
+	abstract class StripeIterator {
+		private int stripe = -1;
+		private byte[] keys = new byte[ 0 ];
+		private double[] values = new double[ 0 ];
+		private int pos = 0;
+		protected byte key;
+		protected double value;
+		private boolean canRemove = false;
+
+		public boolean hasNext() {
+			while ( pos >= keys.length ) {
+				if ( stripe + 1 >= stripes.length ) return false;
+				final TByteDoubleHashMap s = stripes[ ++stripe ];
+				synchronized( s ) {
+					final byte[] k = new byte[ s.size() ];
+					final double[] v = new double[ k.length ];
+					s.forEachEntry( new TByteDoubleProcedure() {
+						int i = 0;
+						public boolean execute( byte key, double value ) {
+							k[ i ] = key;
+							v[ i++ ] = value;
+							return true;
+						}
+					} );
+					keys = k;
+					values = v;
+				}
+				pos = 0;
+			}
+			return true;
+		}
+
+		protected void moveToNext() {
+			if ( !hasNext() ) throw new NoSuchElementException();
+			key = keys[ pos ];
+			value = values[ pos++ ];
+			canRemove = true;
+		}
+
+		public void remove() {
+			if ( !canRemove ) throw new IllegalStateException();
+			TStripedByteDoubleMap.this.remove( key );
+			canRemove = false;
+		}
+	}
+
+	class StripedIterator extends StripeIterator implements TByteDoubleIterator {
+		public void advance() { moveToNext(); }
+		public byte key() { return key; }
+		public double value() { return value; }
+		public double setValue( double val ) {
+			value = val;
+			return put( key, val );
+		}
+	}
+
+	class KeyIterator extends StripeIterator implements TByteIterator {
+		public byte next() {
+			moveToNext();
+			return key;
+		}
+	}
+
+	class ValueIterator extends StripeIterator implements TDoubleIterator {
+		public double next() {
+			moveToNext();
+			return value;
+		}
+	}
+
+
+	/** a view onto the keys of the map. */
+	class KeyView implements TByteSet {
+		public TByteIterator iterator() { return new KeyIterator(); }
+		public byte getNoEntryValue() { return no_entry_key; }
+		public int size() { return TStripedByteDoubleMap.this.size(); }
+		public boolean isEmpty() { return TStripedByteDoubleMap.this.isEmpty(); }
+		public boolean contains( byte entry ) { return containsKey( entry ); }
+		public byte[] toArray() { return keys(); }
+		public byte[] toArray( byte[] dest ) { return keys( dest ); }
+		public boolean add( byte entry ) { throw new UnsupportedOperationException(); }
+		public boolean remove( byte entry ) {
+			TByteDoubleHashMap s = stripe( entry );
+			synchronized( s ) { return s.keySet().remove( entry ); }
+		}
+		public boolean containsAll( Collection<?> collection ) {
+			for ( Object element : collection ) {
+				if ( !( element instanceof Byte ) ||
+					!containsKey( ( ( Byte ) element ).byteValue() ) ) return false;
+			}
+			return true;
+		}
+		public boolean containsAll( TByteCollection collection ) {
+			TByteIterator iter = collection.iterator();
+			while ( iter.hasNext() ) {
+				if ( !containsKey( iter.next() ) ) return false;
+			}
+			return true;
+		}
+		public boolean containsAll( byte[] array ) {
+			for ( byte element : array ) {
+				if ( !containsKey( element ) ) return false;
+			}
+			return true;
+		}
+		public boolean addAll( Collection<? extends Byte> collection ) {
+			throw new UnsupportedOperationException();
+		}
+		public boolean addAll( TByteCollection collection ) {
+			throw new UnsupportedOperationException();
+		}
+		public boolean addAll( byte[] array ) {
+			throw new UnsupportedOperationException();
+		}
+		@SuppressWarnings({"SuspiciousMethodCalls"})
+		public boolean retainAll( final Collection<?> collection ) {
+			return retainEntries( new TByteDoubleProcedure() {
+				public boolean execute( byte key, double value ) {
+					return collection.contains( Byte.valueOf( key ) );
+				}
+			} );
+		}
+		public boolean retainAll( final TByteCollection collection ) {
+			if ( this == collection ) return false;
+			return retainEntries( new TByteDoubleProcedure() {
+				public boolean execute( byte key, double value ) {
+					return collection.contains( key );
+				}
+			} );
+		}
+		public boolean retainAll( byte[] array ) {
+			final byte[] sorted = array.clone();
+			Arrays.sort( sorted );
+			return retainEntries( new TByteDoubleProcedure() {
+				public boolean execute( byte key, double value ) {
+					return Arrays.binarySearch( sorted, key ) >= 0;
+				}
+			} );
+		}
+		public boolean removeAll( Collection<?> collection ) {
+			boolean changed = false;
+			for ( Object element : collection ) {
+				if ( element instanceof Byte && remove( ( ( Byte ) element ).byteValue() ) )
+					changed = true;
+			}
+			return changed;
+		}
+		public boolean removeAll( TByteCollection collection ) {
+			if ( this == collection ) {
+				clear();
+				return true;
+			}
+			boolean changed = false;
+			TByteIterator iter = collection.iterator();
+			while ( iter.hasNext() ) {
+				if ( remove( iter.next() ) ) changed = true;
+			}
+			return changed;
+		}
+		public boolean removeAll( byte[] array ) {
+			boolean changed = false;
+			for ( byte element : array ) {
+				if ( remove( element ) ) changed = true;
+			}
+			return changed;
+		}
+		public void clear() { TStripedByteDoubleMap.this.clear(); }
+		public boolean forEach( TByteProcedure procedure ) { return forEachKey( procedure ); }
+		public boolean equals( Object other ) {
+			if ( !( other instanceof TByteSet ) ) return false;
+			final TByteSet that = ( TByteSet ) other;
+			return that.size() == size() && forEachKey( new TByteProcedure() {
+				public boolean execute( byte key ) {
+					return that.contains( key );
+				}
+			} );
+		}
+		public int hashCode() {
+			final int[] hashcode = new int[ 1 ];
+			forEachKey( new TByteProcedure() {
+				public boolean execute( byte key ) {
+					hashcode[ 0 ] += HashFunctions.hash( key );
+					return true;
+				}
+			} );
+			return hashcode[ 0 ];
+		}
+		public String toString() {
+			final StringBuilder buf = new StringBuilder( "{" );
+			forEachKey( new TByteProcedure() {
+				private boolean first = true;
+				public boolean execute( byte key ) {
+					if ( first ) first = false;
+					else buf.append( ", " );
+					buf.append( key );
+					return true;
+				}
+			} );
+			return buf.append( "}" ).toString();
+		}
+	}
+
+
+	/** a view onto the values of the map. */
+	class ValueView implements TDoubleCollection {
+		public TDoubleIterator iterator() { return new ValueIterator(); }
+		public double getNoEntryValue() { return no_entry_value; }
+		public int size() { return TStripedByteDoubleMap.this.size(); }
+		public boolean isEmpty() { return TStripedByteDoubleMap.this.isEmpty(); }
+		public boolean contains( double entry ) { return containsValue( entry ); }
+		public double[] toArray() { return values(); }
+		public double[] toArray( double[] dest ) { return values( dest ); }
+		public boolean add( double entry ) { throw new UnsupportedOperationException(); }
+		public boolean remove( double entry ) {
+			for ( TByteDoubleHashMap s : stripes ) {
+				synchronized( s ) { if ( s.valueCollection().remove( entry ) ) return true; }
+			}
+			return false;
+		}
+		public boolean containsAll( Collection<?> collection ) {
+			for ( Object element : collection ) {
+				if ( !( element instanceof Double ) ||
+					!containsValue( ( ( Double ) element ).doubleValue() ) ) return false;
+			}
+			return true;
+		}
+		public boolean containsAll( TDoubleCollection collection ) {
+			TDoubleIterator iter = collection.iterator();
+			while ( iter.hasNext() ) {
+				if ( !containsValue( iter.next() ) ) return false;
+			}
+			return true;
+		}
+		public boolean containsAll( double[] array ) {
+			for ( double element : array ) {
+				if ( !containsValue( element ) ) return false;
+			}
+			return true;
+		}
+		public boolean addAll( Collection<? extends Double> collection ) {
+			throw new UnsupportedOperationException();
+		}
+		public boolean addAll( TDoubleCollection collection ) {
+			throw new UnsupportedOperationException();
+		}
+		public boolean addAll( double[] array ) {
+			throw new UnsupportedOperationException();
+		}
+		@SuppressWarnings({"SuspiciousMethodCalls"})
+		public boolean retainAll( final Collection<?> collection ) {
+			return retainEntries( new TByteDoubleProcedure() {
+				public boolean execute( byte key, double value ) {
+					return collection.contains( Double.valueOf( value ) );
+				}
+			} );
+		}
+		public boolean retainAll( final TDoubleCollection collection ) {
+			if ( this == collection ) return false;
+			return retainEntries( new TByteDoubleProcedure() {
+				public boolean execute( byte key, double value ) {
+					return collection.contains( value );
+				}
+			} );
+		}
+		public boolean retainAll( double[] array ) {
+			final double[] sorted = array.clone();
+			Arrays.sort( sorted );
+			return retainEntries( new TByteDoubleProcedure() {
+				public boolean execute( byte key, double value ) {
+					return Arrays.binarySearch( sorted, value ) >= 0;
+				}
+			} );
+		}
+		public boolean removeAll( Collection<?> collection ) {
+			boolean changed = false;
+			for ( Object element : collection ) {
+				if ( element instanceof Double && remove( ( ( Double ) element ).doubleValue() ) )
+					changed = true;
+			}
+			return changed;
+		}
+		public boolean removeAll( TDoubleCollection collection ) {
+			if ( this == collection ) {
+				clear();
+				return true;
+			}
+			boolean changed = false;
+			TDoubleIterator iter = collection.iterator();
+			while ( iter.hasNext() ) {
+				if ( remove( iter.next() ) ) changed = true;
+			}
+			return changed;
+		}
+		public boolean removeAll( double[] array ) {
+			boolean changed = false;
+			for ( double element : array ) {
+				if ( remove( element ) ) changed = true;
+			}
+			return changed;
+		}
+		public void clear() { TStripedByteDoubleMap.this.clear(); }
+		public boolean forEach( TDoubleProcedure procedure ) { return forEachValue( procedure ); }
+		public String toString() {
+			final StringBuilder buf = new StringBuilder( "{" );
+			forEachValue( new TDoubleProcedure() {
+				private boolean first = true;
+				public boolean execute( double value ) {
+					if ( first ) first = false;
+					else buf.append( ", " );
+					buf.append( value );
+					return true;
+				}
+			} );
+			return buf.append( "}" ).toString();
+		}
+	}
+}
@@ -0,0 +1,145 @@
+///////////////////////////////////////////////////////////////////////////////
+// Copyright (c) 2009, Rob Eden All Rights Reserved.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+package gnu.trove.map;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+import gnu.trove.procedure.TByteCharProcedure;
+
+
+/**
+ * A {@link TByteCharMap} that keeps its entries in the order of their keys,
+ * and so can answer range queries: the keys nearest to a given one, and
+ * views onto the entries between two keys.  Keys are ordered by the
+ * <tt>&lt;</tt> operator of the byte type, which leaves no place for NaN
+ * keys.
+ * <p/>
+ * Where the methods of <tt>java.util.NavigableMap</tt> return
+ * <tt>null</tt>, these return the "no entry" key (see
+ * {@link #getNoEntryKey}).
+ */
+public interface TByteCharSortedMap extends TByteCharMap {
+    /**
+     * Returns the smallest key of the map.
+     *
+     * @return the first key
+     * @throws java.util.NoSuchElementException if the map is empty
+     */
+    public byte firstKey();
+
+
+    /**
+     * Returns the largest key of the map.
+     *
+     * @return the last key
+     * @throws java.util.NoSuchElementException if the map is empty
+     */
+    public byte lastKey();
+
+
+    /**
+     * Returns the largest key less than or equal to <tt>key</tt>.
+     *
+     * @param key an <code>byte</code> value
+     * @return the key, or the "no entry" key if there is none
+     */
+    public byte floorKey( byte key );
+
+
+    /**
+     * Returns the smallest key greater than or equal to <tt>key</tt>.
+     *
+     * @param key an <code>byte</code> value
+     * @return the key, or the "no entry" key if there is none
+     */
+    public byte ceilingKey( byte key );
+
+
+    /**
+     * Returns the largest key strictly less than <tt>key</tt>.
+     *
+     * @param key an <code>byte</code> value
+     * @return the key, or the "no entry" key if there is none
+     */
+    public byte lowerKey( byte key );
+
+
+    /**
+     * Returns the smallest key strictly greater than <tt>key</tt>.
+     *
+     * @param key an <code>byte</code> value
+     * @return the key, or the "no entry" key if there is none
+     */
+    public byte higherKey( byte key );
+
+
+    /**
+     * Returns a view onto the entries of the map whose keys range from
+     * <tt>fromKey</tt>, inclusive, to <tt>toKey</tt>, exclusive.  Changes
+     * to either map show in the other; putting a key outside of the range
+     * into the view throws an <tt>IllegalArgumentException</tt>.
+     *
+     * @param fromKey the lowest key of the view
+     * @param toKey   the key above the highest key of the view
+     * @return a view onto a range of the map
+     * @throws IllegalArgumentException if <tt>fromKey</tt> is greater than
+     *         <tt>toKey</tt>, or either lies outside of the range of this map
+     */
+    public TByteCharSortedMap subMap( byte fromKey, byte toKey );
+
+
+    /**
+     * Returns a view onto the entries of the map whose keys are less than
+     * <tt>toKey</tt>, like {@link #subMap}.
+     *
+     * @param toKey the key above the highest key of the view
+     * @return a view onto a range of the map
+     * @throws IllegalArgumentException if <tt>toKey</tt> lies outside of the
+     *         range of this map
+     */
+    public TByteCharSortedMap headMap( byte toKey );
+
+
+    /**
+     * Returns a view onto the entries of the map whose keys are greater than
+     * or equal to <tt>fromKey</tt>, like {@link #subMap}.
+     *
+     * @param fromKey the lowest key of the view
+     * @return a view onto a range of the map
+     * @throws IllegalArgumentException if <tt>fromKey</tt> lies outside of
+     *         the range of this map
+     */
+    public TByteCharSortedMap tailMap( byte fromKey );
+
+
+    /**
+     * Executes <tt>procedure</tt> for each entry whose key ranges from
+     * <tt>fromKey</tt>, inclusive, to <tt>toKey</tt>, exclusive, in the
+     * order of the keys.
+     *
+     * @param fromKey   the lowest key to visit
+     * @param toKey     the key above the highest key to visit
+     * @param procedure a <code>TByteCharProcedure</code> value
+     * @return false if the loop over the entries terminated because
+     *         the procedure returned false for some entry.
+     * @throws IllegalArgumentException as {@link #subMap} does
+     */
+    public boolean forEachEntry( byte fromKey, byte toKey, TByteCharProcedure procedure );
+}
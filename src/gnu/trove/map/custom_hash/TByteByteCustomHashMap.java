@@ -0,0 +1,202 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.custom_hash;
+
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.impl.hash.THash;
+import gnu.trove.map.TByteByteMap;
+import gnu.trove.map.hash.TByteByteHashMap;
+import gnu.trove.strategy.TByteHashingStrategy;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+
+/**
+ * An open addressed Map implementation for byte keys and byte values that
+ * hashes and compares its keys with a {@link TByteHashingStrategy}.
+ */
+public class TByteByteCustomHashMap extends TByteByteHashMap {
+    static final long serialVersionUID = 1L;
+
+    /** the strategy that hashes and compares the keys */
+    protected TByteHashingStrategy strategy;
+
+
+    /** FOR EXTERNALIZATION ONLY!!! */
+    public TByteByteCustomHashMap() {}
+
+
+    /**
+     * Creates a new <code>TByteByteCustomHashMap</code> instance with the
+     * default capacity and load factor.
+     *
+     * @param strategy used to hash and compare the keys.
+     */
+    public TByteByteCustomHashMap( TByteHashingStrategy strategy ) {
+        super();
+        this.strategy = strategy;
+    }
+
+
+    /**
+     * Creates a new <code>TByteByteCustomHashMap</code> instance with a prime
+     * capacity equal to or greater than <tt>initialCapacity</tt> and
+     * with the default load factor.
+     *
+     * @param strategy used to hash and compare the keys.
+     * @param initialCapacity an <code>int</code> value
+     */
+    public TByteByteCustomHashMap( TByteHashingStrategy strategy, int initialCapacity ) {
+        super( initialCapacity );
+        this.strategy = strategy;
+    }
+
+
+    /**
+     * Creates a new <code>TByteByteCustomHashMap</code> instance with a prime
+     * capacity equal to or greater than <tt>initialCapacity</tt> and
+     * with the specified load factor.
+     *
+     * @param strategy used to hash and compare the keys.
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     */
+    public TByteByteCustomHashMap( TByteHashingStrategy strategy, int initialCapacity,
+        float loadFactor ) {
+
+        super( initialCapacity, loadFactor );
+        this.strategy = strategy;
+    }
+
+
+    /**
+     * Creates a new <code>TByteByteCustomHashMap</code> instance with a prime
+     * capacity equal to or greater than <tt>initialCapacity</tt> and
+     * with the specified load factor.
+     *
+     * @param strategy used to hash and compare the keys.
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     * @param noEntryKey a <code>byte</code> value that represents
+     *                   <tt>null</tt> for the Key set.
+     * @param noEntryValue a <code>byte</code> value that represents
+     *                   <tt>null</tt> for the Value set.
+     */
+    public TByteByteCustomHashMap( TByteHashingStrategy strategy, int initialCapacity,
+        float loadFactor, byte noEntryKey, byte noEntryValue ) {
+
+        super( initialCapacity, loadFactor, noEntryKey, noEntryValue );
+        this.strategy = strategy;
+    }
+
+
+    /**
+     * Creates a new <code>TByteByteCustomHashMap</code> instance containing
+     * all of the entries in the map passed in.
+     *
+     * @param strategy used to hash and compare the keys.
+     * @param map a <tt>TByteByteMap</tt> that will be duplicated.
+     */
+    public TByteByteCustomHashMap( TByteHashingStrategy strategy, TByteByteMap map ) {
+        this( strategy, map.size(), DEFAULT_LOAD_FACTOR,
+            map.getNoEntryKey(), map.getNoEntryValue() );
+        putAll( map );
+    }
+
+
+    /**
+     * Returns the strategy that hashes and compares the keys of this map.
+     *
+     * @return the hashing strategy
+     */
+    public TByteHashingStrategy getHashingStrategy() {
+        return strategy;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected int hash( byte key ) {
+        return HashFunctions.hash( strategy.computeHashCode( key ), _hashMixer );
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean equals( byte one, byte two ) {
+        return strategy.equals( one, two );
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean usesHashingStrategy() {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected THash detachTable( int newCapacity ) {
+        // the old table has to be searched with the strategy as well
+        TByteByteCustomHashMap old = new TByteByteCustomHashMap( strategy, 0,
+            _loadFactor, no_entry_key, no_entry_value );
+        old._set = _set;
+        old._values = _values;
+        old._states = _states;
+
+        _set = new byte[newCapacity];
+        _values = new byte[newCapacity];
+        _states = new byte[newCapacity];
+        return old;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // STRATEGY, ahead of the entries that are hashed with it
+        out.writeObject( strategy );
+
+        // SUPER
+        super.writeExternal( out );
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // STRATEGY
+        strategy = ( TByteHashingStrategy ) in.readObject();
+
+        // SUPER
+        super.readExternal( in );
+    }
+} // TByteByteCustomHashMap
@@ -0,0 +1,405 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+import gnu.trove.map.TByteByteMap;
+import gnu.trove.function.TByteFunction;
+import gnu.trove.procedure.*;
+import gnu.trove.set.*;
+import gnu.trove.set.hash.TByteFrozenHashSet;
+import gnu.trove.iterator.*;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.impl.hash.TByteFrozenHash;
+import gnu.trove.list.array.TByteArrayList;
+import gnu.trove.*;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.*;
+
+/**
+ * An immutable Map for byte keys and byte values in a minimal perfect hash
+ * table (see {@link TByteFrozenHash}): one slot per entry, no free slots
+ * and no states array, and lookups that never probe and need no locking.
+ * Use it for tables that are built once and read many times: fill a
+ * {@link TByteByteHashMap} and call {@link TByteByteHashMap#freeze}, or pass
+ * any map to the constructor.  Like the maps returned by
+ * <tt>TCollections.unmodifiableMap()</tt>, the methods that would modify
+ * the map throw an <tt>UnsupportedOperationException</tt>.
+ */
+public class TByteByteFrozenHashMap extends TByteFrozenHash implements TByteByteMap {
+    static final long serialVersionUID = 1L;
+
+    /** the values of the map, in the slots of their keys */
+    protected transient byte[] _values;
+
+    /** the value that represents null in the key set. */
+    protected byte no_entry_key;
+
+    /** the value that represents null in the value collection. */
+    protected byte no_entry_value;
+
+
+    /**
+     * Creates an empty <code>TByteByteFrozenHashMap</code> instance.
+     */
+    public TByteByteFrozenHashMap() {
+        _values = new byte[0];
+        no_entry_key = Constants.DEFAULT_BYTE_NO_ENTRY_VALUE;
+        no_entry_value = Constants.DEFAULT_BYTE_NO_ENTRY_VALUE;
+    }
+
+
+    /**
+     * Creates a new <code>TByteByteFrozenHashMap</code> instance containing
+     * all of the entries in the map passed in.
+     *
+     * @param map a <tt>TByteByteMap</tt> that will be duplicated.
+     */
+    public TByteByteFrozenHashMap( TByteByteMap map ) {
+        no_entry_key = map.getNoEntryKey();
+        no_entry_value = map.getNoEntryValue();
+
+        byte[] keys = new byte[ map.size() ];
+        byte[] values = new byte[ keys.length ];
+        int i = 0;
+        for ( TByteByteIterator it = map.iterator(); it.hasNext(); i++ ) {
+            it.advance();
+            keys[i] = it.key();
+            values[i] = it.value();
+        }
+
+        int[] slots = build( keys );
+        _values = new byte[ keys.length ];
+        for ( i = 0; i < keys.length; i++ ) {
+            _values[ slots[i] ] = values[i];
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public byte getNoEntryKey() {
+        return no_entry_key;
+    }
+
+
+    /** {@inheritDoc} */
+    public byte getNoEntryValue() {
+        return no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public byte get( byte key ) {
+        int index = index( key );
+        return index < 0 ? no_entry_value : _values[index];
+    }
+
+
+    /** {@inheritDoc} */
+    public int getAll( byte[] keys, byte[] values ) {
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            int index = index( keys[i] );
+            if ( index < 0 ) {
+                values[i] = no_entry_value;
+            }
+            else {
+                values[i] = _values[index];
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsKey( byte key ) {
+        return index( key ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public int containsKeys( byte[] keys, long[] found ) {
+        Arrays.fill( found, 0, ( keys.length + 63 ) >>> 6, 0L );
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( index( keys[i] ) >= 0 ) {
+                found[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsValue( byte val ) {
+        byte[] values = _values;
+        for ( int i = values.length; i-- > 0; ) {
+            if ( values[i] == val ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    public byte put( byte key, byte value ) { throw new UnsupportedOperationException(); }
+    public byte putIfAbsent( byte key, byte value ) { throw new UnsupportedOperationException(); }
+    public void putAll( Map<? extends Byte, ? extends Byte> map ) { throw new UnsupportedOperationException(); }
+    public void putAll( TByteByteMap map ) { throw new UnsupportedOperationException(); }
+    public void putAll( byte[] keys, byte[] values ) { throw new UnsupportedOperationException(); }
+    public byte remove( byte key ) { throw new UnsupportedOperationException(); }
+    public void clear() { throw new UnsupportedOperationException(); }
+    public void transformValues( TByteFunction function ) { throw new UnsupportedOperationException(); }
+    public boolean retainEntries( TByteByteProcedure procedure ) { throw new UnsupportedOperationException(); }
+    public boolean increment( byte key ) { throw new UnsupportedOperationException(); }
+    public boolean adjustValue( byte key, byte amount ) { throw new UnsupportedOperationException(); }
+    public byte adjustOrPutValue( byte key, byte adjust_amount, byte put_amount ) { throw new UnsupportedOperationException(); }
+
+
+    /** {@inheritDoc} */
+    public TByteSet keySet() {
+        return new TByteFrozenHashSet( this, no_entry_key );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys() {
+        return _set.clone();
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys( byte[] array ) {
+        int size = _set.length;
+        if ( array.length < size ) {
+            array = new byte[ size ];
+        }
+        System.arraycopy( _set, 0, array, 0, size );
+        if ( array.length > size ) {
+            array[size] = no_entry_key;
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteCollection valueCollection() {
+        return TCollections.unmodifiableCollection( TByteArrayList.wrap( _values, no_entry_value ) );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] values() {
+        return _values.clone();
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] values( byte[] array ) {
+        int size = _values.length;
+        if ( array.length < size ) {
+            array = new byte[ size ];
+        }
+        System.arraycopy( _values, 0, array, 0, size );
+        if ( array.length > size ) {
+            array[size] = no_entry_value;
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteByteIterator iterator() {
+        return new TByteByteFrozenHashIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachKey( TByteProcedure procedure ) {
+        byte[] keys = _set;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( ! procedure.execute( keys[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachValue( TByteProcedure procedure ) {
+        byte[] values = _values;
+        for ( int i = 0; i < values.length; i++ ) {
+            if ( ! procedure.execute( values[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachEntry( TByteByteProcedure procedure ) {
+        byte[] keys = _set;
+        byte[] values = _values;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( ! procedure.execute( keys[i], values[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TByteByteMap ) ) {
+            return false;
+        }
+        TByteByteMap that = ( TByteByteMap ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        byte[] values = _values;
+        byte that_no_entry_value = that.getNoEntryValue();
+        for ( int i = values.length; i-- > 0; ) {
+            byte that_value = that.get( _set[i] );
+            byte this_value = values[i];
+            if ( ( this_value != that_value ) &&
+                 ( this_value != no_entry_value ) &&
+                 ( that_value != that_no_entry_value ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public int hashCode() {
+        int hashcode = 0;
+        for ( int i = _values.length; i-- > 0; ) {
+            hashcode += HashFunctions.hash( _set[i] ) ^
+                        HashFunctions.hash( _values[i] );
+        }
+        return hashcode;
+    }
+
+
+    /** {@inheritDoc} */
+    public String toString() {
+        final StringBuilder buf = new StringBuilder( "{" );
+        forEachEntry( new TByteByteProcedure() {
+            private boolean first = true;
+            public boolean execute( byte key, byte value ) {
+                if ( first ) first = false;
+                else buf.append( ", " );
+
+                buf.append(key);
+                buf.append("=");
+                buf.append(value);
+                return true;
+            }
+        });
+        buf.append( "}" );
+        return buf.toString();
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // SUPER
+        super.writeExternal( out );
+
+        // NO_ENTRY_KEY and NO_ENTRY_VALUE
+        out.writeByte( no_entry_key );
+        out.writeByte( no_entry_value );
+
+        // VALUES, in the slots of their keys
+        for ( int i = 0; i < _values.length; i++ ) {
+            out.writeByte( _values[i] );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // SUPER
+        super.readExternal( in );
+
+        // NO_ENTRY_KEY and NO_ENTRY_VALUE
+        no_entry_key = in.readByte();
+        no_entry_value = in.readByte();
+
+        // VALUES
+        _values = new byte[ _set.length ];
+        for ( int i = 0; i < _values.length; i++ ) {
+            _values[i] = in.readByte();
+        }
+    }
+
+
+    class TByteByteFrozenHashIterator implements TByteByteIterator {
+        private int _index = -1;
+
+        /** {@inheritDoc} */
+        public boolean hasNext() {
+            return _index + 1 < _set.length;
+        }
+
+
+        /** {@inheritDoc} */
+        public void advance() {
+            if ( ! hasNext() ) {
+                throw new NoSuchElementException();
+            }
+            _index++;
+        }
+
+
+        /** {@inheritDoc} */
+        public byte key() {
+            return _set[_index];
+        }
+
+
+        /** {@inheritDoc} */
+        public byte value() {
+            return _values[_index];
+        }
+
+
+        public byte setValue( byte val ) { throw new UnsupportedOperationException(); }
+        public void remove() { throw new UnsupportedOperationException(); }
+    }
+} // TByteByteFrozenHashMap
@@ -0,0 +1,405 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+import gnu.trove.map.TByteCharMap;
+import gnu.trove.function.TCharFunction;
+import gnu.trove.procedure.*;
+import gnu.trove.set.*;
+import gnu.trove.set.hash.TByteFrozenHashSet;
+import gnu.trove.iterator.*;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.impl.hash.TByteFrozenHash;
+import gnu.trove.list.array.TCharArrayList;
+import gnu.trove.*;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.*;
+
+/**
+ * An immutable Map for byte keys and char values in a minimal perfect hash
+ * table (see {@link TByteFrozenHash}): one slot per entry, no free slots
+ * and no states array, and lookups that never probe and need no locking.
+ * Use it for tables that are built once and read many times: fill a
+ * {@link TByteCharHashMap} and call {@link TByteCharHashMap#freeze}, or pass
+ * any map to the constructor.  Like the maps returned by
+ * <tt>TCollections.unmodifiableMap()</tt>, the methods that would modify
+ * the map throw an <tt>UnsupportedOperationException</tt>.
+ */
+public class TByteCharFrozenHashMap extends TByteFrozenHash implements TByteCharMap {
+    static final long serialVersionUID = 1L;
+
+    /** the values of the map, in the slots of their keys */
+    protected transient char[] _values;
+
+    /** the value that represents null in the key set. */
+    protected byte no_entry_key;
+
+    /** the value that represents null in the value collection. */
+    protected char no_entry_value;
+
+
+    /**
+     * Creates an empty <code>TByteCharFrozenHashMap</code> instance.
+     */
+    public TByteCharFrozenHashMap() {
+        _values = new char[0];
+        no_entry_key = Constants.DEFAULT_BYTE_NO_ENTRY_VALUE;
+        no_entry_value = Constants.DEFAULT_CHAR_NO_ENTRY_VALUE;
+    }
+
+
+    /**
+     * Creates a new <code>TByteCharFrozenHashMap</code> instance containing
+     * all of the entries in the map passed in.
+     *
+     * @param map a <tt>TByteCharMap</tt> that will be duplicated.
+     */
+    public TByteCharFrozenHashMap( TByteCharMap map ) {
+        no_entry_key = map.getNoEntryKey();
+        no_entry_value = map.getNoEntryValue();
+
+        byte[] keys = new byte[ map.size() ];
+        char[] values = new char[ keys.length ];
+        int i = 0;
+        for ( TByteCharIterator it = map.iterator(); it.hasNext(); i++ ) {
+            it.advance();
+            keys[i] = it.key();
+            values[i] = it.value();
+        }
+
+        int[] slots = build( keys );
+        _values = new char[ keys.length ];
+        for ( i = 0; i < keys.length; i++ ) {
+            _values[ slots[i] ] = values[i];
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public byte getNoEntryKey() {
+        return no_entry_key;
+    }
+
+
+    /** {@inheritDoc} */
+    public char getNoEntryValue() {
+        return no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public char get( byte key ) {
+        int index = index( key );
+        return index < 0 ? no_entry_value : _values[index];
+    }
+
+
+    /** {@inheritDoc} */
+    public int getAll( byte[] keys, char[] values ) {
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            int index = index( keys[i] );
+            if ( index < 0 ) {
+                values[i] = no_entry_value;
+            }
+            else {
+                values[i] = _values[index];
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsKey( byte key ) {
+        return index( key ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public int containsKeys( byte[] keys, long[] found ) {
+        Arrays.fill( found, 0, ( keys.length + 63 ) >>> 6, 0L );
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( index( keys[i] ) >= 0 ) {
+                found[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsValue( char val ) {
+        char[] values = _values;
+        for ( int i = values.length; i-- > 0; ) {
+            if ( values[i] == val ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    public char put( byte key, char value ) { throw new UnsupportedOperationException(); }
+    public char putIfAbsent( byte key, char value ) { throw new UnsupportedOperationException(); }
+    public void putAll( Map<? extends Byte, ? extends Character> map ) { throw new UnsupportedOperationException(); }
+    public void putAll( TByteCharMap map ) { throw new UnsupportedOperationException(); }
+    public void putAll( byte[] keys, char[] values ) { throw new UnsupportedOperationException(); }
+    public char remove( byte key ) { throw new UnsupportedOperationException(); }
+    public void clear() { throw new UnsupportedOperationException(); }
+    public void transformValues( TCharFunction function ) { throw new UnsupportedOperationException(); }
+    public boolean retainEntries( TByteCharProcedure procedure ) { throw new UnsupportedOperationException(); }
+    public boolean increment( byte key ) { throw new UnsupportedOperationException(); }
+    public boolean adjustValue( byte key, char amount ) { throw new UnsupportedOperationException(); }
+    public char adjustOrPutValue( byte key, char adjust_amount, char put_amount ) { throw new UnsupportedOperationException(); }
+
+
+    /** {@inheritDoc} */
+    public TByteSet keySet() {
+        return new TByteFrozenHashSet( this, no_entry_key );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys() {
+        return _set.clone();
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys( byte[] array ) {
+        int size = _set.length;
+        if ( array.length < size ) {
+            array = new byte[ size ];
+        }
+        System.arraycopy( _set, 0, array, 0, size );
+        if ( array.length > size ) {
+            array[size] = no_entry_key;
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public TCharCollection valueCollection() {
+        return TCollections.unmodifiableCollection( TCharArrayList.wrap( _values, no_entry_value ) );
+    }
+
+
+    /** {@inheritDoc} */
+    public char[] values() {
+        return _values.clone();
+    }
+
+
+    /** {@inheritDoc} */
+    public char[] values( char[] array ) {
+        int size = _values.length;
+        if ( array.length < size ) {
+            array = new char[ size ];
+        }
+        System.arraycopy( _values, 0, array, 0, size );
+        if ( array.length > size ) {
+            array[size] = no_entry_value;
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteCharIterator iterator() {
+        return new TByteCharFrozenHashIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachKey( TByteProcedure procedure ) {
+        byte[] keys = _set;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( ! procedure.execute( keys[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachValue( TCharProcedure procedure ) {
+        char[] values = _values;
+        for ( int i = 0; i < values.length; i++ ) {
+            if ( ! procedure.execute( values[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachEntry( TByteCharProcedure procedure ) {
+        byte[] keys = _set;
+        char[] values = _values;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( ! procedure.execute( keys[i], values[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TByteCharMap ) ) {
+            return false;
+        }
+        TByteCharMap that = ( TByteCharMap ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        char[] values = _values;
+        char that_no_entry_value = that.getNoEntryValue();
+        for ( int i = values.length; i-- > 0; ) {
+            char that_value = that.get( _set[i] );
+            char this_value = values[i];
+            if ( ( this_value != that_value ) &&
+                 ( this_value != no_entry_value ) &&
+                 ( that_value != that_no_entry_value ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public int hashCode() {
+        int hashcode = 0;
+        for ( int i = _values.length; i-- > 0; ) {
+            hashcode += HashFunctions.hash( _set[i] ) ^
+                        HashFunctions.hash( _values[i] );
+        }
+        return hashcode;
+    }
+
+
+    /** {@inheritDoc} */
+    public String toString() {
+        final StringBuilder buf = new StringBuilder( "{" );
+        forEachEntry( new TByteCharProcedure() {
+            private boolean first = true;
+            public boolean execute( byte key, char value ) {
+                if ( first ) first = false;
+                else buf.append( ", " );
+
+                buf.append(key);
+                buf.append("=");
+                buf.append(value);
+                return true;
+            }
+        });
+        buf.append( "}" );
+        return buf.toString();
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // SUPER
+        super.writeExternal( out );
+
+        // NO_ENTRY_KEY and NO_ENTRY_VALUE
+        out.writeByte( no_entry_key );
+        out.writeChar( no_entry_value );
+
+        // VALUES, in the slots of their keys
+        for ( int i = 0; i < _values.length; i++ ) {
+            out.writeChar( _values[i] );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // SUPER
+        super.readExternal( in );
+
+        // NO_ENTRY_KEY and NO_ENTRY_VALUE
+        no_entry_key = in.readByte();
+        no_entry_value = in.readChar();
+
+        // VALUES
+        _values = new char[ _set.length ];
+        for ( int i = 0; i < _values.length; i++ ) {
+            _values[i] = in.readChar();
+        }
+    }
+
+
+    class TByteCharFrozenHashIterator implements TByteCharIterator {
+        private int _index = -1;
+
+        /** {@inheritDoc} */
+        public boolean hasNext() {
+            return _index + 1 < _set.length;
+        }
+
+
+        /** {@inheritDoc} */
+        public void advance() {
+            if ( ! hasNext() ) {
+                throw new NoSuchElementException();
+            }
+            _index++;
+        }
+
+
+        /** {@inheritDoc} */
+        public byte key() {
+            return _set[_index];
+        }
+
+
+        /** {@inheritDoc} */
+        public char value() {
+            return _values[_index];
+        }
+
+
+        public char setValue( char val ) { throw new UnsupportedOperationException(); }
+        public void remove() { throw new UnsupportedOperationException(); }
+    }
+} // TByteCharFrozenHashMap
@@ -0,0 +1,1566 @@
+///////////////////////////////////////////////////////////////////////////////
+// Copyright (c) 2001, Eric D. Friedman All Rights Reserved.
+// Copyright (c) 2009, Rob Eden All Rights Reserved.
+// Copyright (c) 2009, Jeff Randall All Rights Reserved.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+import gnu.trove.map.TByteFloatMap;
+import gnu.trove.function.TFloatFunction;
+import gnu.trove.procedure.*;
+import gnu.trove.set.*;
+import gnu.trove.iterator.*;
+import gnu.trove.iterator.hash.*;
+import gnu.trove.impl.hash.*;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.impl.io.BlockInput;
+import gnu.trove.impl.io.BlockOutput;
+import gnu.trove.strategy.HashMixer;
+import gnu.trove.strategy.ProbeStrategy;
+import gnu.trove.*;
+
+import java.io.*;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.*;
+
+/**
+ * An open addressed Map implementation for byte keys and float values.
+ *
+ * @author Eric D. Friedman
+ * @author Rob Eden
+ * @author Jeff Randall
+ * @version $Id: _K__V_HashMap.template,v 1.1.2.16 2010/03/02 04:09:50 robeden Exp $
+ */
+public class TByteFloatHashMap extends TByteFloatHash implements TByteFloatMap, Externalizable {
+    static final long serialVersionUID = 1L;
+
+    /** the values of the map */
+    protected transient float[] _values;
+
+
+    /**
+     * Creates a new <code>TByteFloatHashMap</code> instance with the default
+     * capacity and load factor.
+     */
+    public TByteFloatHashMap() {
+        super();
+    }
+
+
+    /**
+     * Creates a new <code>TByteFloatHashMap</code> instance with a prime
+     * capacity equal to or greater than <tt>initialCapacity</tt> and
+     * with the default load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     */
+    public TByteFloatHashMap( int initialCapacity ) {
+        super( initialCapacity );
+    }
+
+
+    /**
+     * Creates a new <code>TByteFloatHashMap</code> instance with a prime
+     * capacity equal to or greater than <tt>initialCapacity</tt> and
+     * with the specified load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     */
+    public TByteFloatHashMap( int initialCapacity, float loadFactor ) {
+        super( initialCapacity, loadFactor );
+    }
+
+
+    /**
+     * Creates a new <code>TByteFloatHashMap</code> instance with a prime
+     * capacity equal to or greater than <tt>initialCapacity</tt> and
+     * with the specified load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     * @param noEntryKey a <code>byte</code> value that represents
+     *                   <tt>null</tt> for the Key set.
+     * @param noEntryValue a <code>float</code> value that represents
+     *                   <tt>null</tt> for the Value set.
+     */
+    public TByteFloatHashMap( int initialCapacity, float loadFactor,
+        byte noEntryKey, float noEntryValue ) {
+        super( initialCapacity, loadFactor, noEntryKey, noEntryValue );
+    }
+
+
+    /**
+     * Creates a new <code>TByteFloatHashMap</code> instance containing
+     * all of the entries in the map passed in.
+     *
+     * @param keys a <tt>byte</tt> array containing the keys for the matching values.
+     * @param values a <tt>float</tt> array containing the values.
+     */
+    public TByteFloatHashMap( byte[] keys, float[] values ) {
+        super( Math.max( keys.length, values.length ) );
+
+        int size = Math.min( keys.length, values.length );
+        for ( int i = 0; i < size; i++ ) {
+            this.put( keys[i], values[i] );
+        }
+    }
+
+
+    /**
+     * Creates a new <code>TByteFloatHashMap</code> instance containing
+     * all of the entries in the map passed in.
+     *
+     * @param map a <tt>TByteFloatMap</tt> that will be duplicated.
+     */
+    public TByteFloatHashMap( TByteFloatMap map ) {
+        super( map.size() );
+        if ( map instanceof TByteFloatHashMap ) {
+            TByteFloatHashMap hashmap = ( TByteFloatHashMap ) map;
+            this._loadFactor = hashmap._loadFactor;
+            this.no_entry_key = hashmap.no_entry_key;
+            this.no_entry_value = hashmap.no_entry_value;
+            //noinspection RedundantCast
+            if ( this.no_entry_key != ( byte ) 0 ) {
+                Arrays.fill( _set, this.no_entry_key );
+            }
+            //noinspection RedundantCast
+            if ( this.no_entry_value != ( float ) 0 ) {
+                Arrays.fill( _values, this.no_entry_value );
+            }
+            setUp( (int) Math.ceil( DEFAULT_CAPACITY / _loadFactor ) );
+        }
+        putAll( map );
+    }
+
+
+    /**
+     * initializes the hashtable to a prime capacity which is at least
+     * <tt>initialCapacity + 1</tt>.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @return the actual capacity chosen
+     */
+    protected int setUp( int initialCapacity ) {
+        int capacity;
+
+        capacity = super.setUp( initialCapacity );
+        _values = new float[capacity];
+        return capacity;
+    }
+
+
+    /**
+     * rehashes the map to the new capacity.
+     *
+     * @param newCapacity an <code>int</code> value
+     */
+     /** {@inheritDoc} */
+    protected void rehash( int newCapacity ) {
+        int oldCapacity = _set.length;
+        
+        byte oldKeys[] = _set;
+        float oldVals[] = _values;
+        byte oldStates[] = _states;
+
+        _set = new byte[newCapacity];
+        _values = new float[newCapacity];
+        _states = new byte[newCapacity];
+
+        for ( int i = oldCapacity; i-- > 0; ) {
+            if( oldStates[i] == FULL ) {
+                byte o = oldKeys[i];
+                int index = insertKey( o );
+                _values[index] = oldVals[i];
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean supportsIncrementalRehash() {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected THash detachTable( int newCapacity ) {
+        TByteFloatHashMap old =
+            new TByteFloatHashMap( 0, _loadFactor, no_entry_key, no_entry_value );
+        old._set = _set;
+        old._values = _values;
+        old._states = _states;
+
+        _set = new byte[newCapacity];
+        _values = new float[newCapacity];
+        _states = new byte[newCapacity];
+        return old;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void migrateSlot( THash table, int index ) {
+        TByteFloatHashMap old = ( TByteFloatHashMap ) table;
+        if ( old._states[index] != FULL ) {
+            return;
+        }
+        byte key = old._set[index];
+        float value = old._values[index];
+        old._states[index] = REMOVED;
+        old._size--;
+
+        index = insertKey( key );
+        _values[index] = value;
+        postMigrateHook( consumeFreeSlot );
+    }
+
+
+    /** {@inheritDoc} */
+    public float put( byte key, float value ) {
+        int index = insertKey( key );
+        return doPut( key, value, index );
+    }
+
+
+    /** {@inheritDoc} */
+    public float putIfAbsent( byte key, float value ) {
+        int index = insertKey( key );
+        if (index < 0)
+            return _values[-index - 1];
+        return doPut( key, value, index );
+    }
+
+
+    private float doPut( byte key, float value, int index ) {
+        float previous = no_entry_value;
+        boolean isNewMapping = true;
+        if ( index < 0 ) {
+            index = -index -1;
+            previous = _values[index];
+            isNewMapping = false;
+        }
+        _values[index] = value;
+
+        if (isNewMapping) {
+            postInsertHook( consumeFreeSlot );
+        }
+
+        return previous;
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( Map<? extends Byte, ? extends Float> map ) {
+        ensureCapacity( map.size() );
+        // could optimize this for cases when map instanceof THashMap
+        for ( Map.Entry<? extends Byte, ? extends Float> entry : map.entrySet() ) {
+            this.put( entry.getKey().byteValue(), entry.getValue().floatValue() );
+        }
+    }
+    
+
+    /** {@inheritDoc} */
+    public void putAll( TByteFloatMap map ) {
+        ensureCapacity( map.size() );
+        TByteFloatIterator iter = map.iterator();
+        while ( iter.hasNext() ) {
+            iter.advance();
+            this.put( iter.key(), iter.value() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( byte[] keys, float[] values ) {
+        ensureCapacity( keys.length );
+        for ( int i = 0; i < keys.length; i++ ) {
+            this.put( keys[i], values[i] );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public float get( byte key ) {
+        int index = index( key );
+        if ( index < 0 ) {
+            // the key may not have been migrated yet; a lookup leaves it there
+            return _draining == null ? no_entry_value : ( ( TByteFloatHashMap ) _draining ).get( key );
+        }
+        return _values[index];
+    }
+
+
+    /** {@inheritDoc} */
+    public int getAll( byte[] keys, float[] values ) {
+        return lookUpAll( keys, values, null );
+    }
+
+
+    /**
+     * Looks <tt>keys</tt> up in one pass that reads the state, key and value
+     * at the natural slot of each key before it tests any of them.  These
+     * reads don't wait on a branch, so the processor runs ahead into the
+     * following keys and their cache misses overlap.  Only keys that aren't
+     * at their natural slot take the probing path of {@link #index}.
+     */
+    private int lookUpAll( byte[] keys, float[] values, long[] found ) {
+        int count = 0;
+        if ( _draining != null ) {
+            // look in both tables of the incremental rehash, without migrating
+            TByteFloatHashMap old = ( TByteFloatHashMap ) _draining;
+            for ( int i = 0; i < keys.length; i++ ) {
+                int index = index( keys[i] );
+                float value;
+                if ( index >= 0 ) {
+                    value = _values[index];
+                }
+                else {
+                    index = old.index( keys[i] );
+                    value = index < 0 ? no_entry_value : old._values[index];
+                }
+                count += found( i, index, value, values, found );
+            }
+            return count;
+        }
+
+        final byte[] states = _states;
+        final byte[] set = _set;
+        final float[] vals = _values;
+        final int length = set.length;
+        for ( int i = 0; i < keys.length; i++ ) {
+            byte key = keys[i];
+            int index = indexFor( spread( hash( key ) ), length );
+            byte state = states[index];
+            byte stored = set[index];
+            float value = vals[index];
+            if ( state != FULL || !equals( key, stored ) ) {
+                index = state == FREE ? -1 : index( key );
+                value = index < 0 ? no_entry_value : vals[index];
+            }
+            count += found( i, index, value, values, found );
+        }
+        return count;
+    }
+
+
+    /**
+     * Records the outcome of looking up key <tt>i</tt> of a bulk lookup.
+     *
+     * @return 1 if the key was found at <tt>index</tt>, 0 if not.
+     */
+    private int found( int i, int index, float value, float[] values, long[] found ) {
+        if ( values != null ) {
+            values[i] = value;
+        }
+        if ( index < 0 ) {
+            return 0;
+        }
+        if ( found != null ) {
+            found[i >>> 6] |= 1L << i;
+        }
+        return 1;
+    }
+
+
+    /** {@inheritDoc} */
+    public void clear() {
+        super.clear();
+        Arrays.fill( _set, 0, _set.length, no_entry_key );
+        Arrays.fill( _values, 0, _values.length, no_entry_value );
+        Arrays.fill( _states, 0, _states.length, FREE );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+
+    /** {@inheritDoc} */
+    public float remove( byte key ) {
+        float prev = no_entry_value;
+        migrateKey( key );
+        int index = index( key );
+        if ( index >= 0 ) {
+            prev = _values[index];
+            removeAt( index );    // clear key,state; adjust size
+        }
+        return prev;
+    }
+
+
+    /** {@inheritDoc} */
+    protected void removeAt( int index ) {
+        _values[index] = no_entry_value;
+        super.removeAt( index );  // clear key, state; adjust size
+    }
+
+
+    /** {@inheritDoc} */
+    protected void moveEntry( int from, int to ) {
+        super.moveEntry( from, to );
+        _values[to] = _values[from];
+        _values[from] = no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteSet keySet() {
+        return new TKeyView();
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys() {
+        completeRehash();
+        byte[] keys = new byte[size()];
+        byte[] k = _set;
+        byte[] states = _states;
+
+        for ( int i = k.length, j = 0; i-- > 0; ) {
+          if ( states[i] == FULL ) {
+            keys[j++] = k[i];
+          }
+        }
+        return keys;
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys( byte[] array ) {
+        completeRehash();
+        int size = size();
+        if ( array.length < size ) {
+            array = new byte[size];
+        }
+
+        byte[] keys = _set;
+        byte[] states = _states;
+
+        for ( int i = keys.length, j = 0; i-- > 0; ) {
+          if ( states[i] == FULL ) {
+            array[j++] = keys[i];
+          }
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public TFloatCollection valueCollection() {
+        return new TValueView();
+    }
+
+
+    /** {@inheritDoc} */
+    public float[] values() {
+        completeRehash();
+        float[] vals = new float[size()];
+        float[] v = _values;
+        byte[] states = _states;
+
+        for ( int i = v.length, j = 0; i-- > 0; ) {
+          if ( states[i] == FULL ) {
+            vals[j++] = v[i];
+          }
+        }
+        return vals;
+    }
+
+
+    /** {@inheritDoc} */
+    public float[] values( float[] array ) {
+        completeRehash();
+        int size = size();
+        if ( array.length < size ) {
+            array = new float[size];
+        }
+
+        float[] v = _values;
+        byte[] states = _states;
+
+        for ( int i = v.length, j = 0; i-- > 0; ) {
+          if ( states[i] == FULL ) {
+            array[j++] = v[i];
+          }
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsValue( float val ) {
+        completeRehash();
+        byte[] states = _states;
+        float[] vals = _values;
+
+        for ( int i = vals.length; i-- > 0; ) {
+            if ( states[i] == FULL && val == vals[i] ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsKey( byte key ) {
+        return contains( key );
+    }
+
+
+    /** {@inheritDoc} */
+    public int containsKeys( byte[] keys, long[] found ) {
+        Arrays.fill( found, 0, ( keys.length + 63 ) >>> 6, 0L );
+        return lookUpAll( keys, null, found );
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteFloatIterator iterator() {
+        return new TByteFloatHashIterator( this );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachKey( TByteProcedure procedure ) {
+        return forEach( procedure );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachValue( TFloatProcedure procedure ) {
+        completeRehash();
+        byte[] states = _states;
+        float[] values = _values;
+        for ( int i = values.length; i-- > 0; ) {
+            if ( states[i] == FULL && ! procedure.execute( values[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachEntry( TByteFloatProcedure procedure ) {
+        completeRehash();
+        byte[] states = _states;
+        byte[] keys = _set;
+        float[] values = _values;
+        for ( int i = keys.length; i-- > 0; ) {
+            if ( states[i] == FULL && ! procedure.execute( keys[i], values[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public void transformValues( TFloatFunction function ) {
+        completeRehash();
+        byte[] states = _states;
+        float[] values = _values;
+        for ( int i = values.length; i-- > 0; ) {
+            if ( states[i] == FULL ) {
+                values[i] = function.execute( values[i] );
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean retainEntries( TByteFloatProcedure procedure ) {
+        completeRehash();
+        boolean modified = false;
+        byte[] states = _states;
+        byte[] keys = _set;
+        float[] values = _values;
+
+
+        // Temporarily disable compaction. This is a fix for bug #1738760
+        tempDisableAutoCompaction();
+        try {
+            for ( int i = keys.length; i-- > 0; ) {
+                if ( states[i] == FULL && ! procedure.execute( keys[i], values[i] ) ) {
+                    removeAt( i );
+                    modified = true;
+                }
+            }
+        }
+        finally {
+            reenableAutoCompaction( true );
+        }
+
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean increment( byte key ) {
+        return adjustValue( key, ( float ) 1 );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean adjustValue( byte key, float amount ) {
+        migrateKey( key );
+        int index = index( key );
+        if (index < 0) {
+            return false;
+        } else {
+            _values[index] += amount;
+            return true;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public float adjustOrPutValue( byte key, float adjust_amount, float put_amount ) {
+        int index = insertKey( key );
+        final boolean isNewMapping;
+        final float newValue;
+        if ( index < 0 ) {
+            index = -index -1;
+            newValue = ( _values[index] += adjust_amount );
+            isNewMapping = false;
+        } else {
+            newValue = ( _values[index] = put_amount );
+            isNewMapping = true;
+        }
+
+        byte previousState = _states[index];
+
+        if ( isNewMapping ) {
+            postInsertHook(consumeFreeSlot);
+        }
+
+        return newValue;
+    }
+
+
+    /** a view onto the keys of the map. */
+    protected class TKeyView implements TByteSet {
+
+        /** {@inheritDoc} */
+        public TByteIterator iterator() {
+            return new TByteFloatKeyHashIterator( TByteFloatHashMap.this );
+        }
+
+
+        /** {@inheritDoc} */
+        public byte getNoEntryValue() {
+            return no_entry_key;
+        }
+
+
+        /** {@inheritDoc} */
+        public int size() {
+            return TByteFloatHashMap.this.size();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean isEmpty() {
+            return 0 == TByteFloatHashMap.this.size();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean contains( byte entry ) {
+            return TByteFloatHashMap.this.contains( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public byte[] toArray() {
+            return TByteFloatHashMap.this.keys();
+        }
+
+
+        /** {@inheritDoc} */
+        public byte[] toArray( byte[] dest ) {
+            return TByteFloatHashMap.this.keys( dest );
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteFloatMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean add( byte entry ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean remove( byte entry ) {
+            return no_entry_value != TByteFloatHashMap.this.remove( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( Collection<?> collection ) {
+            for ( Object element : collection ) {
+                if ( element instanceof Byte ) {
+                    byte ele = ( ( Byte ) element ).byteValue();
+                    if ( ! TByteFloatHashMap.this.containsKey( ele ) ) {
+                        return false;
+                    }
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( TByteCollection collection ) {
+            TByteIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( ! TByteFloatHashMap.this.containsKey( iter.next() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( byte[] array ) {
+            for ( byte element : array ) {
+                if ( ! TByteFloatHashMap.this.contains( element ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteFloatMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( Collection<? extends Byte> collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteFloatMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( TByteCollection collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteFloatMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( byte[] array ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings({"SuspiciousMethodCalls"})
+        public boolean retainAll( Collection<?> collection ) {
+            boolean modified = false;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( Byte.valueOf ( iter.next() ) ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( TByteCollection collection ) {
+            if ( this == collection ) {
+                return false;
+            }
+            boolean modified = false;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( iter.next() ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( byte[] array ) {
+            completeRehash();
+            boolean changed = false;
+            Arrays.sort( array );
+            byte[] set = _set;
+            byte[] states = _states;
+
+            // Temporarily disable compaction. This is a fix for bug #1738760
+            tempDisableAutoCompaction();
+            try {
+                for ( int i = set.length; i-- > 0; ) {
+                    if ( states[i] == FULL && ( Arrays.binarySearch( array, set[i] ) < 0) ) {
+                        removeAt( i );
+                        changed = true;
+                    }
+                }
+            }
+            finally {
+                reenableAutoCompaction( true );
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( Collection<?> collection ) {
+            boolean changed = false;
+            for ( Object element : collection ) {
+                if ( element instanceof Byte ) {
+                    byte c = ( ( Byte ) element ).byteValue();
+                    if ( remove( c ) ) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( TByteCollection collection ) {
+            if ( this == collection ) {
+                clear();
+                return true;
+            }
+            boolean changed = false;
+            TByteIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                byte element = iter.next();
+                if ( remove( element ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( byte[] array ) {
+            boolean changed = false;
+            for ( int i = array.length; i-- > 0; ) {
+                if ( remove( array[i] ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public void clear() {
+            TByteFloatHashMap.this.clear();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean forEach( TByteProcedure procedure ) {
+            return TByteFloatHashMap.this.forEachKey( procedure );
+        }
+
+
+        @Override
+        public boolean equals( Object other ) {
+            if (! (other instanceof TByteSet)) {
+                return false;
+            }
+            final TByteSet that = ( TByteSet ) other;
+            if ( that.size() != this.size() ) {
+                return false;
+            }
+            completeRehash();
+            for ( int i = _states.length; i-- > 0; ) {
+                if ( _states[i] == FULL ) {
+                    if ( ! that.contains( _set[i] ) ) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+
+        @Override
+        public int hashCode() {
+            completeRehash();
+            int hashcode = 0;
+            for ( int i = _states.length; i-- > 0; ) {
+                if ( _states[i] == FULL ) {
+                    hashcode += HashFunctions.hash( _set[i] );
+                }
+            }
+            return hashcode;
+        }
+
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder( "{" );
+            forEachKey( new TByteProcedure() {
+                private boolean first = true;
+
+
+                public boolean execute( byte key ) {
+                    if ( first ) {
+                        first = false;
+                    } else {
+                        buf.append( ", " );
+                    }
+
+                    buf.append( key );
+                    return true;
+                }
+            } );
+            buf.append( "}" );
+            return buf.toString();
+        }
+    }
+
+
+    /** a view onto the values of the map. */
+    protected class TValueView implements TFloatCollection {
+
+        /** {@inheritDoc} */
+        public TFloatIterator iterator() {
+            return new TByteFloatValueHashIterator( TByteFloatHashMap.this );
+        }
+
+
+        /** {@inheritDoc} */
+        public float getNoEntryValue() {
+            return no_entry_value;
+        }
+
+
+        /** {@inheritDoc} */
+        public int size() {
+            return TByteFloatHashMap.this.size();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean isEmpty() {
+            return 0 == TByteFloatHashMap.this.size();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean contains( float entry ) {
+            return TByteFloatHashMap.this.containsValue( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public float[] toArray() {
+            return TByteFloatHashMap.this.values();
+        }
+
+
+        /** {@inheritDoc} */
+        public float[] toArray( float[] dest ) {
+            return TByteFloatHashMap.this.values( dest );
+        }
+
+
+
+        public boolean add( float entry ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean remove( float entry ) {
+            completeRehash();
+            float[] values = _values;
+            byte[] set = _set;
+
+            for ( int i = values.length; i-- > 0; ) {
+                if ( ( set[i] != FREE && set[i] != REMOVED ) && entry == values[i] ) {
+                    removeAt( i );
+                    return true;
+                }
+            }
+            return false;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( Collection<?> collection ) {
+            for ( Object element : collection ) {
+                if ( element instanceof Float ) {
+                    float ele = ( ( Float ) element ).floatValue();
+                    if ( ! TByteFloatHashMap.this.containsValue( ele ) ) {
+                        return false;
+                    }
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( TFloatCollection collection ) {
+            TFloatIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( ! TByteFloatHashMap.this.containsValue( iter.next() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( float[] array ) {
+            for ( float element : array ) {
+                if ( ! TByteFloatHashMap.this.containsValue( element ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( Collection<? extends Float> collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( TFloatCollection collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( float[] array ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings({"SuspiciousMethodCalls"})
+        public boolean retainAll( Collection<?> collection ) {
+            boolean modified = false;
+            TFloatIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( Float.valueOf ( iter.next() ) ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( TFloatCollection collection ) {
+            if ( this == collection ) {
+                return false;
+            }
+            boolean modified = false;
+            TFloatIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( iter.next() ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( float[] array ) {
+            completeRehash();
+            boolean changed = false;
+            Arrays.sort( array );
+            float[] values = _values;
+            byte[] states = _states;
+
+            // Temporarily disable compaction. This is a fix for bug #1738760
+            tempDisableAutoCompaction();
+            try {
+                for ( int i = values.length; i-- > 0; ) {
+                    if ( states[i] == FULL && ( Arrays.binarySearch( array, values[i] ) < 0) ) {
+                        removeAt( i );
+                        changed = true;
+                    }
+                }
+            }
+            finally {
+                reenableAutoCompaction( true );
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( Collection<?> collection ) {
+            boolean changed = false;
+            for ( Object element : collection ) {
+                if ( element instanceof Float ) {
+                    float c = ( ( Float ) element ).floatValue();
+                    if ( remove( c ) ) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( TFloatCollection collection ) {
+            if ( this == collection ) {
+                clear();
+                return true;
+            }
+            boolean changed = false;
+            TFloatIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                float element = iter.next();
+                if ( remove( element ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( float[] array ) {
+            boolean changed = false;
+            for ( int i = array.length; i-- > 0; ) {
+                if ( remove( array[i] ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public void clear() {
+            TByteFloatHashMap.this.clear();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean forEach( TFloatProcedure procedure ) {
+            return TByteFloatHashMap.this.forEachValue( procedure );
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder( "{" );
+            forEachValue( new TFloatProcedure() {
+                private boolean first = true;
+
+                public boolean execute( float value ) {
+                    if ( first ) {
+                        first = false;
+                    } else {
+                        buf.append( ", " );
+                    }
+
+                    buf.append( value );
+                    return true;
+                }
+            } );
+            buf.append( "}" );
+            return buf.toString();
+        }
+    }
+
+
+    class TByteFloatKeyHashIterator extends THashPrimitiveIterator implements TByteIterator {
+
+        /**
+         * Creates an iterator over the specified map
+         *
+         * @param hash the <tt>TPrimitiveHash</tt> we will be iterating over.
+         */
+        TByteFloatKeyHashIterator( TPrimitiveHash hash ) {
+            super( hash );
+        }
+
+        /** {@inheritDoc} */
+        public byte next() {
+            moveToNextIndex();
+            return _set[_index];
+        }
+
+        /** @{inheritDoc} */
+        public void remove() {
+            if ( _expectedSize != _hash.size() ) {
+                throw new ConcurrentModificationException();
+            }
+
+            // Disable auto compaction during the remove. This is a workaround for bug 1642768.
+            try {
+                _hash.tempDisableAutoCompaction();
+                TByteFloatHashMap.this.removeAt( _index );
+            }
+            finally {
+                _hash.reenableAutoCompaction( false );
+            }
+
+            _expectedSize--;
+        }
+    }
+
+
+   
+    class TByteFloatValueHashIterator extends THashPrimitiveIterator implements TFloatIterator {
+
+        /**
+         * Creates an iterator over the specified map
+         *
+         * @param hash the <tt>TPrimitiveHash</tt> we will be iterating over.
+         */
+        TByteFloatValueHashIterator( TPrimitiveHash hash ) {
+            super( hash );
+        }
+
+        /** {@inheritDoc} */
+        public float next() {
+            moveToNextIndex();
+            return _values[_index];
+        }
+
+        /** @{inheritDoc} */
+        public void remove() {
+            if ( _expectedSize != _hash.size() ) {
+                throw new ConcurrentModificationException();
+            }
+
+            // Disable auto compaction during the remove. This is a workaround for bug 1642768.
+            try {
+                _hash.tempDisableAutoCompaction();
+                TByteFloatHashMap.this.removeAt( _index );
+            }
+            finally {
+                _hash.reenableAutoCompaction( false );
+            }
+
+            _expectedSize--;
+        }
+    }
+
+
+    class TByteFloatHashIterator extends THashPrimitiveIterator implements TByteFloatIterator {
+
+        /**
+         * Creates an iterator over the specified map
+         *
+         * @param map the <tt>TByteFloatHashMap</tt> we will be iterating over.
+         */
+        TByteFloatHashIterator( TByteFloatHashMap map ) {
+            super( map );
+        }
+
+        /** {@inheritDoc} */
+        public void advance() {
+            moveToNextIndex();
+        }
+
+        /** {@inheritDoc} */
+        public byte key() {
+            return _set[_index];
+        }
+
+        /** {@inheritDoc} */
+        public float value() {
+            return _values[_index];
+        }
+
+        /** {@inheritDoc} */
+        public float setValue( float val ) {
+            float old = value();
+            _values[_index] = val;
+            return old;
+        }
+
+        /** @{inheritDoc} */
+        public void remove() {
+            if ( _expectedSize != _hash.size() ) {
+                throw new ConcurrentModificationException();
+            }
+            // Disable auto compaction during the remove. This is a workaround for bug 1642768.
+            try {
+                _hash.tempDisableAutoCompaction();
+                TByteFloatHashMap.this.removeAt( _index );
+            }
+            finally {
+                _hash.reenableAutoCompaction( false );
+            }
+            _expectedSize--;
+        }
+    }
+
+
+    /**
+     * Returns an immutable copy of this map in a minimal perfect hash
+     * table, which takes less memory and looks keys up without probing.
+     *
+     * @return a <tt>TByteFloatFrozenHashMap</tt> with the entries of this map
+     */
+    public TByteFloatFrozenHashMap freeze() {
+        return new TByteFloatFrozenHashMap( this );
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TByteFloatMap ) ) {
+            return false;
+        }
+        TByteFloatMap that = ( TByteFloatMap ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        completeRehash();
+        float[] values = _values;
+        byte[] states = _states;
+        float this_no_entry_value = getNoEntryValue();
+        float that_no_entry_value = that.getNoEntryValue();
+        for ( int i = values.length; i-- > 0; ) {
+            if ( states[i] == FULL ) {
+                byte key = _set[i];
+                float that_value = that.get( key );
+                float this_value = values[i];
+                if ( ( this_value != that_value ) &&
+                     ( this_value != this_no_entry_value ) &&
+                     ( that_value != that_no_entry_value ) ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        completeRehash();
+        int hashcode = 0;
+        byte[] states = _states;
+        for ( int i = _values.length; i-- > 0; ) {
+            if ( states[i] == FULL ) {
+                hashcode += HashFunctions.hash( _set[i] ) ^
+                            HashFunctions.hash( _values[i] );
+            }
+        }
+        return hashcode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder( "{" );
+        forEachEntry( new TByteFloatProcedure() {
+            private boolean first = true;
+            public boolean execute( byte key, float value ) {
+                if ( first ) first = false;
+                else buf.append( ", " );
+
+                buf.append(key);
+                buf.append("=");
+                buf.append(value);
+                return true;
+            }
+        });
+        buf.append( "}" );
+        return buf.toString();
+    }
+
+
+    /**
+     * Writes the map to <tt>channel</tt> in a compact block format that holds
+     * the hash table itself, copying its arrays in bulk.  The channel is not
+     * closed.
+     *
+     * @param channel the channel to write to.
+     * @see #readFrom
+     */
+    public void writeTo( WritableByteChannel channel ) throws IOException {
+        completeRehash();
+        BlockOutput out = new BlockOutput( channel );
+        out.writeHeader( 'M', "byte".charAt( 0 ), "float".charAt( 0 ) );
+
+        // NO ENTRY KEY AND VALUE
+        out.writeByte( no_entry_key );
+        out.writeFloat( no_entry_value );
+
+        // TABLE LAYOUT
+        out.writeBoolean( _powerOfTwo );
+        out.writeByte( ( byte ) _probeStrategy.ordinal() );
+        // the mixer, or -1 for a table laid out by a hashing strategy
+        out.writeByte( ( byte ) ( usesHashingStrategy() ? -1 : _hashMixer.ordinal() ) );
+        out.writeInt( _states.length );
+        out.writeInt( _size );
+        out.writeInt( _free );
+
+        // TABLE
+        out.write( _states, 0, _states.length );
+        out.write( _set, 0, _set.length );
+        out.write( _values, 0, _values.length );
+        out.flush();
+    }
+
+
+    /**
+     * Replaces the contents of the map with a map read from
+     * <tt>channel</tt>, as written by {@link #writeTo}.  If the table read
+     * has the capacity mode, probe strategy and hash mixer of this map and
+     * fits its load factor, its arrays are used as they are, without hashing any key;
+     * otherwise the entries are put one by one.  Only the bytes of the map
+     * are read from the channel.
+     *
+     * @param channel the channel to read from.
+     * @throws IOException if the channel can't be read or doesn't hold a
+     *         map of byte keys and float values.
+     */
+    public void readFrom( ReadableByteChannel channel ) throws IOException {
+        BlockInput in = new BlockInput( channel );
+        int version = in.readHeader( 'M', "byte".charAt( 0 ), "float".charAt( 0 ) );
+
+        // NO ENTRY KEY AND VALUE
+        byte no_key = in.readByte();
+        float no_value = in.readFloat();
+
+        // TABLE LAYOUT
+        boolean power_of_two = in.readBoolean();
+        ProbeStrategy strategy = ProbeStrategy.values()[ in.readByte() ];
+        byte mixer_id = version >= 2 ? in.readByte() : 0;
+        HashMixer mixer = mixer_id < 0 ? null : HashMixer.values()[ mixer_id ];
+        int capacity = in.readInt();
+        int size = in.readInt();
+        int free = in.readInt();
+
+        // TABLE
+        byte[] states = new byte[ capacity ];
+        in.read( states, 0, capacity );
+        byte[] keys = new byte[ capacity ];
+        in.read( keys, 0, capacity );
+        float[] values = new float[ capacity ];
+        in.read( values, 0, capacity );
+
+        no_entry_key = no_key;
+        no_entry_value = no_value;
+        clear();
+        if ( adoptTable( power_of_two, strategy, mixer, capacity, size, free ) ) {
+            _states = states;
+            _set = keys;
+            _values = values;
+        } else {
+            ensureCapacity( size );
+            for ( int i = capacity; i-- > 0; ) {
+                if ( states[i] == FULL ) {
+                    put( keys[i], values[i] );
+                }
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal(ObjectOutput out) throws IOException {
+        // VERSION
+    	out.writeByte( 0 );
+
+        // SUPER
+    	super.writeExternal( out );
+
+    	// NUMBER OF ENTRIES
+    	out.writeInt( _size );
+
+    	// ENTRIES
+    	for ( int i = _states.length; i-- > 0; ) {
+            if ( _states[i] == FULL ) {
+                out.writeByte( _set[i] );
+                out.writeFloat( _values[i] );
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        // VERSION
+    	in.readByte();
+
+        // SUPER
+    	super.readExternal( in );
+
+    	// NUMBER OF ENTRIES
+    	int size = in.readInt();
+    	setUp( size );
+
+    	// ENTRIES
+        while (size-- > 0) {
+            byte key = in.readByte();
+            float val = in.readFloat();
+            put(key, val);
+        }
+    }
+} // TByteFloatHashMap
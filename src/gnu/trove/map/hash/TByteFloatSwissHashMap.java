@@ -0,0 +1,1519 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+import gnu.trove.map.TByteFloatMap;
+import gnu.trove.function.TFloatFunction;
+import gnu.trove.procedure.*;
+import gnu.trove.set.*;
+import gnu.trove.iterator.*;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.*;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.*;
+
+/**
+ * An open addressed Map implementation for byte keys and float values that
+ * probes groups of eight slots at a time, which keeps lookups fast at load
+ * factors where the other tables slow down.  It defaults to a load factor
+ * of {@value #DEFAULT_LOAD_FACTOR}, against the 0.5 of
+ * {@link TByteFloatHashMap}, so it takes about half the memory for the same
+ * entries.
+ * <p/>
+ * Every slot has a control byte: EMPTY, DELETED, or for a FULL slot the
+ * low seven bits of the hash code of its key.  The control bytes of a
+ * group are packed into one <code>long</code>, so a single read and a few
+ * arithmetic operations on it find the slots of a group whose hash bits
+ * match those of a key, and whether the group has an EMPTY slot that ends
+ * the probe.  Keys are only compared in the matching slots, which on
+ * average is less than one slot per lookup.  The groups are probed in
+ * triangular order, which visits every group of the power of two sized
+ * table.
+ * <p/>
+ * Removals leave a DELETED marker unless the group of the slot has an
+ * EMPTY slot, in which case no probe ever went past the group and the
+ * slot becomes EMPTY again.  Entries never move after they are inserted
+ * until the table is rebuilt, which happens when it runs out of EMPTY
+ * slots: at twice the capacity if it is more than half full, otherwise at
+ * the same capacity to clear the markers.
+ */
+public class TByteFloatSwissHashMap implements TByteFloatMap, Externalizable {
+    static final long serialVersionUID = 1L;
+
+    /** the load factor tables use when none is given */
+    public static final float DEFAULT_LOAD_FACTOR = 0.875f;
+
+    /** the number of slots in a group, one control byte each */
+    protected static final int GROUP_SIZE = 8;
+
+    /** control byte of a slot that never held an entry since the last rebuild */
+    protected static final int EMPTY = 0x80;
+
+    /** control byte of a slot whose entry was removed */
+    protected static final int DELETED = 0xFE;
+
+    /** the smallest number of slots a table has: a single group */
+    protected static final int MIN_CAPACITY = GROUP_SIZE;
+
+    /** the largest number of slots a table may have */
+    protected static final int MAX_CAPACITY = 1 << 30;
+
+    /** the lowest bit of every control byte of a group */
+    private static final long LSB = 0x0101010101010101L;
+
+    /** the highest bit of every control byte of a group */
+    private static final long MSB = 0x8080808080808080L;
+
+    /** the control bytes, eight slots per group and a group per long */
+    protected transient long[] _ctrl;
+
+    /** the keys of the map */
+    protected transient byte[] _set;
+
+    /** the values of the map */
+    protected transient float[] _values;
+
+    /** the number of entries in the map */
+    protected transient int _size;
+
+    /** the number of EMPTY slots that may still be filled before a rebuild */
+    protected transient int _growthLeft;
+
+    /** the load above which the table grows */
+    protected float _loadFactor;
+
+    /** the value that represents null in the key set. */
+    protected byte no_entry_key;
+
+    /** the value that represents null in the value collection. */
+    protected float no_entry_value;
+
+
+    /**
+     * Creates a new <code>TByteFloatSwissHashMap</code> instance with the
+     * default capacity and load factor.
+     */
+    public TByteFloatSwissHashMap() {
+        this( Constants.DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR );
+    }
+
+
+    /**
+     * Creates a new <code>TByteFloatSwissHashMap</code> instance that holds
+     * <tt>initialCapacity</tt> entries without growing, with the default
+     * load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     */
+    public TByteFloatSwissHashMap( int initialCapacity ) {
+        this( initialCapacity, DEFAULT_LOAD_FACTOR );
+    }
+
+
+    /**
+     * Creates a new <code>TByteFloatSwissHashMap</code> instance that holds
+     * <tt>initialCapacity</tt> entries without growing, with the specified
+     * load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     */
+    public TByteFloatSwissHashMap( int initialCapacity, float loadFactor ) {
+        this( initialCapacity, loadFactor, Constants.DEFAULT_BYTE_NO_ENTRY_VALUE,
+            Constants.DEFAULT_FLOAT_NO_ENTRY_VALUE );
+    }
+
+
+    /**
+     * Creates a new <code>TByteFloatSwissHashMap</code> instance that holds
+     * <tt>initialCapacity</tt> entries without growing, with the specified
+     * load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     * @param noEntryKey a <code>byte</code> value that represents
+     *                   <tt>null</tt> for the Key set.
+     * @param noEntryValue a <code>float</code> value that represents
+     *                   <tt>null</tt> for the Value set.
+     */
+    public TByteFloatSwissHashMap( int initialCapacity, float loadFactor,
+        byte noEntryKey, float noEntryValue ) {
+
+        if ( !( loadFactor > 0 && loadFactor < 1 ) ) {
+            throw new IllegalArgumentException( "load factor must be in (0, 1): " + loadFactor );
+        }
+        _loadFactor = loadFactor;
+        no_entry_key = noEntryKey;
+        no_entry_value = noEntryValue;
+        setUp( capacityFor( Math.max( 1, initialCapacity ) ) );
+    }
+
+
+    /**
+     * Creates a new <code>TByteFloatSwissHashMap</code> instance containing
+     * all of the entries in the map passed in.
+     *
+     * @param map a <tt>TByteFloatMap</tt> that will be duplicated.
+     */
+    public TByteFloatSwissHashMap( TByteFloatMap map ) {
+        this( map.size(), DEFAULT_LOAD_FACTOR, map.getNoEntryKey(), map.getNoEntryValue() );
+        putAll( map );
+    }
+
+
+    /** Returns the number of entries a table of <tt>capacity</tt> slots holds. */
+    private int maxSize( int capacity ) {
+        return Math.min( capacity - 1, ( int ) ( capacity * _loadFactor ) );
+    }
+
+
+    /**
+     * Returns the smallest power of two capacity that holds <tt>size</tt>
+     * entries without exceeding the load factor.
+     */
+    protected int capacityFor( int size ) {
+        int capacity = MIN_CAPACITY;
+        while ( capacity < MAX_CAPACITY && maxSize( capacity ) < size ) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+
+    /**
+     * Allocates a table of <tt>capacity</tt> slots, all of them EMPTY.
+     *
+     * @param capacity a power of two, at least {@link #MIN_CAPACITY}.
+     */
+    private void setUp( int capacity ) {
+        _ctrl = new long[ capacity / GROUP_SIZE ];
+        Arrays.fill( _ctrl, MSB );      // EMPTY in every byte
+        _set = new byte[ capacity ];
+        _values = new float[ capacity ];
+        _growthLeft = maxSize( capacity ) - _size;
+    }
+
+
+    /**
+     * Returns the number of slots in the table.
+     *
+     * @return the physical capacity of the table.
+     */
+    public int capacity() {
+        return _set.length;
+    }
+
+
+    /**
+     * Grows the table, if necessary, so that <tt>desiredCapacity</tt> more
+     * entries fit without further growth.
+     *
+     * @param desiredCapacity an <code>int</code> value
+     */
+    public void ensureCapacity( int desiredCapacity ) {
+        int capacity = capacityFor( _size + desiredCapacity );
+        if ( capacity > _set.length ) {
+            rehash( capacity );
+        }
+    }
+
+
+    /** Returns the mixed hash code of <tt>key</tt>. */
+    private static int hash( byte key ) {
+        return HashFunctions.mix( HashFunctions.hash( key ) );
+    }
+
+
+    /**
+     * Returns the bytes of <tt>group</tt> that are equal to the low byte of
+     * <tt>pattern</tt>, which is repeated in every byte of it, as a mask
+     * with the high bit of each matching byte set.  A byte just above a
+     * matching one may show up as well, so matches have to be confirmed;
+     * only bytes of FULL slots ever match.
+     */
+    private static long match( long group, long pattern ) {
+        long x = group ^ pattern;
+        return ( x - LSB ) & ~x & MSB;
+    }
+
+
+    /** Returns the EMPTY bytes of <tt>group</tt> as a mask of high bits. */
+    private static long matchEmpty( long group ) {
+        return group & ( ~group << 6 ) & MSB;
+    }
+
+
+    /** Returns the EMPTY or DELETED bytes of <tt>group</tt> as a mask of high bits. */
+    private static long matchFree( long group ) {
+        return group & MSB;
+    }
+
+
+    /** Returns the FULL bytes of <tt>group</tt> as a mask of high bits. */
+    private static long matchFull( long group ) {
+        return ~group & MSB;
+    }
+
+
+    /** Returns the slot in group <tt>g</tt> of the lowest byte set in <tt>mask</tt>. */
+    private static int slot( int g, long mask ) {
+        return ( g << 3 ) + ( Long.numberOfTrailingZeros( mask ) >>> 3 );
+    }
+
+
+    private void setCtrl( int slot, int ctrl ) {
+        int shift = ( slot & 7 ) << 3;
+        long group = _ctrl[ slot >>> 3 ];
+        _ctrl[ slot >>> 3 ] = ( group & ~( 0xFFL << shift ) ) | ( ( long ) ctrl << shift );
+    }
+
+
+    private boolean isFull( int slot ) {
+        return ( _ctrl[ slot >>> 3 ] & ( 0x80L << ( ( slot & 7 ) << 3 ) ) ) == 0;
+    }
+
+
+    /**
+     * Locates the slot of <tt>key</tt>.
+     *
+     * @return the slot of the key, or -1 if it isn't in the map.
+     */
+    protected int index( byte key ) {
+        final int hash = hash( key );
+        final long pattern = LSB * ( hash & 0x7F );
+        final int mask = _ctrl.length - 1;
+        int g = ( hash >>> 7 ) & mask;
+        for ( int step = 1; ; g = ( g + step++ ) & mask ) {
+            final long group = _ctrl[ g ];
+            for ( long m = match( group, pattern ); m != 0; m &= m - 1 ) {
+                int slot = slot( g, m );
+                if ( _set[ slot ] == key ) {
+                    return slot;
+                }
+            }
+            if ( matchEmpty( group ) != 0 ) {
+                return -1;
+            }
+        }
+    }
+
+
+    /**
+     * Locates the slot at which <tt>key</tt> is stored or can be inserted.
+     *
+     * @return the slot of the key if it is in the map, otherwise
+     *         <tt>-slot - 1</tt> of the first EMPTY or DELETED slot of its
+     *         probe sequence.
+     */
+    protected int insertionIndex( byte key ) {
+        final int hash = hash( key );
+        final long pattern = LSB * ( hash & 0x7F );
+        final int mask = _ctrl.length - 1;
+        int free = -1;
+        int g = ( hash >>> 7 ) & mask;
+        for ( int step = 1; ; g = ( g + step++ ) & mask ) {
+            final long group = _ctrl[ g ];
+            for ( long m = match( group, pattern ); m != 0; m &= m - 1 ) {
+                int slot = slot( g, m );
+                if ( _set[ slot ] == key ) {
+                    return slot;
+                }
+            }
+            if ( free < 0 && matchFree( group ) != 0 ) {
+                free = slot( g, matchFree( group ) );
+            }
+            if ( matchEmpty( group ) != 0 ) {
+                return -free - 1;
+            }
+        }
+    }
+
+
+    /**
+     * Returns the first EMPTY or DELETED slot of the probe sequence of
+     * <tt>hash</tt>.
+     */
+    private int freeSlot( int hash ) {
+        final int mask = _ctrl.length - 1;
+        int g = ( hash >>> 7 ) & mask;
+        for ( int step = 1; ; g = ( g + step++ ) & mask ) {
+            long free = matchFree( _ctrl[ g ] );
+            if ( free != 0 ) {
+                return slot( g, free );
+            }
+        }
+    }
+
+
+    /**
+     * Stores a new entry in the slot <tt>-index - 1</tt> returned by
+     * {@link #insertionIndex}, rebuilding the table first if it would take
+     * the last EMPTY slot the load factor allows.
+     */
+    private void insertAt( int index, byte key, float value ) {
+        final int hash = hash( key );
+        int slot = -index - 1;
+        if ( _growthLeft == 0 && ! isDeleted( slot ) ) {
+            if ( _size >= maxSize( _set.length ) / 2 ) {
+                if ( _set.length == MAX_CAPACITY ) {
+                    throw new IllegalStateException( "table is full" );
+                }
+                rehash( _set.length << 1 );
+            }
+            else {
+                rehash( _set.length );
+            }
+            slot = freeSlot( hash );
+        }
+        if ( ! isDeleted( slot ) ) {
+            _growthLeft--;
+        }
+        setCtrl( slot, hash & 0x7F );
+        _set[ slot ] = key;
+        _values[ slot ] = value;
+        _size++;
+    }
+
+
+    private boolean isDeleted( int slot ) {
+        return ( ( _ctrl[ slot >>> 3 ] >>> ( ( slot & 7 ) << 3 ) ) & 0xFF ) == DELETED;
+    }
+
+
+    /**
+     * Moves every entry into a new table of <tt>newCapacity</tt> slots,
+     * which drops all DELETED markers.
+     *
+     * @param newCapacity a power of two.
+     */
+    protected void rehash( int newCapacity ) {
+        final long[] old_ctrl = _ctrl;
+        final byte[] old_keys = _set;
+        final float[] old_values = _values;
+
+        setUp( newCapacity );
+        for ( int g = 0; g < old_ctrl.length; g++ ) {
+            for ( long m = matchFull( old_ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                int i = slot( g, m );
+                byte key = old_keys[ i ];
+                int hash = hash( key );
+                int slot = freeSlot( hash );
+                setCtrl( slot, hash & 0x7F );
+                _set[ slot ] = key;
+                _values[ slot ] = old_values[ i ];
+            }
+        }
+    }
+
+
+    /**
+     * Removes the entry at <tt>slot</tt>.  The slot becomes EMPTY if its
+     * group has an EMPTY slot, as a group that was never full was never
+     * probed past; otherwise it becomes DELETED.
+     */
+    protected void removeAt( int slot ) {
+        if ( matchEmpty( _ctrl[ slot >>> 3 ] ) != 0 ) {
+            setCtrl( slot, EMPTY );
+            _growthLeft++;
+        }
+        else {
+            setCtrl( slot, DELETED );
+        }
+        _size--;
+    }
+
+
+    /** {@inheritDoc} */
+    public byte getNoEntryKey() {
+        return no_entry_key;
+    }
+
+
+    /** {@inheritDoc} */
+    public float getNoEntryValue() {
+        return no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public int size() {
+        return _size;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean isEmpty() {
+        return 0 == _size;
+    }
+
+
+    /** {@inheritDoc} */
+    public float put( byte key, float value ) {
+        int index = insertionIndex( key );
+        if ( index < 0 ) {
+            insertAt( index, key, value );
+            return no_entry_value;
+        }
+        float previous = _values[ index ];
+        _values[ index ] = value;
+        return previous;
+    }
+
+
+    /** {@inheritDoc} */
+    public float putIfAbsent( byte key, float value ) {
+        int index = insertionIndex( key );
+        if ( index < 0 ) {
+            insertAt( index, key, value );
+            return no_entry_value;
+        }
+        return _values[ index ];
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( Map<? extends Byte, ? extends Float> map ) {
+        ensureCapacity( map.size() );
+        // could optimize this for cases when map instanceof THashMap
+        for ( Map.Entry<? extends Byte, ? extends Float> entry : map.entrySet() ) {
+            this.put( entry.getKey().byteValue(), entry.getValue().floatValue() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( TByteFloatMap map ) {
+        ensureCapacity( map.size() );
+        TByteFloatIterator iter = map.iterator();
+        while ( iter.hasNext() ) {
+            iter.advance();
+            this.put( iter.key(), iter.value() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( byte[] keys, float[] values ) {
+        ensureCapacity( keys.length );
+        for ( int i = 0; i < keys.length; i++ ) {
+            this.put( keys[i], values[i] );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public float get( byte key ) {
+        int index = index( key );
+        return index < 0 ? no_entry_value : _values[ index ];
+    }
+
+
+    /** {@inheritDoc} */
+    public int getAll( byte[] keys, float[] values ) {
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            int index = index( keys[i] );
+            if ( index < 0 ) {
+                values[i] = no_entry_value;
+            }
+            else {
+                values[i] = _values[ index ];
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public void clear() {
+        Arrays.fill( _ctrl, MSB );
+        _size = 0;
+        _growthLeft = maxSize( _set.length );
+    }
+
+
+    /** {@inheritDoc} */
+    public float remove( byte key ) {
+        int index = index( key );
+        if ( index < 0 ) {
+            return no_entry_value;
+        }
+        float previous = _values[ index ];
+        removeAt( index );
+        return previous;
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteSet keySet() {
+        return new TKeyView();
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys() {
+        return keys( new byte[ _size ] );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys( byte[] array ) {
+        int size = size();
+        if ( array.length < size ) {
+            array = new byte[ size ];
+        }
+        int j = 0;
+        for ( int g = 0; g < _ctrl.length; g++ ) {
+            for ( long m = matchFull( _ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                array[ j++ ] = _set[ slot( g, m ) ];
+            }
+        }
+        if ( array.length > size ) {
+            array[ size ] = no_entry_key;
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public TFloatCollection valueCollection() {
+        return new TValueView();
+    }
+
+
+    /** {@inheritDoc} */
+    public float[] values() {
+        return values( new float[ _size ] );
+    }
+
+
+    /** {@inheritDoc} */
+    public float[] values( float[] array ) {
+        int size = size();
+        if ( array.length < size ) {
+            array = new float[ size ];
+        }
+        int j = 0;
+        for ( int g = 0; g < _ctrl.length; g++ ) {
+            for ( long m = matchFull( _ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                array[ j++ ] = _values[ slot( g, m ) ];
+            }
+        }
+        if ( array.length > size ) {
+            array[ size ] = no_entry_value;
+        }
+        return array;
+    }
+
+
+    /**
+     * Returns the slot of the first entry with value <tt>val</tt>.
+     *
+     * @return the slot, or -1 if no entry has the value.
+     */
+    private int valueIndex( float val ) {
+        for ( int g = 0; g < _ctrl.length; g++ ) {
+            for ( long m = matchFull( _ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                int slot = slot( g, m );
+                if ( val == _values[ slot ] ) {
+                    return slot;
+                }
+            }
+        }
+        return -1;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsValue( float val ) {
+        return valueIndex( val ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsKey( byte key ) {
+        return index( key ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public int containsKeys( byte[] keys, long[] found ) {
+        Arrays.fill( found, 0, ( keys.length + 63 ) >>> 6, 0L );
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( index( keys[i] ) >= 0 ) {
+                found[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteFloatIterator iterator() {
+        return new TByteFloatSwissIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachKey( TByteProcedure procedure ) {
+        for ( int g = 0; g < _ctrl.length; g++ ) {
+            for ( long m = matchFull( _ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                if ( ! procedure.execute( _set[ slot( g, m ) ] ) ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachValue( TFloatProcedure procedure ) {
+        for ( int g = 0; g < _ctrl.length; g++ ) {
+            for ( long m = matchFull( _ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                if ( ! procedure.execute( _values[ slot( g, m ) ] ) ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachEntry( TByteFloatProcedure procedure ) {
+        for ( int g = 0; g < _ctrl.length; g++ ) {
+            for ( long m = matchFull( _ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                int slot = slot( g, m );
+                if ( ! procedure.execute( _set[ slot ], _values[ slot ] ) ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public void transformValues( TFloatFunction function ) {
+        for ( int g = 0; g < _ctrl.length; g++ ) {
+            for ( long m = matchFull( _ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                int slot = slot( g, m );
+                _values[ slot ] = function.execute( _values[ slot ] );
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean retainEntries( TByteFloatProcedure procedure ) {
+        boolean modified = false;
+        for ( int g = 0; g < _ctrl.length; g++ ) {
+            // removals only touch the slots they remove
+            for ( long m = matchFull( _ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                int slot = slot( g, m );
+                if ( ! procedure.execute( _set[ slot ], _values[ slot ] ) ) {
+                    removeAt( slot );
+                    modified = true;
+                }
+            }
+        }
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean increment( byte key ) {
+        return adjustValue( key, ( float ) 1 );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean adjustValue( byte key, float amount ) {
+        int index = index( key );
+        if ( index < 0 ) {
+            return false;
+        }
+        _values[ index ] += amount;
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public float adjustOrPutValue( byte key, float adjust_amount, float put_amount ) {
+        int index = insertionIndex( key );
+        if ( index < 0 ) {
+            insertAt( index, key, put_amount );
+            return put_amount;
+        }
+        return _values[ index ] += adjust_amount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TByteFloatMap ) ) {
+            return false;
+        }
+        final TByteFloatMap that = ( TByteFloatMap ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        final float that_no_entry_value = that.getNoEntryValue();
+        return forEachEntry( new TByteFloatProcedure() {
+            public boolean execute( byte key, float this_value ) {
+                float that_value = that.get( key );
+                return this_value == that_value ||
+                       this_value == no_entry_value ||
+                       that_value == that_no_entry_value;
+            }
+        } );
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        int hashcode = 0;
+        for ( int g = 0; g < _ctrl.length; g++ ) {
+            for ( long m = matchFull( _ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                int slot = slot( g, m );
+                hashcode += HashFunctions.hash( _set[ slot ] ) ^
+                            HashFunctions.hash( _values[ slot ] );
+            }
+        }
+        return hashcode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder( "{" );
+        forEachEntry( new TByteFloatProcedure() {
+            private boolean first = true;
+            public boolean execute( byte key, float value ) {
+                if ( first ) first = false;
+                else buf.append( ", " );
+
+                buf.append(key);
+                buf.append("=");
+                buf.append(value);
+                return true;
+            }
+        });
+        buf.append( "}" );
+        return buf.toString();
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // LOAD FACTOR
+        out.writeFloat( _loadFactor );
+
+        // NO_ENTRY_KEY and NO_ENTRY_VALUE
+        out.writeByte( no_entry_key );
+        out.writeFloat( no_entry_value );
+
+        // NUMBER OF ENTRIES
+        out.writeInt( _size );
+
+        // ENTRIES
+        for ( int g = 0; g < _ctrl.length; g++ ) {
+            for ( long m = matchFull( _ctrl[ g ] ); m != 0; m &= m - 1 ) {
+                int slot = slot( g, m );
+                out.writeByte( _set[ slot ] );
+                out.writeFloat( _values[ slot ] );
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // LOAD FACTOR
+        _loadFactor = in.readFloat();
+
+        // NO_ENTRY_KEY and NO_ENTRY_VALUE
+        no_entry_key = in.readByte();
+        no_entry_value = in.readFloat();
+
+        // NUMBER OF ENTRIES
+        int size = in.readInt();
+        _size = 0;
+        setUp( capacityFor( size ) );
+
+        // ENTRIES
+        while ( size-- > 0 ) {
+            byte key = in.readByte();
+            float val = in.readFloat();
+            put( key, val );
+        }
+    }
+
+
+    /**
+     * Walks the slots of the table in order.  Removals don't move entries,
+     * so removal through the iterator is safe.
+     */
+    abstract class SwissSlotIterator {
+        private int _position = -1;
+        private int _expectedSize;
+        /** the slot of the entry last returned */
+        protected int _slot = -1;
+
+        SwissSlotIterator() {
+            _expectedSize = _size;
+        }
+
+
+        private int nextPosition() {
+            if ( _expectedSize != _size ) {
+                throw new ConcurrentModificationException();
+            }
+            int position = _position;
+            while ( ++position < _set.length && ! isFull( position ) ) {
+                ;
+            }
+            return position;
+        }
+
+
+        public boolean hasNext() {
+            return nextPosition() < _set.length;
+        }
+
+
+        protected final void moveToNextSlot() {
+            if ( ( _position = nextPosition() ) >= _set.length ) {
+                throw new NoSuchElementException();
+            }
+            _slot = _position;
+        }
+
+
+        public void remove() {
+            if ( _expectedSize != _size ) {
+                throw new ConcurrentModificationException();
+            }
+            if ( _slot < 0 || ! isFull( _slot ) ) {
+                throw new IllegalStateException();
+            }
+            removeAt( _slot );
+            _slot = -1;
+            _expectedSize--;
+        }
+    }
+
+
+    class TByteFloatSwissIterator extends SwissSlotIterator
+        implements TByteFloatIterator {
+
+        /** {@inheritDoc} */
+        public void advance() {
+            moveToNextSlot();
+        }
+
+
+        /** {@inheritDoc} */
+        public byte key() {
+            return _set[ _slot ];
+        }
+
+
+        /** {@inheritDoc} */
+        public float value() {
+            return _values[ _slot ];
+        }
+
+
+        /** {@inheritDoc} */
+        public float setValue( float val ) {
+            float old = value();
+            _values[ _slot ] = val;
+            return old;
+        }
+    }
+
+
+    class TByteSwissKeyIterator extends SwissSlotIterator
+        implements TByteIterator {
+
+        /** {@inheritDoc} */
+        public byte next() {
+            moveToNextSlot();
+            return _set[ _slot ];
+        }
+    }
+
+
+    class TFloatSwissValueIterator extends SwissSlotIterator
+        implements TFloatIterator {
+
+        /** {@inheritDoc} */
+        public float next() {
+            moveToNextSlot();
+            return _values[ _slot ];
+        }
+    }
+
+
+    /** a view onto the keys of the map. */
+    protected class TKeyView implements TByteSet {
+
+        /** {@inheritDoc} */
+        public TByteIterator iterator() {
+            return new TByteSwissKeyIterator();
+        }
+
+
+        /** {@inheritDoc} */
+        public byte getNoEntryValue() {
+            return no_entry_key;
+        }
+
+
+        /** {@inheritDoc} */
+        public int size() {
+            return _size;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean isEmpty() {
+            return 0 == _size;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean contains( byte entry ) {
+            return containsKey( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public byte[] toArray() {
+            return keys();
+        }
+
+
+        /** {@inheritDoc} */
+        public byte[] toArray( byte[] dest ) {
+            return keys( dest );
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteFloatMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean add( byte entry ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean remove( byte entry ) {
+            int index = index( entry );
+            if ( index < 0 ) {
+                return false;
+            }
+            removeAt( index );
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( Collection<?> collection ) {
+            for ( Object element : collection ) {
+                if ( !( element instanceof Byte )
+                    || ! containsKey( ( ( Byte ) element ).byteValue() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( TByteCollection collection ) {
+            TByteIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( ! containsKey( iter.next() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( byte[] array ) {
+            for ( byte element : array ) {
+                if ( ! containsKey( element ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteFloatMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( Collection<? extends Byte> collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteFloatMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( TByteCollection collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteFloatMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( byte[] array ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings({"SuspiciousMethodCalls"})
+        public boolean retainAll( Collection<?> collection ) {
+            boolean modified = false;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( Byte.valueOf( iter.next() ) ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( TByteCollection collection ) {
+            if ( this == collection ) {
+                return false;
+            }
+            boolean modified = false;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( iter.next() ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( byte[] array ) {
+            Arrays.sort( array );
+            boolean modified = false;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( Arrays.binarySearch( array, iter.next() ) < 0 ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( Collection<?> collection ) {
+            boolean changed = false;
+            for ( Object element : collection ) {
+                if ( element instanceof Byte ) {
+                    if ( remove( ( ( Byte ) element ).byteValue() ) ) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( TByteCollection collection ) {
+            if ( this == collection ) {
+                clear();
+                return true;
+            }
+            boolean changed = false;
+            TByteIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( remove( iter.next() ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( byte[] array ) {
+            boolean changed = false;
+            for ( int i = array.length; i-- > 0; ) {
+                if ( remove( array[i] ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public void clear() {
+            TByteFloatSwissHashMap.this.clear();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean forEach( TByteProcedure procedure ) {
+            return forEachKey( procedure );
+        }
+
+
+        @Override
+        public boolean equals( Object other ) {
+            if ( !( other instanceof TByteSet ) ) {
+                return false;
+            }
+            final TByteSet that = ( TByteSet ) other;
+            if ( that.size() != this.size() ) {
+                return false;
+            }
+            return forEachKey( new TByteProcedure() {
+                public boolean execute( byte key ) {
+                    return that.contains( key );
+                }
+            } );
+        }
+
+
+        @Override
+        public int hashCode() {
+            int hashcode = 0;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                hashcode += HashFunctions.hash( iter.next() );
+            }
+            return hashcode;
+        }
+
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder( "{" );
+            forEachKey( new TByteProcedure() {
+                private boolean first = true;
+
+
+                public boolean execute( byte key ) {
+                    if ( first ) {
+                        first = false;
+                    } else {
+                        buf.append( ", " );
+                    }
+
+                    buf.append( key );
+                    return true;
+                }
+            } );
+            buf.append( "}" );
+            return buf.toString();
+        }
+    }
+
+
+    /** a view onto the values of the map. */
+    protected class TValueView implements TFloatCollection {
+
+        /** {@inheritDoc} */
+        public TFloatIterator iterator() {
+            return new TFloatSwissValueIterator();
+        }
+
+
+        /** {@inheritDoc} */
+        public float getNoEntryValue() {
+            return no_entry_value;
+        }
+
+
+        /** {@inheritDoc} */
+        public int size() {
+            return _size;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean isEmpty() {
+            return 0 == _size;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean contains( float entry ) {
+            return containsValue( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public float[] toArray() {
+            return values();
+        }
+
+
+        /** {@inheritDoc} */
+        public float[] toArray( float[] dest ) {
+            return values( dest );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean add( float entry ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean remove( float entry ) {
+            int index = valueIndex( entry );
+            if ( index < 0 ) {
+                return false;
+            }
+            removeAt( index );
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( Collection<?> collection ) {
+            for ( Object element : collection ) {
+                if ( !( element instanceof Float )
+                    || ! containsValue( ( ( Float ) element ).floatValue() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( TFloatCollection collection ) {
+            TFloatIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( ! containsValue( iter.next() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( float[] array ) {
+            for ( float element : array ) {
+                if ( ! containsValue( element ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( Collection<? extends Float> collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( TFloatCollection collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( float[] array ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings({"SuspiciousMethodCalls"})
+        public boolean retainAll( Collection<?> collection ) {
+            boolean modified = false;
+            TFloatIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( Float.valueOf( iter.next() ) ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( TFloatCollection collection ) {
+            if ( this == collection ) {
+                return false;
+            }
+            boolean modified = false;
+            TFloatIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( iter.next() ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( float[] array ) {
+            Arrays.sort( array );
+            boolean modified = false;
+            TFloatIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( Arrays.binarySearch( array, iter.next() ) < 0 ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( Collection<?> collection ) {
+            boolean changed = false;
+            for ( Object element : collection ) {
+                if ( element instanceof Float ) {
+                    if ( remove( ( ( Float ) element ).floatValue() ) ) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( TFloatCollection collection ) {
+            if ( this == collection ) {
+                clear();
+                return true;
+            }
+            boolean changed = false;
+            TFloatIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( remove( iter.next() ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( float[] array ) {
+            boolean changed = false;
+            for ( int i = array.length; i-- > 0; ) {
+                if ( remove( array[i] ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public void clear() {
+            TByteFloatSwissHashMap.this.clear();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean forEach( TFloatProcedure procedure ) {
+            return forEachValue( procedure );
+        }
+
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder( "{" );
+            forEachValue( new TFloatProcedure() {
+                private boolean first = true;
+
+                public boolean execute( float value ) {
+                    if ( first ) {
+                        first = false;
+                    } else {
+                        buf.append( ", " );
+                    }
+
+                    buf.append( value );
+                    return true;
+                }
+            } );
+            buf.append( "}" );
+            return buf.toString();
+        }
+    }
+} // TByteFloatSwissHashMap
@@ -0,0 +1,1588 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+import gnu.trove.map.TByteCharMap;
+import gnu.trove.function.TCharFunction;
+import gnu.trove.procedure.*;
+import gnu.trove.set.*;
+import gnu.trove.iterator.*;
+import gnu.trove.list.*;
+import gnu.trove.list.array.*;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.impl.PrimitiveBits;
+import gnu.trove.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread safe Map implementation for byte keys and char values whose reads
+ * never lock.
+ * <p/>
+ * The keys are spread over segments by the high bits of their hash codes.
+ * Each segment is an open addressed table with linear probing, guarded by
+ * its own lock for writes, so writers only contend when they hit the same
+ * segment.  Reads don't lock at all: a slot is published by a volatile
+ * write of its state after its key and value are in place, a slot that
+ * once held a key never holds another one, and removals only mark slots as
+ * REMOVED.  Tables are replaced as a whole when they fill up with entries
+ * and removal markers.
+ * <p/>
+ * <tt>putIfAbsent</tt>, <tt>adjustValue</tt>, <tt>increment</tt> and
+ * <tt>adjustOrPutValue</tt> are atomic.  Bulk operations, iterators and
+ * views are weakly consistent: they see every entry that was in the map
+ * when they started and wasn't removed since, and may or may not see
+ * changes made while they run.  They never throw
+ * {@link ConcurrentModificationException}.
+ * <p/>
+ * Values are stored as the bits of a <tt>long</tt>, so every entry takes
+ * twelve bytes plus the size of its key.
+ */
+public class TConcurrentByteCharHashMap implements TByteCharMap {
+
+    /** the default number of segments */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private static final int FREE = 0;
+    private static final int FULL = 1;
+    private static final int REMOVED = 2;
+
+    /** the largest number of slots of a segment */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** the segments, a power of two of them */
+    protected final Segment[] _segments;
+
+    /** the number of bits the hash is shifted by to select a segment */
+    private final int _segmentShift;
+
+    /** the load above which a segment grows */
+    protected final float _loadFactor;
+
+    /** the value that represents null in the key set. */
+    protected final byte no_entry_key;
+
+    /** the value that represents null in the value collection. */
+    protected final char no_entry_value;
+
+
+    /**
+     * Creates a new <code>TConcurrentByteCharHashMap</code> instance with the
+     * default capacity, load factor and concurrency level.
+     */
+    public TConcurrentByteCharHashMap() {
+        this( Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR );
+    }
+
+
+    /**
+     * Creates a new <code>TConcurrentByteCharHashMap</code> instance that holds
+     * <tt>initialCapacity</tt> entries without growing, with the default load
+     * factor and concurrency level.
+     *
+     * @param initialCapacity an <code>int</code> value
+     */
+    public TConcurrentByteCharHashMap( int initialCapacity ) {
+        this( initialCapacity, Constants.DEFAULT_LOAD_FACTOR );
+    }
+
+
+    /**
+     * Creates a new <code>TConcurrentByteCharHashMap</code> instance that holds
+     * <tt>initialCapacity</tt> entries without growing, with the specified
+     * load factor and the default concurrency level.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     */
+    public TConcurrentByteCharHashMap( int initialCapacity, float loadFactor ) {
+        this( initialCapacity, loadFactor, DEFAULT_CONCURRENCY_LEVEL );
+    }
+
+
+    /**
+     * Creates a new <code>TConcurrentByteCharHashMap</code> instance that holds
+     * <tt>initialCapacity</tt> entries without growing, with the specified
+     * load factor and concurrency level.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     * @param concurrencyLevel the number of threads expected to write to the
+     *                         map at the same time.
+     */
+    public TConcurrentByteCharHashMap( int initialCapacity, float loadFactor,
+        int concurrencyLevel ) {
+
+        this( initialCapacity, loadFactor, concurrencyLevel, ( byte ) 0, ( char ) 0 );
+    }
+
+
+    /**
+     * Creates a new <code>TConcurrentByteCharHashMap</code> instance that holds
+     * <tt>initialCapacity</tt> entries without growing, with the specified
+     * load factor and concurrency level.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     * @param concurrencyLevel the number of threads expected to write to the
+     *                         map at the same time.
+     * @param noEntryKey a <code>byte</code> value that represents
+     *                   <tt>null</tt> for the Key set.
+     * @param noEntryValue a <code>char</code> value that represents
+     *                   <tt>null</tt> for the Value set.
+     */
+    public TConcurrentByteCharHashMap( int initialCapacity, float loadFactor,
+        int concurrencyLevel, byte noEntryKey, char noEntryValue ) {
+
+        if ( !( loadFactor > 0 && loadFactor < 1 ) ) {
+            throw new IllegalArgumentException( "load factor must be in (0, 1): " + loadFactor );
+        }
+        if ( concurrencyLevel <= 0 ) {
+            throw new IllegalArgumentException( "concurrency level must be positive: "
+                + concurrencyLevel );
+        }
+        _loadFactor = loadFactor;
+        no_entry_key = noEntryKey;
+        no_entry_value = noEntryValue;
+
+        int segments = HashFunctions.nextPowerOfTwo( Math.min( concurrencyLevel, 1 << 16 ) );
+        _segmentShift = 32 - Integer.numberOfTrailingZeros( segments );
+        _segments = new Segment[ segments ];
+        int per_segment = ( int ) ( ( Math.max( 0L, initialCapacity ) + segments - 1 ) / segments );
+        for ( int i = 0; i < segments; i++ ) {
+            _segments[i] = new Segment( per_segment );
+        }
+    }
+
+
+    /**
+     * Creates a new <code>TConcurrentByteCharHashMap</code> instance containing
+     * all of the entries in the map passed in.
+     *
+     * @param map a <tt>TByteCharMap</tt> that will be duplicated.
+     */
+    public TConcurrentByteCharHashMap( TByteCharMap map ) {
+        this( map.size(), Constants.DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL,
+            map.getNoEntryKey(), map.getNoEntryValue() );
+        putAll( map );
+    }
+
+
+    private static int hash( byte key ) {
+        return HashFunctions.mix( HashFunctions.hash( key ) );
+    }
+
+
+    /**
+     * Returns the smallest power of two capacity that holds <tt>size</tt>
+     * entries without exceeding <tt>loadFactor</tt>, or
+     * {@link #MAX_CAPACITY} if none does.
+     */
+    static int capacityFor( long size, float loadFactor ) {
+        int capacity = 2;
+        while ( capacity < MAX_CAPACITY
+            && Math.min( capacity - 1, ( int ) ( capacity * loadFactor ) ) < size ) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+
+    private Segment segmentFor( int hash ) {
+        // the high bits pick the segment, the low bits the slot
+        return _segmentShift == 32 ? _segments[0] : _segments[ hash >>> _segmentShift ];
+    }
+
+
+    /**
+     * The table of a segment.  A slot is taken by writing the key and value
+     * first and then the state, which publishes them to readers.  The key of
+     * a slot never changes afterwards.
+     */
+    static final class Table {
+        final AtomicIntegerArray states;
+        final byte[] keys;
+        final AtomicLongArray values;
+        final int mask;
+        final int maxFill;
+
+        /** the number of REMOVED slots, guarded by the segment lock */
+        int removed;
+
+        Table( int capacity, float loadFactor ) {
+            states = new AtomicIntegerArray( capacity );
+            keys = new byte[ capacity ];
+            values = new AtomicLongArray( capacity );
+            mask = capacity - 1;
+            maxFill = Math.min( capacity - 1, ( int ) ( capacity * loadFactor ) );
+        }
+
+
+        int capacity() {
+            return mask + 1;
+        }
+
+
+        /**
+         * Returns the slot of <tt>key</tt>, or -1 if it isn't in the table.
+         * Safe to call without the lock.
+         */
+        int index( byte key, int hash ) {
+            for ( int i = hash & mask; ; i = ( i + 1 ) & mask ) {
+                int state = states.get( i );
+                if ( state == FREE ) {
+                    return -1;
+                }
+                if ( state == FULL && keys[i] == key ) {
+                    return i;
+                }
+            }
+        }
+
+
+        /**
+         * Returns the slot of <tt>key</tt>, or <tt>-slot - 1</tt> of the FREE
+         * slot it would be inserted at.  Must be called with the lock held.
+         */
+        int insertionIndex( byte key, int hash ) {
+            for ( int i = hash & mask; ; i = ( i + 1 ) & mask ) {
+                int state = states.get( i );
+                if ( state == FREE ) {
+                    return -i - 1;
+                }
+                if ( state == FULL && keys[i] == key ) {
+                    return i;
+                }
+            }
+        }
+
+
+        /** Fills the FREE slot <tt>index</tt> and publishes it. */
+        void fill( int index, byte key, long value ) {
+            keys[index] = key;
+            values.set( index, value );
+            states.set( index, FULL );
+        }
+    }
+
+
+    /**
+     * A part of the map with its own table and lock.  Writers hold the lock,
+     * readers only read the volatile table reference and the atomic arrays.
+     */
+    final class Segment extends ReentrantLock {
+        static final long serialVersionUID = 1L;
+
+        volatile Table _table;
+        volatile int _size;
+
+
+        Segment( int initialCapacity ) {
+            _table = new Table( capacityFor( initialCapacity, _loadFactor ), _loadFactor );
+        }
+
+
+        /**
+         * Returns the slot to insert a new key at, replacing the table first
+         * if taking another FREE slot would push it past its load factor.
+         * Must be called with the lock held.
+         *
+         * @throws IllegalStateException if the segment can't grow any further.
+         */
+        private int prepareInsert( byte key, int hash, int index ) {
+            Table table = _table;
+            if ( _size + table.removed + 1 <= table.maxFill ) {
+                return index;
+            }
+            int capacity = table.capacity();
+            // only purge the removal markers if there are enough of them to
+            // make it worth it, otherwise grow
+            if ( table.removed < table.maxFill / 4 || _size + 1 > table.maxFill ) {
+                if ( capacity < MAX_CAPACITY ) {
+                    capacity = Math.max( capacity << 1, capacityFor( _size + 1, _loadFactor ) );
+                }
+                else if ( _size + 1 > table.maxFill ) {
+                    throw new IllegalStateException( "segment is full" );
+                }
+            }
+            rehash( capacity );
+            return _table.insertionIndex( key, hash );
+        }
+
+
+        /** Replaces the table with one of <tt>capacity</tt> slots. */
+        void rehash( int capacity ) {
+            Table old = _table;
+            Table table = new Table( capacity, _loadFactor );
+            for ( int i = old.capacity(); i-- > 0; ) {
+                if ( old.states.get( i ) == FULL ) {
+                    byte key = old.keys[i];
+                    int j = hash( key ) & table.mask;
+                    while ( table.states.get( j ) != FREE ) {
+                        j = ( j + 1 ) & table.mask;
+                    }
+                    table.fill( j, key, old.values.get( i ) );
+                }
+            }
+            _table = table;
+        }
+
+
+        long get( byte key, int hash, long absent ) {
+            Table table = _table;
+            int index = table.index( key, hash );
+            return index < 0 ? absent : table.values.get( index );
+        }
+
+
+        /**
+         * Looks <tt>key</tt> up and stores its value, or <tt>absent</tt>, in
+         * <tt>values[i]</tt>.  The slot state and the value are read from the
+         * same table, so a concurrent rehash can't make them disagree.
+         *
+         * @return true if the key was found.
+         */
+        boolean get( byte key, int hash, char[] values, int i, char absent ) {
+            Table table = _table;
+            int index = table.index( key, hash );
+            if ( index < 0 ) {
+                values[i] = absent;
+                return false;
+            }
+            values[i] = PrimitiveBits.toChar( table.values.get( index ) );
+            return true;
+        }
+
+
+        /**
+         * Stores <tt>value</tt> for <tt>key</tt>.
+         *
+         * @param onlyIfAbsent true to keep the value of a present key.
+         * @return the previous value, or <tt>absent</tt> if there was none.
+         */
+        long put( byte key, int hash, long value, boolean onlyIfAbsent, long absent ) {
+            lock();
+            try {
+                Table table = _table;
+                int index = table.insertionIndex( key, hash );
+                if ( index >= 0 ) {
+                    long previous = table.values.get( index );
+                    if ( !onlyIfAbsent ) {
+                        table.values.set( index, value );
+                    }
+                    return previous;
+                }
+                index = prepareInsert( key, hash, index );
+                _table.fill( -index - 1, key, value );
+                _size++;
+                return absent;
+            }
+            finally {
+                unlock();
+            }
+        }
+
+
+        long remove( byte key, int hash, long absent ) {
+            lock();
+            try {
+                Table table = _table;
+                int index = table.index( key, hash );
+                if ( index < 0 ) {
+                    return absent;
+                }
+                long previous = table.values.get( index );
+                removeAt( table, index );
+                return previous;
+            }
+            finally {
+                unlock();
+            }
+        }
+
+
+        boolean removeKey( byte key, int hash ) {
+            lock();
+            try {
+                Table table = _table;
+                int index = table.index( key, hash );
+                if ( index < 0 ) {
+                    return false;
+                }
+                removeAt( table, index );
+                return true;
+            }
+            finally {
+                unlock();
+            }
+        }
+
+
+        /** Removes the entry at <tt>index</tt> of <tt>table</tt>; lock held. */
+        void removeAt( Table table, int index ) {
+            table.states.set( index, REMOVED );
+            table.removed++;
+            _size--;
+        }
+
+
+        boolean adjustValue( byte key, int hash, char amount ) {
+            lock();
+            try {
+                Table table = _table;
+                int index = table.index( key, hash );
+                if ( index < 0 ) {
+                    return false;
+                }
+                char value = PrimitiveBits.toChar( table.values.get( index ) );
+                table.values.set( index, PrimitiveBits.toBits( ( char ) ( value + amount ) ) );
+                return true;
+            }
+            finally {
+                unlock();
+            }
+        }
+
+
+        char adjustOrPutValue( byte key, int hash, char adjust_amount, char put_amount ) {
+            lock();
+            try {
+                Table table = _table;
+                int index = table.insertionIndex( key, hash );
+                if ( index >= 0 ) {
+                    char value = ( char ) ( PrimitiveBits.toChar( table.values.get( index ) )
+                        + adjust_amount );
+                    table.values.set( index, PrimitiveBits.toBits( value ) );
+                    return value;
+                }
+                index = prepareInsert( key, hash, index );
+                _table.fill( -index - 1, key, PrimitiveBits.toBits( put_amount ) );
+                _size++;
+                return put_amount;
+            }
+            finally {
+                unlock();
+            }
+        }
+
+
+        void clear() {
+            lock();
+            try {
+                _table = new Table( 2, _loadFactor );
+                _size = 0;
+            }
+            finally {
+                unlock();
+            }
+        }
+
+
+        void transformValues( TCharFunction function ) {
+            lock();
+            try {
+                Table table = _table;
+                for ( int i = table.capacity(); i-- > 0; ) {
+                    if ( table.states.get( i ) == FULL ) {
+                        char value = PrimitiveBits.toChar( table.values.get( i ) );
+                        table.values.set( i, PrimitiveBits.toBits( function.execute( value ) ) );
+                    }
+                }
+            }
+            finally {
+                unlock();
+            }
+        }
+
+
+        boolean retainEntries( TByteCharProcedure procedure ) {
+            boolean modified = false;
+            lock();
+            try {
+                Table table = _table;
+                for ( int i = table.capacity(); i-- > 0; ) {
+                    if ( table.states.get( i ) == FULL && ! procedure.execute( table.keys[i],
+                        PrimitiveBits.toChar( table.values.get( i ) ) ) ) {
+                        removeAt( table, i );
+                        modified = true;
+                    }
+                }
+            }
+            finally {
+                unlock();
+            }
+            return modified;
+        }
+
+
+        void ensureCapacity( int desiredCapacity ) {
+            lock();
+            try {
+                int capacity = capacityFor( ( long ) _size + desiredCapacity, _loadFactor );
+                if ( capacity > _table.capacity() ) {
+                    rehash( capacity );
+                }
+            }
+            finally {
+                unlock();
+            }
+        }
+    }
+
+
+    /**
+     * Grows the segments, if necessary, so that <tt>desiredCapacity</tt>
+     * more entries fit without further growth, assuming the keys are spread
+     * evenly.
+     *
+     * @param desiredCapacity an <code>int</code> value
+     */
+    public void ensureCapacity( int desiredCapacity ) {
+        int per_segment = ( int ) ( ( ( long ) desiredCapacity + _segments.length - 1 )
+            / _segments.length );
+        for ( Segment segment : _segments ) {
+            segment.ensureCapacity( per_segment );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public byte getNoEntryKey() {
+        return no_entry_key;
+    }
+
+
+    /** {@inheritDoc} */
+    public char getNoEntryValue() {
+        return no_entry_value;
+    }
+
+
+    /**
+     * Returns the number of entries in the map.  While other threads modify
+     * the map the result is only an estimate.
+     *
+     * @return the number of entries in the map.
+     */
+    public int size() {
+        long size = 0;
+        for ( Segment segment : _segments ) {
+            size += segment._size;
+        }
+        return ( int ) Math.min( size, Integer.MAX_VALUE );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean isEmpty() {
+        for ( Segment segment : _segments ) {
+            if ( segment._size != 0 ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public char put( byte key, char value ) {
+        int hash = hash( key );
+        return PrimitiveBits.toChar( segmentFor( hash ).put( key, hash,
+            PrimitiveBits.toBits( value ), false, PrimitiveBits.toBits( no_entry_value ) ) );
+    }
+
+
+    /**
+     * Puts <tt>value</tt> for <tt>key</tt> unless the key already has a
+     * value.  The check and the insertion are one atomic step.
+     * <p/>
+     * {@inheritDoc}
+     */
+    public char putIfAbsent( byte key, char value ) {
+        int hash = hash( key );
+        return PrimitiveBits.toChar( segmentFor( hash ).put( key, hash,
+            PrimitiveBits.toBits( value ), true, PrimitiveBits.toBits( no_entry_value ) ) );
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( Map<? extends Byte, ? extends Character> map ) {
+        ensureCapacity( map.size() );
+        for ( Map.Entry<? extends Byte, ? extends Character> entry : map.entrySet() ) {
+            this.put( entry.getKey().byteValue(), entry.getValue().charValue() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( TByteCharMap map ) {
+        ensureCapacity( map.size() );
+        TByteCharIterator iter = map.iterator();
+        while ( iter.hasNext() ) {
+            iter.advance();
+            this.put( iter.key(), iter.value() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( byte[] keys, char[] values ) {
+        ensureCapacity( keys.length );
+        for ( int i = 0; i < keys.length; i++ ) {
+            this.put( keys[i], values[i] );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public char get( byte key ) {
+        int hash = hash( key );
+        return PrimitiveBits.toChar( segmentFor( hash ).get( key, hash,
+            PrimitiveBits.toBits( no_entry_value ) ) );
+    }
+
+
+    /** {@inheritDoc} */
+    public int getAll( byte[] keys, char[] values ) {
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            int hash = hash( keys[i] );
+            if ( segmentFor( hash ).get( keys[i], hash, values, i, no_entry_value ) ) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public void clear() {
+        for ( Segment segment : _segments ) {
+            segment.clear();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public char remove( byte key ) {
+        int hash = hash( key );
+        return PrimitiveBits.toChar( segmentFor( hash ).remove( key, hash,
+            PrimitiveBits.toBits( no_entry_value ) ) );
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteSet keySet() {
+        return new TKeyView();
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys() {
+        return keys( new byte[ size() ] );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys( byte[] array ) {
+        TByteList keys = new TByteArrayList( Math.max( array.length, size() ) );
+        for ( Segment segment : _segments ) {
+            Table table = segment._table;
+            for ( int i = table.capacity(); i-- > 0; ) {
+                if ( table.states.get( i ) == FULL ) {
+                    keys.add( table.keys[i] );
+                }
+            }
+        }
+        return toArray( keys, array, no_entry_key );
+    }
+
+
+    private static byte[] toArray( TByteList list, byte[] array, byte no_entry ) {
+        int size = list.size();
+        if ( array.length < size ) {
+            array = new byte[ size ];
+        }
+        list.toArray( array, 0, size );
+        if ( array.length > size ) {
+            array[size] = no_entry;
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public TCharCollection valueCollection() {
+        return new TValueView();
+    }
+
+
+    /** {@inheritDoc} */
+    public char[] values() {
+        return values( new char[ size() ] );
+    }
+
+
+    /** {@inheritDoc} */
+    public char[] values( char[] array ) {
+        TCharList values = new TCharArrayList( Math.max( array.length, size() ) );
+        for ( Segment segment : _segments ) {
+            Table table = segment._table;
+            for ( int i = table.capacity(); i-- > 0; ) {
+                if ( table.states.get( i ) == FULL ) {
+                    values.add( PrimitiveBits.toChar( table.values.get( i ) ) );
+                }
+            }
+        }
+        int size = values.size();
+        if ( array.length < size ) {
+            array = new char[ size ];
+        }
+        values.toArray( array, 0, size );
+        if ( array.length > size ) {
+            array[size] = no_entry_value;
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsValue( final char val ) {
+        return ! forEachValue( new TCharProcedure() {
+            public boolean execute( char value ) {
+                return value != val;
+            }
+        } );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsKey( byte key ) {
+        int hash = hash( key );
+        return segmentFor( hash )._table.index( key, hash ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public int containsKeys( byte[] keys, long[] found ) {
+        Arrays.fill( found, 0, ( keys.length + 63 ) >>> 6, 0L );
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( containsKey( keys[i] ) ) {
+                found[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteCharIterator iterator() {
+        return new TConcurrentByteCharIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachKey( TByteProcedure procedure ) {
+        for ( Segment segment : _segments ) {
+            Table table = segment._table;
+            for ( int i = table.capacity(); i-- > 0; ) {
+                if ( table.states.get( i ) == FULL && ! procedure.execute( table.keys[i] ) ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachValue( TCharProcedure procedure ) {
+        for ( Segment segment : _segments ) {
+            Table table = segment._table;
+            for ( int i = table.capacity(); i-- > 0; ) {
+                if ( table.states.get( i ) == FULL
+                    && ! procedure.execute( PrimitiveBits.toChar( table.values.get( i ) ) ) ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachEntry( TByteCharProcedure procedure ) {
+        for ( Segment segment : _segments ) {
+            Table table = segment._table;
+            for ( int i = table.capacity(); i-- > 0; ) {
+                if ( table.states.get( i ) == FULL && ! procedure.execute( table.keys[i],
+                    PrimitiveBits.toChar( table.values.get( i ) ) ) ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Transforms the values of one segment at a time, each while holding the
+     * lock of the segment.
+     * <p/>
+     * {@inheritDoc}
+     */
+    public void transformValues( TCharFunction function ) {
+        for ( Segment segment : _segments ) {
+            segment.transformValues( function );
+        }
+    }
+
+
+    /**
+     * Checks the entries of one segment at a time, each while holding the
+     * lock of the segment.
+     * <p/>
+     * {@inheritDoc}
+     */
+    public boolean retainEntries( TByteCharProcedure procedure ) {
+        boolean modified = false;
+        for ( Segment segment : _segments ) {
+            if ( segment.retainEntries( procedure ) ) {
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean increment( byte key ) {
+        return adjustValue( key, ( char ) 1 );
+    }
+
+
+    /**
+     * Adds <tt>amount</tt> to the value of <tt>key</tt> as one atomic step.
+     * <p/>
+     * {@inheritDoc}
+     */
+    public boolean adjustValue( byte key, char amount ) {
+        int hash = hash( key );
+        return segmentFor( hash ).adjustValue( key, hash, amount );
+    }
+
+
+    /**
+     * Adjusts the value of <tt>key</tt>, or puts <tt>put_amount</tt> if the
+     * key has no value, as one atomic step.
+     * <p/>
+     * {@inheritDoc}
+     */
+    public char adjustOrPutValue( byte key, char adjust_amount, char put_amount ) {
+        int hash = hash( key );
+        return segmentFor( hash ).adjustOrPutValue( key, hash, adjust_amount, put_amount );
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TByteCharMap ) ) {
+            return false;
+        }
+        final TByteCharMap that = ( TByteCharMap ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        final char that_no_entry_value = that.getNoEntryValue();
+        return forEachEntry( new TByteCharProcedure() {
+            public boolean execute( byte key, char this_value ) {
+                char that_value = that.get( key );
+                return this_value == that_value ||
+                       this_value == no_entry_value ||
+                       that_value == that_no_entry_value;
+            }
+        } );
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        final int[] hashcode = new int[1];
+        forEachEntry( new TByteCharProcedure() {
+            public boolean execute( byte key, char value ) {
+                hashcode[0] += HashFunctions.hash( key ) ^ HashFunctions.hash( value );
+                return true;
+            }
+        } );
+        return hashcode[0];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder( "{" );
+        forEachEntry( new TByteCharProcedure() {
+            private boolean first = true;
+            public boolean execute( byte key, char value ) {
+                if ( first ) first = false;
+                else buf.append( ", " );
+
+                buf.append(key);
+                buf.append("=");
+                buf.append(value);
+                return true;
+            }
+        });
+        buf.append( "}" );
+        return buf.toString();
+    }
+
+
+    /**
+     * Walks the tables of the segments as they were when the walk reached
+     * them.  Removal goes through the map, and removes the key only if it
+     * still has a value.
+     */
+    abstract class ConcurrentSlotIterator {
+        private int _segment = 0;
+        /** the table and slot of the next entry, or a null table at the end */
+        private Table _table = _segments[0]._table;
+        private int _index = _table.capacity();
+        /** the table and slot of the entry last returned */
+        protected Table _lastTable;
+        protected int _lastIndex = -1;
+
+
+        ConcurrentSlotIterator() {
+            findNext();
+        }
+
+
+        private void findNext() {
+            while ( _table != null ) {
+                while ( _index-- > 0 ) {
+                    if ( _table.states.get( _index ) == FULL ) {
+                        return;
+                    }
+                }
+                if ( ++_segment < _segments.length ) {
+                    _table = _segments[ _segment ]._table;
+                    _index = _table.capacity();
+                } else {
+                    _table = null;
+                }
+            }
+        }
+
+
+        public boolean hasNext() {
+            return _table != null;
+        }
+
+
+        protected final void moveToNextSlot() {
+            if ( _table == null ) {
+                throw new NoSuchElementException();
+            }
+            _lastTable = _table;
+            _lastIndex = _index;
+            findNext();
+        }
+
+
+        public void remove() {
+            if ( _lastIndex < 0 ) {
+                throw new IllegalStateException();
+            }
+            TConcurrentByteCharHashMap.this.remove( _lastTable.keys[ _lastIndex ] );
+            _lastIndex = -1;
+        }
+    }
+
+
+    class TConcurrentByteCharIterator extends ConcurrentSlotIterator
+        implements TByteCharIterator {
+
+        /** {@inheritDoc} */
+        public void advance() {
+            moveToNextSlot();
+        }
+
+
+        /** {@inheritDoc} */
+        public byte key() {
+            return _lastTable.keys[ _lastIndex ];
+        }
+
+
+        /**
+         * Returns the value the entry had when the iterator reached it.
+         * <p/>
+         * {@inheritDoc}
+         */
+        public char value() {
+            return PrimitiveBits.toChar( _lastTable.values.get( _lastIndex ) );
+        }
+
+
+        /**
+         * Puts <tt>val</tt> for the key of the entry through the map.
+         * <p/>
+         * {@inheritDoc}
+         */
+        public char setValue( char val ) {
+            return put( key(), val );
+        }
+    }
+
+
+    class TConcurrentByteKeyIterator extends ConcurrentSlotIterator
+        implements TByteIterator {
+
+        /** {@inheritDoc} */
+        public byte next() {
+            moveToNextSlot();
+            return _lastTable.keys[ _lastIndex ];
+        }
+    }
+
+
+    class TConcurrentCharValueIterator extends ConcurrentSlotIterator
+        implements TCharIterator {
+
+        /** {@inheritDoc} */
+        public char next() {
+            moveToNextSlot();
+            return PrimitiveBits.toChar( _lastTable.values.get( _lastIndex ) );
+        }
+    }
+
+
+    /** a view onto the keys of the map. */
+    protected class TKeyView implements TByteSet {
+
+        /** {@inheritDoc} */
+        public TByteIterator iterator() {
+            return new TConcurrentByteKeyIterator();
+        }
+
+
+        /** {@inheritDoc} */
+        public byte getNoEntryValue() {
+            return no_entry_key;
+        }
+
+
+        /** {@inheritDoc} */
+        public int size() {
+            return TConcurrentByteCharHashMap.this.size();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean isEmpty() {
+            return TConcurrentByteCharHashMap.this.isEmpty();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean contains( byte entry ) {
+            return containsKey( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public byte[] toArray() {
+            return keys();
+        }
+
+
+        /** {@inheritDoc} */
+        public byte[] toArray( byte[] dest ) {
+            return keys( dest );
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteCharMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean add( byte entry ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean remove( byte entry ) {
+            int hash = hash( entry );
+            return segmentFor( hash ).removeKey( entry, hash );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( Collection<?> collection ) {
+            for ( Object element : collection ) {
+                if ( !( element instanceof Byte )
+                    || ! containsKey( ( ( Byte ) element ).byteValue() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( TByteCollection collection ) {
+            TByteIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( ! containsKey( iter.next() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( byte[] array ) {
+            for ( byte element : array ) {
+                if ( ! containsKey( element ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteCharMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( Collection<? extends Byte> collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteCharMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( TByteCollection collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteCharMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( byte[] array ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings({"SuspiciousMethodCalls"})
+        public boolean retainAll( final Collection<?> collection ) {
+            return retainEntries( new TByteCharProcedure() {
+                public boolean execute( byte key, char value ) {
+                    return collection.contains( Byte.valueOf( key ) );
+                }
+            } );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( final TByteCollection collection ) {
+            if ( this == collection ) {
+                return false;
+            }
+            return retainEntries( new TByteCharProcedure() {
+                public boolean execute( byte key, char value ) {
+                    return collection.contains( key );
+                }
+            } );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( byte[] array ) {
+            final byte[] sorted = array.clone();
+            Arrays.sort( sorted );
+            return retainEntries( new TByteCharProcedure() {
+                public boolean execute( byte key, char value ) {
+                    return Arrays.binarySearch( sorted, key ) >= 0;
+                }
+            } );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( Collection<?> collection ) {
+            boolean changed = false;
+            for ( Object element : collection ) {
+                if ( element instanceof Byte ) {
+                    if ( remove( ( ( Byte ) element ).byteValue() ) ) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( TByteCollection collection ) {
+            if ( this == collection ) {
+                clear();
+                return true;
+            }
+            boolean changed = false;
+            TByteIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( remove( iter.next() ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( byte[] array ) {
+            boolean changed = false;
+            for ( int i = array.length; i-- > 0; ) {
+                if ( remove( array[i] ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public void clear() {
+            TConcurrentByteCharHashMap.this.clear();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean forEach( TByteProcedure procedure ) {
+            return forEachKey( procedure );
+        }
+
+
+        @Override
+        public boolean equals( Object other ) {
+            if ( !( other instanceof TByteSet ) ) {
+                return false;
+            }
+            final TByteSet that = ( TByteSet ) other;
+            if ( that.size() != this.size() ) {
+                return false;
+            }
+            return forEachKey( new TByteProcedure() {
+                public boolean execute( byte key ) {
+                    return that.contains( key );
+                }
+            } );
+        }
+
+
+        @Override
+        public int hashCode() {
+            int hashcode = 0;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                hashcode += HashFunctions.hash( iter.next() );
+            }
+            return hashcode;
+        }
+
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder( "{" );
+            forEachKey( new TByteProcedure() {
+                private boolean first = true;
+
+
+                public boolean execute( byte key ) {
+                    if ( first ) {
+                        first = false;
+                    } else {
+                        buf.append( ", " );
+                    }
+
+                    buf.append( key );
+                    return true;
+                }
+            } );
+            buf.append( "}" );
+            return buf.toString();
+        }
+    }
+
+
+    /** a view onto the values of the map. */
+    protected class TValueView implements TCharCollection {
+
+        /** {@inheritDoc} */
+        public TCharIterator iterator() {
+            return new TConcurrentCharValueIterator();
+        }
+
+
+        /** {@inheritDoc} */
+        public char getNoEntryValue() {
+            return no_entry_value;
+        }
+
+
+        /** {@inheritDoc} */
+        public int size() {
+            return TConcurrentByteCharHashMap.this.size();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean isEmpty() {
+            return TConcurrentByteCharHashMap.this.isEmpty();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean contains( char entry ) {
+            return containsValue( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public char[] toArray() {
+            return values();
+        }
+
+
+        /** {@inheritDoc} */
+        public char[] toArray( char[] dest ) {
+            return values( dest );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean add( char entry ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean remove( char entry ) {
+            TCharIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( iter.next() == entry ) {
+                    iter.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( Collection<?> collection ) {
+            for ( Object element : collection ) {
+                if ( !( element instanceof Character )
+                    || ! containsValue( ( ( Character ) element ).charValue() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( TCharCollection collection ) {
+            TCharIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( ! containsValue( iter.next() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( char[] array ) {
+            for ( char element : array ) {
+                if ( ! containsValue( element ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( Collection<? extends Character> collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( TCharCollection collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( char[] array ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings({"SuspiciousMethodCalls"})
+        public boolean retainAll( final Collection<?> collection ) {
+            return retainEntries( new TByteCharProcedure() {
+                public boolean execute( byte key, char value ) {
+                    return collection.contains( Character.valueOf( value ) );
+                }
+            } );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( final TCharCollection collection ) {
+            if ( this == collection ) {
+                return false;
+            }
+            return retainEntries( new TByteCharProcedure() {
+                public boolean execute( byte key, char value ) {
+                    return collection.contains( value );
+                }
+            } );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( char[] array ) {
+            final char[] sorted = array.clone();
+            Arrays.sort( sorted );
+            return retainEntries( new TByteCharProcedure() {
+                public boolean execute( byte key, char value ) {
+                    return Arrays.binarySearch( sorted, value ) >= 0;
+                }
+            } );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( Collection<?> collection ) {
+            boolean changed = false;
+            for ( Object element : collection ) {
+                if ( element instanceof Character ) {
+                    if ( remove( ( ( Character ) element ).charValue() ) ) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( TCharCollection collection ) {
+            if ( this == collection ) {
+                clear();
+                return true;
+            }
+            boolean changed = false;
+            TCharIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( remove( iter.next() ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( char[] array ) {
+            boolean changed = false;
+            for ( int i = array.length; i-- > 0; ) {
+                if ( remove( array[i] ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public void clear() {
+            TConcurrentByteCharHashMap.this.clear();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean forEach( TCharProcedure procedure ) {
+            return forEachValue( procedure );
+        }
+
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder( "{" );
+            forEachValue( new TCharProcedure() {
+                private boolean first = true;
+
+                public boolean execute( char value ) {
+                    if ( first ) {
+                        first = false;
+                    } else {
+                        buf.append( ", " );
+                    }
+
+                    buf.append( value );
+                    return true;
+                }
+            } );
+            buf.append( "}" );
+            return buf.toString();
+        }
+    }
+} // TConcurrentByteCharHashMap
@@ -389,6 +389,7 @@ public class TCustomHashMap<K, V> extends TCustomObjectHash<K>
         int oldSize = size();
         Object oldKeys[] = _set;
         V oldVals[] = _values;
+        int oldHashCodes[] = replaceHashCodes( newCapacity );
 
         _set = new Object[ newCapacity ];
         Arrays.fill( _set, FREE );
@@ -400,7 +401,7 @@ public class TCustomHashMap<K, V> extends TCustomObjectHash<K>
             Object o = oldKeys[ i ];
             if ( o == FREE || o == REMOVED ) continue;
 
-			int index = insertKey( ( K ) o );
+			int index = reinsertKey( ( K ) o, oldHashCodes, i );
 			if ( index < 0 ) {
 				throwObjectContractViolation( _set[ ( -index - 1 ) ], o, size(), oldSize, oldKeys);
 			}
@@ -467,6 +468,15 @@ public class TCustomHashMap<K, V> extends TCustomObjectHash<K>
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void moveEntry( int from, int to ) {
+        super.moveEntry( from, to );
+        _values[to] = _values[from];
+        _values[from] = null;
+    }
+
+
     /**
      * Returns a view on the values of the map.
      *
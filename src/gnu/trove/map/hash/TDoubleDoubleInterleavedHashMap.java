@@ -0,0 +1,1490 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+import gnu.trove.map.TDoubleDoubleMap;
+import gnu.trove.function.TDoubleFunction;
+import gnu.trove.procedure.*;
+import gnu.trove.set.*;
+import gnu.trove.iterator.*;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.*;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.*;
+
+/**
+ * An open addressed Map implementation for double keys and double values that
+ * keeps every key next to its value in a single <code>long</code> array, so
+ * a lookup that finds its key has the value in the same cache line.  A
+ * {@link TDoubleDoubleHashMap} keeps keys, values and slot states in three
+ * arrays, which costs a large table up to three cache misses per hit.
+ * <p/>
+ * There are no slot states either: the no entry key marks the free slots
+ * of the table, and an entry for the no entry key itself is kept outside
+ * of it.  The table has a power of two capacity and uses linear probing.
+ * Removals shift the following entries of a cluster back, so no removal
+ * markers are ever left behind and the table never needs compaction.
+ * <p/>
+ * Keys are told apart by their bits, so for floating point keys 0.0 and
+ * -0.0 are different keys and a NaN key can be found again.
+ */
+public class TDoubleDoubleInterleavedHashMap implements TDoubleDoubleMap, Externalizable {
+    static final long serialVersionUID = 1L;
+
+    /** the largest number of slots a table may have */
+    protected static final int MAX_CAPACITY = 1 << 29;
+
+    /** the bits of the key of each slot at 2 * slot, of its value at 2 * slot + 1 */
+    protected transient long[] _entries;
+
+    /** the number of slots, always a power of two */
+    protected transient int _capacity;
+
+    /** the number of entries in the table, not counting the no entry key */
+    protected transient int _size;
+
+    /** the number of entries the table holds before it grows */
+    protected transient int _maxSize;
+
+    /** whether the no entry key is a key of the map */
+    protected transient boolean _hasNoEntryKey;
+
+    /** the value of the no entry key, if it is a key of the map */
+    protected transient double _noEntryKeyValue;
+
+    /** the bits of the no entry key, which mark the free slots */
+    protected transient long _freeBits;
+
+    /** the load above which the table grows */
+    protected float _loadFactor;
+
+    /** the value that represents null in the key set. */
+    protected double no_entry_key;
+
+    /** the value that represents null in the value collection. */
+    protected double no_entry_value;
+
+
+    /**
+     * Creates a new <code>TDoubleDoubleInterleavedHashMap</code> instance with the
+     * default capacity and load factor.
+     */
+    public TDoubleDoubleInterleavedHashMap() {
+        this( Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR );
+    }
+
+
+    /**
+     * Creates a new <code>TDoubleDoubleInterleavedHashMap</code> instance that
+     * holds <tt>initialCapacity</tt> entries without growing, with the
+     * default load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     */
+    public TDoubleDoubleInterleavedHashMap( int initialCapacity ) {
+        this( initialCapacity, Constants.DEFAULT_LOAD_FACTOR );
+    }
+
+
+    /**
+     * Creates a new <code>TDoubleDoubleInterleavedHashMap</code> instance that
+     * holds <tt>initialCapacity</tt> entries without growing, with the
+     * specified load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     */
+    public TDoubleDoubleInterleavedHashMap( int initialCapacity, float loadFactor ) {
+        this( initialCapacity, loadFactor, Constants.DEFAULT_DOUBLE_NO_ENTRY_VALUE,
+            Constants.DEFAULT_DOUBLE_NO_ENTRY_VALUE );
+    }
+
+
+    /**
+     * Creates a new <code>TDoubleDoubleInterleavedHashMap</code> instance that
+     * holds <tt>initialCapacity</tt> entries without growing, with the
+     * specified load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     * @param noEntryKey a <code>double</code> value that represents
+     *                   <tt>null</tt> for the Key set.
+     * @param noEntryValue a <code>double</code> value that represents
+     *                   <tt>null</tt> for the Value set.
+     */
+    public TDoubleDoubleInterleavedHashMap( int initialCapacity, float loadFactor,
+        double noEntryKey, double noEntryValue ) {
+
+        if ( !( loadFactor > 0 && loadFactor < 1 ) ) {
+            throw new IllegalArgumentException( "load factor must be in (0, 1): " + loadFactor );
+        }
+        _loadFactor = loadFactor;
+        no_entry_key = noEntryKey;
+        no_entry_value = noEntryValue;
+        _freeBits = Double.doubleToRawLongBits( noEntryKey );
+        setUp( capacityFor( Math.max( 1, initialCapacity ) ) );
+    }
+
+
+    /**
+     * Creates a new <code>TDoubleDoubleInterleavedHashMap</code> instance
+     * containing all of the entries in the map passed in.
+     *
+     * @param map a <tt>TDoubleDoubleMap</tt> that will be duplicated.
+     */
+    public TDoubleDoubleInterleavedHashMap( TDoubleDoubleMap map ) {
+        this( map.size(), Constants.DEFAULT_LOAD_FACTOR,
+            map.getNoEntryKey(), map.getNoEntryValue() );
+        putAll( map );
+    }
+
+
+    /**
+     * Returns the smallest power of two capacity that holds <tt>size</tt>
+     * entries without exceeding the load factor.
+     */
+    protected int capacityFor( int size ) {
+        int capacity = 2;
+        while ( capacity < MAX_CAPACITY && capacity * _loadFactor < size ) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+
+    /**
+     * Allocates a table of <tt>capacity</tt> free slots.
+     *
+     * @param capacity a power of two.
+     */
+    private void setUp( int capacity ) {
+        _entries = new long[ capacity << 1 ];
+        _capacity = capacity;
+        _maxSize = Math.min( capacity - 1, ( int ) ( capacity * _loadFactor ) );
+        if ( _freeBits != 0 ) {
+            markFree();
+        }
+    }
+
+
+    private void markFree() {
+        final long[] entries = _entries;
+        final long free = _freeBits;
+        for ( int i = 0; i < entries.length; i += 2 ) {
+            entries[i] = free;
+        }
+    }
+
+
+    /**
+     * Returns the number of slots in the table.
+     *
+     * @return the physical capacity of the table.
+     */
+    public int capacity() {
+        return _capacity;
+    }
+
+
+    /**
+     * Grows the table, if necessary, so that <tt>desiredCapacity</tt> more
+     * entries fit without further growth.
+     *
+     * @param desiredCapacity an <code>int</code> value
+     */
+    public void ensureCapacity( int desiredCapacity ) {
+        int capacity = capacityFor( _size + desiredCapacity );
+        if ( capacity > _capacity ) {
+            rehash( capacity );
+        }
+    }
+
+
+    /** Returns the natural slot of the key with bits <tt>bits</tt>. */
+    private int slotFor( long bits ) {
+        return HashFunctions.mix( HashFunctions.hash( bits ) ) & ( _capacity - 1 );
+    }
+
+
+    /**
+     * Slot numbers run from 0 to the capacity, which stands for the entry
+     * of the no entry key outside the table.
+     */
+    private boolean isFull( int slot ) {
+        return slot == _capacity ? _hasNoEntryKey : _entries[ slot << 1 ] != _freeBits;
+    }
+
+
+    private double keyAt( int slot ) {
+        return slot == _capacity ? no_entry_key : Double.longBitsToDouble( _entries[ slot << 1 ] );
+    }
+
+
+    private double valueAt( int slot ) {
+        return slot == _capacity ? _noEntryKeyValue
+            : Double.longBitsToDouble( _entries[ ( slot << 1 ) + 1 ] );
+    }
+
+
+    private void setValueAt( int slot, double value ) {
+        if ( slot == _capacity ) {
+            _noEntryKeyValue = value;
+        }
+        else {
+            _entries[ ( slot << 1 ) + 1 ] = Double.doubleToRawLongBits( value );
+        }
+    }
+
+
+    /**
+     * Locates the slot of <tt>key</tt>.
+     *
+     * @return the slot of the key, or -1 if it isn't in the map.
+     */
+    protected int index( double key ) {
+        final long bits = Double.doubleToRawLongBits( key );
+        final long free = _freeBits;
+        if ( bits == free ) {
+            return _hasNoEntryKey ? _capacity : -1;
+        }
+        final long[] entries = _entries;
+        final int mask = _capacity - 1;
+        for ( int slot = slotFor( bits ); ; slot = ( slot + 1 ) & mask ) {
+            long cur = entries[ slot << 1 ];
+            if ( cur == bits ) {
+                return slot;
+            }
+            if ( cur == free ) {
+                return -1;
+            }
+        }
+    }
+
+
+    /**
+     * Locates the slot at which <tt>key</tt> is stored or can be inserted.
+     *
+     * @return the slot of the key if it is in the map, otherwise
+     *         <tt>-slot - 1</tt> of the free slot it belongs in.
+     */
+    protected int insertionIndex( double key ) {
+        final long bits = Double.doubleToRawLongBits( key );
+        final long free = _freeBits;
+        if ( bits == free ) {
+            return _hasNoEntryKey ? _capacity : -_capacity - 1;
+        }
+        final long[] entries = _entries;
+        final int mask = _capacity - 1;
+        for ( int slot = slotFor( bits ); ; slot = ( slot + 1 ) & mask ) {
+            long cur = entries[ slot << 1 ];
+            if ( cur == bits ) {
+                return slot;
+            }
+            if ( cur == free ) {
+                return -slot - 1;
+            }
+        }
+    }
+
+
+    /**
+     * Stores a new entry in the free slot <tt>-index - 1</tt> returned by
+     * {@link #insertionIndex} and grows the table if it is too full.
+     */
+    private void insertAt( int index, double key, double value ) {
+        int slot = -index - 1;
+        if ( slot == _capacity ) {
+            _hasNoEntryKey = true;
+            _noEntryKeyValue = value;
+            return;
+        }
+        if ( _size == _maxSize && _capacity == MAX_CAPACITY ) {
+            throw new IllegalStateException( "table is full" );
+        }
+        _entries[ slot << 1 ] = Double.doubleToRawLongBits( key );
+        _entries[ ( slot << 1 ) + 1 ] = Double.doubleToRawLongBits( value );
+        if ( ++_size > _maxSize ) {
+            rehash( _capacity << 1 );
+        }
+    }
+
+
+    /**
+     * Moves every entry into a new table of <tt>newCapacity</tt> slots.
+     *
+     * @param newCapacity a power of two.
+     */
+    protected void rehash( int newCapacity ) {
+        final long[] old_entries = _entries;
+        final long free = _freeBits;
+
+        setUp( newCapacity );
+        final long[] entries = _entries;
+        final int mask = newCapacity - 1;
+        for ( int i = 0; i < old_entries.length; i += 2 ) {
+            long bits = old_entries[i];
+            if ( bits != free ) {
+                int slot = slotFor( bits );
+                while ( entries[ slot << 1 ] != free ) {
+                    slot = ( slot + 1 ) & mask;
+                }
+                entries[ slot << 1 ] = bits;
+                entries[ ( slot << 1 ) + 1 ] = old_entries[ i + 1 ];
+            }
+        }
+    }
+
+
+    /**
+     * Removes the entry at <tt>slot</tt> by shifting the following entries
+     * of its cluster back until one of them would move before its natural
+     * slot.  Entries are only ever moved towards the start of their cluster.
+     */
+    protected void removeAt( int slot ) {
+        if ( slot == _capacity ) {
+            _hasNoEntryKey = false;
+            return;
+        }
+        final long[] entries = _entries;
+        final long free = _freeBits;
+        final int mask = _capacity - 1;
+        int gap = slot;
+        int next = slot;
+        while ( true ) {
+            next = ( next + 1 ) & mask;
+            long bits = entries[ next << 1 ];
+            if ( bits == free ) {
+                break;
+            }
+            // the entry can stay if its natural slot lies cyclically in (gap, next]
+            if ( ( ( next - slotFor( bits ) ) & mask ) < ( ( next - gap ) & mask ) ) {
+                continue;
+            }
+            entries[ gap << 1 ] = bits;
+            entries[ ( gap << 1 ) + 1 ] = entries[ ( next << 1 ) + 1 ];
+            gap = next;
+        }
+        entries[ gap << 1 ] = free;
+        _size--;
+    }
+
+
+    /**
+     * Returns a free slot, where a scan of the table can start and end.
+     * Clusters never span a free slot, so a scan that runs backwards from
+     * it sees the entries a removal moves before the slot they move into,
+     * which lets scans remove entries as they go.
+     */
+    private int scanStart() {
+        int slot = _capacity;
+        while ( _entries[ --slot << 1 ] != _freeBits ) {
+            ;
+        }
+        return slot;
+    }
+
+
+    /** {@inheritDoc} */
+    public double getNoEntryKey() {
+        return no_entry_key;
+    }
+
+
+    /** {@inheritDoc} */
+    public double getNoEntryValue() {
+        return no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public int size() {
+        return _hasNoEntryKey ? _size + 1 : _size;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+
+    /** {@inheritDoc} */
+    public double put( double key, double value ) {
+        int index = insertionIndex( key );
+        if ( index < 0 ) {
+            insertAt( index, key, value );
+            return no_entry_value;
+        }
+        double previous = valueAt( index );
+        setValueAt( index, value );
+        return previous;
+    }
+
+
+    /** {@inheritDoc} */
+    public double putIfAbsent( double key, double value ) {
+        int index = insertionIndex( key );
+        if ( index < 0 ) {
+            insertAt( index, key, value );
+            return no_entry_value;
+        }
+        return valueAt( index );
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( Map<? extends Double, ? extends Double> map ) {
+        ensureCapacity( map.size() );
+        // could optimize this for cases when map instanceof THashMap
+        for ( Map.Entry<? extends Double, ? extends Double> entry : map.entrySet() ) {
+            this.put( entry.getKey().doubleValue(), entry.getValue().doubleValue() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( TDoubleDoubleMap map ) {
+        ensureCapacity( map.size() );
+        TDoubleDoubleIterator iter = map.iterator();
+        while ( iter.hasNext() ) {
+            iter.advance();
+            this.put( iter.key(), iter.value() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( double[] keys, double[] values ) {
+        ensureCapacity( keys.length );
+        for ( int i = 0; i < keys.length; i++ ) {
+            this.put( keys[i], values[i] );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public double get( double key ) {
+        int index = index( key );
+        return index < 0 ? no_entry_value : valueAt( index );
+    }
+
+
+    /** {@inheritDoc} */
+    public int getAll( double[] keys, double[] values ) {
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            int index = index( keys[i] );
+            if ( index < 0 ) {
+                values[i] = no_entry_value;
+            }
+            else {
+                values[i] = valueAt( index );
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public void clear() {
+        if ( _freeBits != 0 ) {
+            markFree();
+        }
+        else {
+            Arrays.fill( _entries, ( long ) 0 );
+        }
+        _size = 0;
+        _hasNoEntryKey = false;
+    }
+
+
+    /** {@inheritDoc} */
+    public double remove( double key ) {
+        int index = index( key );
+        if ( index < 0 ) {
+            return no_entry_value;
+        }
+        double previous = valueAt( index );
+        removeAt( index );
+        return previous;
+    }
+
+
+    /** {@inheritDoc} */
+    public TDoubleSet keySet() {
+        return new TKeyView();
+    }
+
+
+    /** {@inheritDoc} */
+    public double[] keys() {
+        return keys( new double[ size() ] );
+    }
+
+
+    /** {@inheritDoc} */
+    public double[] keys( double[] array ) {
+        int size = size();
+        if ( array.length < size ) {
+            array = new double[ size ];
+        }
+        int j = 0;
+        for ( int slot = _capacity; slot >= 0; slot-- ) {
+            if ( isFull( slot ) ) {
+                array[j++] = keyAt( slot );
+            }
+        }
+        if ( array.length > size ) {
+            array[size] = no_entry_key;
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public TDoubleCollection valueCollection() {
+        return new TValueView();
+    }
+
+
+    /** {@inheritDoc} */
+    public double[] values() {
+        return values( new double[ size() ] );
+    }
+
+
+    /** {@inheritDoc} */
+    public double[] values( double[] array ) {
+        int size = size();
+        if ( array.length < size ) {
+            array = new double[ size ];
+        }
+        int j = 0;
+        for ( int slot = _capacity; slot >= 0; slot-- ) {
+            if ( isFull( slot ) ) {
+                array[j++] = valueAt( slot );
+            }
+        }
+        if ( array.length > size ) {
+            array[size] = no_entry_value;
+        }
+        return array;
+    }
+
+
+    /**
+     * Returns the slot of an entry with value <tt>val</tt>.
+     *
+     * @return the slot, or -1 if no entry has the value.
+     */
+    private int valueIndex( double val ) {
+        for ( int slot = _capacity; slot >= 0; slot-- ) {
+            if ( isFull( slot ) && val == valueAt( slot ) ) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsValue( double val ) {
+        return valueIndex( val ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsKey( double key ) {
+        return index( key ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public int containsKeys( double[] keys, long[] found ) {
+        Arrays.fill( found, 0, ( keys.length + 63 ) >>> 6, 0L );
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( index( keys[i] ) >= 0 ) {
+                found[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public TDoubleDoubleIterator iterator() {
+        return new TDoubleDoubleInterleavedIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachKey( TDoubleProcedure procedure ) {
+        for ( int slot = _capacity; slot >= 0; slot-- ) {
+            if ( isFull( slot ) && ! procedure.execute( keyAt( slot ) ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachValue( TDoubleProcedure procedure ) {
+        for ( int slot = _capacity; slot >= 0; slot-- ) {
+            if ( isFull( slot ) && ! procedure.execute( valueAt( slot ) ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachEntry( TDoubleDoubleProcedure procedure ) {
+        for ( int slot = _capacity; slot >= 0; slot-- ) {
+            if ( isFull( slot ) && ! procedure.execute( keyAt( slot ), valueAt( slot ) ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public void transformValues( TDoubleFunction function ) {
+        for ( int slot = _capacity; slot >= 0; slot-- ) {
+            if ( isFull( slot ) ) {
+                setValueAt( slot, function.execute( valueAt( slot ) ) );
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean retainEntries( TDoubleDoubleProcedure procedure ) {
+        boolean modified = false;
+        if ( _hasNoEntryKey && ! procedure.execute( no_entry_key, _noEntryKeyValue ) ) {
+            _hasNoEntryKey = false;
+            modified = true;
+        }
+        int slot = scanStart();
+        for ( int n = _capacity; n-- > 0; ) {
+            slot = ( slot - 1 ) & ( _capacity - 1 );
+            if ( isFull( slot ) && ! procedure.execute( keyAt( slot ), valueAt( slot ) ) ) {
+                removeAt( slot );
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean increment( double key ) {
+        return adjustValue( key, ( double ) 1 );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean adjustValue( double key, double amount ) {
+        int index = index( key );
+        if ( index < 0 ) {
+            return false;
+        }
+        setValueAt( index, ( double ) ( valueAt( index ) + amount ) );
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public double adjustOrPutValue( double key, double adjust_amount, double put_amount ) {
+        int index = insertionIndex( key );
+        if ( index < 0 ) {
+            insertAt( index, key, put_amount );
+            return put_amount;
+        }
+        double new_value = ( double ) ( valueAt( index ) + adjust_amount );
+        setValueAt( index, new_value );
+        return new_value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TDoubleDoubleMap ) ) {
+            return false;
+        }
+        final TDoubleDoubleMap that = ( TDoubleDoubleMap ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        final double that_no_entry_value = that.getNoEntryValue();
+        return forEachEntry( new TDoubleDoubleProcedure() {
+            public boolean execute( double key, double this_value ) {
+                double that_value = that.get( key );
+                return this_value == that_value ||
+                       this_value == no_entry_value ||
+                       that_value == that_no_entry_value;
+            }
+        } );
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        int hashcode = 0;
+        for ( int slot = _capacity; slot >= 0; slot-- ) {
+            if ( isFull( slot ) ) {
+                hashcode += HashFunctions.hash( keyAt( slot ) ) ^
+                            HashFunctions.hash( valueAt( slot ) );
+            }
+        }
+        return hashcode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder( "{" );
+        forEachEntry( new TDoubleDoubleProcedure() {
+            private boolean first = true;
+            public boolean execute( double key, double value ) {
+                if ( first ) first = false;
+                else buf.append( ", " );
+
+                buf.append(key);
+                buf.append("=");
+                buf.append(value);
+                return true;
+            }
+        });
+        buf.append( "}" );
+        return buf.toString();
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // LOAD FACTOR
+        out.writeFloat( _loadFactor );
+
+        // NO_ENTRY_KEY and NO_ENTRY_VALUE
+        out.writeDouble( no_entry_key );
+        out.writeDouble( no_entry_value );
+
+        // NUMBER OF ENTRIES
+        out.writeInt( size() );
+
+        // ENTRIES
+        for ( int slot = _capacity; slot >= 0; slot-- ) {
+            if ( isFull( slot ) ) {
+                out.writeDouble( keyAt( slot ) );
+                out.writeDouble( valueAt( slot ) );
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // LOAD FACTOR
+        _loadFactor = in.readFloat();
+
+        // NO_ENTRY_KEY and NO_ENTRY_VALUE
+        no_entry_key = in.readDouble();
+        no_entry_value = in.readDouble();
+        _freeBits = Double.doubleToRawLongBits( no_entry_key );
+
+        // NUMBER OF ENTRIES
+        int size = in.readInt();
+        _size = 0;
+        _hasNoEntryKey = false;
+        setUp( capacityFor( size ) );
+
+        // ENTRIES
+        while ( size-- > 0 ) {
+            double key = in.readDouble();
+            double val = in.readDouble();
+            put( key, val );
+        }
+    }
+
+
+    /**
+     * Returns the entry of the no entry key first, then walks the table
+     * backwards from a free slot, which keeps removal through the iterator
+     * safe (see {@link #scanStart}).
+     */
+    abstract class InterleavedSlotIterator {
+        private final int _start;
+        private int _position;
+        private int _expectedSize;
+        private boolean _noEntryKeyNext;
+        /** the slot of the entry last returned */
+        protected int _slot = -1;
+
+        InterleavedSlotIterator() {
+            _start = scanStart();
+            _position = _capacity;
+            _expectedSize = size();
+            _noEntryKeyNext = _hasNoEntryKey;
+        }
+
+
+        private int nextPosition() {
+            if ( _expectedSize != size() ) {
+                throw new ConcurrentModificationException();
+            }
+            final int mask = _capacity - 1;
+            int position = _position;
+            while ( position-- > 0 && ! isFull( ( _start + position ) & mask ) ) {
+                ;
+            }
+            return position;
+        }
+
+
+        public boolean hasNext() {
+            return _noEntryKeyNext || nextPosition() >= 0;
+        }
+
+
+        protected final void moveToNextSlot() {
+            if ( _noEntryKeyNext ) {
+                _noEntryKeyNext = false;
+                _slot = _capacity;
+                return;
+            }
+            if ( ( _position = nextPosition() ) < 0 ) {
+                throw new NoSuchElementException();
+            }
+            _slot = ( _start + _position ) & ( _capacity - 1 );
+        }
+
+
+        public void remove() {
+            if ( _expectedSize != size() ) {
+                throw new ConcurrentModificationException();
+            }
+            if ( _slot < 0 || ! isFull( _slot ) ) {
+                throw new IllegalStateException();
+            }
+            removeAt( _slot );
+            _slot = -1;
+            _expectedSize--;
+        }
+    }
+
+
+    class TDoubleDoubleInterleavedIterator extends InterleavedSlotIterator
+        implements TDoubleDoubleIterator {
+
+        /** {@inheritDoc} */
+        public void advance() {
+            moveToNextSlot();
+        }
+
+
+        /** {@inheritDoc} */
+        public double key() {
+            return keyAt( _slot );
+        }
+
+
+        /** {@inheritDoc} */
+        public double value() {
+            return valueAt( _slot );
+        }
+
+
+        /** {@inheritDoc} */
+        public double setValue( double val ) {
+            double old = value();
+            setValueAt( _slot, val );
+            return old;
+        }
+    }
+
+
+    class TDoubleInterleavedKeyIterator extends InterleavedSlotIterator
+        implements TDoubleIterator {
+
+        /** {@inheritDoc} */
+        public double next() {
+            moveToNextSlot();
+            return keyAt( _slot );
+        }
+    }
+
+
+    class TDoubleInterleavedValueIterator extends InterleavedSlotIterator
+        implements TDoubleIterator {
+
+        /** {@inheritDoc} */
+        public double next() {
+            moveToNextSlot();
+            return valueAt( _slot );
+        }
+    }
+
+
+    /** a view onto the keys of the map. */
+    protected class TKeyView implements TDoubleSet {
+
+        /** {@inheritDoc} */
+        public TDoubleIterator iterator() {
+            return new TDoubleInterleavedKeyIterator();
+        }
+
+
+        /** {@inheritDoc} */
+        public double getNoEntryValue() {
+            return no_entry_key;
+        }
+
+
+        /** {@inheritDoc} */
+        public int size() {
+            return TDoubleDoubleInterleavedHashMap.this.size();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean isEmpty() {
+            return TDoubleDoubleInterleavedHashMap.this.isEmpty();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean contains( double entry ) {
+            return containsKey( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public double[] toArray() {
+            return keys();
+        }
+
+
+        /** {@inheritDoc} */
+        public double[] toArray( double[] dest ) {
+            return keys( dest );
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TDoubleDoubleMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean add( double entry ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean remove( double entry ) {
+            int index = index( entry );
+            if ( index < 0 ) {
+                return false;
+            }
+            removeAt( index );
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( Collection<?> collection ) {
+            for ( Object element : collection ) {
+                if ( !( element instanceof Double )
+                    || ! containsKey( ( ( Double ) element ).doubleValue() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( TDoubleCollection collection ) {
+            TDoubleIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( ! containsKey( iter.next() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( double[] array ) {
+            for ( double element : array ) {
+                if ( ! containsKey( element ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TDoubleDoubleMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( Collection<? extends Double> collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TDoubleDoubleMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( TDoubleCollection collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TDoubleDoubleMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( double[] array ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings({"SuspiciousMethodCalls"})
+        public boolean retainAll( Collection<?> collection ) {
+            boolean modified = false;
+            TDoubleIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( Double.valueOf( iter.next() ) ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( TDoubleCollection collection ) {
+            if ( this == collection ) {
+                return false;
+            }
+            boolean modified = false;
+            TDoubleIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( iter.next() ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( double[] array ) {
+            Arrays.sort( array );
+            boolean modified = false;
+            TDoubleIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( Arrays.binarySearch( array, iter.next() ) < 0 ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( Collection<?> collection ) {
+            boolean changed = false;
+            for ( Object element : collection ) {
+                if ( element instanceof Double ) {
+                    if ( remove( ( ( Double ) element ).doubleValue() ) ) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( TDoubleCollection collection ) {
+            if ( this == collection ) {
+                clear();
+                return true;
+            }
+            boolean changed = false;
+            TDoubleIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( remove( iter.next() ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( double[] array ) {
+            boolean changed = false;
+            for ( int i = array.length; i-- > 0; ) {
+                if ( remove( array[i] ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public void clear() {
+            TDoubleDoubleInterleavedHashMap.this.clear();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean forEach( TDoubleProcedure procedure ) {
+            return forEachKey( procedure );
+        }
+
+
+        @Override
+        public boolean equals( Object other ) {
+            if ( !( other instanceof TDoubleSet ) ) {
+                return false;
+            }
+            final TDoubleSet that = ( TDoubleSet ) other;
+            if ( that.size() != this.size() ) {
+                return false;
+            }
+            return forEachKey( new TDoubleProcedure() {
+                public boolean execute( double key ) {
+                    return that.contains( key );
+                }
+            } );
+        }
+
+
+        @Override
+        public int hashCode() {
+            int hashcode = 0;
+            TDoubleIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                hashcode += HashFunctions.hash( iter.next() );
+            }
+            return hashcode;
+        }
+
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder( "{" );
+            forEachKey( new TDoubleProcedure() {
+                private boolean first = true;
+
+
+                public boolean execute( double key ) {
+                    if ( first ) {
+                        first = false;
+                    } else {
+                        buf.append( ", " );
+                    }
+
+                    buf.append( key );
+                    return true;
+                }
+            } );
+            buf.append( "}" );
+            return buf.toString();
+        }
+    }
+
+
+    /** a view onto the values of the map. */
+    protected class TValueView implements TDoubleCollection {
+
+        /** {@inheritDoc} */
+        public TDoubleIterator iterator() {
+            return new TDoubleInterleavedValueIterator();
+        }
+
+
+        /** {@inheritDoc} */
+        public double getNoEntryValue() {
+            return no_entry_value;
+        }
+
+
+        /** {@inheritDoc} */
+        public int size() {
+            return TDoubleDoubleInterleavedHashMap.this.size();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean isEmpty() {
+            return TDoubleDoubleInterleavedHashMap.this.isEmpty();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean contains( double entry ) {
+            return containsValue( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public double[] toArray() {
+            return values();
+        }
+
+
+        /** {@inheritDoc} */
+        public double[] toArray( double[] dest ) {
+            return values( dest );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean add( double entry ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean remove( double entry ) {
+            int index = valueIndex( entry );
+            if ( index < 0 ) {
+                return false;
+            }
+            removeAt( index );
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( Collection<?> collection ) {
+            for ( Object element : collection ) {
+                if ( !( element instanceof Double )
+                    || ! containsValue( ( ( Double ) element ).doubleValue() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( TDoubleCollection collection ) {
+            TDoubleIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( ! containsValue( iter.next() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( double[] array ) {
+            for ( double element : array ) {
+                if ( ! containsValue( element ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( Collection<? extends Double> collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( TDoubleCollection collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( double[] array ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings({"SuspiciousMethodCalls"})
+        public boolean retainAll( Collection<?> collection ) {
+            boolean modified = false;
+            TDoubleIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( Double.valueOf( iter.next() ) ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( TDoubleCollection collection ) {
+            if ( this == collection ) {
+                return false;
+            }
+            boolean modified = false;
+            TDoubleIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( iter.next() ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( double[] array ) {
+            Arrays.sort( array );
+            boolean modified = false;
+            TDoubleIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( Arrays.binarySearch( array, iter.next() ) < 0 ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( Collection<?> collection ) {
+            boolean changed = false;
+            for ( Object element : collection ) {
+                if ( element instanceof Double ) {
+                    if ( remove( ( ( Double ) element ).doubleValue() ) ) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( TDoubleCollection collection ) {
+            if ( this == collection ) {
+                clear();
+                return true;
+            }
+            boolean changed = false;
+            TDoubleIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( remove( iter.next() ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( double[] array ) {
+            boolean changed = false;
+            for ( int i = array.length; i-- > 0; ) {
+                if ( remove( array[i] ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public void clear() {
+            TDoubleDoubleInterleavedHashMap.this.clear();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean forEach( TDoubleProcedure procedure ) {
+            return forEachValue( procedure );
+        }
+
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder( "{" );
+            forEachValue( new TDoubleProcedure() {
+                private boolean first = true;
+
+                public boolean execute( double value ) {
+                    if ( first ) {
+                        first = false;
+                    } else {
+                        buf.append( ", " );
+                    }
+
+                    buf.append( value );
+                    return true;
+                }
+            } );
+            buf.append( "}" );
+            return buf.toString();
+        }
+    }
+} // TDoubleDoubleInterleavedHashMap
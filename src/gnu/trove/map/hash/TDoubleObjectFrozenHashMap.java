@@ -0,0 +1,372 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+import gnu.trove.map.TDoubleObjectMap;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.impl.hash.TDoubleFrozenHash;
+import gnu.trove.procedure.TDoubleObjectProcedure;
+import gnu.trove.procedure.TDoubleProcedure;
+import gnu.trove.procedure.TObjectProcedure;
+import gnu.trove.iterator.TDoubleObjectIterator;
+import gnu.trove.function.TObjectFunction;
+import gnu.trove.set.TDoubleSet;
+import gnu.trove.set.hash.TDoubleFrozenHashSet;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.*;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+
+/**
+ * An immutable Map for double keys and Object values in a minimal perfect
+ * hash table (see {@link TDoubleFrozenHash}): one slot per entry, no free
+ * slots and no states array, and lookups that never probe and need no
+ * locking.  Use it for tables that are built once and read many times:
+ * fill a {@link TDoubleObjectHashMap} and call
+ * {@link TDoubleObjectHashMap#freeze}, or pass any map to the constructor.
+ * Like the maps returned by <tt>TCollections.unmodifiableMap()</tt>, the
+ * methods that would modify the map throw an
+ * <tt>UnsupportedOperationException</tt>.
+ */
+public class TDoubleObjectFrozenHashMap<V> extends TDoubleFrozenHash implements TDoubleObjectMap<V> {
+    static final long serialVersionUID = 1L;
+
+    /** the values of the map, in the slots of their keys */
+    protected transient V[] _values;
+
+    /** the value that represents null in the key set. */
+    protected double no_entry_key;
+
+
+    /**
+     * Creates an empty <code>TDoubleObjectFrozenHashMap</code> instance.
+     */
+    @SuppressWarnings({"unchecked"})
+    public TDoubleObjectFrozenHashMap() {
+        _values = ( V[] ) new Object[0];
+        no_entry_key = Constants.DEFAULT_DOUBLE_NO_ENTRY_VALUE;
+    }
+
+
+    /**
+     * Creates a new <code>TDoubleObjectFrozenHashMap</code> instance containing
+     * all of the entries in the map passed in.
+     *
+     * @param map a <tt>TDoubleObjectMap</tt> that will be duplicated.
+     */
+    @SuppressWarnings({"unchecked"})
+    public TDoubleObjectFrozenHashMap( TDoubleObjectMap<? extends V> map ) {
+        no_entry_key = map.getNoEntryKey();
+
+        double[] keys = new double[ map.size() ];
+        Object[] values = new Object[ keys.length ];
+        int i = 0;
+        for ( TDoubleObjectIterator<? extends V> it = map.iterator(); it.hasNext(); i++ ) {
+            it.advance();
+            keys[i] = it.key();
+            values[i] = it.value();
+        }
+
+        int[] slots = build( keys );
+        _values = ( V[] ) new Object[ keys.length ];
+        for ( i = 0; i < keys.length; i++ ) {
+            _values[ slots[i] ] = ( V ) values[i];
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public double getNoEntryKey() {
+        return no_entry_key;
+    }
+
+
+    /** {@inheritDoc} */
+    public V get( double key ) {
+        int index = index( key );
+        return index < 0 ? null : _values[index];
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsKey( double key ) {
+        return index( key ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsValue( Object val ) {
+        V[] vals = _values;
+        for ( int i = vals.length; i-- > 0; ) {
+            if ( val == vals[i] || ( val != null && val.equals( vals[i] ) ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    public V put( double key, V value ) { throw new UnsupportedOperationException(); }
+    public V putIfAbsent( double key, V value ) { throw new UnsupportedOperationException(); }
+    public V remove( double key ) { throw new UnsupportedOperationException(); }
+    public void putAll( Map<? extends Double, ? extends V> map ) { throw new UnsupportedOperationException(); }
+    public void putAll( TDoubleObjectMap<? extends V> map ) { throw new UnsupportedOperationException(); }
+    public void clear() { throw new UnsupportedOperationException(); }
+    public void transformValues( TObjectFunction<V,V> function ) { throw new UnsupportedOperationException(); }
+    public boolean retainEntries( TDoubleObjectProcedure<? super V> procedure ) { throw new UnsupportedOperationException(); }
+
+
+    /** {@inheritDoc} */
+    public TDoubleSet keySet() {
+        return new TDoubleFrozenHashSet( this, no_entry_key );
+    }
+
+
+    /** {@inheritDoc} */
+    public double[] keys() {
+        return _set.clone();
+    }
+
+
+    /** {@inheritDoc} */
+    public double[] keys( double[] dest ) {
+        int size = _set.length;
+        if ( dest.length < size ) {
+            dest = new double[ size ];
+        }
+        System.arraycopy( _set, 0, dest, 0, size );
+        if ( dest.length > size ) {
+            dest[size] = no_entry_key;
+        }
+        return dest;
+    }
+
+
+    /** {@inheritDoc} */
+    public Collection<V> valueCollection() {
+        return Collections.unmodifiableList( Arrays.asList( _values ) );
+    }
+
+
+    /** {@inheritDoc} */
+    public Object[] values() {
+        Object[] vals = new Object[ _values.length ];
+        System.arraycopy( _values, 0, vals, 0, vals.length );
+        return vals;
+    }
+
+
+    /** {@inheritDoc} */
+    @SuppressWarnings({"unchecked"})
+    public V[] values( V[] dest ) {
+        int size = _values.length;
+        if ( dest.length < size ) {
+            dest = ( V[] ) java.lang.reflect.Array.newInstance(
+                dest.getClass().getComponentType(), size );
+        }
+        System.arraycopy( _values, 0, dest, 0, size );
+        if ( dest.length > size ) {
+            dest[size] = null;
+        }
+        return dest;
+    }
+
+
+    /** {@inheritDoc} */
+    public TDoubleObjectIterator<V> iterator() {
+        return new TDoubleObjectFrozenHashIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachKey( TDoubleProcedure procedure ) {
+        double[] keys = _set;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( ! procedure.execute( keys[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachValue( TObjectProcedure<? super V> procedure ) {
+        V[] values = _values;
+        for ( int i = 0; i < values.length; i++ ) {
+            if ( ! procedure.execute( values[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachEntry( TDoubleObjectProcedure<? super V> procedure ) {
+        double[] keys = _set;
+        V[] values = _values;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( ! procedure.execute( keys[i], values[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TDoubleObjectMap ) ) {
+            return false;
+        }
+        TDoubleObjectMap that = ( TDoubleObjectMap ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        try {
+            for ( int i = _set.length; i-- > 0; ) {
+                double key = _set[i];
+                Object value = _values[i];
+                if ( value == null ) {
+                    if ( !( that.get( key ) == null && that.containsKey( key ) ) ) {
+                        return false;
+                    }
+                } else {
+                    if ( !value.equals( that.get( key ) ) ) {
+                        return false;
+                    }
+                }
+            }
+        } catch ( ClassCastException ex ) {
+            // unused.
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public int hashCode() {
+        int hashcode = 0;
+        V[] values = _values;
+        for ( int i = values.length; i-- > 0; ) {
+            hashcode += HashFunctions.hash( _set[i] ) ^
+                        ( values[i] == null ? 0 : values[i].hashCode() );
+        }
+        return hashcode;
+    }
+
+
+    public String toString() {
+        final StringBuilder buf = new StringBuilder("{");
+        forEachEntry(new TDoubleObjectProcedure<V>() {
+            private boolean first = true;
+            public boolean execute(double key, Object value) {
+                if ( first ) first = false;
+                else buf.append( "," );
+
+                buf.append(key);
+                buf.append("=");
+                buf.append(value);
+                return true;
+            }
+        });
+        buf.append("}");
+        return buf.toString();
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // SUPER
+        super.writeExternal( out );
+
+        // NO_ENTRY_KEY
+        out.writeDouble( no_entry_key );
+
+        // VALUES, in the slots of their keys
+        for ( int i = 0; i < _values.length; i++ ) {
+            out.writeObject( _values[i] );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @SuppressWarnings({"unchecked"})
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // SUPER
+        super.readExternal( in );
+
+        // NO_ENTRY_KEY
+        no_entry_key = in.readDouble();
+
+        // VALUES
+        _values = ( V[] ) new Object[ _set.length ];
+        for ( int i = 0; i < _values.length; i++ ) {
+            _values[i] = ( V ) in.readObject();
+        }
+    }
+
+
+    class TDoubleObjectFrozenHashIterator implements TDoubleObjectIterator<V> {
+        private int _index = -1;
+
+        /** {@inheritDoc} */
+        public boolean hasNext() {
+            return _index + 1 < _set.length;
+        }
+
+
+        /** {@inheritDoc} */
+        public void advance() {
+            if ( ! hasNext() ) {
+                throw new NoSuchElementException();
+            }
+            _index++;
+        }
+
+
+        /** {@inheritDoc} */
+        public double key() {
+            return _set[_index];
+        }
+
+
+        /** {@inheritDoc} */
+        public V value() {
+            return _values[_index];
+        }
+
+
+        public V setValue( V val ) { throw new UnsupportedOperationException(); }
+        public void remove() { throw new UnsupportedOperationException(); }
+    }
+} // TDoubleObjectFrozenHashMap
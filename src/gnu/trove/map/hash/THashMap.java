@@ -22,6 +22,7 @@ package gnu.trove.map.hash;
 
 import gnu.trove.function.TObjectFunction;
 import gnu.trove.impl.HashFunctions;
+import gnu.trove.impl.hash.THash;
 import gnu.trove.impl.hash.TObjectHash;
 import gnu.trove.iterator.hash.TObjectHashIterator;
 import gnu.trove.map.TMap;
@@ -290,6 +291,7 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
      *         the procedure returned false for some value.
      */
     public boolean forEachValue(TObjectProcedure<? super V> procedure) {
+        completeRehash();
         V[] values = _values;
         Object[] set = _set;
         for (int i = values.length; i-- > 0;) {
@@ -313,6 +315,7 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
      */
     @SuppressWarnings({"unchecked"})
     public boolean forEachEntry(TObjectObjectProcedure<? super K, ? super V> procedure) {
+        completeRehash();
         Object[] keys = _set;
         V[] values = _values;
         for (int i = keys.length; i-- > 0;) {
@@ -335,6 +338,7 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
      */
     @SuppressWarnings({"unchecked"})
     public boolean retainEntries(TObjectObjectProcedure<? super K, ? super V> procedure) {
+        completeRehash();
         boolean modified = false;
         Object[] keys = _set;
         V[] values = _values;
@@ -364,6 +368,7 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
      * @param function a <code>TObjectFunction</code> value
      */
     public void transformValues(TObjectFunction<V, V> function) {
+        completeRehash();
         V[] values = _values;
         Object[] set = _set;
         for (int i = values.length; i-- > 0;) {
@@ -385,6 +390,7 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
         int oldSize = size();
         Object oldKeys[] = _set;
         V oldVals[] = _values;
+        int oldHashCodes[] = replaceHashCodes(newCapacity);
 
         _set = new Object[newCapacity];
         Arrays.fill(_set, FREE);
@@ -398,7 +404,7 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
 
             if (o == FREE || o == REMOVED) continue;
 
-            int index = insertKey((K) o);
+            int index = reinsertKey((K) o, oldHashCodes, i);
             if (index < 0) {
                 throwObjectContractViolation(_set[(-index - 1)], o, size(), oldSize, oldKeys);
             }
@@ -412,6 +418,49 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean supportsIncrementalRehash() {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings({"unchecked"})
+    protected THash detachTable(int newCapacity) {
+        THashMap<K, V> old = new THashMap<K, V>(0, _loadFactor);
+        old._set = _set;
+        old._values = _values;
+        old._hashCodes = replaceHashCodes(newCapacity);
+
+        _set = new Object[newCapacity];
+        Arrays.fill(_set, FREE);
+        _values = (V[]) new Object[newCapacity];
+        return old;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings({"unchecked"})
+    protected void migrateSlot(THash table, int index) {
+        THashMap<K, V> old = (THashMap<K, V>) table;
+        Object key = old._set[index];
+        if (key == FREE || key == REMOVED) {
+            return;
+        }
+        V value = old._values[index];
+        old._set[index] = REMOVED;
+        old._values[index] = null;
+        old._size--;
+
+        index = reinsertKey((K) key, old._hashCodes, index);
+        _values[index] = value;
+        postMigrateHook(consumeFreeSlot);
+    }
+
+
     /**
      * retrieves the value for <tt>key</tt>
      *
@@ -421,7 +470,11 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
     @SuppressWarnings({"unchecked"})
     public V get(Object key) {
         int index = index(key);
-        return index < 0 ? null : _values[index];
+        if (index < 0) {
+            // the key may not have been migrated yet; a lookup leaves it there
+            return _draining == null ? null : ((THashMap<K, V>) _draining).get(key);
+        }
+        return _values[index];
     }
 
 
@@ -449,6 +502,7 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
     @SuppressWarnings({"unchecked"})
     public V remove(Object key) {
         V prev = null;
+        migrateKey(key);
         int index = index(key);
         if (index >= 0) {
             prev = _values[index];
@@ -469,6 +523,15 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void moveEntry(int from, int to) {
+        super.moveEntry(from, to);
+        _values[to] = _values[from];
+        _values[from] = null;
+    }
+
+
     /**
      * Returns a view on the values of the map.
      *
@@ -506,6 +569,7 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
      * @return a <code>boolean</code> value
      */
     public boolean containsValue(Object val) {
+        completeRehash();
         Object[] set = _set;
         V[] vals = _values;
 
@@ -577,6 +641,7 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
 
 
         public boolean removeElement(V value) {
+            completeRehash();
             Object[] values = _values;
             Object[] set = _set;
 
@@ -635,6 +700,7 @@ public class THashMap<K, V> extends TObjectHash<K> implements TMap<K, V>, Extern
             int index;
 
             K key = keyForEntry(entry);
+            migrateKey(key);
             index = index(key);
             if (index >= 0) {
                 val = valueForEntry(entry);
@@ -0,0 +1,372 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.impl.hash.TIntFrozenHash;
+import gnu.trove.procedure.TIntObjectProcedure;
+import gnu.trove.procedure.TIntProcedure;
+import gnu.trove.procedure.TObjectProcedure;
+import gnu.trove.iterator.TIntObjectIterator;
+import gnu.trove.function.TObjectFunction;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntFrozenHashSet;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.*;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+
+/**
+ * An immutable Map for int keys and Object values in a minimal perfect
+ * hash table (see {@link TIntFrozenHash}): one slot per entry, no free
+ * slots and no states array, and lookups that never probe and need no
+ * locking.  Use it for tables that are built once and read many times:
+ * fill a {@link TIntObjectHashMap} and call
+ * {@link TIntObjectHashMap#freeze}, or pass any map to the constructor.
+ * Like the maps returned by <tt>TCollections.unmodifiableMap()</tt>, the
+ * methods that would modify the map throw an
+ * <tt>UnsupportedOperationException</tt>.
+ */
+public class TIntObjectFrozenHashMap<V> extends TIntFrozenHash implements TIntObjectMap<V> {
+    static final long serialVersionUID = 1L;
+
+    /** the values of the map, in the slots of their keys */
+    protected transient V[] _values;
+
+    /** the value that represents null in the key set. */
+    protected int no_entry_key;
+
+
+    /**
+     * Creates an empty <code>TIntObjectFrozenHashMap</code> instance.
+     */
+    @SuppressWarnings({"unchecked"})
+    public TIntObjectFrozenHashMap() {
+        _values = ( V[] ) new Object[0];
+        no_entry_key = Constants.DEFAULT_INT_NO_ENTRY_VALUE;
+    }
+
+
+    /**
+     * Creates a new <code>TIntObjectFrozenHashMap</code> instance containing
+     * all of the entries in the map passed in.
+     *
+     * @param map a <tt>TIntObjectMap</tt> that will be duplicated.
+     */
+    @SuppressWarnings({"unchecked"})
+    public TIntObjectFrozenHashMap( TIntObjectMap<? extends V> map ) {
+        no_entry_key = map.getNoEntryKey();
+
+        int[] keys = new int[ map.size() ];
+        Object[] values = new Object[ keys.length ];
+        int i = 0;
+        for ( TIntObjectIterator<? extends V> it = map.iterator(); it.hasNext(); i++ ) {
+            it.advance();
+            keys[i] = it.key();
+            values[i] = it.value();
+        }
+
+        int[] slots = build( keys );
+        _values = ( V[] ) new Object[ keys.length ];
+        for ( i = 0; i < keys.length; i++ ) {
+            _values[ slots[i] ] = ( V ) values[i];
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public int getNoEntryKey() {
+        return no_entry_key;
+    }
+
+
+    /** {@inheritDoc} */
+    public V get( int key ) {
+        int index = index( key );
+        return index < 0 ? null : _values[index];
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsKey( int key ) {
+        return index( key ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsValue( Object val ) {
+        V[] vals = _values;
+        for ( int i = vals.length; i-- > 0; ) {
+            if ( val == vals[i] || ( val != null && val.equals( vals[i] ) ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    public V put( int key, V value ) { throw new UnsupportedOperationException(); }
+    public V putIfAbsent( int key, V value ) { throw new UnsupportedOperationException(); }
+    public V remove( int key ) { throw new UnsupportedOperationException(); }
+    public void putAll( Map<? extends Integer, ? extends V> map ) { throw new UnsupportedOperationException(); }
+    public void putAll( TIntObjectMap<? extends V> map ) { throw new UnsupportedOperationException(); }
+    public void clear() { throw new UnsupportedOperationException(); }
+    public void transformValues( TObjectFunction<V,V> function ) { throw new UnsupportedOperationException(); }
+    public boolean retainEntries( TIntObjectProcedure<? super V> procedure ) { throw new UnsupportedOperationException(); }
+
+
+    /** {@inheritDoc} */
+    public TIntSet keySet() {
+        return new TIntFrozenHashSet( this, no_entry_key );
+    }
+
+
+    /** {@inheritDoc} */
+    public int[] keys() {
+        return _set.clone();
+    }
+
+
+    /** {@inheritDoc} */
+    public int[] keys( int[] dest ) {
+        int size = _set.length;
+        if ( dest.length < size ) {
+            dest = new int[ size ];
+        }
+        System.arraycopy( _set, 0, dest, 0, size );
+        if ( dest.length > size ) {
+            dest[size] = no_entry_key;
+        }
+        return dest;
+    }
+
+
+    /** {@inheritDoc} */
+    public Collection<V> valueCollection() {
+        return Collections.unmodifiableList( Arrays.asList( _values ) );
+    }
+
+
+    /** {@inheritDoc} */
+    public Object[] values() {
+        Object[] vals = new Object[ _values.length ];
+        System.arraycopy( _values, 0, vals, 0, vals.length );
+        return vals;
+    }
+
+
+    /** {@inheritDoc} */
+    @SuppressWarnings({"unchecked"})
+    public V[] values( V[] dest ) {
+        int size = _values.length;
+        if ( dest.length < size ) {
+            dest = ( V[] ) java.lang.reflect.Array.newInstance(
+                dest.getClass().getComponentType(), size );
+        }
+        System.arraycopy( _values, 0, dest, 0, size );
+        if ( dest.length > size ) {
+            dest[size] = null;
+        }
+        return dest;
+    }
+
+
+    /** {@inheritDoc} */
+    public TIntObjectIterator<V> iterator() {
+        return new TIntObjectFrozenHashIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachKey( TIntProcedure procedure ) {
+        int[] keys = _set;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( ! procedure.execute( keys[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachValue( TObjectProcedure<? super V> procedure ) {
+        V[] values = _values;
+        for ( int i = 0; i < values.length; i++ ) {
+            if ( ! procedure.execute( values[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachEntry( TIntObjectProcedure<? super V> procedure ) {
+        int[] keys = _set;
+        V[] values = _values;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( ! procedure.execute( keys[i], values[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TIntObjectMap ) ) {
+            return false;
+        }
+        TIntObjectMap that = ( TIntObjectMap ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        try {
+            for ( int i = _set.length; i-- > 0; ) {
+                int key = _set[i];
+                Object value = _values[i];
+                if ( value == null ) {
+                    if ( !( that.get( key ) == null && that.containsKey( key ) ) ) {
+                        return false;
+                    }
+                } else {
+                    if ( !value.equals( that.get( key ) ) ) {
+                        return false;
+                    }
+                }
+            }
+        } catch ( ClassCastException ex ) {
+            // unused.
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public int hashCode() {
+        int hashcode = 0;
+        V[] values = _values;
+        for ( int i = values.length; i-- > 0; ) {
+            hashcode += HashFunctions.hash( _set[i] ) ^
+                        ( values[i] == null ? 0 : values[i].hashCode() );
+        }
+        return hashcode;
+    }
+
+
+    public String toString() {
+        final StringBuilder buf = new StringBuilder("{");
+        forEachEntry(new TIntObjectProcedure<V>() {
+            private boolean first = true;
+            public boolean execute(int key, Object value) {
+                if ( first ) first = false;
+                else buf.append( "," );
+
+                buf.append(key);
+                buf.append("=");
+                buf.append(value);
+                return true;
+            }
+        });
+        buf.append("}");
+        return buf.toString();
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // SUPER
+        super.writeExternal( out );
+
+        // NO_ENTRY_KEY
+        out.writeInt( no_entry_key );
+
+        // VALUES, in the slots of their keys
+        for ( int i = 0; i < _values.length; i++ ) {
+            out.writeObject( _values[i] );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @SuppressWarnings({"unchecked"})
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // SUPER
+        super.readExternal( in );
+
+        // NO_ENTRY_KEY
+        no_entry_key = in.readInt();
+
+        // VALUES
+        _values = ( V[] ) new Object[ _set.length ];
+        for ( int i = 0; i < _values.length; i++ ) {
+            _values[i] = ( V ) in.readObject();
+        }
+    }
+
+
+    class TIntObjectFrozenHashIterator implements TIntObjectIterator<V> {
+        private int _index = -1;
+
+        /** {@inheritDoc} */
+        public boolean hasNext() {
+            return _index + 1 < _set.length;
+        }
+
+
+        /** {@inheritDoc} */
+        public void advance() {
+            if ( ! hasNext() ) {
+                throw new NoSuchElementException();
+            }
+            _index++;
+        }
+
+
+        /** {@inheritDoc} */
+        public int key() {
+            return _set[_index];
+        }
+
+
+        /** {@inheritDoc} */
+        public V value() {
+            return _values[_index];
+        }
+
+
+        public V setValue( V val ) { throw new UnsupportedOperationException(); }
+        public void remove() { throw new UnsupportedOperationException(); }
+    }
+} // TIntObjectFrozenHashMap
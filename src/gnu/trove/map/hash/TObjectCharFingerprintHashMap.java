@@ -0,0 +1,107 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+import gnu.trove.map.TObjectCharMap;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+
+/**
+ * An open addressed Map implementation for Object keys and char values that
+ * keeps a fingerprint of every key: its full hash code, in an array next to
+ * the keys.  A lookup only calls <tt>equals()</tt> on the keys of its probe
+ * sequence whose fingerprint matches its own, so a miss in a long probe
+ * sequence hardly calls it at all, and rehashing never calls
+ * <tt>hashCode()</tt>.  Use it for keys with expensive <tt>equals()</tt>
+ * or <tt>hashCode()</tt> methods; it takes four more bytes per slot than a
+ * {@link TObjectCharHashMap}, which it otherwise behaves like.
+ *
+ * @see TObjectCharHashMap#setHashCodeCaching
+ */
+public class TObjectCharFingerprintHashMap<K> extends TObjectCharHashMap<K> {
+    static final long serialVersionUID = 1L;
+
+
+    /**
+     * Creates a new <code>TObjectCharFingerprintHashMap</code> instance with
+     * the default capacity and load factor.
+     */
+    public TObjectCharFingerprintHashMap() {
+        super();
+        setHashCodeCaching( true );
+    }
+
+
+    /**
+     * Creates a new <code>TObjectCharFingerprintHashMap</code> instance with a
+     * prime capacity equal to or greater than <tt>initialCapacity</tt> and
+     * with the default load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     */
+    public TObjectCharFingerprintHashMap( int initialCapacity ) {
+        super( initialCapacity );
+        setHashCodeCaching( true );
+    }
+
+
+    /**
+     * Creates a new <code>TObjectCharFingerprintHashMap</code> instance with a
+     * prime capacity equal to or greater than <tt>initialCapacity</tt> and
+     * with the specified load factor.
+     *
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     */
+    public TObjectCharFingerprintHashMap( int initialCapacity, float loadFactor ) {
+        super( initialCapacity, loadFactor );
+        setHashCodeCaching( true );
+    }
+
+
+    /**
+     * Creates a new <code>TObjectCharFingerprintHashMap</code> instance with a
+     * prime value at or near the specified capacity and load factor.
+     *
+     * @param initialCapacity used to find a prime capacity for the table.
+     * @param loadFactor used to calculate the threshold over which
+     * rehashing takes place.
+     * @param noEntryValue the value used to represent null.
+     */
+    public TObjectCharFingerprintHashMap( int initialCapacity, float loadFactor,
+        char noEntryValue ) {
+
+        super( initialCapacity, loadFactor, noEntryValue );
+        setHashCodeCaching( true );
+    }
+
+
+    /**
+     * Creates a new <code>TObjectCharFingerprintHashMap</code> that contains
+     * the entries in the map passed to it.
+     *
+     * @param map the <tt>TObjectCharMap</tt> to be copied.
+     */
+    public TObjectCharFingerprintHashMap( TObjectCharMap<? extends K> map ) {
+        this( map.size(), 0.5f, map.getNoEntryValue() );
+        putAll( map );
+    }
+} // TObjectCharFingerprintHashMap
@@ -0,0 +1,310 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.map.TObjectLongMap;
+import gnu.trove.procedure.TObjectLongProcedure;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+
+
+/**
+ * A thread-safe map of counters for workloads that mostly add to counters
+ * and seldom read them.
+ * <p/>
+ * The counts are kept as partial sums in several cells, each a
+ * {@link TObjectLongHashMap} with its own lock.  A thread adds to the cell it
+ * used last, and moves on to another cell when that one is busy, so threads
+ * counting at the same time end up in different cells even when they count
+ * the same key; adding doesn't serialize on a single lock and scales with
+ * the number of cells.  Reads merge the partial sums, locking one cell at a
+ * time, which makes them considerably more expensive than adding.
+ * <p/>
+ * A key counted by many threads takes an entry in several cells.
+ */
+public class TObjectLongAdderMap<K> {
+
+    /** the number of cells used by default */
+    public static final int DEFAULT_CELLS = HashFunctions.nextPowerOfTwo(
+        Math.max( 2, Runtime.getRuntime().availableProcessors() * 2 ) );
+
+    /** the number of cells a thread tries before it waits for one */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final Cell<K>[] _cells;
+
+    /** per thread random state, used to pick a cell */
+    private final ThreadLocal<int[]> _probe = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            int seed = HashFunctions.mix( HashFunctions.hash( Thread.currentThread().getId() ) );
+            return new int[] { seed == 0 ? 1 : seed };
+        }
+    };
+
+
+    /** A cell of partial sums with its own lock. */
+    static final class Cell<K> extends ReentrantLock {
+        static final long serialVersionUID = 1L;
+
+        final TObjectLongHashMap<K> sums = new TObjectLongHashMap<K>();
+    }
+
+
+    /**
+     * Creates a new counter map with {@link #DEFAULT_CELLS} cells.
+     */
+    public TObjectLongAdderMap() {
+        this( DEFAULT_CELLS );
+    }
+
+
+    /**
+     * Creates a new counter map.
+     *
+     * @param cells the number of cells, rounded up to a power of two.  About
+     *              as many threads as there are cells can add without
+     *              waiting for each other.
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public TObjectLongAdderMap( int cells ) {
+        if ( cells <= 0 ) {
+            throw new IllegalArgumentException( "cells must be positive: " + cells );
+        }
+        _cells = new Cell[ HashFunctions.nextPowerOfTwo( Math.min( cells, 1 << 16 ) ) ];
+        for ( int i = 0; i < _cells.length; i++ ) {
+            _cells[i] = new Cell<K>();
+        }
+    }
+
+
+    /**
+     * Returns the number of cells.
+     *
+     * @return the number of cells.
+     */
+    public int getCellCount() {
+        return _cells.length;
+    }
+
+
+    /**
+     * Locks and returns a cell for the current thread, preferring the one it
+     * used last and moving to another one when that is locked.
+     */
+    private Cell<K> lockCell() {
+        int[] probe = _probe.get();
+        int h = probe[0];
+        int mask = _cells.length - 1;
+        for ( int attempt = 0; attempt < MAX_ATTEMPTS; attempt++ ) {
+            Cell<K> cell = _cells[ h & mask ];
+            if ( cell.tryLock() ) {
+                probe[0] = h;
+                return cell;
+            }
+            // xorshift to another cell
+            h ^= h << 13;
+            h ^= h >>> 17;
+            h ^= h << 5;
+        }
+        probe[0] = h;
+        Cell<K> cell = _cells[ h & mask ];
+        cell.lock();
+        return cell;
+    }
+
+
+    /**
+     * Adds one to the count of <tt>key</tt>.
+     *
+     * @param key the key to count.
+     */
+    public void increment( K key ) {
+        adjustValue( key, 1 );
+    }
+
+
+    /**
+     * Adds <tt>amount</tt> to the count of <tt>key</tt>, which starts at
+     * zero if the key hasn't been counted yet.
+     *
+     * @param key the key to count.
+     * @param amount the amount to add, which may be negative.
+     */
+    public void adjustValue( K key, long amount ) {
+        Cell<K> cell = lockCell();
+        try {
+            cell.sums.adjustOrPutValue( key, amount, amount );
+        }
+        finally {
+            cell.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the count of <tt>key</tt>.  Additions made while the partial
+     * sums are merged may or may not be included.
+     *
+     * @param key the key whose count to return.
+     * @return the count of <tt>key</tt>, or zero if it hasn't been counted.
+     */
+    public long sum( K key ) {
+        long sum = 0;
+        for ( Cell<K> cell : _cells ) {
+            cell.lock();
+            try {
+                sum += cell.sums.get( key );
+            }
+            finally {
+                cell.unlock();
+            }
+        }
+        return sum;
+    }
+
+
+    /**
+     * Returns true if <tt>key</tt> has been counted since it was last
+     * removed.
+     *
+     * @param key the key to look for.
+     * @return true if the map has a count for <tt>key</tt>.
+     */
+    public boolean containsKey( K key ) {
+        for ( Cell<K> cell : _cells ) {
+            cell.lock();
+            try {
+                if ( cell.sums.containsKey( key ) ) {
+                    return true;
+                }
+            }
+            finally {
+                cell.unlock();
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Removes the count of <tt>key</tt>.  Additions made at the same time may
+     * survive in cells the removal has already passed.
+     *
+     * @param key the key whose count to remove.
+     * @return the count that was removed, or zero if there was none.
+     */
+    public long remove( K key ) {
+        long sum = 0;
+        for ( Cell<K> cell : _cells ) {
+            cell.lock();
+            try {
+                sum += cell.sums.remove( key );
+            }
+            finally {
+                cell.unlock();
+            }
+        }
+        return sum;
+    }
+
+
+    /**
+     * Removes all counts.
+     */
+    public void clear() {
+        for ( Cell<K> cell : _cells ) {
+            cell.lock();
+            try {
+                cell.sums.clear();
+            }
+            finally {
+                cell.unlock();
+            }
+        }
+    }
+
+
+    /**
+     * Returns the counts of all keys merged into a new map.  Each cell is
+     * copied at a single point in time, but the cells are copied one after
+     * the other.
+     *
+     * @return a new map of every counted key to its count.
+     */
+    public TObjectLongHashMap<K> snapshot() {
+        return snapshot( false );
+    }
+
+
+    /**
+     * Returns the counts of all keys merged into a new map and resets them
+     * to zero.  Every addition is included in exactly one snapshot.
+     *
+     * @return a new map of every counted key to its count.
+     */
+    public TObjectLongHashMap<K> snapshotAndReset() {
+        return snapshot( true );
+    }
+
+
+    /**
+     * Adds the counts of this map to <tt>map</tt>.
+     *
+     * @param map the map to add the counts to.
+     */
+    public void addTo( TObjectLongMap<K> map ) {
+        merge( map, false );
+    }
+
+
+    private TObjectLongHashMap<K> snapshot( boolean reset ) {
+        TObjectLongHashMap<K> result = new TObjectLongHashMap<K>();
+        merge( result, reset );
+        return result;
+    }
+
+
+    private void merge( final TObjectLongMap<K> map, boolean reset ) {
+        TObjectLongProcedure<K> add = new TObjectLongProcedure<K>() {
+            public boolean execute( K key, long value ) {
+                map.adjustOrPutValue( key, value, value );
+                return true;
+            }
+        };
+        for ( Cell<K> cell : _cells ) {
+            cell.lock();
+            try {
+                cell.sums.forEachEntry( add );
+                if ( reset ) {
+                    cell.sums.clear();
+                }
+            }
+            finally {
+                cell.unlock();
+            }
+        }
+    }
+
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
@@ -0,0 +1,339 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.offheap;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.offheap.OffHeapMemory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * A map of byte keys to char values whose hash table is a file mapped into
+ * memory.  The file holds a small header followed by the table itself, so
+ * {@link #open opening} an existing map takes constant time and the
+ * operating system pages the table in as it is used.
+ * <p/>
+ * A map opened read only throws {@link java.nio.ReadOnlyBufferException}
+ * from every method that would modify it.  Changes to a map opened for
+ * writing reach the file as the operating system writes back the mapped
+ * pages, or right away through {@link #flush} and {@link #close}.  The
+ * header is marked as dirty from the first change after it was last
+ * written until the next flush, and opening a dirty map, e.g. after a
+ * crash, counts the entries once.
+ * <p/>
+ * Growing the table builds the larger table in direct memory and then
+ * rewrites the file; a crash while it does so can leave the file unusable.
+ * The file uses the byte order of the machine that wrote it and can only be
+ * opened on machines of the same byte order.
+ */
+public class TByteCharMappedHashMap extends TByteCharOffHeapHashMap {
+
+    /** "TRMP" */
+    private static final int MAGIC = 0x54524d50;
+    private static final int VERSION = 1;
+
+    /** the number of bytes before the table, which keeps it aligned */
+    protected static final long HEADER_BYTES = 64;
+
+    private static final long MAGIC_OFFSET = 0;
+    private static final long VERSION_OFFSET = 4;
+    private static final long KEY_TYPE_OFFSET = 8;
+    private static final long VALUE_TYPE_OFFSET = 9;
+    private static final long BYTE_ORDER_OFFSET = 10;
+    private static final long DIRTY_OFFSET = 11;
+    private static final long LOAD_FACTOR_OFFSET = 12;
+    private static final long CAPACITY_OFFSET = 16;
+    private static final long SIZE_OFFSET = 24;
+    private static final long NO_ENTRY_KEY_OFFSET = 32;
+    private static final long NO_ENTRY_VALUE_OFFSET = 40;
+
+    private static final byte KEY_TYPE = ( byte ) "byte".charAt( 0 );
+    private static final byte VALUE_TYPE = ( byte ) "char".charAt( 0 );
+    private static final byte BYTE_ORDER =
+        ( byte ) ( ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 1 : 2 );
+
+    private final File _file;
+    private final boolean _readOnly;
+
+
+    /**
+     * Creates a new map in <tt>file</tt> with the default capacity and load
+     * factor.  An existing file is replaced.
+     *
+     * @param file the file to store the map in.
+     * @throws IOException if the file can't be written.
+     */
+    public TByteCharMappedHashMap( File file ) throws IOException {
+        this( file, Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR,
+            ( byte ) 0, ( char ) 0 );
+    }
+
+
+    /**
+     * Creates a new map in <tt>file</tt> that holds <tt>initialCapacity</tt>
+     * entries without growing.  An existing file is replaced.
+     *
+     * @param file the file to store the map in.
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     * @param noEntryKey a <code>byte</code> value that represents
+     *                   <tt>null</tt> for the Key set.
+     * @param noEntryValue a <code>char</code> value that represents
+     *                   <tt>null</tt> for the Value set.
+     * @throws IOException if the file can't be written.
+     */
+    public TByteCharMappedHashMap( File file, int initialCapacity, float loadFactor,
+        byte noEntryKey, char noEntryValue ) throws IOException {
+
+        super( loadFactor, noEntryKey, noEntryValue );
+        _file = file;
+        _readOnly = false;
+        map( capacityFor( Math.max( 1, initialCapacity ) ), true );
+        writeHeader( false );
+        _memory.force();
+        _dirty = false;
+    }
+
+
+    private TByteCharMappedHashMap( File file, boolean readOnly, OffHeapMemory memory ) {
+        super( memory.getFloat( LOAD_FACTOR_OFFSET ), memory.getByte( NO_ENTRY_KEY_OFFSET ),
+            memory.getChar( NO_ENTRY_VALUE_OFFSET ) );
+        _file = file;
+        _readOnly = readOnly;
+        layout( memory, HEADER_BYTES, memory.getLong( CAPACITY_OFFSET ) );
+
+        if ( memory.getByte( DIRTY_OFFSET ) == 0 ) {
+            _size = memory.getInt( SIZE_OFFSET );
+        } else {
+            _size = countEntries();
+        }
+        if ( !readOnly ) {
+            // record the size if it was counted; the first change marks the header dirty
+            writeHeader( false );
+            memory.force();
+            _dirty = false;
+        }
+    }
+
+
+    /**
+     * Opens a map stored in <tt>file</tt>.  Only the header is read; the
+     * table is paged in as it is used.
+     *
+     * @param file the file holding the map.
+     * @param readOnly true to map the file read only.
+     * @return the map.
+     * @throws IOException if the file can't be read or doesn't hold a map of
+     *         byte keys and char values.
+     */
+    public static TByteCharMappedHashMap open( File file, boolean readOnly )
+        throws IOException {
+
+        OffHeapMemory memory;
+        RandomAccessFile raf = new RandomAccessFile( file, readOnly ? "r" : "rw" );
+        try {
+            long length = raf.length();
+            if ( length < HEADER_BYTES ) {
+                throw new IOException( "Not a map file: " + file );
+            }
+            memory = OffHeapMemory.map( raf.getChannel(), readOnly ?
+                FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, 0, length );
+        }
+        finally {
+            raf.close();
+        }
+
+        try {
+            checkHeader( file, memory );
+        }
+        catch ( IOException ex ) {
+            memory.free();
+            throw ex;
+        }
+        return new TByteCharMappedHashMap( file, readOnly, memory );
+    }
+
+
+    private static void checkHeader( File file, OffHeapMemory memory ) throws IOException {
+        if ( memory.getByte( BYTE_ORDER_OFFSET ) != BYTE_ORDER
+            && memory.getInt( MAGIC_OFFSET ) == Integer.reverseBytes( MAGIC ) ) {
+            throw new IOException( "Map file of another byte order: " + file );
+        }
+        if ( memory.getInt( MAGIC_OFFSET ) != MAGIC ) {
+            throw new IOException( "Not a map file: " + file );
+        }
+        if ( memory.getInt( VERSION_OFFSET ) != VERSION ) {
+            throw new IOException( "Unsupported map file version "
+                + memory.getInt( VERSION_OFFSET ) + ": " + file );
+        }
+        if ( memory.getByte( KEY_TYPE_OFFSET ) != KEY_TYPE
+            || memory.getByte( VALUE_TYPE_OFFSET ) != VALUE_TYPE ) {
+            throw new IOException( "Map file of other key or value type: " + file );
+        }
+        long capacity = memory.getLong( CAPACITY_OFFSET );
+        if ( capacity < 2 || capacity > MAX_CAPACITY || ( capacity & ( capacity - 1 ) ) != 0
+            || memory.size() < HEADER_BYTES + tableBytes( capacity ) ) {
+            throw new IOException( "Corrupt map file: " + file );
+        }
+    }
+
+
+    /**
+     * Maps a table of <tt>capacity</tt> slots, resizing the file to fit.
+     *
+     * @param clear true to clear the table.
+     */
+    private void map( long capacity, boolean clear ) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile( _file, "rw" );
+        try {
+            long length = HEADER_BYTES + tableBytes( capacity );
+            if ( clear ) {
+                raf.setLength( 0 );
+            }
+            raf.setLength( length );
+            layout( OffHeapMemory.map( raf.getChannel(), FileChannel.MapMode.READ_WRITE,
+                0, length ), HEADER_BYTES, capacity );
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+
+    private void writeHeader( boolean dirty ) {
+        final OffHeapMemory memory = _memory;
+        memory.putInt( MAGIC_OFFSET, MAGIC );
+        memory.putInt( VERSION_OFFSET, VERSION );
+        memory.putByte( KEY_TYPE_OFFSET, KEY_TYPE );
+        memory.putByte( VALUE_TYPE_OFFSET, VALUE_TYPE );
+        memory.putByte( BYTE_ORDER_OFFSET, BYTE_ORDER );
+        memory.putByte( DIRTY_OFFSET, ( byte ) ( dirty ? 1 : 0 ) );
+        memory.putFloat( LOAD_FACTOR_OFFSET, _loadFactor );
+        memory.putLong( CAPACITY_OFFSET, _capacity );
+        memory.putInt( SIZE_OFFSET, _size );
+        memory.putByte( NO_ENTRY_KEY_OFFSET, no_entry_key );
+        memory.putChar( NO_ENTRY_VALUE_OFFSET, no_entry_value );
+    }
+
+
+    private int countEntries() {
+        int count = 0;
+        for ( long i = 0; i < _capacity; i++ ) {
+            if ( _memory.getByte( _statesOffset + i ) == FULL ) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /**
+     * Builds the larger table in direct memory, then resizes the file and
+     * copies the table into it.
+     */
+    @Override
+    protected void rehash( long newCapacity ) {
+        if ( !_dirty ) {
+            markDirty();
+        }
+        super.rehash( newCapacity );
+        OffHeapMemory table = _memory;
+        try {
+            map( newCapacity, false );
+            table.copyTo( 0, _memory, HEADER_BYTES, table.size() );
+            writeHeader( true );
+        }
+        catch ( IOException ex ) {
+            _memory = null;
+            throw new IllegalStateException( "Could not grow map file " + _file, ex );
+        }
+        finally {
+            table.free();
+        }
+    }
+
+
+    /**
+     * Returns the file holding the map.
+     *
+     * @return the file holding the map.
+     */
+    public File getFile() {
+        return _file;
+    }
+
+
+    /**
+     * Returns true if the map was opened read only.
+     *
+     * @return true if the map can't be modified.
+     */
+    public boolean isReadOnly() {
+        return _readOnly;
+    }
+
+
+    /**
+     * Writes all changes to the file, so that the map can be opened again
+     * without counting its entries even if this process doesn't close it.
+     */
+    public void flush() {
+        if ( _memory == null ) {
+            throw new IllegalStateException( "map has been closed" );
+        }
+        if ( !_readOnly ) {
+            writeHeader( false );
+            _memory.force();
+            _dirty = false;
+        }
+    }
+
+
+    /**
+     * Marks the header as dirty and writes it back before the change that
+     * called this reaches the file.
+     */
+    @Override
+    protected void markDirty() {
+        _memory.putByte( DIRTY_OFFSET, ( byte ) 1 );
+        _memory.force();
+        _dirty = true;
+    }
+
+
+    /**
+     * Writes all changes to the file and unmaps it.  The map must not be
+     * used afterwards.  Closing a map twice has no effect.
+     */
+    @Override
+    public void close() {
+        if ( _memory != null && !_readOnly ) {
+            writeHeader( false );
+            _memory.force();
+        }
+        super.close();
+    }
+} // TByteCharMappedHashMap
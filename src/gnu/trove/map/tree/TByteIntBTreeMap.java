@@ -0,0 +1,1683 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.tree;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+import gnu.trove.map.TByteIntMap;
+import gnu.trove.map.TByteIntSortedMap;
+import gnu.trove.function.TIntFunction;
+import gnu.trove.procedure.*;
+import gnu.trove.set.*;
+import gnu.trove.iterator.*;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.*;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.*;
+
+/**
+ * A sorted Map implementation for byte keys and int values, kept in a B+tree.
+ * The leaves of the tree hold the entries in sorted runs of up to
+ * {@link #NODE_SIZE}, as parallel arrays of keys and values, and are linked
+ * in key order; the inner nodes hold the smallest key of each child.  A
+ * lookup binary searches a few nodes that each span a handful of cache
+ * lines, and a range scan walks the arrays of the leaves in order, at a few
+ * bytes of overhead per entry.
+ * <p/>
+ * Keys that are inserted in ascending order fill the leaves completely.
+ * A node that shrinks below a quarter of its capacity is merged with a
+ * sibling it fits in with.
+ * <p/>
+ * {@link #subMap}, {@link #headMap} and {@link #tailMap} return maps of
+ * this class that share the tree of their map and are limited to a range
+ * of keys.
+ */
+public class TByteIntBTreeMap implements TByteIntSortedMap, Externalizable {
+    static final long serialVersionUID = 1L;
+
+    /** the most entries a leaf, or children an inner node, holds */
+    protected static final int NODE_SIZE = 64;
+
+    /** nodes below this size are merged with a sibling if they fit into it */
+    private static final int MIN_FILL = NODE_SIZE / 4;
+
+    /** the map whose tree this map is a range of, this map itself if it is not a view */
+    protected transient TByteIntBTreeMap _backing;
+
+    /** whether the keys of this map are limited to at least {@link #_from} */
+    protected transient boolean _hasFrom;
+
+    /** the lowest key of this map, if {@link #_hasFrom} */
+    protected transient byte _from;
+
+    /** whether the keys of this map are limited to less than {@link #_to} */
+    protected transient boolean _hasTo;
+
+    /** the key above the highest key of this map, if {@link #_hasTo} */
+    protected transient byte _to;
+
+    /** the root of the tree, a leaf while the tree has a single node */
+    private transient Node _root;
+
+    /** the number of inner node levels above the leaves */
+    private transient int _height;
+
+    /** the leaf with the smallest keys */
+    private transient Leaf _first;
+
+    /** the number of entries in the tree */
+    private transient int _size;
+
+    /** counts the insertions and removals, for the iterators to notice them */
+    private transient int _modCount;
+
+    /** the node split off by the last call of insert(), for the caller to link in */
+    private transient Node _split;
+
+    /** the smallest key of {@link #_split} */
+    private transient byte _splitKey;
+
+    /** the value that represents null in the key set. */
+    protected byte no_entry_key;
+
+    /** the value that represents null in the value collection. */
+    protected int no_entry_value;
+
+
+    /** a node of the tree */
+    static abstract class Node {
+        /** the keys of a leaf; the smallest key of each child of an inner node */
+        final byte[] keys = new byte[ NODE_SIZE ];
+
+        /** the number of entries of a leaf, or children of an inner node */
+        int size;
+    }
+
+
+    /** a leaf, which holds a sorted run of entries */
+    static final class Leaf extends Node {
+        final int[] values = new int[ NODE_SIZE ];
+        Leaf prev;
+        Leaf next;
+    }
+
+
+    /** an inner node, whose child <tt>i</tt> holds the keys from keys[i] below keys[i + 1] */
+    static final class Inner extends Node {
+        final Node[] children = new Node[ NODE_SIZE ];
+    }
+
+
+    /**
+     * Creates a new, empty <code>TByteIntBTreeMap</code> instance.
+     */
+    public TByteIntBTreeMap() {
+        this( Constants.DEFAULT_BYTE_NO_ENTRY_VALUE, Constants.DEFAULT_INT_NO_ENTRY_VALUE );
+    }
+
+
+    /**
+     * Creates a new, empty <code>TByteIntBTreeMap</code> instance.
+     *
+     * @param noEntryKey a <code>byte</code> value that represents
+     *                   <tt>null</tt> for the Key set.
+     * @param noEntryValue a <code>int</code> value that represents
+     *                   <tt>null</tt> for the Value set.
+     */
+    public TByteIntBTreeMap( byte noEntryKey, int noEntryValue ) {
+        _backing = this;
+        no_entry_key = noEntryKey;
+        no_entry_value = noEntryValue;
+        _root = _first = new Leaf();
+    }
+
+
+    /**
+     * Creates a new <code>TByteIntBTreeMap</code> instance containing all of
+     * the entries in the map passed in.
+     *
+     * @param map a <tt>TByteIntMap</tt> that will be duplicated.
+     */
+    public TByteIntBTreeMap( TByteIntMap map ) {
+        this( map.getNoEntryKey(), map.getNoEntryValue() );
+        putAll( map );
+    }
+
+
+    /** Creates a view onto the keys of <tt>backing</tt> in the given range. */
+    private TByteIntBTreeMap( TByteIntBTreeMap backing, boolean hasFrom, byte from,
+        boolean hasTo, byte to ) {
+
+        if ( hasFrom && hasTo && from > to ) {
+            throw new IllegalArgumentException( "fromKey > toKey: " + from + " > " + to );
+        }
+        _backing = backing;
+        _hasFrom = hasFrom;
+        _from = from;
+        _hasTo = hasTo;
+        _to = to;
+        no_entry_key = backing.no_entry_key;
+        no_entry_value = backing.no_entry_value;
+    }
+
+
+    /** Returns whether <tt>key</tt> lies in the range of this map. */
+    private boolean inRange( byte key ) {
+        return ( !_hasFrom || key >= _from ) && ( !_hasTo || key < _to );
+    }
+
+
+    /** Checks that a view bound lies in the range of this map, including its upper end. */
+    private void checkBound( byte key ) {
+        if ( ( _hasFrom && key < _from ) || ( _hasTo && key > _to ) ) {
+            throw new IllegalArgumentException( "key out of range: " + key );
+        }
+    }
+
+
+    /** Returns the first index of <tt>keys</tt> whose key is not below <tt>key</tt>. */
+    static int lowerBound( byte[] keys, int size, byte key ) {
+        int low = 0;
+        int high = size;
+        while ( low < high ) {
+            int mid = ( low + high ) >>> 1;
+            if ( keys[mid] < key ) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+
+    /** Returns the first index of <tt>keys</tt> whose key is above <tt>key</tt>. */
+    static int upperBound( byte[] keys, int size, byte key ) {
+        int low = 0;
+        int high = size;
+        while ( low < high ) {
+            int mid = ( low + high ) >>> 1;
+            if ( keys[mid] <= key ) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+
+    /** Returns the child of <tt>inner</tt> whose range holds <tt>key</tt>. */
+    static int childIndex( Inner inner, byte key ) {
+        // keys[0] is not a bound, the first child takes every key below keys[1]
+        int low = 1;
+        int high = inner.size;
+        while ( low < high ) {
+            int mid = ( low + high ) >>> 1;
+            if ( inner.keys[mid] <= key ) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+
+    /** Returns the leaf whose range holds <tt>key</tt>. */
+    private Leaf leafFor( byte key ) {
+        Node node = _root;
+        for ( int height = _height; height > 0; height-- ) {
+            Inner inner = ( Inner ) node;
+            node = inner.children[ childIndex( inner, key ) ];
+        }
+        return ( Leaf ) node;
+    }
+
+
+    /** Returns the leaf with the largest keys. */
+    private Leaf lastLeaf() {
+        Node node = _root;
+        for ( int height = _height; height > 0; height-- ) {
+            Inner inner = ( Inner ) node;
+            node = inner.children[ inner.size - 1 ];
+        }
+        return ( Leaf ) node;
+    }
+
+
+    /**
+     * Puts an entry into the tree, growing it by a level if the root splits.
+     *
+     * @param replace whether to replace the value of a key already present
+     * @return the value <tt>key</tt> had, or the "no entry" value if it was
+     *         inserted.
+     */
+    private int insertEntry( byte key, int value, boolean replace ) {
+        int previous = insert( _root, _height, key, value, replace );
+        if ( _split != null ) {
+            Inner root = new Inner();
+            root.children[0] = _root;
+            root.children[1] = _split;
+            root.keys[0] = _root.keys[0];
+            root.keys[1] = _splitKey;
+            root.size = 2;
+            _root = root;
+            _height++;
+            _split = null;
+        }
+        return previous;
+    }
+
+
+    /**
+     * Inserts an entry into the subtree of <tt>node</tt>, which sits
+     * <tt>height</tt> levels above the leaves.  A node that overflows is
+     * split, and the half with the larger keys is left in {@link #_split}
+     * for the caller to link into the parent.
+     */
+    private int insert( Node node, int height, byte key, int value, boolean replace ) {
+        if ( height == 0 ) {
+            Leaf leaf = ( Leaf ) node;
+            int index = lowerBound( leaf.keys, leaf.size, key );
+            if ( index < leaf.size && leaf.keys[index] == key ) {
+                int previous = leaf.values[index];
+                if ( replace ) {
+                    leaf.values[index] = value;
+                }
+                return previous;
+            }
+            insertIntoLeaf( leaf, index, key, value );
+            _size++;
+            _modCount++;
+            return no_entry_value;
+        }
+
+        Inner inner = ( Inner ) node;
+        int child = childIndex( inner, key );
+        int previous = insert( inner.children[child], height - 1, key, value, replace );
+        if ( _split != null ) {
+            Node split = _split;
+            _split = null;
+            insertIntoInner( inner, child + 1, _splitKey, split );
+        }
+        return previous;
+    }
+
+
+    private void insertIntoLeaf( Leaf leaf, int index, byte key, int value ) {
+        Leaf right = null;
+        if ( leaf.size == NODE_SIZE ) {
+            // appending to the last leaf leaves it full, so ascending keys pack densely
+            int from = index == NODE_SIZE && leaf.next == null ? NODE_SIZE : NODE_SIZE / 2;
+            right = new Leaf();
+            right.size = NODE_SIZE - from;
+            System.arraycopy( leaf.keys, from, right.keys, 0, right.size );
+            System.arraycopy( leaf.values, from, right.values, 0, right.size );
+            leaf.size = from;
+            right.prev = leaf;
+            right.next = leaf.next;
+            if ( leaf.next != null ) {
+                leaf.next.prev = right;
+            }
+            leaf.next = right;
+            if ( index >= from ) {
+                leaf = right;
+                index -= from;
+            }
+        }
+
+        System.arraycopy( leaf.keys, index, leaf.keys, index + 1, leaf.size - index );
+        System.arraycopy( leaf.values, index, leaf.values, index + 1, leaf.size - index );
+        leaf.keys[index] = key;
+        leaf.values[index] = value;
+        leaf.size++;
+
+        if ( right != null ) {
+            _split = right;
+            _splitKey = right.keys[0];
+        }
+    }
+
+
+    private void insertIntoInner( Inner inner, int index, byte key, Node child ) {
+        Inner right = null;
+        if ( inner.size == NODE_SIZE ) {
+            int from = index == NODE_SIZE ? NODE_SIZE : NODE_SIZE / 2;
+            right = new Inner();
+            right.size = NODE_SIZE - from;
+            System.arraycopy( inner.keys, from, right.keys, 0, right.size );
+            System.arraycopy( inner.children, from, right.children, 0, right.size );
+            Arrays.fill( inner.children, from, NODE_SIZE, null );
+            inner.size = from;
+            if ( index >= from ) {
+                inner = right;
+                index -= from;
+            }
+        }
+
+        System.arraycopy( inner.keys, index, inner.keys, index + 1, inner.size - index );
+        System.arraycopy( inner.children, index, inner.children, index + 1, inner.size - index );
+        inner.keys[index] = key;
+        inner.children[index] = child;
+        inner.size++;
+
+        if ( right != null ) {
+            _split = right;
+            _splitKey = right.keys[0];
+        }
+    }
+
+
+    /**
+     * Removes an entry from the tree, dropping levels the root no longer
+     * needs.
+     *
+     * @return the value <tt>key</tt> had, or the "no entry" value if it was
+     *         not in the tree.
+     */
+    private int removeEntry( byte key ) {
+        int previous = delete( _root, _height, key );
+        while ( _height > 0 && _root.size == 1 ) {
+            _root = ( ( Inner ) _root ).children[0];
+            _height--;
+        }
+        return previous;
+    }
+
+
+    private int delete( Node node, int height, byte key ) {
+        if ( height == 0 ) {
+            Leaf leaf = ( Leaf ) node;
+            int index = lowerBound( leaf.keys, leaf.size, key );
+            if ( index == leaf.size || leaf.keys[index] != key ) {
+                return no_entry_value;
+            }
+            int previous = leaf.values[index];
+            leaf.size--;
+            System.arraycopy( leaf.keys, index + 1, leaf.keys, index, leaf.size - index );
+            System.arraycopy( leaf.values, index + 1, leaf.values, index, leaf.size - index );
+            _size--;
+            _modCount++;
+            return previous;
+        }
+
+        Inner inner = ( Inner ) node;
+        int child = childIndex( inner, key );
+        int modCount = _modCount;
+        int previous = delete( inner.children[child], height - 1, key );
+        if ( modCount != _modCount && inner.children[child].size < MIN_FILL ) {
+            if ( child + 1 < inner.size &&
+                inner.children[child].size + inner.children[child + 1].size <= NODE_SIZE ) {
+                merge( inner, child );
+            }
+            else if ( child > 0 &&
+                inner.children[child - 1].size + inner.children[child].size <= NODE_SIZE ) {
+                merge( inner, child - 1 );
+            }
+        }
+        return previous;
+    }
+
+
+    /** Moves the contents of child <tt>index + 1</tt> of <tt>inner</tt> into child <tt>index</tt>. */
+    private void merge( Inner inner, int index ) {
+        Node left = inner.children[index];
+        Node right = inner.children[index + 1];
+        if ( left instanceof Leaf ) {
+            Leaf l = ( Leaf ) left;
+            Leaf r = ( Leaf ) right;
+            System.arraycopy( r.keys, 0, l.keys, l.size, r.size );
+            System.arraycopy( r.values, 0, l.values, l.size, r.size );
+            l.next = r.next;
+            if ( r.next != null ) {
+                r.next.prev = l;
+            }
+        }
+        else {
+            Inner l = ( Inner ) left;
+            Inner r = ( Inner ) right;
+            System.arraycopy( r.keys, 0, l.keys, l.size, r.size );
+            System.arraycopy( r.children, 0, l.children, l.size, r.size );
+            // the first child of right is bounded by the key of right in inner
+            l.keys[l.size] = inner.keys[index + 1];
+        }
+        left.size += right.size;
+
+        int moved = inner.size - index - 2;
+        System.arraycopy( inner.keys, index + 2, inner.keys, index + 1, moved );
+        System.arraycopy( inner.children, index + 2, inner.children, index + 1, moved );
+        inner.children[ --inner.size ] = null;
+    }
+
+
+    /** {@inheritDoc} */
+    public byte getNoEntryKey() {
+        return no_entry_key;
+    }
+
+
+    /** {@inheritDoc} */
+    public int getNoEntryValue() {
+        return no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public int size() {
+        if ( _backing == this ) {
+            return _size;
+        }
+        return new TByteBTreeKeyIterator().countRemaining();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean isEmpty() {
+        if ( _backing == this ) {
+            return _size == 0;
+        }
+        return !new TByteBTreeKeyIterator().hasNext();
+    }
+
+
+    /** {@inheritDoc} */
+    public int put( byte key, int value ) {
+        if ( !inRange( key ) ) {
+            throw new IllegalArgumentException( "key out of range: " + key );
+        }
+        return _backing.insertEntry( key, value, true );
+    }
+
+
+    /** {@inheritDoc} */
+    public int putIfAbsent( byte key, int value ) {
+        if ( !inRange( key ) ) {
+            throw new IllegalArgumentException( "key out of range: " + key );
+        }
+        return _backing.insertEntry( key, value, false );
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( Map<? extends Byte, ? extends Integer> map ) {
+        for ( Map.Entry<? extends Byte, ? extends Integer> entry : map.entrySet() ) {
+            this.put( entry.getKey().byteValue(), entry.getValue().intValue() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( TByteIntMap map ) {
+        TByteIntIterator iter = map.iterator();
+        while ( iter.hasNext() ) {
+            iter.advance();
+            this.put( iter.key(), iter.value() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void putAll( byte[] keys, int[] values ) {
+        for ( int i = 0; i < keys.length; i++ ) {
+            this.put( keys[i], values[i] );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public int get( byte key ) {
+        if ( !inRange( key ) ) {
+            return no_entry_value;
+        }
+        Leaf leaf = _backing.leafFor( key );
+        int index = lowerBound( leaf.keys, leaf.size, key );
+        return index < leaf.size && leaf.keys[index] == key ? leaf.values[index] : no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public int getAll( byte[] keys, int[] values ) {
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            values[i] = get( keys[i] );
+            if ( values[i] != no_entry_value || containsKey( keys[i] ) ) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public void clear() {
+        if ( _backing == this ) {
+            _root = _first = new Leaf();
+            _height = 0;
+            _size = 0;
+            _modCount++;
+            return;
+        }
+        for ( TByteIntIterator it = iterator(); it.hasNext(); ) {
+            it.advance();
+            it.remove();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public int remove( byte key ) {
+        if ( !inRange( key ) ) {
+            return no_entry_value;
+        }
+        return _backing.removeEntry( key );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte firstKey() {
+        if ( isEmpty() ) {
+            throw new NoSuchElementException();
+        }
+        return _hasFrom ? after( _from, true ) : after( _backing._first.keys[0], true );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte lastKey() {
+        if ( isEmpty() ) {
+            throw new NoSuchElementException();
+        }
+        if ( _hasTo ) {
+            return before( _to, false );
+        }
+        Leaf leaf = _backing.lastLeaf();
+        return before( leaf.keys[ leaf.size - 1 ], true );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte floorKey( byte key ) {
+        return before( key, true );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte ceilingKey( byte key ) {
+        return after( key, true );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte lowerKey( byte key ) {
+        return before( key, false );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte higherKey( byte key ) {
+        return after( key, false );
+    }
+
+
+    /**
+     * Returns the largest key of the range below <tt>key</tt>, or up to and
+     * including it if <tt>inclusive</tt>, or the "no entry" key.
+     */
+    private byte before( byte key, boolean inclusive ) {
+        if ( _hasTo && key >= _to ) {
+            key = _to;
+            inclusive = false;
+        }
+        Leaf leaf = _backing.leafFor( key );
+        int index = ( inclusive ? upperBound( leaf.keys, leaf.size, key ) :
+            lowerBound( leaf.keys, leaf.size, key ) ) - 1;
+        while ( index < 0 ) {
+            leaf = leaf.prev;
+            if ( leaf == null ) {
+                return no_entry_key;
+            }
+            index = leaf.size - 1;
+        }
+        byte found = leaf.keys[index];
+        return _hasFrom && found < _from ? no_entry_key : found;
+    }
+
+
+    /**
+     * Returns the smallest key of the range above <tt>key</tt>, or from and
+     * including it if <tt>inclusive</tt>, or the "no entry" key.
+     */
+    private byte after( byte key, boolean inclusive ) {
+        if ( _hasFrom && key < _from ) {
+            key = _from;
+            inclusive = true;
+        }
+        Leaf leaf = _backing.leafFor( key );
+        int index = inclusive ? lowerBound( leaf.keys, leaf.size, key ) :
+            upperBound( leaf.keys, leaf.size, key );
+        while ( index == leaf.size ) {
+            leaf = leaf.next;
+            if ( leaf == null ) {
+                return no_entry_key;
+            }
+            index = 0;
+        }
+        byte found = leaf.keys[index];
+        return _hasTo && found >= _to ? no_entry_key : found;
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteIntSortedMap subMap( byte fromKey, byte toKey ) {
+        checkBound( fromKey );
+        checkBound( toKey );
+        return new TByteIntBTreeMap( _backing, true, fromKey, true, toKey );
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteIntSortedMap headMap( byte toKey ) {
+        checkBound( toKey );
+        return new TByteIntBTreeMap( _backing, _hasFrom, _from, true, toKey );
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteIntSortedMap tailMap( byte fromKey ) {
+        checkBound( fromKey );
+        return new TByteIntBTreeMap( _backing, true, fromKey, _hasTo, _to );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachEntry( byte fromKey, byte toKey, TByteIntProcedure procedure ) {
+        return subMap( fromKey, toKey ).forEachEntry( procedure );
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteSet keySet() {
+        return new TKeyView();
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys() {
+        return keys( new byte[ size() ] );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] keys( byte[] array ) {
+        int size = size();
+        if ( array.length < size ) {
+            array = new byte[ size ];
+        }
+        int j = 0;
+        for ( TByteIterator it = new TByteBTreeKeyIterator(); it.hasNext(); ) {
+            array[j++] = it.next();
+        }
+        if ( array.length > size ) {
+            array[size] = no_entry_key;
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public TIntCollection valueCollection() {
+        return new TValueView();
+    }
+
+
+    /** {@inheritDoc} */
+    public int[] values() {
+        return values( new int[ size() ] );
+    }
+
+
+    /** {@inheritDoc} */
+    public int[] values( int[] array ) {
+        int size = size();
+        if ( array.length < size ) {
+            array = new int[ size ];
+        }
+        int j = 0;
+        for ( TIntIterator it = new TIntBTreeValueIterator(); it.hasNext(); ) {
+            array[j++] = it.next();
+        }
+        if ( array.length > size ) {
+            array[size] = no_entry_value;
+        }
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsValue( int val ) {
+        for ( TIntIterator it = new TIntBTreeValueIterator(); it.hasNext(); ) {
+            if ( it.next() == val ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsKey( byte key ) {
+        if ( !inRange( key ) ) {
+            return false;
+        }
+        Leaf leaf = _backing.leafFor( key );
+        int index = lowerBound( leaf.keys, leaf.size, key );
+        return index < leaf.size && leaf.keys[index] == key;
+    }
+
+
+    /** {@inheritDoc} */
+    public int containsKeys( byte[] keys, long[] found ) {
+        Arrays.fill( found, 0, ( keys.length + 63 ) >>> 6, 0L );
+        int count = 0;
+        for ( int i = 0; i < keys.length; i++ ) {
+            if ( containsKey( keys[i] ) ) {
+                found[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteIntIterator iterator() {
+        return new TByteIntBTreeIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachKey( TByteProcedure procedure ) {
+        for ( TByteIterator it = new TByteBTreeKeyIterator(); it.hasNext(); ) {
+            if ( !procedure.execute( it.next() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachValue( TIntProcedure procedure ) {
+        for ( TIntIterator it = new TIntBTreeValueIterator(); it.hasNext(); ) {
+            if ( !procedure.execute( it.next() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEachEntry( TByteIntProcedure procedure ) {
+        for ( TByteIntIterator it = iterator(); it.hasNext(); ) {
+            it.advance();
+            if ( !procedure.execute( it.key(), it.value() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public void transformValues( TIntFunction function ) {
+        for ( TByteIntIterator it = iterator(); it.hasNext(); ) {
+            it.advance();
+            it.setValue( function.execute( it.value() ) );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean retainEntries( TByteIntProcedure procedure ) {
+        boolean modified = false;
+        for ( TByteIntIterator it = iterator(); it.hasNext(); ) {
+            it.advance();
+            if ( !procedure.execute( it.key(), it.value() ) ) {
+                it.remove();
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean increment( byte key ) {
+        return adjustValue( key, ( int ) 1 );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean adjustValue( byte key, int amount ) {
+        if ( !inRange( key ) ) {
+            return false;
+        }
+        Leaf leaf = _backing.leafFor( key );
+        int index = lowerBound( leaf.keys, leaf.size, key );
+        if ( index == leaf.size || leaf.keys[index] != key ) {
+            return false;
+        }
+        leaf.values[index] += amount;
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public int adjustOrPutValue( byte key, int adjust_amount, int put_amount ) {
+        if ( adjustValue( key, adjust_amount ) ) {
+            return get( key );
+        }
+        put( key, put_amount );
+        return put_amount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TByteIntMap ) ) {
+            return false;
+        }
+        final TByteIntMap that = ( TByteIntMap ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        final int that_no_entry_value = that.getNoEntryValue();
+        return forEachEntry( new TByteIntProcedure() {
+            public boolean execute( byte key, int this_value ) {
+                int that_value = that.get( key );
+                return this_value == that_value ||
+                       this_value == no_entry_value ||
+                       that_value == that_no_entry_value;
+            }
+        } );
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        int hashcode = 0;
+        for ( TByteIntIterator it = iterator(); it.hasNext(); ) {
+            it.advance();
+            hashcode += HashFunctions.hash( it.key() ) ^ HashFunctions.hash( it.value() );
+        }
+        return hashcode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder( "{" );
+        forEachEntry( new TByteIntProcedure() {
+            private boolean first = true;
+            public boolean execute( byte key, int value ) {
+                if ( first ) first = false;
+                else buf.append( ", " );
+
+                buf.append(key);
+                buf.append("=");
+                buf.append(value);
+                return true;
+            }
+        });
+        buf.append( "}" );
+        return buf.toString();
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // NO_ENTRY_KEY and NO_ENTRY_VALUE
+        out.writeByte( no_entry_key );
+        out.writeInt( no_entry_value );
+
+        // NUMBER OF ENTRIES
+        out.writeInt( size() );
+
+        // ENTRIES, in ascending order of the keys
+        for ( TByteIntIterator it = iterator(); it.hasNext(); ) {
+            it.advance();
+            out.writeByte( it.key() );
+            out.writeInt( it.value() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // NO_ENTRY_KEY and NO_ENTRY_VALUE
+        no_entry_key = in.readByte();
+        no_entry_value = in.readInt();
+
+        // a view is read back as a map of its own
+        _backing = this;
+        _hasFrom = _hasTo = false;
+        clear();
+
+        // NUMBER OF ENTRIES
+        int size = in.readInt();
+
+        // ENTRIES
+        while ( size-- > 0 ) {
+            byte key = in.readByte();
+            int val = in.readInt();
+            put( key, val );
+        }
+    }
+
+
+    /** Walks the entries in the range of the map in ascending order of their keys. */
+    abstract class BTreeIterator {
+        /** the leaf of the next entry, null at the end of the range */
+        private Leaf _leaf;
+        /** the index of the next entry in its leaf */
+        private int _index;
+        /** the leaf of the entry last returned, null if there is none */
+        protected Leaf _lastLeaf;
+        /** the index of the entry last returned in its leaf */
+        protected int _lastIndex;
+        private int _expectedModCount;
+
+        BTreeIterator() {
+            _expectedModCount = _backing._modCount;
+            if ( _hasFrom ) {
+                seek( _from );
+            }
+            else {
+                _leaf = _backing._first;
+                _index = 0;
+                settle();
+            }
+        }
+
+
+        /** Moves to the first entry whose key is not below <tt>key</tt>. */
+        private void seek( byte key ) {
+            _leaf = _backing.leafFor( key );
+            _index = lowerBound( _leaf.keys, _leaf.size, key );
+            settle();
+        }
+
+
+        /** Moves on past the end of a leaf, and stops at the end of the range. */
+        private void settle() {
+            while ( _leaf != null && _index == _leaf.size ) {
+                _leaf = _leaf.next;
+                _index = 0;
+            }
+            if ( _leaf != null && _hasTo && _leaf.keys[_index] >= _to ) {
+                _leaf = null;
+            }
+        }
+
+
+        /** Counts the entries left in the range, leaf by leaf, and ends the iteration. */
+        int countRemaining() {
+            int count = 0;
+            while ( _leaf != null ) {
+                Leaf leaf = _leaf;
+                int end = _hasTo && leaf.keys[ leaf.size - 1 ] >= _to ?
+                    lowerBound( leaf.keys, leaf.size, _to ) : leaf.size;
+                count += end - _index;
+                _index = end;
+                settle();
+            }
+            return count;
+        }
+
+
+        public boolean hasNext() {
+            if ( _expectedModCount != _backing._modCount ) {
+                throw new ConcurrentModificationException();
+            }
+            return _leaf != null;
+        }
+
+
+        protected final void moveToNext() {
+            if ( !hasNext() ) {
+                throw new NoSuchElementException();
+            }
+            _lastLeaf = _leaf;
+            _lastIndex = _index++;
+            settle();
+        }
+
+
+        public void remove() {
+            if ( _expectedModCount != _backing._modCount ) {
+                throw new ConcurrentModificationException();
+            }
+            if ( _lastLeaf == null ) {
+                throw new IllegalStateException();
+            }
+            byte key = _lastLeaf.keys[_lastIndex];
+            _backing.removeEntry( key );
+            _lastLeaf = null;
+            _expectedModCount = _backing._modCount;
+            // merges may have moved the next entry, find it again
+            if ( _leaf != null ) {
+                seek( key );
+            }
+        }
+    }
+
+
+    class TByteIntBTreeIterator extends BTreeIterator implements TByteIntIterator {
+
+        /** {@inheritDoc} */
+        public void advance() {
+            moveToNext();
+        }
+
+
+        /** {@inheritDoc} */
+        public byte key() {
+            return _lastLeaf.keys[_lastIndex];
+        }
+
+
+        /** {@inheritDoc} */
+        public int value() {
+            return _lastLeaf.values[_lastIndex];
+        }
+
+
+        /** {@inheritDoc} */
+        public int setValue( int val ) {
+            int old = value();
+            _lastLeaf.values[_lastIndex] = val;
+            return old;
+        }
+    }
+
+
+    class TByteBTreeKeyIterator extends BTreeIterator implements TByteIterator {
+
+        /** {@inheritDoc} */
+        public byte next() {
+            moveToNext();
+            return _lastLeaf.keys[_lastIndex];
+        }
+    }
+
+
+    class TIntBTreeValueIterator extends BTreeIterator implements TIntIterator {
+
+        /** {@inheritDoc} */
+        public int next() {
+            moveToNext();
+            return _lastLeaf.values[_lastIndex];
+        }
+    }
+
+
+    /** a view onto the keys of the map. */
+    protected class TKeyView implements TByteSet {
+
+        /** {@inheritDoc} */
+        public TByteIterator iterator() {
+            return new TByteBTreeKeyIterator();
+        }
+
+
+        /** {@inheritDoc} */
+        public byte getNoEntryValue() {
+            return no_entry_key;
+        }
+
+
+        /** {@inheritDoc} */
+        public int size() {
+            return TByteIntBTreeMap.this.size();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean isEmpty() {
+            return TByteIntBTreeMap.this.isEmpty();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean contains( byte entry ) {
+            return containsKey( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public byte[] toArray() {
+            return keys();
+        }
+
+
+        /** {@inheritDoc} */
+        public byte[] toArray( byte[] dest ) {
+            return keys( dest );
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteIntMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean add( byte entry ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean remove( byte entry ) {
+            if ( !containsKey( entry ) ) {
+                return false;
+            }
+            TByteIntBTreeMap.this.remove( entry );
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( Collection<?> collection ) {
+            for ( Object element : collection ) {
+                if ( !( element instanceof Byte )
+                    || ! containsKey( ( ( Byte ) element ).byteValue() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( TByteCollection collection ) {
+            TByteIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( ! containsKey( iter.next() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( byte[] array ) {
+            for ( byte element : array ) {
+                if ( ! containsKey( element ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteIntMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( Collection<? extends Byte> collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteIntMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( TByteCollection collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /**
+         * Unsupported when operating upon a Key Set view of a TByteIntMap
+         * <p/>
+         * {@inheritDoc}
+         */
+        public boolean addAll( byte[] array ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings({"SuspiciousMethodCalls"})
+        public boolean retainAll( Collection<?> collection ) {
+            boolean modified = false;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( Byte.valueOf( iter.next() ) ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( TByteCollection collection ) {
+            if ( this == collection ) {
+                return false;
+            }
+            boolean modified = false;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( iter.next() ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( byte[] array ) {
+            Arrays.sort( array );
+            boolean modified = false;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( Arrays.binarySearch( array, iter.next() ) < 0 ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( Collection<?> collection ) {
+            boolean changed = false;
+            for ( Object element : collection ) {
+                if ( element instanceof Byte ) {
+                    if ( remove( ( ( Byte ) element ).byteValue() ) ) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( TByteCollection collection ) {
+            if ( this == collection ) {
+                clear();
+                return true;
+            }
+            boolean changed = false;
+            TByteIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( remove( iter.next() ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( byte[] array ) {
+            boolean changed = false;
+            for ( int i = array.length; i-- > 0; ) {
+                if ( remove( array[i] ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public void clear() {
+            TByteIntBTreeMap.this.clear();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean forEach( TByteProcedure procedure ) {
+            return forEachKey( procedure );
+        }
+
+
+        @Override
+        public boolean equals( Object other ) {
+            if ( !( other instanceof TByteSet ) ) {
+                return false;
+            }
+            final TByteSet that = ( TByteSet ) other;
+            if ( that.size() != this.size() ) {
+                return false;
+            }
+            return forEachKey( new TByteProcedure() {
+                public boolean execute( byte key ) {
+                    return that.contains( key );
+                }
+            } );
+        }
+
+
+        @Override
+        public int hashCode() {
+            int hashcode = 0;
+            TByteIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                hashcode += HashFunctions.hash( iter.next() );
+            }
+            return hashcode;
+        }
+
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder( "{" );
+            forEachKey( new TByteProcedure() {
+                private boolean first = true;
+
+
+                public boolean execute( byte key ) {
+                    if ( first ) {
+                        first = false;
+                    } else {
+                        buf.append( ", " );
+                    }
+
+                    buf.append( key );
+                    return true;
+                }
+            } );
+            buf.append( "}" );
+            return buf.toString();
+        }
+    }
+
+
+    /** a view onto the values of the map. */
+    protected class TValueView implements TIntCollection {
+
+        /** {@inheritDoc} */
+        public TIntIterator iterator() {
+            return new TIntBTreeValueIterator();
+        }
+
+
+        /** {@inheritDoc} */
+        public int getNoEntryValue() {
+            return no_entry_value;
+        }
+
+
+        /** {@inheritDoc} */
+        public int size() {
+            return TByteIntBTreeMap.this.size();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean isEmpty() {
+            return TByteIntBTreeMap.this.isEmpty();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean contains( int entry ) {
+            return containsValue( entry );
+        }
+
+
+        /** {@inheritDoc} */
+        public int[] toArray() {
+            return values();
+        }
+
+
+        /** {@inheritDoc} */
+        public int[] toArray( int[] dest ) {
+            return values( dest );
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean add( int entry ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean remove( int entry ) {
+            for ( TIntIterator it = iterator(); it.hasNext(); ) {
+                if ( it.next() == entry ) {
+                    it.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( Collection<?> collection ) {
+            for ( Object element : collection ) {
+                if ( !( element instanceof Integer )
+                    || ! containsValue( ( ( Integer ) element ).intValue() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( TIntCollection collection ) {
+            TIntIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( ! containsValue( iter.next() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean containsAll( int[] array ) {
+            for ( int element : array ) {
+                if ( ! containsValue( element ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( Collection<? extends Integer> collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( TIntCollection collection ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean addAll( int[] array ) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings({"SuspiciousMethodCalls"})
+        public boolean retainAll( Collection<?> collection ) {
+            boolean modified = false;
+            TIntIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( Integer.valueOf( iter.next() ) ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( TIntCollection collection ) {
+            if ( this == collection ) {
+                return false;
+            }
+            boolean modified = false;
+            TIntIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( ! collection.contains( iter.next() ) ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean retainAll( int[] array ) {
+            Arrays.sort( array );
+            boolean modified = false;
+            TIntIterator iter = iterator();
+            while ( iter.hasNext() ) {
+                if ( Arrays.binarySearch( array, iter.next() ) < 0 ) {
+                    iter.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( Collection<?> collection ) {
+            boolean changed = false;
+            for ( Object element : collection ) {
+                if ( element instanceof Integer ) {
+                    if ( remove( ( ( Integer ) element ).intValue() ) ) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( TIntCollection collection ) {
+            if ( this == collection ) {
+                clear();
+                return true;
+            }
+            boolean changed = false;
+            TIntIterator iter = collection.iterator();
+            while ( iter.hasNext() ) {
+                if ( remove( iter.next() ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean removeAll( int[] array ) {
+            boolean changed = false;
+            for ( int i = array.length; i-- > 0; ) {
+                if ( remove( array[i] ) ) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+
+        /** {@inheritDoc} */
+        public void clear() {
+            TByteIntBTreeMap.this.clear();
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean forEach( TIntProcedure procedure ) {
+            return forEachValue( procedure );
+        }
+
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder( "{" );
+            forEachValue( new TIntProcedure() {
+                private boolean first = true;
+
+                public boolean execute( int value ) {
+                    if ( first ) {
+                        first = false;
+                    } else {
+                        buf.append( ", " );
+                    }
+
+                    buf.append( value );
+                    return true;
+                }
+            } );
+            buf.append( "}" );
+            return buf.toString();
+        }
+    }
+} // TByteIntBTreeMap
@@ -0,0 +1,145 @@
+///////////////////////////////////////////////////////////////////////////////
+// Copyright (c) 2009, Rob Eden All Rights Reserved.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+package gnu.trove.set;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+import gnu.trove.procedure.TByteProcedure;
+
+
+/**
+ * A {@link TByteSet} that keeps its elements in order, and so can answer
+ * range queries: the elements nearest to a given value, and views onto the
+ * elements between two values.  Elements are ordered by the <tt>&lt;</tt>
+ * operator of the byte type, which leaves no place for NaN elements.
+ * <p/>
+ * Where the methods of <tt>java.util.NavigableSet</tt> return
+ * <tt>null</tt>, these return the "no entry" value (see
+ * {@link #getNoEntryValue}).
+ */
+public interface TByteSortedSet extends TByteSet {
+    /**
+     * Returns the smallest element of the set.
+     *
+     * @return the first element
+     * @throws java.util.NoSuchElementException if the set is empty
+     */
+    byte first();
+
+
+    /**
+     * Returns the largest element of the set.
+     *
+     * @return the last element
+     * @throws java.util.NoSuchElementException if the set is empty
+     */
+    byte last();
+
+
+    /**
+     * Returns the largest element less than or equal to <tt>value</tt>.
+     *
+     * @param value an <code>byte</code> value
+     * @return the element, or the "no entry" value if there is none
+     */
+    byte floor( byte value );
+
+
+    /**
+     * Returns the smallest element greater than or equal to <tt>value</tt>.
+     *
+     * @param value an <code>byte</code> value
+     * @return the element, or the "no entry" value if there is none
+     */
+    byte ceiling( byte value );
+
+
+    /**
+     * Returns the largest element strictly less than <tt>value</tt>.
+     *
+     * @param value an <code>byte</code> value
+     * @return the element, or the "no entry" value if there is none
+     */
+    byte lower( byte value );
+
+
+    /**
+     * Returns the smallest element strictly greater than <tt>value</tt>.
+     *
+     * @param value an <code>byte</code> value
+     * @return the element, or the "no entry" value if there is none
+     */
+    byte higher( byte value );
+
+
+    /**
+     * Returns a view onto the elements of the set that range from
+     * <tt>fromElement</tt>, inclusive, to <tt>toElement</tt>, exclusive.
+     * Changes to either set show in the other; adding an element outside of
+     * the range to the view throws an <tt>IllegalArgumentException</tt>.
+     *
+     * @param fromElement the lowest element of the view
+     * @param toElement   the value above the highest element of the view
+     * @return a view onto a range of the set
+     * @throws IllegalArgumentException if <tt>fromElement</tt> is greater
+     *         than <tt>toElement</tt>, or either lies outside of the range of
+     *         this set
+     */
+    TByteSortedSet subSet( byte fromElement, byte toElement );
+
+
+    /**
+     * Returns a view onto the elements of the set that are less than
+     * <tt>toElement</tt>, like {@link #subSet}.
+     *
+     * @param toElement the value above the highest element of the view
+     * @return a view onto a range of the set
+     * @throws IllegalArgumentException if <tt>toElement</tt> lies outside of
+     *         the range of this set
+     */
+    TByteSortedSet headSet( byte toElement );
+
+
+    /**
+     * Returns a view onto the elements of the set that are greater than or
+     * equal to <tt>fromElement</tt>, like {@link #subSet}.
+     *
+     * @param fromElement the lowest element of the view
+     * @return a view onto a range of the set
+     * @throws IllegalArgumentException if <tt>fromElement</tt> lies outside
+     *         of the range of this set
+     */
+    TByteSortedSet tailSet( byte fromElement );
+
+
+    /**
+     * Executes <tt>procedure</tt> for each element that ranges from
+     * <tt>fromElement</tt>, inclusive, to <tt>toElement</tt>, exclusive, in
+     * ascending order.
+     *
+     * @param fromElement the lowest element to visit
+     * @param toElement   the value above the highest element to visit
+     * @param procedure   a <code>TByteProcedure</code> value
+     * @return false if the loop over the elements terminated because
+     *         the procedure returned false for some element.
+     * @throws IllegalArgumentException as {@link #subSet} does
+     */
+    boolean forEach( byte fromElement, byte toElement, TByteProcedure procedure );
+}
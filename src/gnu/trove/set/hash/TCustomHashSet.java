@@ -166,6 +166,7 @@ public class TCustomHashSet<E> extends TCustomObjectHash<E>
         int oldCapacity = _set.length;
         int oldSize = size();
         Object oldSet[] = _set;
+        int oldHashCodes[] = replaceHashCodes( newCapacity );
 
         _set = new Object[newCapacity];
         Arrays.fill( _set, FREE );
@@ -173,7 +174,7 @@ public class TCustomHashSet<E> extends TCustomObjectHash<E>
         for ( int i = oldCapacity; i-- > 0; ) {
             E o = (E) oldSet[i];
             if ( o != FREE && o != REMOVED ) {
-                int index = insertKey( o );
+                int index = reinsertKey( o, oldHashCodes, i );
                 if ( index < 0 ) { // everyone pays for this because some people can't RTFM
                     throwObjectContractViolation( _set[( -index - 1 )], o, size(), oldSize, oldSet);
                 }
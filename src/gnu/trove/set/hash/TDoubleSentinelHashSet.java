@@ -0,0 +1,790 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.set.hash;
+
+import gnu.trove.set.TDoubleSet;
+import gnu.trove.iterator.TDoubleIterator;
+import gnu.trove.procedure.TDoubleProcedure;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.TDoubleCollection;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Externalizable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+
+/**
+ * An open addressed set implementation for double primitives that keeps no
+ * slot states: a reserved <i>free key</i>, chosen by the caller, marks the
+ * free slots of the table.  A probe only reads the element array, and the
+ * table takes one byte per slot less than a {@link TDoubleHashSet}.
+ * <p/>
+ * The free key can still be an element of the set; it is kept in a flag
+ * outside the table.  The table has a power of two capacity and uses
+ * linear probing.  Removals shift the following elements of a cluster
+ * back, so no removal markers are needed and the table never needs
+ * compaction.  A free key of 0 also saves filling new tables.
+ */
+public class TDoubleSentinelHashSet implements TDoubleSet, Externalizable {
+	static final long serialVersionUID = 1L;
+
+    /** the largest number of slots a table may have */
+    protected static final int MAX_CAPACITY = 1 << 30;
+
+    /** the elements of the set, and the free key in the free slots */
+    protected transient double[] _set;
+
+    /** the number of elements in the table, not counting the free key */
+    protected transient int _size;
+
+    /** whether the free key is an element of the set */
+    protected transient boolean _hasFreeKey;
+
+    /** the number of elements the table holds before it grows */
+    protected transient int _maxSize;
+
+    /** the load above which the table grows */
+    protected float _loadFactor;
+
+    /** the value that marks the free slots of the table */
+    protected double free_key;
+
+    /** the value that represents null */
+    protected double no_entry_value;
+
+
+    /** FOR EXTERNALIZATION ONLY!!! */
+    public TDoubleSentinelHashSet() {}
+
+
+    /**
+     * Creates a new <code>TDoubleSentinelHashSet</code> instance with the
+     * default capacity and load factor.
+     *
+     * @param freeKey the value that marks free slots.
+     */
+    public TDoubleSentinelHashSet( double freeKey ) {
+        this( freeKey, Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR );
+    }
+
+
+    /**
+     * Creates a new <code>TDoubleSentinelHashSet</code> instance that holds
+     * <tt>initialCapacity</tt> elements without growing, with the default
+     * load factor.
+     *
+     * @param freeKey the value that marks free slots.
+     * @param initialCapacity an <code>int</code> value
+     */
+    public TDoubleSentinelHashSet( double freeKey, int initialCapacity ) {
+        this( freeKey, initialCapacity, Constants.DEFAULT_LOAD_FACTOR );
+    }
+
+
+    /**
+     * Creates a new <code>TDoubleSentinelHashSet</code> instance that holds
+     * <tt>initialCapacity</tt> elements without growing, with the
+     * specified load factor.
+     *
+     * @param freeKey the value that marks free slots; not NaN.
+     * @param initialCapacity an <code>int</code> value
+     * @param loadFactor a <code>float</code> value
+     */
+    public TDoubleSentinelHashSet( double freeKey, int initialCapacity, float loadFactor ) {
+        // NaN never equals itself, so it can't mark anything
+        if ( freeKey != freeKey ) {
+            throw new IllegalArgumentException( "free key must not be NaN" );
+        }
+        if ( !( loadFactor > 0 && loadFactor < 1 ) ) {
+            throw new IllegalArgumentException( "load factor must be in (0, 1): " + loadFactor );
+        }
+        _loadFactor = loadFactor;
+        free_key = freeKey;
+        no_entry_value = Constants.DEFAULT_DOUBLE_NO_ENTRY_VALUE;
+        setUp( capacityFor( Math.max( 1, initialCapacity ) ) );
+    }
+
+
+    /**
+     * Creates a new <code>TDoubleSentinelHashSet</code> instance that is a copy
+     * of the existing collection.
+     *
+     * @param freeKey the value that marks free slots.
+     * @param collection a <tt>TDoubleCollection</tt> that will be duplicated.
+     */
+    public TDoubleSentinelHashSet( double freeKey, TDoubleCollection collection ) {
+        this( freeKey, collection.size() );
+        addAll( collection );
+    }
+
+
+    /**
+     * Creates a new <code>TDoubleSentinelHashSet</code> instance containing the
+     * elements of <tt>array</tt>.
+     *
+     * @param freeKey the value that marks free slots.
+     * @param array an array of <code>double</code> primitives
+     */
+    public TDoubleSentinelHashSet( double freeKey, double[] array ) {
+        this( freeKey, array.length );
+        addAll( array );
+    }
+
+
+    /**
+     * Returns the smallest power of two capacity that holds <tt>size</tt>
+     * elements without exceeding the load factor.
+     */
+    protected int capacityFor( int size ) {
+        int capacity = 2;
+        while ( capacity < MAX_CAPACITY && capacity * _loadFactor < size ) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+
+    /**
+     * Allocates a table of <tt>capacity</tt> free slots.
+     *
+     * @param capacity a power of two.
+     */
+    private void setUp( int capacity ) {
+        _set = new double[ capacity ];
+        if ( free_key != ( double ) 0 ) {
+            Arrays.fill( _set, free_key );
+        }
+        _maxSize = Math.min( capacity - 1, ( int ) ( capacity * _loadFactor ) );
+    }
+
+
+    /**
+     * Returns the value that marks the free slots of the table.
+     *
+     * @return the free key
+     */
+    public double getFreeKey() {
+        return free_key;
+    }
+
+
+    /**
+     * Returns the number of slots in the table.
+     *
+     * @return the physical capacity of the table.
+     */
+    public int capacity() {
+        return _set.length;
+    }
+
+
+    /**
+     * Grows the table, if necessary, so that <tt>desiredCapacity</tt> more
+     * elements fit without further growth.
+     *
+     * @param desiredCapacity an <code>int</code> value
+     */
+    public void ensureCapacity( int desiredCapacity ) {
+        int capacity = capacityFor( _size + desiredCapacity );
+        if ( capacity > _set.length ) {
+            rehash( capacity );
+        }
+    }
+
+
+    /** Returns the natural slot of <tt>key</tt>. */
+    private int slotFor( double key ) {
+        return HashFunctions.mix( HashFunctions.hash( key ) ) & ( _set.length - 1 );
+    }
+
+
+    /**
+     * Locates the slot of <tt>key</tt>, which must not be the free key.
+     *
+     * @return the slot of the key, or -1 if it isn't in the table.
+     */
+    protected int index( double key ) {
+        final double[] set = _set;
+        final int mask = set.length - 1;
+        for ( int slot = slotFor( key ); ; slot = ( slot + 1 ) & mask ) {
+            double cur = set[slot];
+            if ( cur == key ) {
+                return slot;
+            }
+            if ( cur == free_key ) {
+                return -1;
+            }
+        }
+    }
+
+
+    /**
+     * Moves every element into a new table of <tt>newCapacity</tt> slots.
+     *
+     * @param newCapacity a power of two.
+     */
+    protected void rehash( int newCapacity ) {
+        final double[] old_set = _set;
+
+        setUp( newCapacity );
+        final int mask = newCapacity - 1;
+        for ( int i = old_set.length; i-- > 0; ) {
+            double key = old_set[i];
+            if ( key != free_key ) {
+                int slot = slotFor( key );
+                while ( _set[slot] != free_key ) {
+                    slot = ( slot + 1 ) & mask;
+                }
+                _set[slot] = key;
+            }
+        }
+    }
+
+
+    /**
+     * Removes the element at <tt>slot</tt> by shifting the following
+     * elements of its cluster back until one of them would move before its
+     * natural slot.  Elements are only ever moved towards the start of
+     * their cluster.
+     */
+    protected void removeAt( int slot ) {
+        final double[] set = _set;
+        final int mask = set.length - 1;
+        int gap = slot;
+        int next = slot;
+        while ( true ) {
+            next = ( next + 1 ) & mask;
+            double key = set[next];
+            if ( key == free_key ) {
+                break;
+            }
+            // the element can stay if its natural slot lies cyclically in (gap, next]
+            if ( ( ( next - slotFor( key ) ) & mask ) < ( ( next - gap ) & mask ) ) {
+                continue;
+            }
+            set[gap] = key;
+            gap = next;
+        }
+        set[gap] = free_key;
+        _size--;
+    }
+
+
+    /**
+     * Returns a free slot, where a scan of the table can start and end.
+     * Clusters never span a free slot, so a scan that runs backwards from
+     * it sees the elements a removal moves before the slot they move into,
+     * which lets scans remove elements as they go.
+     */
+    private int scanStart() {
+        int slot = _set.length;
+        while ( _set[--slot] != free_key ) {
+            ;
+        }
+        return slot;
+    }
+
+
+    /** {@inheritDoc} */
+    public double getNoEntryValue() {
+        return no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public int size() {
+        return _hasFreeKey ? _size + 1 : _size;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean contains( double entry ) {
+        if ( entry == free_key ) {
+            return _hasFreeKey;
+        }
+        return index( entry ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public TDoubleIterator iterator() {
+        return new TDoubleSentinelHashIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public double[] toArray() {
+        return toArray( new double[ size() ] );
+    }
+
+
+    /** {@inheritDoc} */
+    public double[] toArray( double[] dest ) {
+        int size = size();
+        if ( dest.length < size ) {
+            dest = new double[ size ];
+        }
+        int j = 0;
+        if ( _hasFreeKey ) {
+            dest[j++] = free_key;
+        }
+        double[] set = _set;
+        for ( int i = set.length; i-- > 0; ) {
+            if ( set[i] != free_key ) {
+                dest[j++] = set[i];
+            }
+        }
+        if ( dest.length > size ) {
+            dest[size] = no_entry_value;
+        }
+        return dest;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean add( double val ) {
+        if ( val == free_key ) {
+            if ( _hasFreeKey ) {
+                return false;
+            }
+            _hasFreeKey = true;
+            return true;
+        }
+
+        final double[] set = _set;
+        final int mask = set.length - 1;
+        int slot = slotFor( val );
+        for ( ; ; slot = ( slot + 1 ) & mask ) {
+            double cur = set[slot];
+            if ( cur == val ) {
+                return false;
+            }
+            if ( cur == free_key ) {
+                break;
+            }
+        }
+        if ( _size == _maxSize && set.length == MAX_CAPACITY ) {
+            throw new IllegalStateException( "table is full" );
+        }
+        set[slot] = val;
+        if ( ++_size > _maxSize ) {
+            rehash( set.length << 1 );
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean remove( double val ) {
+        if ( val == free_key ) {
+            boolean had = _hasFreeKey;
+            _hasFreeKey = false;
+            return had;
+        }
+        int index = index( val );
+        if ( index < 0 ) {
+            return false;
+        }
+        removeAt( index );
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsAll( Collection<?> collection ) {
+        for ( Object element : collection ) {
+            if ( !( element instanceof Double )
+                || ! contains( ( ( Double ) element ).doubleValue() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsAll( TDoubleCollection collection ) {
+        TDoubleIterator iter = collection.iterator();
+        while ( iter.hasNext() ) {
+            if ( ! contains( iter.next() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsAll( double[] array ) {
+        for ( int i = array.length; i-- > 0; ) {
+            if ( ! contains( array[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean addAll( Collection<? extends Double> collection ) {
+        ensureCapacity( collection.size() );
+        boolean changed = false;
+        for ( Double element : collection ) {
+            if ( add( element.doubleValue() ) ) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean addAll( TDoubleCollection collection ) {
+        ensureCapacity( collection.size() );
+        boolean changed = false;
+        TDoubleIterator iter = collection.iterator();
+        while ( iter.hasNext() ) {
+            if ( add( iter.next() ) ) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean addAll( double[] array ) {
+        ensureCapacity( array.length );
+        boolean changed = false;
+        for ( int i = array.length; i-- > 0; ) {
+            if ( add( array[i] ) ) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    @SuppressWarnings({"SuspiciousMethodCalls"})
+    public boolean retainAll( Collection<?> collection ) {
+        boolean modified = false;
+        TDoubleIterator iter = iterator();
+        while ( iter.hasNext() ) {
+            if ( ! collection.contains( Double.valueOf( iter.next() ) ) ) {
+                iter.remove();
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean retainAll( TDoubleCollection collection ) {
+        if ( this == collection ) {
+            return false;
+        }
+        boolean modified = false;
+        TDoubleIterator iter = iterator();
+        while ( iter.hasNext() ) {
+            if ( ! collection.contains( iter.next() ) ) {
+                iter.remove();
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean retainAll( double[] array ) {
+        Arrays.sort( array );
+        boolean modified = false;
+        TDoubleIterator iter = iterator();
+        while ( iter.hasNext() ) {
+            if ( Arrays.binarySearch( array, iter.next() ) < 0 ) {
+                iter.remove();
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean removeAll( Collection<?> collection ) {
+        boolean changed = false;
+        for ( Object element : collection ) {
+            if ( element instanceof Double ) {
+                if ( remove( ( ( Double ) element ).doubleValue() ) ) {
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean removeAll( TDoubleCollection collection ) {
+        if ( this == collection ) {
+            clear();
+            return true;
+        }
+        boolean changed = false;
+        TDoubleIterator iter = collection.iterator();
+        while ( iter.hasNext() ) {
+            if ( remove( iter.next() ) ) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean removeAll( double[] array ) {
+        boolean changed = false;
+        for ( int i = array.length; i-- > 0; ) {
+            if ( remove( array[i] ) ) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    public void clear() {
+        Arrays.fill( _set, free_key );
+        _size = 0;
+        _hasFreeKey = false;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEach( TDoubleProcedure procedure ) {
+        if ( _hasFreeKey && ! procedure.execute( free_key ) ) {
+            return false;
+        }
+        double[] set = _set;
+        for ( int i = set.length; i-- > 0; ) {
+            if ( set[i] != free_key && ! procedure.execute( set[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TDoubleSet ) ) {
+            return false;
+        }
+        final TDoubleSet that = ( TDoubleSet ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        return forEach( new TDoubleProcedure() {
+            public boolean execute( double value ) {
+                return that.contains( value );
+            }
+        } );
+    }
+
+
+    /** {@inheritDoc} */
+    public int hashCode() {
+        int hashcode = _hasFreeKey ? HashFunctions.hash( free_key ) : 0;
+        double[] set = _set;
+        for ( int i = set.length; i-- > 0; ) {
+            if ( set[i] != free_key ) {
+                hashcode += HashFunctions.hash( set[i] );
+            }
+        }
+        return hashcode;
+    }
+
+
+    /** {@inheritDoc} */
+    public String toString() {
+        final StringBuilder buf = new StringBuilder( "{" );
+        forEach( new TDoubleProcedure() {
+            private boolean first = true;
+
+            public boolean execute( double value ) {
+                if ( first ) {
+                    first = false;
+                } else {
+                    buf.append( ", " );
+                }
+
+                buf.append( value );
+                return true;
+            }
+        } );
+        buf.append( "}" );
+        return buf.toString();
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+
+    	// VERSION
+    	out.writeByte( 0 );
+
+    	// LOAD FACTOR
+    	out.writeFloat( _loadFactor );
+
+    	// FREE KEY and NO ENTRY VALUE
+    	out.writeDouble( free_key );
+    	out.writeDouble( no_entry_value );
+
+    	// NUMBER OF ENTRIES, the free key included
+    	out.writeBoolean( _hasFreeKey );
+    	out.writeInt( _size );
+
+    	// ENTRIES
+        for ( int i = _set.length; i-- > 0; ) {
+            if ( _set[i] != free_key ) {
+                out.writeDouble( _set[i] );
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void readExternal( ObjectInput in )
+    	throws IOException, ClassNotFoundException {
+
+    	// VERSION
+    	in.readByte();
+
+    	// LOAD FACTOR
+    	_loadFactor = in.readFloat();
+
+    	// FREE KEY and NO ENTRY VALUE
+    	free_key = in.readDouble();
+    	no_entry_value = in.readDouble();
+
+    	// NUMBER OF ENTRIES
+    	_hasFreeKey = in.readBoolean();
+    	int size = in.readInt();
+    	_size = 0;
+    	setUp( capacityFor( size ) );
+
+    	// ENTRIES
+    	while ( size-- > 0 ) {
+    	    add( in.readDouble() );
+    	}
+    }
+
+
+    /**
+     * Returns the free key if it is an element, then walks the table
+     * backwards from a free slot, which keeps removal through the iterator
+     * safe (see {@link #scanStart}).
+     */
+    class TDoubleSentinelHashIterator implements TDoubleIterator {
+        private final int _start;
+        private int _position;
+        private int _expectedSize;
+        private boolean _freeKeyNext;
+        /** the slot of the element last returned, or -2 for the free key */
+        private int _slot = -1;
+
+        TDoubleSentinelHashIterator() {
+            _start = scanStart();
+            _position = _set.length;
+            _expectedSize = size();
+            _freeKeyNext = _hasFreeKey;
+        }
+
+
+        private int nextPosition() {
+            if ( _expectedSize != size() ) {
+                throw new ConcurrentModificationException();
+            }
+            final int mask = _set.length - 1;
+            int position = _position;
+            while ( position-- > 0 && _set[( _start + position ) & mask] == free_key ) {
+                ;
+            }
+            return position;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean hasNext() {
+            return _freeKeyNext || nextPosition() >= 0;
+        }
+
+
+        /** {@inheritDoc} */
+        public double next() {
+            if ( _freeKeyNext ) {
+                _freeKeyNext = false;
+                _slot = -2;
+                return free_key;
+            }
+            if ( ( _position = nextPosition() ) < 0 ) {
+                throw new NoSuchElementException();
+            }
+            _slot = ( _start + _position ) & ( _set.length - 1 );
+            return _set[_slot];
+        }
+
+
+        /** {@inheritDoc} */
+        public void remove() {
+            if ( _expectedSize != size() ) {
+                throw new ConcurrentModificationException();
+            }
+            if ( _slot == -2 ) {
+                _hasFreeKey = false;
+            }
+            else if ( _slot < 0 || _set[_slot] == free_key ) {
+                throw new IllegalStateException();
+            }
+            else {
+                removeAt( _slot );
+            }
+            _slot = -1;
+            _expectedSize--;
+        }
+    }
+} // TDoubleSentinelHashSet
@@ -0,0 +1,190 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.set.hash;
+
+import gnu.trove.TFloatCollection;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.strategy.TFloatHashingStrategy;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+
+/**
+ * An open addressed set implementation for float primitives that hashes and
+ * compares its elements with a {@link TFloatHashingStrategy}.
+ */
+public class TFloatCustomHashSet extends TFloatHashSet {
+	static final long serialVersionUID = 1L;
+
+    /** the strategy that hashes and compares the elements */
+    protected TFloatHashingStrategy strategy;
+
+
+    /** FOR EXTERNALIZATION ONLY!!! */
+    public TFloatCustomHashSet() {}
+
+
+    /**
+     * Creates a new <code>TFloatCustomHashSet</code> instance with the default
+     * capacity and load factor.
+     *
+     * @param strategy used to hash and compare the elements.
+     */
+    public TFloatCustomHashSet( TFloatHashingStrategy strategy ) {
+        super();
+        this.strategy = strategy;
+    }
+
+
+    /**
+     * Creates a new <code>TFloatCustomHashSet</code> instance with a prime
+     * capacity equal to or greater than <tt>initialCapacity</tt> and
+     * with the default load factor.
+     *
+     * @param strategy used to hash and compare the elements.
+     * @param initialCapacity an <code>int</code> value
+     */
+    public TFloatCustomHashSet( TFloatHashingStrategy strategy, int initialCapacity ) {
+        super( initialCapacity );
+        this.strategy = strategy;
+    }
+
+
+    /**
+     * Creates a new <code>TFloatCustomHashSet</code> instance with a prime
+     * capacity equal to or greater than <tt>initialCapacity</tt> and
+     * with the specified load factor.
+     *
+     * @param strategy used to hash and compare the elements.
+     * @param initialCapacity an <code>int</code> value
+     * @param load_factor a <code>float</code> value
+     */
+    public TFloatCustomHashSet( TFloatHashingStrategy strategy, int initialCapacity,
+        float load_factor ) {
+
+        super( initialCapacity, load_factor );
+        this.strategy = strategy;
+    }
+
+
+    /**
+     * Creates a new <code>TFloatCustomHashSet</code> instance with a prime
+     * capacity equal to or greater than <tt>initial_capacity</tt> and
+     * with the specified load factor.
+     *
+     * @param strategy used to hash and compare the elements.
+     * @param initial_capacity an <code>int</code> value
+     * @param load_factor a <code>float</code> value
+     * @param no_entry_value a <code>float</code> value that represents null.
+     */
+    public TFloatCustomHashSet( TFloatHashingStrategy strategy, int initial_capacity,
+        float load_factor, float no_entry_value ) {
+
+        super( initial_capacity, load_factor, no_entry_value );
+        this.strategy = strategy;
+    }
+
+
+    /**
+     * Creates a new <code>TFloatCustomHashSet</code> instance that is a copy
+     * of the existing collection.
+     *
+     * @param strategy used to hash and compare the elements.
+     * @param collection a <tt>TFloatCollection</tt> that will be duplicated.
+     */
+    public TFloatCustomHashSet( TFloatHashingStrategy strategy, TFloatCollection collection ) {
+        this( strategy, Math.max( collection.size(), DEFAULT_CAPACITY ) );
+        addAll( collection );
+    }
+
+
+    /**
+     * Creates a new <code>TFloatCustomHashSet</code> instance containing the
+     * elements of <tt>array</tt>.
+     *
+     * @param strategy used to hash and compare the elements.
+     * @param array an array of <code>float</code> primitives
+     */
+    public TFloatCustomHashSet( TFloatHashingStrategy strategy, float[] array ) {
+        this( strategy, Math.max( array.length, DEFAULT_CAPACITY ) );
+        addAll( array );
+    }
+
+
+    /**
+     * Returns the strategy that hashes and compares the elements of this set.
+     *
+     * @return the hashing strategy
+     */
+    public TFloatHashingStrategy getHashingStrategy() {
+        return strategy;
+    }
+
+
+    /** {@inheritDoc} */
+    protected int hash( float val ) {
+        return HashFunctions.hash( strategy.computeHashCode( val ), _hashMixer );
+    }
+
+
+    /** {@inheritDoc} */
+    protected boolean equals( float one, float two ) {
+        return strategy.equals( one, two );
+    }
+
+
+    /** {@inheritDoc} */
+    protected boolean usesHashingStrategy() {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+
+    	// VERSION
+    	out.writeByte( 0 );
+
+    	// STRATEGY, ahead of the elements that are hashed with it
+    	out.writeObject( strategy );
+
+    	// SUPER
+    	super.writeExternal( out );
+    }
+
+
+    /** {@inheritDoc} */
+    public void readExternal( ObjectInput in )
+    	throws IOException, ClassNotFoundException {
+
+    	// VERSION
+    	in.readByte();
+
+    	// STRATEGY
+    	strategy = ( TFloatHashingStrategy ) in.readObject();
+
+    	// SUPER
+    	super.readExternal( in );
+    }
+} // TFloatCustomHashSet
@@ -0,0 +1,295 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.set.hash;
+
+import gnu.trove.set.TFloatSet;
+import gnu.trove.iterator.TFloatIterator;
+import gnu.trove.procedure.TFloatProcedure;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.impl.hash.TFloatFrozenHash;
+import gnu.trove.TFloatCollection;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+
+/**
+ * An immutable set of float primitives in a minimal perfect hash table (see
+ * {@link TFloatFrozenHash}): one slot per element, no free slots and no
+ * states array, and reads that need no locking.  Build the elements in a
+ * {@link TFloatHashSet} or any other collection, then freeze them with
+ * {@link TFloatHashSet#freeze} or the constructors of this class.  Like the
+ * sets returned by <tt>TCollections.unmodifiableSet()</tt>, the methods
+ * that would modify the set throw an
+ * <tt>UnsupportedOperationException</tt>.
+ */
+public class TFloatFrozenHashSet extends TFloatFrozenHash implements TFloatSet {
+    static final long serialVersionUID = 1L;
+
+    /** the value that represents null */
+    protected float no_entry_value;
+
+
+    /**
+     * Creates an empty <code>TFloatFrozenHashSet</code> instance.
+     */
+    public TFloatFrozenHashSet() {
+        no_entry_value = Constants.DEFAULT_FLOAT_NO_ENTRY_VALUE;
+    }
+
+
+    /**
+     * Creates a new <code>TFloatFrozenHashSet</code> instance holding the
+     * distinct elements of <tt>collection</tt>.
+     *
+     * @param collection a <tt>TFloatCollection</tt> that will be duplicated.
+     */
+    public TFloatFrozenHashSet( TFloatCollection collection ) {
+        no_entry_value = collection.getNoEntryValue();
+        build( collection instanceof TFloatSet ? collection.toArray() :
+            new TFloatHashSet( collection ).toArray() );
+    }
+
+
+    /**
+     * Creates a new <code>TFloatFrozenHashSet</code> instance holding the
+     * distinct elements of <tt>array</tt>.
+     *
+     * @param array an array of <code>float</code> primitives
+     */
+    public TFloatFrozenHashSet( float[] array ) {
+        this( new TFloatHashSet( array ) );
+    }
+
+
+    /**
+     * Creates a new <code>TFloatFrozenHashSet</code> instance holding the keys
+     * of a frozen map or set, whose table it shares rather than copies.
+     *
+     * @param hash a frozen map or set
+     * @param no_entry_value a <code>float</code> value that represents null.
+     */
+    public TFloatFrozenHashSet( TFloatFrozenHash hash, float no_entry_value ) {
+        super( hash );
+        this.no_entry_value = no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public float getNoEntryValue() {
+        return no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean contains( float val ) {
+        return index( val ) >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    public TFloatIterator iterator() {
+        return new TFloatFrozenHashIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public float[] toArray() {
+        return _set.clone();
+    }
+
+
+    /** {@inheritDoc} */
+    public float[] toArray( float[] dest ) {
+        int size = _set.length;
+        if ( dest.length < size ) {
+            dest = new float[ size ];
+        }
+        System.arraycopy( _set, 0, dest, 0, size );
+        if ( dest.length > size ) {
+            dest[size] = no_entry_value;
+        }
+        return dest;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsAll( Collection<?> collection ) {
+        for ( Object element : collection ) {
+            if ( !( element instanceof Float )
+                || ! contains( ( ( Float ) element ).floatValue() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsAll( TFloatCollection collection ) {
+        TFloatIterator iter = collection.iterator();
+        while ( iter.hasNext() ) {
+            if ( ! contains( iter.next() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsAll( float[] array ) {
+        for ( int i = array.length; i-- > 0; ) {
+            if ( ! contains( array[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    public boolean add( float entry ) { throw new UnsupportedOperationException(); }
+    public boolean remove( float entry ) { throw new UnsupportedOperationException(); }
+
+    public boolean addAll( Collection<? extends Float> collection ) { throw new UnsupportedOperationException(); }
+    public boolean addAll( TFloatCollection collection ) { throw new UnsupportedOperationException(); }
+    public boolean addAll( float[] array ) { throw new UnsupportedOperationException(); }
+
+    public boolean retainAll( Collection<?> collection ) { throw new UnsupportedOperationException(); }
+    public boolean retainAll( TFloatCollection collection ) { throw new UnsupportedOperationException(); }
+    public boolean retainAll( float[] array ) { throw new UnsupportedOperationException(); }
+
+    public boolean removeAll( Collection<?> collection ) { throw new UnsupportedOperationException(); }
+    public boolean removeAll( TFloatCollection collection ) { throw new UnsupportedOperationException(); }
+    public boolean removeAll( float[] array ) { throw new UnsupportedOperationException(); }
+
+    public void clear() { throw new UnsupportedOperationException(); }
+
+
+    /** {@inheritDoc} */
+    public boolean forEach( TFloatProcedure procedure ) {
+        float[] set = _set;
+        for ( int i = 0; i < set.length; i++ ) {
+            if ( ! procedure.execute( set[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TFloatSet ) ) {
+            return false;
+        }
+        TFloatSet that = ( TFloatSet ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        for ( int i = _set.length; i-- > 0; ) {
+            if ( ! that.contains( _set[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public int hashCode() {
+        int hashcode = 0;
+        for ( int i = _set.length; i-- > 0; ) {
+            hashcode += HashFunctions.hash( _set[i] );
+        }
+        return hashcode;
+    }
+
+
+    /** {@inheritDoc} */
+    public String toString() {
+        StringBuilder buf = new StringBuilder( "{" );
+        for ( int i = 0; i < _set.length; i++ ) {
+            if ( i > 0 ) {
+                buf.append( ", " );
+            }
+            buf.append( _set[i] );
+        }
+        buf.append( "}" );
+        return buf.toString();
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // SUPER
+        super.writeExternal( out );
+
+        // NO ENTRY VALUE
+        out.writeFloat( no_entry_value );
+    }
+
+
+    /** {@inheritDoc} */
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // SUPER
+        super.readExternal( in );
+
+        // NO ENTRY VALUE
+        no_entry_value = in.readFloat();
+    }
+
+
+    class TFloatFrozenHashIterator implements TFloatIterator {
+        private int _index;
+
+        /** {@inheritDoc} */
+        public boolean hasNext() {
+            return _index < _set.length;
+        }
+
+
+        /** {@inheritDoc} */
+        public float next() {
+            if ( _index == _set.length ) {
+                throw new NoSuchElementException();
+            }
+            return _set[ _index++ ];
+        }
+
+
+        /** {@inheritDoc} */
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+} // TFloatFrozenHashSet
@@ -20,6 +20,7 @@
 
 package gnu.trove.set.hash;
 
+import gnu.trove.impl.hash.THash;
 import gnu.trove.impl.hash.TObjectHash;
 import gnu.trove.impl.HashFunctions;
 import gnu.trove.procedure.TObjectProcedure;
@@ -159,6 +160,7 @@ public class THashSet<E> extends TObjectHash<E>
 
         int oldSize = size();
         Object oldSet[] = _set;
+        int oldHashCodes[] = replaceHashCodes(newCapacity);
 
         _set = new Object[newCapacity];
         Arrays.fill(_set, FREE);
@@ -167,7 +169,7 @@ public class THashSet<E> extends TObjectHash<E>
         for (int i = oldCapacity; i-- > 0;) {
             E o = (E) oldSet[i];
             if (o != FREE && o != REMOVED) {
-                int index = insertKey(o);
+                int index = reinsertKey(o, oldHashCodes, i);
                 if (index < 0) { // everyone pays for this because some people can't RTFM
                     throwObjectContractViolation(_set[(-index - 1)], o, size(), oldSize, oldSet);
                 }
@@ -179,6 +181,43 @@ public class THashSet<E> extends TObjectHash<E>
         reportPotentialConcurrentMod(size(), oldSize);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean supportsIncrementalRehash() {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected THash detachTable(int newCapacity) {
+        THashSet<E> old = new THashSet<E>(0, _loadFactor);
+        old._set = _set;
+        old._hashCodes = replaceHashCodes(newCapacity);
+
+        _set = new Object[newCapacity];
+        Arrays.fill(_set, FREE);
+        return old;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings({"unchecked"})
+    protected void migrateSlot(THash table, int index) {
+        THashSet<E> old = (THashSet<E>) table;
+        Object o = old._set[index];
+        if (o == FREE || o == REMOVED) {
+            return;
+        }
+        old._set[index] = REMOVED;
+        old._size--;
+
+        reinsertKey((E) o, old._hashCodes, index);
+        postMigrateHook(consumeFreeSlot);
+    }
+
+
     /**
      * Returns a new array containing the objects in the set.
      *
@@ -241,6 +280,7 @@ public class THashSet<E> extends TObjectHash<E>
      */
     @SuppressWarnings({"unchecked"})
     public boolean remove(Object obj) {
+        migrateKey(obj);
         int index = index(obj);
         if (index >= 0) {
             removeAt(index);
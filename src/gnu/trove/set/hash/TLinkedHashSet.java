@@ -7,6 +7,7 @@ import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.list.linked.TIntLinkedList;
 import gnu.trove.procedure.TIntProcedure;
 import gnu.trove.procedure.TObjectProcedure;
+import gnu.trove.strategy.ProbeStrategy;
 
 import java.io.IOException;
 import java.io.ObjectOutput;
@@ -141,6 +142,32 @@ public class TLinkedHashSet<E> extends THashSet<E> {
         return true;            // yes, we added something
     }
 
+    /**
+     * The order of a linked set is kept as a list of slots, so only
+     * {@link ProbeStrategy#DOUBLE_HASHING}, which never moves an element to
+     * another slot, is supported.
+     *
+     * @throws UnsupportedOperationException for any other strategy
+     */
+    @Override
+    public void setProbeStrategy(ProbeStrategy strategy) {
+        if (strategy != ProbeStrategy.DOUBLE_HASHING) {
+            throw new UnsupportedOperationException(
+                    "TLinkedHashSet only supports " + ProbeStrategy.DOUBLE_HASHING);
+        }
+        super.setProbeStrategy(strategy);
+    }
+
+
+    /**
+     * The insertion order is kept as slot indices, which an incremental
+     * rehash would invalidate, so it is not supported.
+     */
+    @Override
+    protected boolean supportsIncrementalRehash() {
+        return false;
+    }
+
     @Override
     protected void removeAt(int index) {
         // Remove from order first since super.removeAt can trigger compaction
@@ -161,6 +188,7 @@ public class TLinkedHashSet<E> extends THashSet<E> {
         int oldSize = size();
 
         Object oldSet[] = _set;
+        int oldHashCodes[] = replaceHashCodes(newCapacity);
 
         order.clear();
         _set = new Object[newCapacity];
@@ -174,7 +202,7 @@ public class TLinkedHashSet<E> extends THashSet<E> {
             }
 
             if (o != FREE && o != REMOVED) {
-                int index = insertKey(o);
+                int index = reinsertKey(o, oldHashCodes, i);
                 if (index < 0) { // everyone pays for this because some people can't RTFM
                     throwObjectContractViolation(_set[(-index - 1)], o, size(), oldSize, oldSet);
                 }
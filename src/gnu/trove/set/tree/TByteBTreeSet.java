@@ -0,0 +1,1046 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.set.tree;
+
+import gnu.trove.set.TByteSet;
+import gnu.trove.set.TByteSortedSet;
+import gnu.trove.iterator.TByteIterator;
+import gnu.trove.procedure.TByteProcedure;
+import gnu.trove.impl.Constants;
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.TByteCollection;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Externalizable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+
+/**
+ * A sorted set implementation for byte primitives, kept in a B+tree.  The
+ * leaves of the tree hold the elements in sorted runs of up to
+ * {@link #NODE_SIZE} and are linked in order; the inner nodes hold the
+ * smallest element of each child, as in the maps of
+ * <tt>gnu.trove.map.tree</tt>.
+ * <p/>
+ * {@link #subSet}, {@link #headSet} and {@link #tailSet} return sets of
+ * this class that share the tree of their set and are limited to a range
+ * of elements.
+ */
+public class TByteBTreeSet implements TByteSortedSet, Externalizable {
+    static final long serialVersionUID = 1L;
+
+    /** the most elements a leaf, or children an inner node, holds */
+    protected static final int NODE_SIZE = 64;
+
+    /** nodes below this size are merged with a sibling if they fit into it */
+    private static final int MIN_FILL = NODE_SIZE / 4;
+
+    /** the set whose tree this set is a range of, this set itself if it is not a view */
+    protected transient TByteBTreeSet _backing;
+
+    /** whether the elements of this set are limited to at least {@link #_from} */
+    protected transient boolean _hasFrom;
+
+    /** the lowest element of this set, if {@link #_hasFrom} */
+    protected transient byte _from;
+
+    /** whether the elements of this set are limited to less than {@link #_to} */
+    protected transient boolean _hasTo;
+
+    /** the value above the highest element of this set, if {@link #_hasTo} */
+    protected transient byte _to;
+
+    /** the root of the tree, a leaf while the tree has a single node */
+    private transient Node _root;
+
+    /** the number of inner node levels above the leaves */
+    private transient int _height;
+
+    /** the leaf with the smallest elements */
+    private transient Leaf _first;
+
+    /** the number of elements in the tree */
+    private transient int _size;
+
+    /** counts the insertions and removals, for the iterators to notice them */
+    private transient int _modCount;
+
+    /** the node split off by the last call of insert(), for the caller to link in */
+    private transient Node _split;
+
+    /** the smallest element of {@link #_split} */
+    private transient byte _splitKey;
+
+    /** the value that represents null */
+    protected byte no_entry_value;
+
+
+    /** a node of the tree */
+    static abstract class Node {
+        /** the elements of a leaf; the smallest element of each child of an inner node */
+        final byte[] keys = new byte[ NODE_SIZE ];
+
+        /** the number of elements of a leaf, or children of an inner node */
+        int size;
+    }
+
+
+    /** a leaf, which holds a sorted run of elements */
+    static final class Leaf extends Node {
+        Leaf prev;
+        Leaf next;
+    }
+
+
+    /** an inner node, whose child <tt>i</tt> holds the elements from keys[i] below keys[i + 1] */
+    static final class Inner extends Node {
+        final Node[] children = new Node[ NODE_SIZE ];
+    }
+
+
+    /**
+     * Creates a new, empty <code>TByteBTreeSet</code> instance.
+     */
+    public TByteBTreeSet() {
+        this( Constants.DEFAULT_BYTE_NO_ENTRY_VALUE );
+    }
+
+
+    /**
+     * Creates a new, empty <code>TByteBTreeSet</code> instance.
+     *
+     * @param no_entry_value a <code>byte</code> value that represents null.
+     */
+    public TByteBTreeSet( byte no_entry_value ) {
+        _backing = this;
+        this.no_entry_value = no_entry_value;
+        _root = _first = new Leaf();
+    }
+
+
+    /**
+     * Creates a new <code>TByteBTreeSet</code> instance that is a copy
+     * of the existing collection.
+     *
+     * @param collection a <tt>TByteCollection</tt> that will be duplicated.
+     */
+    public TByteBTreeSet( TByteCollection collection ) {
+        this( collection.getNoEntryValue() );
+        addAll( collection );
+    }
+
+
+    /**
+     * Creates a new <code>TByteBTreeSet</code> instance containing the
+     * elements of <tt>array</tt>.
+     *
+     * @param array an array of <code>byte</code> primitives
+     */
+    public TByteBTreeSet( byte[] array ) {
+        this();
+        addAll( array );
+    }
+
+
+    /** Creates a view onto the elements of <tt>backing</tt> in the given range. */
+    private TByteBTreeSet( TByteBTreeSet backing, boolean hasFrom, byte from,
+        boolean hasTo, byte to ) {
+
+        if ( hasFrom && hasTo && from > to ) {
+            throw new IllegalArgumentException( "fromElement > toElement: " + from + " > " + to );
+        }
+        _backing = backing;
+        _hasFrom = hasFrom;
+        _from = from;
+        _hasTo = hasTo;
+        _to = to;
+        no_entry_value = backing.no_entry_value;
+    }
+
+
+    /** Returns whether <tt>value</tt> lies in the range of this set. */
+    private boolean inRange( byte value ) {
+        return ( !_hasFrom || value >= _from ) && ( !_hasTo || value < _to );
+    }
+
+
+    /** Checks that a view bound lies in the range of this set, including its upper end. */
+    private void checkBound( byte value ) {
+        if ( ( _hasFrom && value < _from ) || ( _hasTo && value > _to ) ) {
+            throw new IllegalArgumentException( "value out of range: " + value );
+        }
+    }
+
+
+    /** Returns the first index of <tt>keys</tt> whose element is not below <tt>value</tt>. */
+    static int lowerBound( byte[] keys, int size, byte value ) {
+        int low = 0;
+        int high = size;
+        while ( low < high ) {
+            int mid = ( low + high ) >>> 1;
+            if ( keys[mid] < value ) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+
+    /** Returns the first index of <tt>keys</tt> whose element is above <tt>value</tt>. */
+    static int upperBound( byte[] keys, int size, byte value ) {
+        int low = 0;
+        int high = size;
+        while ( low < high ) {
+            int mid = ( low + high ) >>> 1;
+            if ( keys[mid] <= value ) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+
+    /** Returns the child of <tt>inner</tt> whose range holds <tt>value</tt>. */
+    static int childIndex( Inner inner, byte value ) {
+        // keys[0] is not a bound, the first child takes every element below keys[1]
+        int low = 1;
+        int high = inner.size;
+        while ( low < high ) {
+            int mid = ( low + high ) >>> 1;
+            if ( inner.keys[mid] <= value ) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+
+    /** Returns the leaf whose range holds <tt>value</tt>. */
+    private Leaf leafFor( byte value ) {
+        Node node = _root;
+        for ( int height = _height; height > 0; height-- ) {
+            Inner inner = ( Inner ) node;
+            node = inner.children[ childIndex( inner, value ) ];
+        }
+        return ( Leaf ) node;
+    }
+
+
+    /** Returns the leaf with the largest elements. */
+    private Leaf lastLeaf() {
+        Node node = _root;
+        for ( int height = _height; height > 0; height-- ) {
+            Inner inner = ( Inner ) node;
+            node = inner.children[ inner.size - 1 ];
+        }
+        return ( Leaf ) node;
+    }
+
+
+    /**
+     * Adds an element to the tree, growing it by a level if the root splits.
+     *
+     * @return true if the element was added, false if it was present already.
+     */
+    private boolean insertEntry( byte value ) {
+        boolean inserted = insert( _root, _height, value );
+        if ( _split != null ) {
+            Inner root = new Inner();
+            root.children[0] = _root;
+            root.children[1] = _split;
+            root.keys[0] = _root.keys[0];
+            root.keys[1] = _splitKey;
+            root.size = 2;
+            _root = root;
+            _height++;
+            _split = null;
+        }
+        return inserted;
+    }
+
+
+    /**
+     * Inserts an element into the subtree of <tt>node</tt>, which sits
+     * <tt>height</tt> levels above the leaves.  A node that overflows is
+     * split, and the half with the larger elements is left in
+     * {@link #_split} for the caller to link into the parent.
+     */
+    private boolean insert( Node node, int height, byte value ) {
+        if ( height == 0 ) {
+            Leaf leaf = ( Leaf ) node;
+            int index = lowerBound( leaf.keys, leaf.size, value );
+            if ( index < leaf.size && leaf.keys[index] == value ) {
+                return false;
+            }
+            insertIntoLeaf( leaf, index, value );
+            _size++;
+            _modCount++;
+            return true;
+        }
+
+        Inner inner = ( Inner ) node;
+        int child = childIndex( inner, value );
+        boolean inserted = insert( inner.children[child], height - 1, value );
+        if ( _split != null ) {
+            Node split = _split;
+            _split = null;
+            insertIntoInner( inner, child + 1, _splitKey, split );
+        }
+        return inserted;
+    }
+
+
+    private void insertIntoLeaf( Leaf leaf, int index, byte value ) {
+        Leaf right = null;
+        if ( leaf.size == NODE_SIZE ) {
+            // appending to the last leaf leaves it full, so ascending elements pack densely
+            int from = index == NODE_SIZE && leaf.next == null ? NODE_SIZE : NODE_SIZE / 2;
+            right = new Leaf();
+            right.size = NODE_SIZE - from;
+            System.arraycopy( leaf.keys, from, right.keys, 0, right.size );
+            leaf.size = from;
+            right.prev = leaf;
+            right.next = leaf.next;
+            if ( leaf.next != null ) {
+                leaf.next.prev = right;
+            }
+            leaf.next = right;
+            if ( index >= from ) {
+                leaf = right;
+                index -= from;
+            }
+        }
+
+        System.arraycopy( leaf.keys, index, leaf.keys, index + 1, leaf.size - index );
+        leaf.keys[index] = value;
+        leaf.size++;
+
+        if ( right != null ) {
+            _split = right;
+            _splitKey = right.keys[0];
+        }
+    }
+
+
+    private void insertIntoInner( Inner inner, int index, byte key, Node child ) {
+        Inner right = null;
+        if ( inner.size == NODE_SIZE ) {
+            int from = index == NODE_SIZE ? NODE_SIZE : NODE_SIZE / 2;
+            right = new Inner();
+            right.size = NODE_SIZE - from;
+            System.arraycopy( inner.keys, from, right.keys, 0, right.size );
+            System.arraycopy( inner.children, from, right.children, 0, right.size );
+            Arrays.fill( inner.children, from, NODE_SIZE, null );
+            inner.size = from;
+            if ( index >= from ) {
+                inner = right;
+                index -= from;
+            }
+        }
+
+        System.arraycopy( inner.keys, index, inner.keys, index + 1, inner.size - index );
+        System.arraycopy( inner.children, index, inner.children, index + 1, inner.size - index );
+        inner.keys[index] = key;
+        inner.children[index] = child;
+        inner.size++;
+
+        if ( right != null ) {
+            _split = right;
+            _splitKey = right.keys[0];
+        }
+    }
+
+
+    /**
+     * Removes an element from the tree, dropping levels the root no longer
+     * needs.
+     *
+     * @return true if the element was removed, false if it was not in the tree.
+     */
+    private boolean removeEntry( byte value ) {
+        boolean removed = delete( _root, _height, value );
+        while ( _height > 0 && _root.size == 1 ) {
+            _root = ( ( Inner ) _root ).children[0];
+            _height--;
+        }
+        return removed;
+    }
+
+
+    private boolean delete( Node node, int height, byte value ) {
+        if ( height == 0 ) {
+            Leaf leaf = ( Leaf ) node;
+            int index = lowerBound( leaf.keys, leaf.size, value );
+            if ( index == leaf.size || leaf.keys[index] != value ) {
+                return false;
+            }
+            leaf.size--;
+            System.arraycopy( leaf.keys, index + 1, leaf.keys, index, leaf.size - index );
+            _size--;
+            _modCount++;
+            return true;
+        }
+
+        Inner inner = ( Inner ) node;
+        int child = childIndex( inner, value );
+        if ( !delete( inner.children[child], height - 1, value ) ) {
+            return false;
+        }
+        if ( inner.children[child].size < MIN_FILL ) {
+            if ( child + 1 < inner.size &&
+                inner.children[child].size + inner.children[child + 1].size <= NODE_SIZE ) {
+                merge( inner, child );
+            }
+            else if ( child > 0 &&
+                inner.children[child - 1].size + inner.children[child].size <= NODE_SIZE ) {
+                merge( inner, child - 1 );
+            }
+        }
+        return true;
+    }
+
+
+    /** Moves the contents of child <tt>index + 1</tt> of <tt>inner</tt> into child <tt>index</tt>. */
+    private void merge( Inner inner, int index ) {
+        Node left = inner.children[index];
+        Node right = inner.children[index + 1];
+        System.arraycopy( right.keys, 0, left.keys, left.size, right.size );
+        if ( left instanceof Leaf ) {
+            Leaf l = ( Leaf ) left;
+            Leaf r = ( Leaf ) right;
+            l.next = r.next;
+            if ( r.next != null ) {
+                r.next.prev = l;
+            }
+        }
+        else {
+            Inner l = ( Inner ) left;
+            Inner r = ( Inner ) right;
+            System.arraycopy( r.children, 0, l.children, l.size, r.size );
+            // the first child of right is bounded by the key of right in inner
+            l.keys[l.size] = inner.keys[index + 1];
+        }
+        left.size += right.size;
+
+        int moved = inner.size - index - 2;
+        System.arraycopy( inner.keys, index + 2, inner.keys, index + 1, moved );
+        System.arraycopy( inner.children, index + 2, inner.children, index + 1, moved );
+        inner.children[ --inner.size ] = null;
+    }
+
+
+    /** {@inheritDoc} */
+    public byte getNoEntryValue() {
+        return no_entry_value;
+    }
+
+
+    /** {@inheritDoc} */
+    public int size() {
+        if ( _backing == this ) {
+            return _size;
+        }
+        return new TByteBTreeIterator().countRemaining();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean isEmpty() {
+        if ( _backing == this ) {
+            return _size == 0;
+        }
+        return !new TByteBTreeIterator().hasNext();
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean contains( byte entry ) {
+        if ( !inRange( entry ) ) {
+            return false;
+        }
+        Leaf leaf = _backing.leafFor( entry );
+        int index = lowerBound( leaf.keys, leaf.size, entry );
+        return index < leaf.size && leaf.keys[index] == entry;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean add( byte entry ) {
+        if ( !inRange( entry ) ) {
+            throw new IllegalArgumentException( "value out of range: " + entry );
+        }
+        return _backing.insertEntry( entry );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean remove( byte entry ) {
+        if ( !inRange( entry ) ) {
+            return false;
+        }
+        return _backing.removeEntry( entry );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte first() {
+        if ( isEmpty() ) {
+            throw new NoSuchElementException();
+        }
+        return _hasFrom ? after( _from, true ) : after( _backing._first.keys[0], true );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte last() {
+        if ( isEmpty() ) {
+            throw new NoSuchElementException();
+        }
+        if ( _hasTo ) {
+            return before( _to, false );
+        }
+        Leaf leaf = _backing.lastLeaf();
+        return before( leaf.keys[ leaf.size - 1 ], true );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte floor( byte value ) {
+        return before( value, true );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte ceiling( byte value ) {
+        return after( value, true );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte lower( byte value ) {
+        return before( value, false );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte higher( byte value ) {
+        return after( value, false );
+    }
+
+
+    /**
+     * Returns the largest element of the range below <tt>value</tt>, or up
+     * to and including it if <tt>inclusive</tt>, or the "no entry" value.
+     */
+    private byte before( byte value, boolean inclusive ) {
+        if ( _hasTo && value >= _to ) {
+            value = _to;
+            inclusive = false;
+        }
+        Leaf leaf = _backing.leafFor( value );
+        int index = ( inclusive ? upperBound( leaf.keys, leaf.size, value ) :
+            lowerBound( leaf.keys, leaf.size, value ) ) - 1;
+        while ( index < 0 ) {
+            leaf = leaf.prev;
+            if ( leaf == null ) {
+                return no_entry_value;
+            }
+            index = leaf.size - 1;
+        }
+        byte found = leaf.keys[index];
+        return _hasFrom && found < _from ? no_entry_value : found;
+    }
+
+
+    /**
+     * Returns the smallest element of the range above <tt>value</tt>, or
+     * from and including it if <tt>inclusive</tt>, or the "no entry" value.
+     */
+    private byte after( byte value, boolean inclusive ) {
+        if ( _hasFrom && value < _from ) {
+            value = _from;
+            inclusive = true;
+        }
+        Leaf leaf = _backing.leafFor( value );
+        int index = inclusive ? lowerBound( leaf.keys, leaf.size, value ) :
+            upperBound( leaf.keys, leaf.size, value );
+        while ( index == leaf.size ) {
+            leaf = leaf.next;
+            if ( leaf == null ) {
+                return no_entry_value;
+            }
+            index = 0;
+        }
+        byte found = leaf.keys[index];
+        return _hasTo && found >= _to ? no_entry_value : found;
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteSortedSet subSet( byte fromElement, byte toElement ) {
+        checkBound( fromElement );
+        checkBound( toElement );
+        return new TByteBTreeSet( _backing, true, fromElement, true, toElement );
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteSortedSet headSet( byte toElement ) {
+        checkBound( toElement );
+        return new TByteBTreeSet( _backing, _hasFrom, _from, true, toElement );
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteSortedSet tailSet( byte fromElement ) {
+        checkBound( fromElement );
+        return new TByteBTreeSet( _backing, true, fromElement, _hasTo, _to );
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEach( byte fromElement, byte toElement, TByteProcedure procedure ) {
+        return subSet( fromElement, toElement ).forEach( procedure );
+    }
+
+
+    /** {@inheritDoc} */
+    public TByteIterator iterator() {
+        return new TByteBTreeIterator();
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] toArray() {
+        return toArray( new byte[ size() ] );
+    }
+
+
+    /** {@inheritDoc} */
+    public byte[] toArray( byte[] dest ) {
+        int size = size();
+        if ( dest.length < size ) {
+            dest = new byte[ size ];
+        }
+        int j = 0;
+        for ( TByteIterator it = iterator(); it.hasNext(); ) {
+            dest[j++] = it.next();
+        }
+        if ( dest.length > size ) {
+            dest[size] = no_entry_value;
+        }
+        return dest;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsAll( Collection<?> collection ) {
+        for ( Object element : collection ) {
+            if ( !( element instanceof Byte )
+                || ! contains( ( ( Byte ) element ).byteValue() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsAll( TByteCollection collection ) {
+        TByteIterator iter = collection.iterator();
+        while ( iter.hasNext() ) {
+            if ( ! contains( iter.next() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean containsAll( byte[] array ) {
+        for ( int i = array.length; i-- > 0; ) {
+            if ( ! contains( array[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean addAll( Collection<? extends Byte> collection ) {
+        boolean changed = false;
+        for ( Byte element : collection ) {
+            if ( add( element.byteValue() ) ) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean addAll( TByteCollection collection ) {
+        boolean changed = false;
+        TByteIterator iter = collection.iterator();
+        while ( iter.hasNext() ) {
+            if ( add( iter.next() ) ) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean addAll( byte[] array ) {
+        boolean changed = false;
+        for ( int i = 0; i < array.length; i++ ) {
+            if ( add( array[i] ) ) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    @SuppressWarnings({"SuspiciousMethodCalls"})
+    public boolean retainAll( Collection<?> collection ) {
+        boolean modified = false;
+        TByteIterator iter = iterator();
+        while ( iter.hasNext() ) {
+            if ( ! collection.contains( Byte.valueOf( iter.next() ) ) ) {
+                iter.remove();
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean retainAll( TByteCollection collection ) {
+        if ( this == collection ) {
+            return false;
+        }
+        boolean modified = false;
+        TByteIterator iter = iterator();
+        while ( iter.hasNext() ) {
+            if ( ! collection.contains( iter.next() ) ) {
+                iter.remove();
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean retainAll( byte[] array ) {
+        Arrays.sort( array );
+        boolean modified = false;
+        TByteIterator iter = iterator();
+        while ( iter.hasNext() ) {
+            if ( Arrays.binarySearch( array, iter.next() ) < 0 ) {
+                iter.remove();
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean removeAll( Collection<?> collection ) {
+        boolean changed = false;
+        for ( Object element : collection ) {
+            if ( element instanceof Byte ) {
+                if ( remove( ( ( Byte ) element ).byteValue() ) ) {
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean removeAll( TByteCollection collection ) {
+        if ( this == collection ) {
+            clear();
+            return true;
+        }
+        boolean changed = false;
+        TByteIterator iter = collection.iterator();
+        while ( iter.hasNext() ) {
+            if ( remove( iter.next() ) ) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean removeAll( byte[] array ) {
+        boolean changed = false;
+        for ( int i = array.length; i-- > 0; ) {
+            if ( remove( array[i] ) ) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+
+    /** {@inheritDoc} */
+    public void clear() {
+        if ( _backing == this ) {
+            _root = _first = new Leaf();
+            _height = 0;
+            _size = 0;
+            _modCount++;
+            return;
+        }
+        for ( TByteIterator it = iterator(); it.hasNext(); ) {
+            it.next();
+            it.remove();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean forEach( TByteProcedure procedure ) {
+        for ( TByteIterator it = iterator(); it.hasNext(); ) {
+            if ( ! procedure.execute( it.next() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    public boolean equals( Object other ) {
+        if ( ! ( other instanceof TByteSet ) ) {
+            return false;
+        }
+        final TByteSet that = ( TByteSet ) other;
+        if ( that.size() != this.size() ) {
+            return false;
+        }
+        return forEach( new TByteProcedure() {
+            public boolean execute( byte value ) {
+                return that.contains( value );
+            }
+        } );
+    }
+
+
+    /** {@inheritDoc} */
+    public int hashCode() {
+        int hashcode = 0;
+        for ( TByteIterator it = iterator(); it.hasNext(); ) {
+            hashcode += HashFunctions.hash( it.next() );
+        }
+        return hashcode;
+    }
+
+
+    /** {@inheritDoc} */
+    public String toString() {
+        final StringBuilder buf = new StringBuilder( "{" );
+        forEach( new TByteProcedure() {
+            private boolean first = true;
+
+            public boolean execute( byte value ) {
+                if ( first ) {
+                    first = false;
+                } else {
+                    buf.append( ", " );
+                }
+
+                buf.append( value );
+                return true;
+            }
+        } );
+        buf.append( "}" );
+        return buf.toString();
+    }
+
+
+    /** {@inheritDoc} */
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        // VERSION
+        out.writeByte( 0 );
+
+        // NO ENTRY VALUE
+        out.writeByte( no_entry_value );
+
+        // NUMBER OF ENTRIES
+        out.writeInt( size() );
+
+        // ENTRIES, in ascending order
+        for ( TByteIterator it = iterator(); it.hasNext(); ) {
+            out.writeByte( it.next() );
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        // VERSION
+        in.readByte();
+
+        // NO ENTRY VALUE
+        no_entry_value = in.readByte();
+
+        // a view is read back as a set of its own
+        _backing = this;
+        _hasFrom = _hasTo = false;
+        clear();
+
+        // NUMBER OF ENTRIES
+        int size = in.readInt();
+
+        // ENTRIES
+        while ( size-- > 0 ) {
+            add( in.readByte() );
+        }
+    }
+
+
+    /** Walks the elements in the range of the set in ascending order. */
+    class TByteBTreeIterator implements TByteIterator {
+        /** the leaf of the next element, null at the end of the range */
+        private Leaf _leaf;
+        /** the index of the next element in its leaf */
+        private int _index;
+        /** the element last returned */
+        private byte _last;
+        /** whether {@link #_last} may be removed */
+        private boolean _canRemove;
+        private int _expectedModCount;
+
+        TByteBTreeIterator() {
+            _expectedModCount = _backing._modCount;
+            if ( _hasFrom ) {
+                seek( _from );
+            }
+            else {
+                _leaf = _backing._first;
+                _index = 0;
+                settle();
+            }
+        }
+
+
+        /** Moves to the first element that is not below <tt>value</tt>. */
+        private void seek( byte value ) {
+            _leaf = _backing.leafFor( value );
+            _index = lowerBound( _leaf.keys, _leaf.size, value );
+            settle();
+        }
+
+
+        /** Moves on past the end of a leaf, and stops at the end of the range. */
+        private void settle() {
+            while ( _leaf != null && _index == _leaf.size ) {
+                _leaf = _leaf.next;
+                _index = 0;
+            }
+            if ( _leaf != null && _hasTo && _leaf.keys[_index] >= _to ) {
+                _leaf = null;
+            }
+        }
+
+
+        /** Counts the elements left in the range, leaf by leaf, and ends the iteration. */
+        int countRemaining() {
+            int count = 0;
+            while ( _leaf != null ) {
+                Leaf leaf = _leaf;
+                int end = _hasTo && leaf.keys[ leaf.size - 1 ] >= _to ?
+                    lowerBound( leaf.keys, leaf.size, _to ) : leaf.size;
+                count += end - _index;
+                _index = end;
+                settle();
+            }
+            return count;
+        }
+
+
+        /** {@inheritDoc} */
+        public boolean hasNext() {
+            if ( _expectedModCount != _backing._modCount ) {
+                throw new ConcurrentModificationException();
+            }
+            return _leaf != null;
+        }
+
+
+        /** {@inheritDoc} */
+        public byte next() {
+            if ( !hasNext() ) {
+                throw new NoSuchElementException();
+            }
+            _last = _leaf.keys[_index++];
+            _canRemove = true;
+            settle();
+            return _last;
+        }
+
+
+        /** {@inheritDoc} */
+        public void remove() {
+            if ( _expectedModCount != _backing._modCount ) {
+                throw new ConcurrentModificationException();
+            }
+            if ( !_canRemove ) {
+                throw new IllegalStateException();
+            }
+            _backing.removeEntry( _last );
+            _canRemove = false;
+            _expectedModCount = _backing._modCount;
+            // merges may have moved the next element, find it again
+            if ( _leaf != null ) {
+                seek( _last );
+            }
+        }
+    }
+} // TByteBTreeSet
@@ -0,0 +1,50 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.strategy;
+
+
+/**
+ * The functions a hash table can run its keys through to get hash codes
+ * whose bits all depend on every bit of the key.
+ *
+ * @see gnu.trove.impl.hash.THash#setHashMixer
+ * @see gnu.trove.impl.HashFunctions#hash(long, HashMixer)
+ */
+public enum HashMixer {
+	/**
+	 * Uses the plain hash codes of {@link gnu.trove.impl.HashFunctions}:
+	 * an int is its own hash code and a long is folded into an int.  Cheapest
+	 * to compute, and good for keys that are already random, but sequential
+	 * or strided keys fill runs of neighboring slots.  Power of two tables
+	 * still mix these hash codes themselves.  This is the default.
+	 */
+	NONE,
+
+	/**
+	 * The finalizers of MurmurHash3, <tt>fmix32</tt> for keys of up to 32
+	 * bits and <tt>fmix64</tt> for longs and doubles: two multiplications
+	 * and three shifts.
+	 */
+	MURMUR3,
+
+	/**
+	 * The xxHash of the bytes of the key (XXH32 for keys of up to 32 bits,
+	 * XXH64 for longs and doubles, with a seed of 0).  A little more work
+	 * than {@link #MURMUR3}.
+	 */
+	XXHASH
+}
@@ -0,0 +1,51 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.strategy;
+
+
+/**
+ * The ways an open addressed hash table can look for the next slot when the
+ * natural slot of a key is taken.
+ *
+ * @see gnu.trove.impl.hash.THash#setProbeStrategy
+ */
+public enum ProbeStrategy {
+	/**
+	 * Steps through the table by a second hash of the key (see Knuth,
+	 * p. 529).  Keeps clusters short even with weak hash codes, but every
+	 * step lands on a different part of the table.  Removals leave
+	 * <tt>REMOVED</tt> markers behind that are cleaned up by compaction.
+	 * This is the default.
+	 */
+	DOUBLE_HASHING,
+
+	/**
+	 * Steps to the adjacent slot, so a probe sequence stays within a few
+	 * cache lines and is easy for the CPU to prefetch.  Needs well mixed hash
+	 * codes.  Removals shift the following entries of the cluster back
+	 * instead of leaving a marker behind.
+	 */
+	LINEAR,
+
+	/**
+	 * Linear probing where an inserted key takes the slot of any entry that
+	 * sits closer to its natural slot than the key itself would, which keeps
+	 * the longest probe sequences short and lets lookups of absent keys stop
+	 * early.  Removals shift entries back like {@link #LINEAR}.
+	 */
+	ROBIN_HOOD
+}
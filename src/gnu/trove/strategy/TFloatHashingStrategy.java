@@ -0,0 +1,60 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.strategy;
+
+import java.io.Serializable;
+
+
+//////////////////////////////////////////////////
+// THIS IS A GENERATED CLASS. DO NOT HAND EDIT! //
+//////////////////////////////////////////////////
+
+
+/**
+ * Interface to support pluggable hashing strategies in maps and sets with
+ * float keys, the primitive counterpart of {@link HashingStrategy}.  Useful
+ * for keys that pack several fields, or that only some of their bits
+ * identify, without boxing them.
+ *
+ * <p>A strategy must return equal hash codes for keys it finds equal.
+ * The maps and sets call it for every lookup, so it should be cheap; the
+ * call can be inlined as long as a program uses only one strategy class
+ * with a given kind of map or set.</p>
+ *
+ * @see gnu.trove.set.hash.TFloatCustomHashSet
+ * @see gnu.trove.map.custom_hash.TFloatObjectCustomHashMap
+ */
+public interface TFloatHashingStrategy extends Serializable {
+	static final long serialVersionUID = 1L;
+
+	/**
+	 * Computes a hash code for the specified key.
+	 *
+	 * @param key for which the hashcode is to be computed
+	 * @return the hashCode
+	 */
+	int computeHashCode( float key );
+
+	/**
+	 * Compares k1 and k2 for equality.
+	 *
+	 * @param k1 a <code>float</code> value
+	 * @param k2 a <code>float</code> value
+	 * @return true if the keys are equal according to this strategy.
+	 */
+	boolean equals( float k1, float k2 );
+}
@@ -0,0 +1,114 @@
+package gnu.trove.impl.hash;
+
+import gnu.trove.map.hash.TCustomHashMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import gnu.trove.set.hash.TIntHashSet;
+import gnu.trove.strategy.HashingStrategy;
+import gnu.trove.strategy.ProbeStrategy;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Tests for {@link HashAnalyzer}.
+ */
+public class HashAnalyzerTest extends TestCase {
+
+    public HashAnalyzerTest( String name ) {
+        super( name );
+    }
+
+
+    public void testAnalyzeTable() {
+        TIntHashSet set = new TIntHashSet();
+        set.setProbeStrategy( ProbeStrategy.LINEAR );
+        for ( int i = 0; i < 1000; i++ ) {
+            set.add( i * 7 );
+        }
+
+        HashAnalyzer.Report report = HashAnalyzer.analyze( set );
+        THashStatistics stats = set.getStatistics();
+        assertEquals( 1000, report.getEntries() );
+        assertEquals( set.capacity(), report.getCapacity() );
+        assertEquals( stats.getAverageProbeLength(), report.getAverageProbeLength(), 1e-9 );
+        assertEquals( stats.getMaxProbeLength(), report.getMaxProbeLength() );
+        assertTrue( report.getAverageMissProbeLength() >= 1 );
+
+        // the clusters hold every entry
+        int clustered = 0;
+        for ( int length = 1; length <= report.getLongestCluster(); length++ ) {
+            clustered += length * report.getClusterCount( length );
+        }
+        assertEquals( 1000, clustered );
+        assertEquals( 1000, HashAnalyzer.hashCodes( set ).length );
+    }
+
+
+    public void testSimulateCollisions() {
+        // every key in one natural slot: one cluster holding all of them
+        int[] codes = new int[ 100 ];
+        for ( ProbeStrategy strategy : ProbeStrategy.values() ) {
+            HashAnalyzer.Report report = HashAnalyzer.simulate( codes, false, strategy, 0.5f );
+            assertEquals( 100, report.getEntries() );
+            assertEquals( strategy.name(), 100, report.getMaxProbeLength() );
+            assertEquals( strategy.name(), 50.5, report.getAverageProbeLength(), 1e-9 );
+            assertTrue( report.getChiSquareRatio() > 50 );
+        }
+        HashAnalyzer.Report linear =
+            HashAnalyzer.simulate( codes, false, ProbeStrategy.LINEAR, 0.5f );
+        assertEquals( 100, linear.getLongestCluster() );
+        assertEquals( 1, linear.getClusterCount( 100 ) );
+    }
+
+
+    public void testCompareStrategies() {
+        List<Long> keys = new ArrayList<Long>();
+        for ( long i = 0; i < 4096; i++ ) {
+            keys.add( Long.valueOf( i << 32 ) );
+        }
+        HashingStrategy<Long> low = new HashingStrategy<Long>() {
+            public int computeHashCode( Long key ) {
+                return (int) key.longValue();
+            }
+
+            public boolean equals( Long o1, Long o2 ) {
+                return o1.equals( o2 );
+            }
+        };
+        TCustomHashMap<Long, Long> map = new TCustomHashMap<Long, Long>( low );
+        for ( Long key : keys ) {
+            map.put( key, key );
+        }
+        assertEquals( 4096 * 4095 / 2 + 4096,
+            Math.round( HashAnalyzer.analyze( map ).getAverageProbeLength() * 4096 ) );
+
+        // the default hash codes spread these keys well, the low bits don't
+        List<HashAnalyzer.Report> good =
+            HashAnalyzer.compare( HashAnalyzer.hashCodes( keys, null ), 0.5f );
+        List<HashAnalyzer.Report> bad =
+            HashAnalyzer.compare( HashAnalyzer.hashCodes( keys, low ), 0.5f );
+        assertEquals( 18, good.size() );
+        for ( int i = 0; i < good.size(); i++ ) {
+            assertEquals( good.get( i ).getName(), bad.get( i ).getName() );
+            assertTrue( good.get( i ).toString(), good.get( i ).getChiSquareRatio() < 2 );
+            assertTrue( bad.get( i ).toString(), bad.get( i ).getChiSquareRatio() > 100 );
+        }
+    }
+
+
+    public void testPrimitiveHashCodes() {
+        TLongIntHashMap map = new TLongIntHashMap();
+        long[] keys = { 1, -1, Long.MAX_VALUE, 1L << 40 };
+        for ( long key : keys ) {
+            map.put( key, 1 );
+        }
+        int[] fromMap = HashAnalyzer.hashCodes( map );
+        int[] fromKeys = HashAnalyzer.hashCodes( keys );
+        Arrays.sort( fromMap );
+        Arrays.sort( fromKeys );
+        assertTrue( Arrays.equals( fromKeys, fromMap ) );
+    }
+}
@@ -0,0 +1,189 @@
+package gnu.trove.impl.hash;
+
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.map.hash.TCustomHashMap;
+import gnu.trove.map.hash.THashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gnu.trove.set.hash.THashSet;
+import gnu.trove.set.hash.TLinkedHashSet;
+import gnu.trove.strategy.HashingStrategy;
+import gnu.trove.strategy.ProbeStrategy;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+
+/**
+ * Tests for the hash code cache of {@link TObjectHash}.
+ */
+public class HashCodeCachingTest extends TestCase {
+
+    /** A key that counts the calls to its hashCode() and equals(). */
+    static class CountingKey implements Serializable {
+        static int hashCodes;
+        static int equalities;
+
+        final int id;
+
+        CountingKey( int id ) {
+            this.id = id;
+        }
+
+        public int hashCode() {
+            hashCodes++;
+            return HashFunctions.mix( id );
+        }
+
+        public boolean equals( Object other ) {
+            equalities++;
+            return other instanceof CountingKey && ( ( CountingKey ) other ).id == id;
+        }
+    }
+
+
+    public HashCodeCachingTest( String name ) {
+        super( name );
+    }
+
+
+    public void testRandomOperations() {
+        for ( ProbeStrategy strategy : ProbeStrategy.values() ) {
+            for ( int mode = 0; mode < 2; mode++ ) {
+                THashMap<Integer,Integer> map = new THashMap<Integer,Integer>();
+                map.setPowerOfTwoCapacity( mode == 1 );
+                map.setProbeStrategy( strategy );
+                map.put( 1, 1 );
+                map.put( null, 0 );
+                map.setHashCodeCaching( true );
+                assertTrue( map.isHashCodeCaching() );
+                assertEquals( Integer.valueOf( 1 ), map.get( 1 ) );
+
+                Map<Integer,Integer> expected = new HashMap<Integer,Integer>();
+                expected.put( 1, 1 );
+                expected.put( null, 0 );
+                Random random = new Random( strategy.ordinal() * 2 + mode );
+                for ( int i = 0; i < 20000; i++ ) {
+                    Integer key = Integer.valueOf( random.nextInt( 3000 ) * 4096 );
+                    if ( random.nextInt( 3 ) == 0 ) {
+                        assertEquals( expected.remove( key ), map.remove( key ) );
+                    }
+                    else {
+                        assertEquals( expected.put( key, i ), map.put( key, i ) );
+                    }
+                }
+                assertEquals( expected, map );
+                map.compact();
+                assertEquals( expected, map );
+
+                map.setHashCodeCaching( false );
+                assertFalse( map.isHashCodeCaching() );
+                assertEquals( expected, map );
+            }
+        }
+    }
+
+
+    public void testFewerCalls() {
+        THashSet<CountingKey> plain = new THashSet<CountingKey>();
+        THashSet<CountingKey> cached = new THashSet<CountingKey>();
+        cached.setHashCodeCaching( true );
+        for ( int i = 0; i < 2000; i++ ) {
+            plain.add( new CountingKey( i ) );
+            cached.add( new CountingKey( i ) );
+        }
+
+        // colliding keys are told apart by their hash codes
+        CountingKey.equalities = 0;
+        for ( int i = 0; i < 2000; i++ ) {
+            assertTrue( plain.contains( new CountingKey( i ) ) );
+        }
+        int plainEqualities = CountingKey.equalities;
+        CountingKey.equalities = 0;
+        for ( int i = 0; i < 2000; i++ ) {
+            assertTrue( cached.contains( new CountingKey( i ) ) );
+        }
+        assertEquals( 2000, CountingKey.equalities );
+        assertTrue( plainEqualities > 2000 );
+
+        // rehashing takes the hash codes from the cache
+        CountingKey.hashCodes = 0;
+        cached.ensureCapacity( 100000 );
+        assertEquals( 0, CountingKey.hashCodes );
+        plain.ensureCapacity( 100000 );
+        assertEquals( 2000, CountingKey.hashCodes );
+        assertEquals( plain, cached );
+    }
+
+
+    public void testIncrementalRehash() {
+        THashMap<String,Integer> map = new THashMap<String,Integer>();
+        map.setHashCodeCaching( true );
+        map.setIncrementalRehash( true );
+        for ( int i = 0; i < 5000; i++ ) {
+            map.put( String.valueOf( i ), i );
+            assertEquals( Integer.valueOf( i / 2 ), map.get( String.valueOf( i / 2 ) ) );
+        }
+        for ( int i = 0; i < 5000; i++ ) {
+            assertEquals( Integer.valueOf( i ), map.remove( String.valueOf( i ) ) );
+        }
+        assertTrue( map.isEmpty() );
+    }
+
+
+    public void testOtherTables() {
+        TObjectIntHashMap<String> primitive = new TObjectIntHashMap<String>();
+        primitive.setHashCodeCaching( true );
+        TLinkedHashSet<String> linked = new TLinkedHashSet<String>();
+        linked.setHashCodeCaching( true );
+        TCustomHashMap<String,String> custom = new TCustomHashMap<String,String>(
+            new HashingStrategy<String>() {
+                public int computeHashCode( String key ) {
+                    return key.toLowerCase().hashCode();
+                }
+
+                public boolean equals( String k1, String k2 ) {
+                    return k1.equalsIgnoreCase( k2 );
+                }
+            } );
+        custom.setHashCodeCaching( true );
+        for ( int i = 0; i < 1000; i++ ) {
+            primitive.put( "key" + i, i );
+            linked.add( "key" + i );
+            custom.put( "Key" + i, "value" + i );
+        }
+        for ( int i = 0; i < 1000; i++ ) {
+            assertEquals( i, primitive.get( "key" + i ) );
+            assertTrue( linked.contains( "key" + i ) );
+            assertEquals( "value" + i, custom.get( "KEY" + i ) );
+        }
+        assertEquals( "key0", linked.iterator().next() );
+    }
+
+
+    @SuppressWarnings( "unchecked" )
+    public void testSerialization() throws Exception {
+        THashMap<String,Integer> map = new THashMap<String,Integer>();
+        map.setHashCodeCaching( true );
+        for ( int i = 0; i < 100; i++ ) {
+            map.put( String.valueOf( i ), i );
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream( bytes );
+        out.writeObject( map );
+        out.close();
+        THashMap<String,Integer> copy = ( THashMap<String,Integer> ) new ObjectInputStream(
+            new ByteArrayInputStream( bytes.toByteArray() ) ).readObject();
+        assertTrue( copy.isHashCodeCaching() );
+        assertEquals( map, copy );
+        copy.put( "100", 100 );
+        assertEquals( Integer.valueOf( 42 ), copy.get( "42" ) );
+    }
+}
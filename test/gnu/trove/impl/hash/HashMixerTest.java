@@ -0,0 +1,145 @@
+package gnu.trove.impl.hash;
+
+import gnu.trove.impl.HashFunctions;
+import gnu.trove.map.hash.THashMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+import gnu.trove.set.hash.TIntHashSet;
+import gnu.trove.strategy.HashMixer;
+import gnu.trove.strategy.ProbeStrategy;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+
+/**
+ * Tests for the hash mixers of {@link THash}.
+ */
+public class HashMixerTest extends TestCase {
+
+    public HashMixerTest( String name ) {
+        super( name );
+    }
+
+
+    public void testHashFunctions() {
+        for ( int i = -1000; i < 1000; i++ ) {
+            assertEquals( HashFunctions.hash( i ), HashFunctions.hash( i, HashMixer.NONE ) );
+            assertEquals( HashFunctions.hash( (long) i << 20 ),
+                HashFunctions.hash( (long) i << 20, HashMixer.NONE ) );
+        }
+        assertEquals( HashFunctions.mix( 12345 ), HashFunctions.hash( 12345, HashMixer.MURMUR3 ) );
+
+        // the mixers tell apart longs whose halves fold to the same hash code
+        for ( HashMixer mixer : new HashMixer[] { HashMixer.MURMUR3, HashMixer.XXHASH } ) {
+            TIntHashSet codes = new TIntHashSet();
+            for ( long i = 0; i < 1000; i++ ) {
+                codes.add( HashFunctions.hash( ( i << 32 ) | i, mixer ) );
+            }
+            assertEquals( mixer.name(), 1000, codes.size() );
+        }
+    }
+
+
+    public void testRandomOperations() {
+        for ( HashMixer mixer : HashMixer.values() ) {
+            for ( ProbeStrategy strategy : ProbeStrategy.values() ) {
+                for ( int mode = 0; mode < 2; mode++ ) {
+                    TLongLongHashMap map = new TLongLongHashMap();
+                    map.setPowerOfTwoCapacity( mode == 1 );
+                    map.setProbeStrategy( strategy );
+                    map.put( 1, 1 );
+                    map.setHashMixer( mixer );
+                    assertEquals( mixer, map.getHashMixer() );
+                    assertEquals( 1, map.get( 1 ) );
+
+                    Map<Long,Long> expected = new HashMap<Long,Long>();
+                    expected.put( Long.valueOf( 1 ), Long.valueOf( 1 ) );
+                    Random random = new Random( mixer.ordinal() * 8 + strategy.ordinal() * 2 + mode );
+                    for ( int i = 0; i < 20000; i++ ) {
+                        long key = random.nextInt( 3000 ) * 4096L;
+                        if ( random.nextInt( 3 ) == 0 ) {
+                            Long old = expected.remove( key );
+                            assertEquals( old == null ? 0 : old.longValue(), map.remove( key ) );
+                        }
+                        else {
+                            Long old = expected.put( key, Long.valueOf( i ) );
+                            assertEquals( old == null ? 0 : old.longValue(), map.put( key, i ) );
+                        }
+                    }
+                    assertEquals( expected.size(), map.size() );
+                    for ( Map.Entry<Long,Long> entry : expected.entrySet() ) {
+                        assertEquals( entry.getValue().longValue(), map.get( entry.getKey() ) );
+                    }
+                }
+            }
+        }
+    }
+
+
+    public void testAdversarialKeys() {
+        TLongLongHashMap plain = new TLongLongHashMap();
+        TLongLongHashMap mixed = new TLongLongHashMap();
+        mixed.setHashMixer( HashMixer.XXHASH );
+        for ( long i = 0; i < 2000; i++ ) {
+            plain.put( ( i << 32 ) | i, i );
+            mixed.put( ( i << 32 ) | i, i );
+        }
+        assertEquals( plain, mixed );
+        assertEquals( 2000, plain.getStatistics().getMaxProbeLength() );
+        assertTrue( mixed.getStatistics().toString(),
+            mixed.getStatistics().getAverageProbeLength() < 2 );
+    }
+
+
+    public void testObjectKeys() {
+        THashMap<Integer,String> map = new THashMap<Integer,String>();
+        map.setPowerOfTwoCapacity( true );
+        map.setHashMixer( HashMixer.MURMUR3 );
+        for ( int i = 0; i < 1000; i++ ) {
+            map.put( Integer.valueOf( i << 16 ), String.valueOf( i ) );
+        }
+        map.put( null, "null" );
+        for ( int i = 0; i < 1000; i++ ) {
+            assertEquals( String.valueOf( i ), map.get( Integer.valueOf( i << 16 ) ) );
+        }
+        assertEquals( "null", map.get( null ) );
+        assertTrue( map.getStatistics().getAverageProbeLength() < 2 );
+    }
+
+
+    public void testSerialization() throws Exception {
+        TLongLongHashMap map = new TLongLongHashMap();
+        map.setHashMixer( HashMixer.MURMUR3 );
+        for ( long i = 0; i < 100; i++ ) {
+            map.put( i * 1000, i );
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream( bytes );
+        out.writeObject( map );
+        out.close();
+        TLongLongHashMap copy = (TLongLongHashMap) new ObjectInputStream(
+            new ByteArrayInputStream( bytes.toByteArray() ) ).readObject();
+        assertEquals( HashMixer.MURMUR3, copy.getHashMixer() );
+        assertEquals( map, copy );
+
+        // a block read into a table with another mixer is rehashed
+        bytes = new ByteArrayOutputStream();
+        map.writeTo( Channels.newChannel( bytes ) );
+        TLongLongHashMap plain = new TLongLongHashMap();
+        plain.readFrom( Channels.newChannel( new ByteArrayInputStream( bytes.toByteArray() ) ) );
+        assertEquals( HashMixer.NONE, plain.getHashMixer() );
+        assertEquals( map, plain );
+        TLongLongHashMap same = new TLongLongHashMap();
+        same.setHashMixer( HashMixer.MURMUR3 );
+        same.readFrom( Channels.newChannel( new ByteArrayInputStream( bytes.toByteArray() ) ) );
+        assertEquals( map, same );
+    }
+}
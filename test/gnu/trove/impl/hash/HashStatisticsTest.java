@@ -0,0 +1,134 @@
+package gnu.trove.impl.hash;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.set.hash.THashSet;
+import gnu.trove.strategy.ProbeStrategy;
+import junit.framework.TestCase;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+
+/**
+ * Tests for the probe length and rehash statistics of {@link THash}.
+ */
+public class HashStatisticsTest extends TestCase {
+
+    public HashStatisticsTest( String name ) {
+        super( name );
+    }
+
+
+    public void testCollidingKeys() {
+        for ( ProbeStrategy strategy : ProbeStrategy.values() ) {
+            THashSet<Colliding> set = new THashSet<Colliding>( 100 );
+            set.setProbeStrategy( strategy );
+            for ( int i = 0; i < 40; i++ ) {
+                set.add( new Colliding( i ) );
+            }
+
+            // every key follows the same probe sequence, one slot further
+            THashStatistics stats = set.getStatistics();
+            assertEquals( strategy.name(), 40, stats.getMaxProbeLength() );
+            assertEquals( strategy.name(), 20.5, stats.getAverageProbeLength(), 1e-9 );
+            assertEquals( 40, stats.getSize() );
+            assertEquals( set.capacity(), stats.getCapacity() );
+        }
+    }
+
+
+    public void testPrimitiveKeys() {
+        TIntIntHashMap map = new TIntIntHashMap();
+        assertEquals( 0.0, map.getStatistics().getAverageProbeLength() );
+        for ( int i = 0; i < 10000; i++ ) {
+            map.put( i, i );
+        }
+
+        THashStatistics stats = map.getStatistics();
+        assertEquals( 10000, stats.getSize() );
+        assertEquals( 10000.0 / map.capacity(), stats.getLoad(), 1e-9 );
+        assertTrue( stats.toString(), stats.getAverageProbeLength() >= 1 );
+        assertTrue( stats.toString(), stats.getAverageProbeLength() < 2 );
+
+        // sampling a part of the slots estimates the same figures
+        THashStatistics sampled = map.getStatistics( 1000 );
+        assertEquals( stats.getAverageProbeLength(), sampled.getAverageProbeLength(), 0.5 );
+        assertTrue( sampled.getMaxProbeLength() <= stats.getMaxProbeLength() );
+
+        map.setAutoCompactionFactor( 0 );
+        for ( int i = 0; i < 5000; i++ ) {
+            map.remove( i );
+        }
+        stats = map.getStatistics();
+        assertEquals( 5000, stats.getRemoved() );
+        assertEquals( 5000.0 / map.capacity(), stats.getTombstoneRatio(), 1e-9 );
+    }
+
+
+    public void testRehashCounters() {
+        TIntIntHashMap map = new TIntIntHashMap();
+        assertFalse( map.isStatisticsEnabled() );
+        for ( int i = 0; i < 1000; i++ ) {
+            map.put( i, i );
+        }
+        assertEquals( 0, map.getStatistics().getRehashCount() );
+
+        map.setStatisticsEnabled( true );
+        for ( int i = 1000; i < 100000; i++ ) {
+            map.put( i, i );
+        }
+        map.compact();
+        THashStatistics stats = map.getStatistics();
+        assertTrue( stats.toString(), stats.getRehashCount() > 0 );
+        assertTrue( stats.getRehashNanos() > 0 );
+        assertEquals( 1, stats.getCompactionCount() );
+        assertTrue( stats.getMaxPauseNanos() > 0 );
+        assertTrue( stats.getMaxPauseNanos() <= stats.getRehashNanos() + stats.getCompactionNanos() );
+
+        map.setStatisticsEnabled( false );
+        assertEquals( 0, map.getStatistics().getCompactionCount() );
+    }
+
+
+    public void testMonitor() throws Exception {
+        TIntIntHashMap map = new TIntIntHashMap();
+        map.setStatisticsEnabled( true );
+        for ( int i = 0; i < 100; i++ ) {
+            map.put( i, i );
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName( "gnu.trove:type=THash,name=HashStatisticsTest" );
+        server.registerMBean( new THashMonitor( map, map, 64, 60000 ), name );
+        try {
+            assertEquals( Integer.valueOf( 100 ), server.getAttribute( name, "Size" ) );
+            map.put( 100, 100 );
+            // the snapshot is reused
+            assertEquals( Integer.valueOf( 100 ), server.getAttribute( name, "Size" ) );
+            assertTrue( ( (Double) server.getAttribute( name, "AverageProbeLength" ) ) >= 1 );
+        }
+        finally {
+            server.unregisterMBean( name );
+        }
+    }
+
+
+    private static class Colliding {
+        private final int id;
+
+        Colliding( int id ) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            return o instanceof Colliding && ( (Colliding) o ).id == id;
+        }
+    }
+}
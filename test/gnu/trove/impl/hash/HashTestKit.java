@@ -42,4 +42,17 @@ public class HashTestKit {
 
 		TestCase.assertEquals( free_counter, count );
 	}
+
+
+	/**
+	 * Confirm that the internal FREE counter of a primitive hash matches its states.
+	 */
+	public static void checkFreeSlotCount( TPrimitiveHash hash ) {
+		int count = 0;
+		for( byte state : hash._states ) {
+			if ( state == TPrimitiveHash.FREE ) count++;
+		}
+
+		TestCase.assertEquals( hash._free, count );
+	}
 }
@@ -0,0 +1,311 @@
+package gnu.trove.impl.hash;
+
+import gnu.trove.iterator.TLongLongIterator;
+import gnu.trove.map.hash.THashMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+import gnu.trove.procedure.TLongLongProcedure;
+import gnu.trove.set.hash.THashSet;
+import gnu.trove.set.hash.TIntHashSet;
+import gnu.trove.set.hash.TLinkedHashSet;
+import gnu.trove.strategy.ProbeStrategy;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+
+/**
+ * Tests for hashes that grow by incremental rehashes.
+ */
+public class IncrementalRehashTest extends TestCase {
+
+    public IncrementalRehashTest( String name ) {
+        super( name );
+    }
+
+
+    public void testPrimitiveMap() {
+        for ( ProbeStrategy strategy : ProbeStrategy.values() ) {
+            for ( int mode = 0; mode < 2; mode++ ) {
+                TLongLongHashMap map = new TLongLongHashMap();
+                map.setPowerOfTwoCapacity( mode == 1 );
+                map.setProbeStrategy( strategy );
+                map.setIncrementalRehash( true );
+                assertTrue( map.isIncrementalRehash() );
+
+                Map<Long,Long> expected = new HashMap<Long,Long>();
+                Random rnd = new Random( strategy.ordinal() * 2 + mode );
+                int drains = 0;
+                for ( int i = 0; i < 100000; i++ ) {
+                    long key = rnd.nextInt( 50000 );
+                    int op = rnd.nextInt( 10 );
+                    if ( op < 6 ) {
+                        boolean draining = map._draining != null;
+                        assertEquals( value( expected.put( key, Long.valueOf( i ) ) ),
+                            map.put( key, i ) );
+                        if ( !draining && map._draining != null ) {
+                            drains++;
+                            // the insertion that crossed the limit left the
+                            // entries in the old table
+                            assertTrue( map._draining._size > 0 );
+                        }
+                    } else if ( op < 8 ) {
+                        assertEquals( value( expected.remove( key ) ), map.remove( key ) );
+                    } else if ( op < 9 ) {
+                        Long old = expected.get( key );
+                        long adjusted = old == null ? 1 : old.longValue() + 1;
+                        expected.put( key, Long.valueOf( adjusted ) );
+                        assertEquals( adjusted, map.adjustOrPutValue( key, 1, 1 ) );
+                    } else {
+                        assertEquals( value( expected.get( key ) ), map.get( key ) );
+                        assertEquals( expected.containsKey( key ), map.containsKey( key ) );
+                    }
+                    assertEquals( expected.size(), map.size() );
+                }
+                assertTrue( drains > 3 );
+
+                for ( long key = 0; key < 50000; key++ ) {
+                    assertEquals( value( expected.get( key ) ), map.get( key ) );
+                }
+                map.completeRehash();
+                assertNull( map._draining );
+                assertEquals( expected.size(), map.size() );
+                HashTestKit.checkFreeSlotCount( map );
+            }
+        }
+    }
+
+
+    public void testObjectMapAndSet() {
+        for ( ProbeStrategy strategy : ProbeStrategy.values() ) {
+            THashMap<Collider,Integer> map = new THashMap<Collider,Integer>();
+            map.setProbeStrategy( strategy );
+            map.setIncrementalRehash( true );
+            THashSet<Collider> set = new THashSet<Collider>();
+            set.setProbeStrategy( strategy );
+            set.setIncrementalRehash( true );
+
+            Map<Collider,Integer> expected = new HashMap<Collider,Integer>();
+            Random rnd = new Random( strategy.ordinal() );
+            for ( int i = 0; i < 30000; i++ ) {
+                int value = rnd.nextInt( 3000 );
+                Collider key = value == 0 ? null : new Collider( value );
+                if ( rnd.nextInt( 4 ) < 3 ) {
+                    assertEquals( expected.put( key, i ), map.put( key, i ) );
+                    set.add( key );
+                } else {
+                    assertEquals( expected.remove( key ), map.remove( key ) );
+                    set.remove( key );
+                }
+                assertEquals( expected.size(), map.size() );
+                assertEquals( expected.size(), set.size() );
+            }
+
+            for ( int value = 0; value < 3000; value++ ) {
+                Collider key = value == 0 ? null : new Collider( value );
+                assertEquals( expected.get( key ), map.get( key ) );
+                assertEquals( expected.containsKey( key ), set.contains( key ) );
+            }
+            assertEquals( expected, map );
+            assertEquals( expected.keySet(), set );
+            HashTestKit.checkFreeSlotCount( map, map._set, TObjectHash.FREE );
+            HashTestKit.checkFreeSlotCount( set, set._set, TObjectHash.FREE );
+        }
+    }
+
+
+    public void testBulkOperationsCompleteRehash() throws Exception {
+        TLongLongHashMap map = new TLongLongHashMap();
+        map.setIncrementalRehash( true );
+        Map<Long,Long> expected = new HashMap<Long,Long>();
+        for ( long i = 0; map._draining == null || map._draining._size < 100; i++ ) {
+            map.put( i, i * 3 );
+            expected.put( i, i * 3 );
+        }
+
+        TLongLongHashMap copy = new TLongLongHashMap( map );
+        assertEquals( map, copy );
+        assertEquals( copy, map );
+        assertEquals( copy.hashCode(), map.hashCode() );
+        assertNull( map._draining );
+
+        grow( map, expected );
+        Set<Long> keys = new HashSet<Long>();
+        for ( TLongLongIterator it = map.iterator(); it.hasNext(); ) {
+            it.advance();
+            assertEquals( expected.get( it.key() ).longValue(), it.value() );
+            assertTrue( keys.add( it.key() ) );
+        }
+        assertEquals( expected.keySet(), keys );
+
+        grow( map, expected );
+        assertEquals( expected.size(), map.keys().length );
+        assertEquals( expected.size(), map.values().length );
+        assertTrue( map.containsValue( 0 ) );
+
+        grow( map, expected );
+        map.retainEntries( new TLongLongProcedure() {
+            public boolean execute( long key, long value ) {
+                return key % 2 == 0;
+            }
+        } );
+        for ( Map.Entry<Long,Long> entry : expected.entrySet() ) {
+            assertEquals( entry.getKey() % 2 == 0, map.containsKey( entry.getKey() ) );
+        }
+
+        grow( map, expected );
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream( baos );
+        oos.writeObject( map );
+        ObjectInputStream ois =
+            new ObjectInputStream( new ByteArrayInputStream( baos.toByteArray() ) );
+        TLongLongHashMap deserialized = ( TLongLongHashMap ) ois.readObject();
+        assertTrue( deserialized.isIncrementalRehash() );
+        assertEquals( map, deserialized );
+
+        grow( map, expected );
+        map.setIncrementalRehash( false );
+        assertNull( map._draining );
+        assertFalse( map.isIncrementalRehash() );
+    }
+
+
+    public void testLookupsLeaveOldTable() {
+        TLongLongHashMap map = new TLongLongHashMap();
+        map.setIncrementalRehash( true );
+        Map<Long,Long> expected = new HashMap<Long,Long>();
+        grow( map, expected );
+        THash old = map._draining;
+        int oldSize = old._size;
+        int newSize = map._size;
+
+        long[] keys = new long[expected.size() + 10];
+        for ( int i = 0; i < keys.length; i++ ) {
+            keys[i] = i < expected.size() ? i : -i - 1;
+        }
+        for ( long key : keys ) {
+            assertEquals( value( expected.get( key ) ), map.get( key ) );
+            assertEquals( expected.containsKey( key ), map.containsKey( key ) );
+        }
+        long[] values = new long[keys.length];
+        assertEquals( expected.size(), map.getAll( keys, values ) );
+        long[] found = new long[( keys.length + 63 ) >>> 6];
+        assertEquals( expected.size(), map.containsKeys( keys, found ) );
+        for ( int i = 0; i < keys.length; i++ ) {
+            assertEquals( value( expected.get( keys[i] ) ), values[i] );
+            assertEquals( expected.containsKey( keys[i] ),
+                ( found[i >>> 6] & 1L << i ) != 0 );
+        }
+        assertSame( old, map._draining );
+        assertEquals( oldSize, old._size );
+        assertEquals( newSize, map._size );
+
+        // updates still move the key over
+        long key = firstOldKey( map, keys );
+        assertTrue( map.adjustValue( key, 1 ) );
+        assertEquals( oldSize - 1, old._size );
+        assertEquals( value( expected.get( key ) ) + 1, map.get( key ) );
+        assertEquals( value( expected.get( key ) ) + 1, map.remove( key ) );
+        assertFalse( map.containsKey( key ) );
+
+        THashMap<Integer,Integer> objects = new THashMap<Integer,Integer>();
+        objects.setIncrementalRehash( true );
+        THashSet<Integer> set = new THashSet<Integer>();
+        set.setIncrementalRehash( true );
+        int count = 0;
+        while ( objects._draining == null || set._draining == null ) {
+            objects.put( count, count );
+            set.add( count );
+            count++;
+        }
+        oldSize = objects._draining._size;
+        int oldSetSize = set._draining._size;
+        for ( int i = -1; i <= count; i++ ) {
+            Integer expectedValue = i >= 0 && i < count ? Integer.valueOf( i ) : null;
+            assertEquals( expectedValue, objects.get( i ) );
+            assertEquals( expectedValue != null, objects.containsKey( i ) );
+            assertEquals( expectedValue != null, set.contains( i ) );
+        }
+        assertEquals( oldSize, objects._draining._size );
+        assertEquals( oldSetSize, set._draining._size );
+        for ( int i = 0; i < count; i++ ) {
+            assertEquals( Integer.valueOf( i ), objects.remove( i ) );
+            assertTrue( set.remove( i ) );
+        }
+        assertTrue( objects.isEmpty() );
+        assertTrue( set.isEmpty() );
+    }
+
+
+    /** Returns a key of <tt>keys</tt> that is still in the old table of <tt>map</tt>. */
+    private static long firstOldKey( TLongLongHashMap map, long[] keys ) {
+        TLongLongHashMap old = ( TLongLongHashMap ) map._draining;
+        for ( long key : keys ) {
+            if ( old.containsKey( key ) ) {
+                return key;
+            }
+        }
+        throw new AssertionError( "no key left in the old table" );
+    }
+
+
+    public void testUnsupported() {
+        try {
+            new TLinkedHashSet<String>().setIncrementalRehash( true );
+            fail( "Expected UnsupportedOperationException" );
+        }
+        catch ( UnsupportedOperationException ex ) {
+            // expected
+        }
+        try {
+            new TIntHashSet().setIncrementalRehash( true );
+            fail( "Expected UnsupportedOperationException" );
+        }
+        catch ( UnsupportedOperationException ex ) {
+            // expected
+        }
+    }
+
+
+    /** Adds entries until the map is in the middle of an incremental rehash. */
+    private static void grow( TLongLongHashMap map, Map<Long,Long> expected ) {
+        long key = expected.size() * 7L;
+        while ( map._draining == null || map._draining._size < 100 ) {
+            map.put( key, key * 3 );
+            expected.put( key, key * 3 );
+            key++;
+        }
+    }
+
+
+    private static long value( Long value ) {
+        return value == null ? 0 : value.longValue();
+    }
+
+
+    /** A key with a weak hash code, so that every table has long clusters. */
+    private static class Collider {
+        private final int value;
+
+        Collider( int value ) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value % 13;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            return o instanceof Collider && ( ( Collider ) o ).value == value;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package gnu.trove.impl.hash;
+
+import gnu.trove.iterator.TIntIterator;
+import gnu.trove.iterator.TLongLongIterator;
+import gnu.trove.map.hash.THashMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gnu.trove.procedure.TLongLongProcedure;
+import gnu.trove.set.hash.THashSet;
+import gnu.trove.set.hash.TIntHashSet;
+import gnu.trove.set.hash.TLinkedHashSet;
+import gnu.trove.strategy.ProbeStrategy;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+
+/**
+ * Tests for the linear and Robin Hood probe strategies, run against
+ * java.util collections with both prime and power of two capacities.
+ */
+public class ProbeStrategyTest extends TestCase {
+
+    private static final ProbeStrategy[] STRATEGIES =
+        { ProbeStrategy.LINEAR, ProbeStrategy.ROBIN_HOOD };
+
+
+    public ProbeStrategyTest( String name ) {
+        super( name );
+    }
+
+
+    public void testPrimitiveMap() {
+        for ( ProbeStrategy strategy : STRATEGIES ) {
+            for ( int mode = 0; mode < 2; mode++ ) {
+                TLongLongHashMap map = new TLongLongHashMap();
+                map.setPowerOfTwoCapacity( mode == 1 );
+                map.setProbeStrategy( strategy );
+                assertEquals( strategy, map.getProbeStrategy() );
+
+                Map<Long,Long> expected = new HashMap<Long,Long>();
+                Random rnd = new Random( strategy.ordinal() * 2 + mode );
+                for ( int i = 0; i < 50000; i++ ) {
+                    long key = rnd.nextInt( 2000 ) * 1024L;
+                    switch ( rnd.nextInt( 3 ) ) {
+                        case 0:
+                            assertEquals( value( expected.put( key, Long.valueOf( i ) ) ),
+                                map.put( key, i ) );
+                            break;
+                        case 1:
+                            assertEquals( value( expected.remove( key ) ), map.remove( key ) );
+                            break;
+                        default:
+                            Long old = expected.get( key );
+                            long adjusted = old == null ? 1 : old.longValue() + 1;
+                            expected.put( key, Long.valueOf( adjusted ) );
+                            assertEquals( adjusted, map.adjustOrPutValue( key, 1, 1 ) );
+                    }
+                }
+
+                assertEquals( expected.size(), map.size() );
+                for ( int key = 0; key < 2000; key++ ) {
+                    assertEquals( value( expected.get( key * 1024L ) ), map.get( key * 1024L ) );
+                    assertEquals( expected.containsKey( key * 1024L ), map.containsKey( key * 1024L ) );
+                }
+                HashTestKit.checkFreeSlotCount( map );
+            }
+        }
+    }
+
+
+    public void testObjectMapWithCollisions() {
+        for ( ProbeStrategy strategy : STRATEGIES ) {
+            for ( int mode = 0; mode < 2; mode++ ) {
+                THashMap<Collider,Integer> map = new THashMap<Collider,Integer>();
+                map.setPowerOfTwoCapacity( mode == 1 );
+                map.setProbeStrategy( strategy );
+
+                Map<Collider,Integer> expected = new HashMap<Collider,Integer>();
+                Random rnd = new Random( strategy.ordinal() * 2 + mode );
+                for ( int i = 0; i < 20000; i++ ) {
+                    int value = rnd.nextInt( 600 );
+                    Collider key = value == 0 ? null : new Collider( value );
+                    if ( rnd.nextInt( 5 ) < 3 ) {
+                        assertEquals( expected.put( key, i ), map.put( key, i ) );
+                    } else {
+                        assertEquals( expected.remove( key ), map.remove( key ) );
+                    }
+                }
+
+                assertEquals( expected, map );
+                for ( int value = 0; value < 600; value++ ) {
+                    Collider key = value == 0 ? null : new Collider( value );
+                    assertEquals( expected.get( key ), map.get( key ) );
+                }
+                HashTestKit.checkFreeSlotCount( map, map._set, TObjectHash.FREE );
+            }
+        }
+    }
+
+
+    public void testOtherFamilies() {
+        for ( ProbeStrategy strategy : STRATEGIES ) {
+            TIntHashSet set = new TIntHashSet();
+            TIntObjectHashMap<String> int_object = new TIntObjectHashMap<String>();
+            TObjectIntHashMap<String> object_int = new TObjectIntHashMap<String>();
+            THashSet<String> object_set = new THashSet<String>();
+            set.setProbeStrategy( strategy );
+            int_object.setProbeStrategy( strategy );
+            object_int.setProbeStrategy( strategy );
+            object_set.setProbeStrategy( strategy );
+
+            for ( int i = 0; i < 5000; i++ ) {
+                set.add( i );
+                int_object.put( i, String.valueOf( i ) );
+                object_int.put( String.valueOf( i ), i );
+                object_set.add( String.valueOf( i ) );
+            }
+            for ( int i = 0; i < 5000; i += 3 ) {
+                assertTrue( set.remove( i ) );
+                assertEquals( String.valueOf( i ), int_object.remove( i ) );
+                assertEquals( i, object_int.remove( String.valueOf( i ) ) );
+                assertTrue( object_set.remove( String.valueOf( i ) ) );
+            }
+            for ( int i = 0; i < 5000; i++ ) {
+                boolean present = i % 3 != 0;
+                assertEquals( present, set.contains( i ) );
+                assertEquals( present ? String.valueOf( i ) : null, int_object.get( i ) );
+                assertEquals( present ? i : 0, object_int.get( String.valueOf( i ) ) );
+                assertEquals( present, object_set.contains( String.valueOf( i ) ) );
+            }
+            HashTestKit.checkFreeSlotCount( set );
+            HashTestKit.checkFreeSlotCount( int_object );
+            HashTestKit.checkFreeSlotCount( object_int, object_int._set, TObjectHash.FREE );
+            HashTestKit.checkFreeSlotCount( object_set, object_set._set, TObjectHash.FREE );
+        }
+    }
+
+
+    public void testIteratorRemove() {
+        // a high load and random keys give clusters that wrap around the
+        // end of the table, which must not be shifted past the iterator
+        Random rnd = new Random( 42 );
+        int markers = 0;
+        for ( ProbeStrategy strategy : STRATEGIES ) {
+            for ( int size = 1; size < 300; size += 7 ) {
+                TLongLongHashMap map = new TLongLongHashMap( size, 0.9f );
+                map.setProbeStrategy( strategy );
+                TIntHashSet set = new TIntHashSet( size, 0.9f );
+                set.setProbeStrategy( strategy );
+                THashSet<Integer> object_set = new THashSet<Integer>( size, 0.9f );
+                object_set.setProbeStrategy( strategy );
+                int[] keys = new int[size];
+                for ( int i = 0; i < size; i++ ) {
+                    do {
+                        keys[i] = rnd.nextInt();
+                    } while ( !set.add( keys[i] ) );
+                    map.put( keys[i], i );
+                    object_set.add( Integer.valueOf( keys[i] ) );
+                }
+
+                Set<Long> seen = new HashSet<Long>();
+                for ( TLongLongIterator it = map.iterator(); it.hasNext(); ) {
+                    it.advance();
+                    assertTrue( seen.add( it.key() ) );
+                    if ( it.value() % 2 == 0 ) {
+                        it.remove();
+                    }
+                }
+                assertEquals( size, seen.size() );
+
+                Set<Integer> seen_ints = new HashSet<Integer>();
+                for ( TIntIterator it = set.iterator(); it.hasNext(); ) {
+                    int key = it.next();
+                    assertTrue( seen_ints.add( key ) );
+                    if ( key % 2 == 0 ) {
+                        it.remove();
+                    }
+                }
+                assertEquals( size, seen_ints.size() );
+
+                seen_ints.clear();
+                for ( Iterator<Integer> it = object_set.iterator(); it.hasNext(); ) {
+                    Integer key = it.next();
+                    assertTrue( seen_ints.add( key ) );
+                    if ( key.intValue() % 2 == 0 ) {
+                        it.remove();
+                    }
+                }
+                assertEquals( size, seen_ints.size() );
+
+                for ( int i = 0; i < size; i++ ) {
+                    assertEquals( i % 2 != 0, map.containsKey( keys[i] ) );
+                    assertEquals( keys[i] % 2 != 0, set.contains( keys[i] ) );
+                    assertEquals( keys[i] % 2 != 0, object_set.contains( Integer.valueOf( keys[i] ) ) );
+                }
+                assertEquals( size / 2, map.size() );
+                HashTestKit.checkFreeSlotCount( map );
+                HashTestKit.checkFreeSlotCount( set );
+                HashTestKit.checkFreeSlotCount( object_set, object_set._set, TObjectHash.FREE );
+
+                // markers left for the iterators are swept once compaction
+                // is re-enabled
+                markers += map.removedSlots() + set.removedSlots() +
+                    object_set.removedSlots();
+                map.tempDisableAutoCompaction();
+                map.reenableAutoCompaction( true );
+                set.tempDisableAutoCompaction();
+                set.reenableAutoCompaction( true );
+                object_set.tempDisableAutoCompaction();
+                object_set.reenableAutoCompaction( true );
+                assertEquals( 0, map.removedSlots() );
+                assertEquals( 0, set.removedSlots() );
+                assertEquals( 0, object_set.removedSlots() );
+                for ( int i = 0; i < size; i++ ) {
+                    assertEquals( i % 2 != 0, map.containsKey( keys[i] ) );
+                    assertEquals( keys[i] % 2 != 0, set.contains( keys[i] ) );
+                    assertEquals( keys[i] % 2 != 0, object_set.contains( Integer.valueOf( keys[i] ) ) );
+                }
+                HashTestKit.checkFreeSlotCount( map );
+                HashTestKit.checkFreeSlotCount( set );
+                HashTestKit.checkFreeSlotCount( object_set, object_set._set, TObjectHash.FREE );
+            }
+        }
+        assertTrue( markers > 0 );
+    }
+
+
+    public void testRemovalNeverCompacts() {
+        for ( ProbeStrategy strategy : STRATEGIES ) {
+            TLongLongHashMap map = new TLongLongHashMap( 1000, 0.9f );
+            map.setProbeStrategy( strategy );
+            THashMap<Long,Long> object_map = new THashMap<Long,Long>( 1000, 0.9f );
+            object_map.setProbeStrategy( strategy );
+            long[] keys = new long[1000];
+            Random rnd = new Random( strategy.ordinal() );
+            for ( int i = 0; i < keys.length; i++ ) {
+                keys[i] = rnd.nextLong();
+                map.put( keys[i], i );
+                object_map.put( Long.valueOf( keys[i] ), Long.valueOf( i ) );
+            }
+            int capacity = map.capacity();
+            int object_capacity = object_map.capacity();
+
+            // with double hashing this many removals would compact the table
+            // several times over
+            for ( int i = 0; i < 100000; i++ ) {
+                int slot = rnd.nextInt( keys.length );
+                assertEquals( slot, map.remove( keys[slot] ) );
+                assertEquals( Long.valueOf( slot ),
+                    object_map.remove( Long.valueOf( keys[slot] ) ) );
+                keys[slot] = rnd.nextLong();
+                map.put( keys[slot], slot );
+                object_map.put( Long.valueOf( keys[slot] ), Long.valueOf( slot ) );
+
+                assertEquals( 0, map.removedSlots() );
+                assertEquals( 0, object_map.removedSlots() );
+            }
+            assertEquals( capacity, map.capacity() );
+            assertEquals( object_capacity, object_map.capacity() );
+            for ( int i = 0; i < keys.length; i++ ) {
+                assertEquals( i, map.get( keys[i] ) );
+                assertEquals( Long.valueOf( i ), object_map.get( Long.valueOf( keys[i] ) ) );
+            }
+            HashTestKit.checkFreeSlotCount( map );
+            HashTestKit.checkFreeSlotCount( object_map, object_map._set, TObjectHash.FREE );
+        }
+    }
+
+
+    public void testRetainEntries() {
+        for ( ProbeStrategy strategy : STRATEGIES ) {
+            TLongLongHashMap map = new TLongLongHashMap();
+            map.setPowerOfTwoCapacity( true );
+            map.setProbeStrategy( strategy );
+            for ( int i = 0; i < 10000; i++ ) {
+                map.put( i, i );
+            }
+            map.retainEntries( new TLongLongProcedure() {
+                public boolean execute( long key, long value ) {
+                    return key % 5 == 0;
+                }
+            } );
+            assertEquals( 2000, map.size() );
+            for ( int i = 0; i < 10000; i++ ) {
+                assertEquals( i % 5 == 0, map.containsKey( i ) );
+            }
+        }
+    }
+
+
+    public void testLinkedHashSetOnlyDoubleHashing() {
+        TLinkedHashSet<String> set = new TLinkedHashSet<String>();
+        set.setProbeStrategy( ProbeStrategy.DOUBLE_HASHING );
+        try {
+            set.setProbeStrategy( ProbeStrategy.LINEAR );
+            fail( "Expected UnsupportedOperationException" );
+        }
+        catch ( UnsupportedOperationException ex ) {
+            // expected
+        }
+        assertEquals( ProbeStrategy.DOUBLE_HASHING, set.getProbeStrategy() );
+    }
+
+
+    public void testSerialize() throws Exception {
+        TLongLongHashMap original_map = new TLongLongHashMap();
+        original_map.setProbeStrategy( ProbeStrategy.ROBIN_HOOD );
+        for ( int i = 0; i < 1000; i++ ) {
+            original_map.put( i * 31, i );
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream( baos );
+        oos.writeObject( original_map );
+
+        ByteArrayInputStream bias = new ByteArrayInputStream( baos.toByteArray() );
+        ObjectInputStream ois = new ObjectInputStream( bias );
+
+        TLongLongHashMap deserialized_map = ( TLongLongHashMap ) ois.readObject();
+        assertEquals( ProbeStrategy.ROBIN_HOOD, deserialized_map.getProbeStrategy() );
+        assertEquals( original_map, deserialized_map );
+    }
+
+
+    private static long value( Long value ) {
+        return value == null ? 0 : value.longValue();
+    }
+
+
+    /** A key with a weak hash code, so that every table has long clusters. */
+    private static class Collider {
+        private final int value;
+
+        Collider( int value ) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value % 13;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            return o instanceof Collider && ( ( Collider ) o ).value == value;
+        }
+    }
+}
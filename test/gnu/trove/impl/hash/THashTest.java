@@ -255,4 +255,92 @@ public class THashTest extends TestCase {
         assertEquals( original_hash._loadFactor, deserialized_hash._loadFactor );
     }
 
+    public void testPowerOfTwoCapacity() throws Exception {
+        TIntLongHashMap map = new TIntLongHashMap( 100 );
+        assertFalse( map.isPowerOfTwoCapacity() );
+        for ( int i = 0; i < 50; i++ ) {
+            map.put( i, i * 2L );
+        }
+
+        map.setPowerOfTwoCapacity( true );
+        assertTrue( map.isPowerOfTwoCapacity() );
+        assertEquals( 0, map.capacity() & ( map.capacity() - 1 ) );
+        assertEquals( 50, map.size() );
+
+        // strided keys share their low bits and need the mixing
+        for ( int i = 0; i < 10000; i++ ) {
+            map.put( i << 16, i );
+        }
+        assertEquals( 0, map.capacity() & ( map.capacity() - 1 ) );
+        for ( int i = 0; i < 10000; i += 2 ) {
+            assertEquals( i, map.remove( i << 16 ) );
+        }
+        for ( int i = 0; i < 10000; i++ ) {
+            assertEquals( i % 2 != 0, map.containsKey( i << 16 ) );
+        }
+        for ( int i = 1; i < 50; i++ ) {
+            assertEquals( i * 2L, map.get( i ) );
+        }
+
+        map.compact();
+        assertEquals( 0, map.capacity() & ( map.capacity() - 1 ) );
+        assertEquals( 5000 + 49, map.size() );
+
+        map.setPowerOfTwoCapacity( false );
+        assertFalse( map.isPowerOfTwoCapacity() );
+        assertTrue( map.capacity() % 2 != 0 );
+        for ( int i = 1; i < 10000; i += 2 ) {
+            assertEquals( i, map.get( i << 16 ) );
+        }
+    }
+
+
+    public void testPowerOfTwoCapacityObjects() throws Exception {
+        THashMap<Integer,Integer> map = new THashMap<Integer,Integer>();
+        map.setPowerOfTwoCapacity( true );
+        THashSet<Integer> set = new THashSet<Integer>();
+        set.setPowerOfTwoCapacity( true );
+
+        for ( int i = 0; i < 10000; i++ ) {
+            map.put( Integer.valueOf( i * 1024 ), Integer.valueOf( i ) );
+            set.add( Integer.valueOf( i * 1024 ) );
+        }
+        map.put( null, Integer.valueOf( -1 ) );
+        assertEquals( 0, map.capacity() & ( map.capacity() - 1 ) );
+        assertEquals( 0, set.capacity() & ( set.capacity() - 1 ) );
+
+        for ( int i = 0; i < 10000; i += 3 ) {
+            assertEquals( Integer.valueOf( i ), map.remove( Integer.valueOf( i * 1024 ) ) );
+            assertTrue( set.remove( Integer.valueOf( i * 1024 ) ) );
+        }
+        for ( int i = 0; i < 10000; i++ ) {
+            boolean present = i % 3 != 0;
+            assertEquals( present ? Integer.valueOf( i ) : null,
+                map.get( Integer.valueOf( i * 1024 ) ) );
+            assertEquals( present, set.contains( Integer.valueOf( i * 1024 ) ) );
+        }
+        assertEquals( Integer.valueOf( -1 ), map.get( null ) );
+    }
+
+
+    public void testPowerOfTwoCapacitySerialize() throws Exception {
+        TIntLongHashMap original_map = new TIntLongHashMap();
+        original_map.setPowerOfTwoCapacity( true );
+        for ( int i = 0; i < 1000; i++ ) {
+            original_map.put( i * 31, i );
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream( baos );
+        oos.writeObject( original_map );
+
+        ByteArrayInputStream bias = new ByteArrayInputStream( baos.toByteArray() );
+        ObjectInputStream ois = new ObjectInputStream( bias );
+
+        TIntLongHashMap deserialized_map = ( TIntLongHashMap ) ois.readObject();
+        assertTrue( deserialized_map.isPowerOfTwoCapacity() );
+        assertEquals( 0, deserialized_map.capacity() & ( deserialized_map.capacity() - 1 ) );
+        assertEquals( original_map, deserialized_map );
+    }
+
 }
@@ -0,0 +1,130 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.io;
+
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.map.hash.TIntLongHashMap;
+import gnu.trove.set.hash.TCharHashSet;
+import gnu.trove.strategy.ProbeStrategy;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Random;
+
+
+
+/**
+ *
+ */
+public class BlockIOTest extends TestCase {
+
+    public BlockIOTest( String name ) {
+        super( name );
+    }
+
+
+    public void testStreamOfCollections() throws IOException {
+        TDoubleArrayList list = new TDoubleArrayList();
+        for ( int i = 0; i < 100000; i++ ) {
+            list.add( i / 3.0 );
+        }
+        TCharHashSet set = new TCharHashSet();
+        for ( char c = 'a'; c <= 'z'; c++ ) {
+            set.add( c );
+        }
+        TIntLongHashMap map = randomMap( 50000 );
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel out = Channels.newChannel( bytes );
+        list.writeTo( out );
+        set.writeTo( out );
+        map.writeTo( out );
+
+        ReadableByteChannel in =
+            Channels.newChannel( new ByteArrayInputStream( bytes.toByteArray() ) );
+        TDoubleArrayList list_read = new TDoubleArrayList();
+        list_read.readFrom( in );
+        TCharHashSet set_read = new TCharHashSet();
+        set_read.readFrom( in );
+        TIntLongHashMap map_read = new TIntLongHashMap();
+        map_read.readFrom( in );
+        assertEquals( -1, in.read( ByteBuffer.allocate( 1 ) ) );
+
+        assertEquals( list, list_read );
+        assertEquals( set, set_read );
+        assertEquals( map, map_read );
+        assertEquals( map.capacity(), map_read.capacity() );
+
+        map_read.put( -5, 5 );
+        assertEquals( 5, map_read.get( -5 ) );
+        map_read.remove( -5 );
+        assertEquals( map, map_read );
+    }
+
+
+    public void testOtherLayoutRehashes() throws IOException {
+        TIntLongHashMap map = randomMap( 10000 );
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        map.writeTo( Channels.newChannel( bytes ) );
+
+        TIntLongHashMap linear = new TIntLongHashMap();
+        linear.setProbeStrategy( ProbeStrategy.LINEAR );
+        linear.readFrom( Channels.newChannel( new ByteArrayInputStream( bytes.toByteArray() ) ) );
+        assertEquals( map, linear );
+        assertEquals( ProbeStrategy.LINEAR, linear.getProbeStrategy() );
+
+        TIntLongHashMap dense = new TIntLongHashMap( 10, 0.25f );
+        dense.readFrom( Channels.newChannel( new ByteArrayInputStream( bytes.toByteArray() ) ) );
+        assertEquals( map, dense );
+        assertTrue( dense.capacity() > map.capacity() );
+    }
+
+
+    public void testWrongType() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        randomMap( 10 ).writeTo( Channels.newChannel( bytes ) );
+        try {
+            new TCharHashSet().readFrom(
+                Channels.newChannel( new ByteArrayInputStream( bytes.toByteArray() ) ) );
+            fail( "Expected IOException" );
+        }
+        catch ( IOException ex ) {
+            // expected
+        }
+    }
+
+
+    private static TIntLongHashMap randomMap( int size ) {
+        TIntLongHashMap map = new TIntLongHashMap();
+        Random random = new Random( size );
+        while ( map.size() < size ) {
+            map.put( random.nextInt(), random.nextLong() );
+        }
+        for ( int key : map.keys() ) {
+            if ( ( key & 7 ) == 0 ) {
+                map.remove( key );
+            }
+        }
+        return map;
+    }
+}
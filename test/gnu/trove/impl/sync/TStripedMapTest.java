@@ -0,0 +1,183 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.impl.sync;
+
+import gnu.trove.TCollections;
+import gnu.trove.function.TLongFunction;
+import gnu.trove.iterator.TIntLongIterator;
+import gnu.trove.map.hash.TIntLongHashMap;
+import gnu.trove.procedure.TIntLongProcedure;
+import junit.framework.TestCase;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+
+/**
+ *
+ */
+public class TStripedMapTest extends TestCase {
+
+    public TStripedMapTest( String name ) {
+        super( name );
+    }
+
+
+    public void testCopyAndViews() {
+        TIntLongHashMap source = new TIntLongHashMap( 10, 0.5f, -1, -2 );
+        for ( int i = 0; i < 1000; i++ ) {
+            source.put( i, i * 10L );
+        }
+        TStripedIntLongMap map = TCollections.stripedMap( source, 5 );
+        assertEquals( 8, map.getStripeCount() );
+        assertEquals( -2, map.get( 5000 ) );
+        assertEquals( source, map );
+        assertEquals( map, source );
+        assertEquals( source.hashCode(), map.hashCode() );
+        assertEquals( 1000, map.keys().length );
+
+        TIntLongIterator iter = map.iterator();
+        int seen = 0;
+        while ( iter.hasNext() ) {
+            iter.advance();
+            assertEquals( iter.key() * 10L, iter.value() );
+            if ( ( iter.key() & 1 ) == 1 ) {
+                iter.remove();
+            }
+            seen++;
+        }
+        assertEquals( 1000, seen );
+        assertEquals( 500, map.size() );
+        assertFalse( map.containsKey( 1 ) );
+        assertTrue( map.keySet().remove( 2 ) );
+        assertFalse( map.keySet().remove( 2 ) );
+        assertTrue( map.valueCollection().remove( 40 ) );
+        assertEquals( 498, map.size() );
+    }
+
+
+    public void testParallelStripes() throws InterruptedException {
+        TStripedIntLongMap map = new TStripedIntLongMap();
+        for ( int i = 0; i < 10000; i++ ) {
+            map.put( i, 1 );
+        }
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try {
+            map.transformValuesParallel( new TLongFunction() {
+                public long execute( long value ) {
+                    return value + 1;
+                }
+            }, executor );
+
+            final AtomicInteger count = new AtomicInteger();
+            assertTrue( map.forEachEntryParallel( new TIntLongProcedure() {
+                public boolean execute( int key, long value ) {
+                    assertEquals( 2, value );
+                    count.incrementAndGet();
+                    return true;
+                }
+            }, executor ) );
+            assertEquals( 10000, count.get() );
+
+            assertFalse( map.forEachEntryParallel( new TIntLongProcedure() {
+                public boolean execute( int key, long value ) {
+                    return key != 777;
+                }
+            }, executor ) );
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+
+    public void testConcurrentAdjust() throws InterruptedException {
+        final TStripedIntLongMap map = new TStripedIntLongMap();
+        Thread[] threads = new Thread[8];
+        for ( int t = 0; t < threads.length; t++ ) {
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for ( int i = 0; i < 20000; i++ ) {
+                        map.adjustOrPutValue( i % 1000, 1, 1 );
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for ( Thread thread : threads ) {
+            thread.join();
+        }
+        assertEquals( 1000, map.size() );
+        for ( int i = 0; i < 1000; i++ ) {
+            assertEquals( 8 * 20, map.get( i ) );
+        }
+    }
+
+
+    public void testGetAllDuringUpdates() throws InterruptedException {
+        final TStripedIntLongMap map = new TStripedIntLongMap();
+        final int keys = 256;
+        final AtomicBoolean done = new AtomicBoolean();
+        Thread[] writers = new Thread[4];
+        for ( int t = 0; t < writers.length; t++ ) {
+            writers[t] = new Thread() {
+                @Override
+                public void run() {
+                    for ( int i = 0; !done.get(); i++ ) {
+                        int key = i % keys;
+                        if ( ( i / keys & 1 ) == 0 ) {
+                            map.put( key, key + 1 );
+                        }
+                        else {
+                            map.remove( key );
+                        }
+                    }
+                }
+            };
+            writers[t].start();
+        }
+
+        int[] lookups = new int[keys];
+        for ( int i = 0; i < keys; i++ ) {
+            lookups[i] = i;
+        }
+        long[] values = new long[keys];
+        try {
+            for ( int round = 0; round < 20000; round++ ) {
+                int count = map.getAll( lookups, values );
+                int found = 0;
+                for ( int i = 0; i < keys; i++ ) {
+                    if ( values[i] != 0 ) {
+                        assertEquals( i + 1, values[i] );
+                        found++;
+                    }
+                }
+                assertEquals( found, count );
+            }
+        }
+        finally {
+            done.set( true );
+            for ( Thread writer : writers ) {
+                writer.join();
+            }
+        }
+    }
+}
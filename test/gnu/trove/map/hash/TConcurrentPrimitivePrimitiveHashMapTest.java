@@ -0,0 +1,211 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+import gnu.trove.iterator.TIntDoubleIterator;
+import junit.framework.TestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+
+/**
+ *
+ */
+public class TConcurrentPrimitivePrimitiveHashMapTest extends TestCase {
+
+    public TConcurrentPrimitivePrimitiveHashMapTest( String name ) {
+        super( name );
+    }
+
+
+    public void testRandomOperations() {
+        TConcurrentLongLongHashMap map = new TConcurrentLongLongHashMap( 4, 0.5f, 4 );
+        Map<Long, Long> reference = new HashMap<Long, Long>();
+        Random random = new Random( 42 );
+        for ( int i = 0; i < 200000; i++ ) {
+            long key = random.nextInt( 5000 );
+            switch ( random.nextInt( 4 ) ) {
+                case 0:
+                case 1:
+                    Long previous = reference.put( key, ( long ) i );
+                    assertEquals( previous == null ? 0 : previous.longValue(),
+                        map.put( key, i ) );
+                    break;
+                case 2:
+                    previous = reference.remove( key );
+                    assertEquals( previous == null ? 0 : previous.longValue(),
+                        map.remove( key ) );
+                    break;
+                default:
+                    assertEquals( reference.containsKey( key ), map.containsKey( key ) );
+            }
+            assertEquals( reference.size(), map.size() );
+        }
+        for ( Map.Entry<Long, Long> entry : reference.entrySet() ) {
+            assertEquals( entry.getValue().longValue(), map.get( entry.getKey() ) );
+        }
+        assertEquals( new TLongLongHashMap( map ), map );
+        assertEquals( map, new TLongLongHashMap( map ) );
+        assertEquals( new TLongLongHashMap( map ).hashCode(), map.hashCode() );
+    }
+
+
+    public void testFloatingPointValues() {
+        TConcurrentIntDoubleHashMap map =
+            new TConcurrentIntDoubleHashMap( 10, 0.5f, 2, -1, Double.NaN );
+        assertTrue( Double.isNaN( map.get( 3 ) ) );
+        map.put( 1, -0.5 );
+        map.put( 2, Double.MAX_VALUE );
+        assertEquals( -0.5, map.putIfAbsent( 1, 7 ) );
+        assertTrue( Double.isNaN( map.putIfAbsent( 3, 7 ) ) );
+        assertEquals( 1.5, map.adjustOrPutValue( 1, 2, 0 ) );
+        assertFalse( map.adjustValue( 4, 1 ) );
+
+        TIntDoubleIterator iter = map.iterator();
+        while ( iter.hasNext() ) {
+            iter.advance();
+            if ( iter.key() == 2 ) {
+                iter.remove();
+            }
+        }
+        assertEquals( 2, map.size() );
+        assertFalse( map.containsKey( 2 ) );
+        assertTrue( map.containsValue( 7 ) );
+        assertTrue( map.keySet().remove( 3 ) );
+        assertFalse( map.keySet().remove( 3 ) );
+        assertEquals( "{1=1.5}", map.toString() );
+    }
+
+
+    public void testCapacityIsBounded() {
+        assertEquals( 2, TConcurrentIntIntHashMap.capacityFor( 0, 0.5f ) );
+        assertEquals( 8, TConcurrentIntIntHashMap.capacityFor( 3, 0.5f ) );
+        assertEquals( 1 << 30, TConcurrentIntIntHashMap.capacityFor( 1 << 29, 0.5f ) );
+        assertEquals( 1 << 30, TConcurrentIntIntHashMap.capacityFor( Integer.MAX_VALUE, 0.5f ) );
+        assertEquals( 1 << 30, TConcurrentIntIntHashMap.capacityFor( Long.MAX_VALUE, 0.9f ) );
+    }
+
+
+    public void testConcurrentUpdates() throws InterruptedException {
+        final TConcurrentIntIntHashMap map = new TConcurrentIntIntHashMap( 1, 0.5f, 4 );
+        final int threads = 8;
+        final int keys = 2000;
+        final int rounds = 50;
+        final AtomicInteger inserted = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch( 1 );
+        final Throwable[] failure = new Throwable[1];
+
+        Thread[] workers = new Thread[threads];
+        for ( int t = 0; t < threads; t++ ) {
+            workers[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for ( int round = 0; round < rounds; round++ ) {
+                            for ( int key = 0; key < keys; key++ ) {
+                                map.adjustOrPutValue( key, 1, 1 );
+                                if ( map.putIfAbsent( -key - 1, key + 1 ) == 0 ) {
+                                    inserted.incrementAndGet();
+                                }
+                                // the entry is visible as soon as it was put
+                                int value = map.get( -key - 1 );
+                                if ( value != key + 1 ) {
+                                    throw new AssertionError( "read " + value + " for " + key );
+                                }
+                            }
+                        }
+                    }
+                    catch ( Throwable ex ) {
+                        synchronized ( failure ) {
+                            failure[0] = ex;
+                        }
+                    }
+                }
+            };
+            workers[t].start();
+        }
+        start.countDown();
+        for ( Thread worker : workers ) {
+            worker.join();
+        }
+
+        assertNull( String.valueOf( failure[0] ), failure[0] );
+        assertEquals( 2 * keys, map.size() );
+        assertEquals( keys, inserted.get() );
+        for ( int key = 0; key < keys; key++ ) {
+            assertEquals( threads * rounds, map.get( key ) );
+        }
+    }
+
+
+    public void testGetAllDuringUpdates() throws InterruptedException {
+        // a small table, so the writers keep rehashing it under the readers
+        final TConcurrentIntIntHashMap map = new TConcurrentIntIntHashMap( 1, 0.5f, 2 );
+        final int keys = 256;
+        final AtomicBoolean done = new AtomicBoolean();
+        Thread[] writers = new Thread[4];
+        for ( int t = 0; t < writers.length; t++ ) {
+            writers[t] = new Thread() {
+                @Override
+                public void run() {
+                    for ( int i = 0; !done.get(); i++ ) {
+                        int key = i % keys;
+                        if ( ( i / keys & 1 ) == 0 ) {
+                            map.put( key, key + 1 );
+                        }
+                        else {
+                            map.remove( key );
+                        }
+                    }
+                }
+            };
+            writers[t].start();
+        }
+
+        int[] lookups = new int[keys];
+        for ( int i = 0; i < keys; i++ ) {
+            lookups[i] = i;
+        }
+        int[] values = new int[keys];
+        try {
+            for ( int round = 0; round < 20000; round++ ) {
+                int count = map.getAll( lookups, values );
+                int found = 0;
+                for ( int i = 0; i < keys; i++ ) {
+                    if ( values[i] != 0 ) {
+                        assertEquals( i + 1, values[i] );
+                        found++;
+                    }
+                }
+                assertEquals( found, count );
+            }
+        }
+        finally {
+            done.set( true );
+            for ( Thread writer : writers ) {
+                writer.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+import gnu.trove.iterator.TLongIntIterator;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.set.TLongSet;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+
+
+/**
+ * Tests for the frozen, minimal perfect hashing maps.
+ */
+public class TFrozenHashMapTest extends TestCase {
+
+    public TFrozenHashMapTest( String name ) {
+        super( name );
+    }
+
+
+    public void testLookups() {
+        Random random = new Random( 25 );
+        for ( int size : new int[] { 0, 1, 2, 3, 10, 1000, 100000 } ) {
+            TLongIntHashMap map = new TLongIntHashMap( size, 0.5f, -1, -1 );
+            while ( map.size() < size ) {
+                map.put( random.nextLong(), random.nextInt() );
+            }
+            TLongIntFrozenHashMap frozen = map.freeze();
+            assertEquals( size, frozen.size() );
+            assertEquals( size == 0, frozen.isEmpty() );
+            assertEquals( -1, frozen.getNoEntryValue() );
+            assertEquals( map, frozen );
+            assertEquals( frozen, map );
+            assertEquals( map.hashCode(), frozen.hashCode() );
+
+            for ( TLongIntIterator it = map.iterator(); it.hasNext(); ) {
+                it.advance();
+                assertTrue( frozen.containsKey( it.key() ) );
+                assertEquals( it.value(), frozen.get( it.key() ) );
+            }
+            for ( int i = 0; i < 1000; i++ ) {
+                long key = random.nextLong();
+                assertEquals( map.containsKey( key ), frozen.containsKey( key ) );
+                assertEquals( map.get( key ), frozen.get( key ) );
+            }
+
+            long[] keys = map.keys();
+            int[] values = new int[ keys.length ];
+            assertEquals( size, frozen.getAll( keys, values ) );
+            for ( int i = 0; i < keys.length; i++ ) {
+                assertEquals( map.get( keys[i] ), values[i] );
+            }
+        }
+    }
+
+
+    public void testSmallKeyTypes() {
+        TByteByteHashMap bytes = new TByteByteHashMap();
+        for ( int i = Byte.MIN_VALUE; i <= Byte.MAX_VALUE; i++ ) {
+            bytes.put( ( byte ) i, ( byte ) ~i );
+        }
+        TByteByteFrozenHashMap frozenBytes = bytes.freeze();
+        assertEquals( 256, frozenBytes.size() );
+        assertEquals( bytes, frozenBytes );
+
+        TCharDoubleHashMap chars = new TCharDoubleHashMap();
+        TDoubleCharHashMap doubles = new TDoubleCharHashMap();
+        for ( int i = 0; i < 5000; i++ ) {
+            chars.put( ( char ) ( i * 13 ), i / 4.0 );
+            doubles.put( i / 4.0 - 100, ( char ) i );
+        }
+        doubles.put( -0.0, 'x' );
+        assertEquals( chars, chars.freeze() );
+        TDoubleCharFrozenHashMap frozenDoubles = doubles.freeze();
+        assertEquals( doubles, frozenDoubles );
+        // both zeros are the same key
+        assertEquals( 'x', frozenDoubles.get( 0.0 ) );
+        assertEquals( 'x', frozenDoubles.get( -0.0 ) );
+        assertFalse( frozenDoubles.containsKey( 0.1 ) );
+    }
+
+
+    public void testImmutable() {
+        TLongIntHashMap map = new TLongIntHashMap();
+        map.put( 1, 2 );
+        map.put( 3, 4 );
+        TLongIntMap frozen = map.freeze();
+        try {
+            frozen.put( 5, 6 );
+            fail( "put() on a frozen map" );
+        }
+        catch ( UnsupportedOperationException expected ) {
+        }
+        try {
+            frozen.remove( 1 );
+            fail( "remove() on a frozen map" );
+        }
+        catch ( UnsupportedOperationException expected ) {
+        }
+        try {
+            frozen.putAll( new long[] { 7 }, new int[] { 8 } );
+            fail( "putAll() on a frozen map" );
+        }
+        catch ( UnsupportedOperationException expected ) {
+        }
+        try {
+            frozen.valueCollection().clear();
+            fail( "clear() on the values of a frozen map" );
+        }
+        catch ( UnsupportedOperationException expected ) {
+        }
+        TLongIntIterator it = frozen.iterator();
+        it.advance();
+        try {
+            it.setValue( 9 );
+            fail( "setValue() on a frozen map" );
+        }
+        catch ( UnsupportedOperationException expected ) {
+        }
+
+        // the key set shares the table of the map
+        TLongSet keys = frozen.keySet();
+        assertEquals( map.keySet(), keys );
+        assertTrue( keys.contains( 3 ) );
+        assertFalse( keys.contains( 2 ) );
+        try {
+            keys.add( 2 );
+            fail( "add() on the keys of a frozen map" );
+        }
+        catch ( UnsupportedOperationException expected ) {
+        }
+        map.put( 5, 6 );
+        assertEquals( 2, frozen.size() );
+    }
+
+
+    public void testObjectValues() {
+        TIntObjectHashMap<String> map = new TIntObjectHashMap<String>();
+        for ( int i = 0; i < 10000; i++ ) {
+            map.put( i * 31, String.valueOf( i ) );
+        }
+        map.put( -7, null );
+        TIntObjectMap<String> frozen = map.freeze();
+        assertEquals( map, frozen );
+        assertEquals( frozen, map );
+        assertEquals( map.hashCode(), frozen.hashCode() );
+        assertEquals( "42", frozen.get( 42 * 31 ) );
+        assertNull( frozen.get( 43 ) );
+        assertNull( frozen.get( -7 ) );
+        assertTrue( frozen.containsKey( -7 ) );
+        assertTrue( frozen.containsValue( null ) );
+        assertTrue( frozen.containsValue( "9999" ) );
+        assertEquals( 10001, frozen.valueCollection().size() );
+        try {
+            frozen.put( 1, "1" );
+            fail( "put() on a frozen map" );
+        }
+        catch ( UnsupportedOperationException expected ) {
+        }
+    }
+
+
+    @SuppressWarnings( "unchecked" )
+    public void testSerialization() throws Exception {
+        TLongIntHashMap map = new TLongIntHashMap( 10, 0.5f, -1, -2 );
+        for ( int i = 0; i < 1000; i++ ) {
+            map.put( i * 1000003L, i );
+        }
+        TLongIntFrozenHashMap frozen = map.freeze();
+        TLongIntFrozenHashMap copy = ( TLongIntFrozenHashMap ) serialize( frozen );
+        assertEquals( frozen, copy );
+        assertEquals( -1, copy.getNoEntryKey() );
+        assertEquals( -2, copy.getNoEntryValue() );
+        assertEquals( 500, copy.get( 500 * 1000003L ) );
+        assertEquals( -2, copy.get( 1 ) );
+
+        TIntObjectHashMap<String> objects = new TIntObjectHashMap<String>();
+        for ( int i = 0; i < 100; i++ ) {
+            objects.put( i, "v" + i );
+        }
+        TIntObjectFrozenHashMap<String> frozenObjects = objects.freeze();
+        TIntObjectFrozenHashMap<String> objectsCopy =
+            ( TIntObjectFrozenHashMap<String> ) serialize( frozenObjects );
+        assertEquals( objects, objectsCopy );
+        assertEquals( "v7", objectsCopy.get( 7 ) );
+
+        TLongIntFrozenHashMap empty = ( TLongIntFrozenHashMap ) serialize( new TLongIntFrozenHashMap() );
+        assertTrue( empty.isEmpty() );
+        assertFalse( empty.containsKey( 0 ) );
+    }
+
+
+    private static Object serialize( Object object ) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream( bytes );
+        out.writeObject( object );
+        out.close();
+        return new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ).readObject();
+    }
+}
@@ -0,0 +1,105 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+import junit.framework.TestCase;
+
+
+
+/**
+ *
+ */
+public class TObjectLongAdderMapTest extends TestCase {
+
+    public TObjectLongAdderMapTest( String name ) {
+        super( name );
+    }
+
+
+    public void testSingleThread() {
+        TObjectLongAdderMap<String> counts = new TObjectLongAdderMap<String>( 3 );
+        assertEquals( 4, counts.getCellCount() );
+        counts.increment( "a" );
+        counts.increment( "a" );
+        counts.adjustValue( "b", -5 );
+        assertEquals( 2, counts.sum( "a" ) );
+        assertEquals( -5, counts.sum( "b" ) );
+        assertEquals( 0, counts.sum( "c" ) );
+        assertTrue( counts.containsKey( "b" ) );
+
+        TObjectLongHashMap<String> expected = new TObjectLongHashMap<String>();
+        expected.put( "a", 2 );
+        expected.put( "b", -5 );
+        assertEquals( expected, counts.snapshot() );
+
+        TObjectLongHashMap<String> total = new TObjectLongHashMap<String>();
+        total.put( "a", 10 );
+        counts.addTo( total );
+        assertEquals( 12, total.get( "a" ) );
+
+        assertEquals( -5, counts.remove( "b" ) );
+        assertFalse( counts.containsKey( "b" ) );
+        assertEquals( 2, counts.snapshotAndReset().get( "a" ) );
+        assertTrue( counts.snapshot().isEmpty() );
+    }
+
+
+    public void testConcurrentIncrements() throws InterruptedException {
+        final TObjectLongAdderMap<Integer> counts = new TObjectLongAdderMap<Integer>();
+        final Integer[] keys = new Integer[ 100 ];
+        for ( int i = 0; i < keys.length; i++ ) {
+            keys[i] = Integer.valueOf( i );
+        }
+        final long[] drained = new long[1];
+
+        Thread[] threads = new Thread[8];
+        for ( int t = 0; t < threads.length; t++ ) {
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for ( int i = 0; i < 100000; i++ ) {
+                        counts.increment( keys[ i % keys.length ] );
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        // draining while the counts change must neither lose nor repeat any
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                for ( int i = 0; i < 50; i++ ) {
+                    TObjectLongHashMap<Integer> part = counts.snapshotAndReset();
+                    for ( long value : part.values() ) {
+                        drained[0] += value;
+                    }
+                }
+            }
+        };
+        reader.start();
+        for ( Thread thread : threads ) {
+            thread.join();
+        }
+        reader.join();
+
+        long total = drained[0];
+        for ( long value : counts.snapshot().values() ) {
+            total += value;
+        }
+        assertEquals( 8 * 100000L, total );
+    }
+}
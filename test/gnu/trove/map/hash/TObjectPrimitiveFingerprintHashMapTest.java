@@ -0,0 +1,112 @@
+package gnu.trove.map.hash;
+
+import gnu.trove.map.TObjectIntMap;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+
+/**
+ * Tests for the Object keyed maps that keep the hash codes of their keys.
+ */
+public class TObjectPrimitiveFingerprintHashMapTest extends TestCase {
+
+	/** A key whose equals() is counted and whose hash codes collide a lot. */
+	static class SlowKey implements Serializable {
+		static int equalities;
+
+		final int id;
+
+		SlowKey( int id ) {
+			this.id = id;
+		}
+
+		public int hashCode() {
+			return id * 0x9E3779B9;
+		}
+
+		public boolean equals( Object other ) {
+			equalities++;
+			return other instanceof SlowKey && ( ( SlowKey ) other ).id == id;
+		}
+	}
+
+
+	public TObjectPrimitiveFingerprintHashMapTest( String name ) {
+		super( name );
+	}
+
+
+	public void testMap() {
+		TObjectIntHashMap<String> map = new TObjectIntFingerprintHashMap<String>();
+		assertTrue( map.isHashCodeCaching() );
+		for ( int i = 0; i < 5000; i++ ) {
+			assertEquals( map.getNoEntryValue(), map.put( String.valueOf( i ), i ) );
+		}
+		for ( int i = 0; i < 5000; i += 2 ) {
+			assertEquals( i, map.remove( String.valueOf( i ) ) );
+		}
+		assertEquals( 2500, map.size() );
+		for ( int i = 0; i < 5000; i++ ) {
+			assertEquals( i % 2 == 1, map.containsKey( String.valueOf( i ) ) );
+		}
+
+		TObjectIntMap<String> copy = new TObjectIntFingerprintHashMap<String>( map );
+		assertEquals( map, copy );
+		assertTrue( new TObjectLongFingerprintHashMap<String>( 10, 0.5f, -1 ).isHashCodeCaching() );
+		assertEquals( -1, new TObjectLongFingerprintHashMap<String>( 10, 0.5f, -1 ).get( "x" ) );
+	}
+
+
+	public void testFewerEqualsCalls() {
+		TObjectIntHashMap<SlowKey> plain = new TObjectIntHashMap<SlowKey>();
+		TObjectIntHashMap<SlowKey> fingerprinted = new TObjectIntFingerprintHashMap<SlowKey>();
+		for ( int i = 0; i < 2000; i++ ) {
+			plain.put( new SlowKey( i ), i );
+			fingerprinted.put( new SlowKey( i ), i );
+		}
+
+		// misses never get as far as equals()
+		SlowKey.equalities = 0;
+		for ( int i = 2000; i < 4000; i++ ) {
+			assertFalse( fingerprinted.containsKey( new SlowKey( i ) ) );
+		}
+		assertEquals( 0, SlowKey.equalities );
+		for ( int i = 2000; i < 4000; i++ ) {
+			assertFalse( plain.containsKey( new SlowKey( i ) ) );
+		}
+		assertTrue( SlowKey.equalities > 0 );
+
+		SlowKey.equalities = 0;
+		for ( int i = 0; i < 2000; i++ ) {
+			assertEquals( i, fingerprinted.get( new SlowKey( i ) ) );
+		}
+		assertEquals( 2000, SlowKey.equalities );
+	}
+
+
+	@SuppressWarnings( "unchecked" )
+	public void testSerialization() throws Exception {
+		TObjectDoubleFingerprintHashMap<String> map =
+			new TObjectDoubleFingerprintHashMap<String>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( String.valueOf( i ), i );
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream( bytes );
+		out.writeObject( map );
+		out.close();
+		TObjectDoubleFingerprintHashMap<String> copy =
+			( TObjectDoubleFingerprintHashMap<String> ) new ObjectInputStream(
+			new ByteArrayInputStream( bytes.toByteArray() ) ).readObject();
+		assertTrue( copy.isHashCodeCaching() );
+		assertEquals( map, copy );
+		copy.put( "100", 100 );
+		assertEquals( 42.0, copy.get( "42" ) );
+	}
+}
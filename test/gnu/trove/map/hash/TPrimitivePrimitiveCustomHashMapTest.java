@@ -0,0 +1,140 @@
+package gnu.trove.map.hash;
+
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.custom_hash.TLongIntCustomHashMap;
+import gnu.trove.map.custom_hash.TLongObjectCustomHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongCustomHashSet;
+import gnu.trove.set.hash.TLongHashSet;
+import gnu.trove.strategy.ProbeStrategy;
+import gnu.trove.strategy.TLongHashingStrategy;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+
+
+/**
+ * Tests for the primitive maps and sets with a hashing strategy.
+ */
+public class TPrimitivePrimitiveCustomHashMapTest extends TestCase {
+
+	/** Keys that only their low 32 bits identify, the rest is a tag. */
+	static class LowBitsStrategy implements TLongHashingStrategy {
+		public int computeHashCode( long key ) {
+			return ( int ) key;
+		}
+
+		public boolean equals( long k1, long k2 ) {
+			return ( int ) k1 == ( int ) k2;
+		}
+	}
+
+
+	private static long tagged( int id, int tag ) {
+		return ( ( long ) tag << 32 ) | ( id & 0xFFFFFFFFL );
+	}
+
+
+	public void testMap() {
+		for ( ProbeStrategy probe : ProbeStrategy.values() ) {
+			TLongIntCustomHashMap map = new TLongIntCustomHashMap( new LowBitsStrategy() );
+			map.setProbeStrategy( probe );
+			for ( int i = 0; i < 1000; i++ ) {
+				assertEquals( 0, map.put( tagged( i, 1 ), i ) );
+			}
+			assertEquals( 1000, map.size() );
+			for ( int i = 0; i < 1000; i++ ) {
+				assertTrue( map.containsKey( tagged( i, 2 ) ) );
+				assertEquals( i, map.get( tagged( i, 3 ) ) );
+			}
+			assertFalse( map.containsKey( tagged( 1000, 1 ) ) );
+
+			// the first key stored stays, its value is replaced
+			assertEquals( 7, map.put( tagged( 7, 9 ), 70 ) );
+			assertTrue( map.keySet().contains( tagged( 7, 1 ) ) );
+			for ( int i = 0; i < 1000; i += 2 ) {
+				assertEquals( i, map.remove( tagged( i, 4 ) ) );
+			}
+			assertEquals( 500, map.size() );
+			for ( int i = 0; i < 1000; i++ ) {
+				assertEquals( probe.name(), i % 2 == 1, map.containsKey( tagged( i, 5 ) ) );
+			}
+		}
+	}
+
+
+	public void testObjectMapAndSet() {
+		TLongObjectMap<String> map =
+			new TLongObjectCustomHashMap<String>( new LowBitsStrategy() );
+		TLongSet set = new TLongCustomHashSet( new LowBitsStrategy() );
+		for ( int i = 0; i < 500; i++ ) {
+			map.put( tagged( i, i ), String.valueOf( i ) );
+			assertTrue( set.add( tagged( i, i ) ) );
+			assertFalse( set.add( tagged( i, -i ) ) );
+		}
+		assertEquals( 500, map.size() );
+		assertEquals( 500, set.size() );
+		for ( int i = 0; i < 500; i++ ) {
+			assertEquals( String.valueOf( i ), map.get( i ) );
+			assertTrue( set.contains( i ) );
+		}
+
+		// without the strategy the tags tell the keys apart
+		TLongSet plain = new TLongHashSet( set );
+		assertEquals( 500, plain.size() );
+		assertFalse( plain.contains( 1 ) );
+	}
+
+
+	public void testIncrementalRehash() {
+		TLongIntCustomHashMap map = new TLongIntCustomHashMap( new LowBitsStrategy() );
+		map.setIncrementalRehash( true );
+		for ( int i = 0; i < 5000; i++ ) {
+			map.put( tagged( i, 1 ), i );
+			assertEquals( i / 2, map.get( tagged( i / 2, 2 ) ) );
+			assertEquals( i + 1, map.size() );
+		}
+		for ( int i = 0; i < 5000; i++ ) {
+			assertEquals( i, map.get( i ) );
+		}
+	}
+
+
+	public void testSerialization() throws Exception {
+		TLongIntCustomHashMap map = new TLongIntCustomHashMap( new LowBitsStrategy() );
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( tagged( i, 1 ), i );
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream( bytes );
+		out.writeObject( map );
+		out.close();
+		TLongIntMap copy = ( TLongIntMap ) new ObjectInputStream(
+			new ByteArrayInputStream( bytes.toByteArray() ) ).readObject();
+		assertEquals( map, copy );
+		assertEquals( 42, copy.get( 42 ) );
+
+		// a table laid out by the strategy is rehashed when read into
+		// a map without it, and the other way round
+		bytes = new ByteArrayOutputStream();
+		map.writeTo( Channels.newChannel( bytes ) );
+		TLongIntHashMap plain = new TLongIntHashMap();
+		plain.readFrom( Channels.newChannel( new ByteArrayInputStream( bytes.toByteArray() ) ) );
+		assertEquals( 100, plain.size() );
+		assertEquals( 42, plain.get( tagged( 42, 1 ) ) );
+		assertFalse( plain.containsKey( 42 ) );
+
+		bytes = new ByteArrayOutputStream();
+		plain.writeTo( Channels.newChannel( bytes ) );
+		TLongIntCustomHashMap custom = new TLongIntCustomHashMap( new LowBitsStrategy() );
+		custom.readFrom( Channels.newChannel( new ByteArrayInputStream( bytes.toByteArray() ) ) );
+		assertEquals( 100, custom.size() );
+		assertEquals( 42, custom.get( 42 ) );
+	}
+}
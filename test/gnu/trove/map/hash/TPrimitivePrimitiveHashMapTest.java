@@ -40,6 +40,8 @@ import gnu.trove.procedure.TIntLongProcedure;
 import gnu.trove.function.TLongFunction;
 import gnu.trove.TLongCollection;
 import gnu.trove.TIntCollection;
+import gnu.trove.TCollections;
+import gnu.trove.strategy.ProbeStrategy;
 import junit.framework.TestCase;
 
 import java.util.*;
@@ -2041,6 +2043,57 @@ public class TPrimitivePrimitiveHashMapTest extends TestCase {
         assertEquals( map, deserialized );
     }
 
+
+    public void testBulkLookups() {
+        TIntLongHashMap powerOfTwo = new TIntLongHashMap();
+        powerOfTwo.setPowerOfTwoCapacity( true );
+        powerOfTwo.setProbeStrategy( ProbeStrategy.ROBIN_HOOD );
+        TIntLongHashMap incremental = new TIntLongHashMap();
+        incremental.setIncrementalRehash( true );
+        TIntLongMap[] maps = { new TIntLongHashMap(), powerOfTwo, incremental,
+            new TIntLongSwissHashMap(), new TConcurrentIntLongHashMap(),
+            TCollections.synchronizedMap( new TIntLongHashMap() ) };
+
+        int[] keys = new int[1000];
+        long[] vals = new long[keys.length];
+        for ( int i = 0; i < keys.length; i++ ) {
+            keys[i] = i * 3;
+            vals[i] = i + 1;
+        }
+        int[] lookups = new int[3000];
+        for ( int i = 0; i < lookups.length; i++ ) {
+            lookups[i] = i;
+        }
+
+        for ( TIntLongMap map : maps ) {
+            map.putAll( keys, vals );
+            assertEquals( keys.length, map.size() );
+            map.remove( 300 );
+
+            long[] out = new long[lookups.length];
+            assertEquals( keys.length - 1, map.getAll( lookups, out ) );
+            // one word more than needed, which has to be left alone
+            long[] found = new long[( lookups.length + 63 ) / 64 + 1];
+            Arrays.fill( found, -1L );
+            assertEquals( keys.length - 1, map.containsKeys( lookups, found ) );
+            for ( int i = 0; i < lookups.length; i++ ) {
+                assertEquals( map.get( i ), out[i] );
+                assertEquals( map.containsKey( i ), ( found[i >>> 6] & 1L << i ) != 0 );
+            }
+            assertEquals( -1, found[found.length - 1] );
+
+            TIntLongMap unmodifiable = TCollections.unmodifiableMap( map );
+            assertEquals( keys.length - 1, unmodifiable.getAll( keys, out ) );
+            try {
+                unmodifiable.putAll( keys, vals );
+                fail( "Expected UnsupportedOperationException" );
+            }
+            catch ( UnsupportedOperationException ex ) {
+                // expected
+            }
+        }
+    }
+
     /** a non TIntLongHashMap to test putAll exception */
 //    class BadMap implements TIntLongMap  {
 //        public int getNoEntryKey() { return 0; }
@@ -0,0 +1,182 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+import gnu.trove.iterator.TIntIntIterator;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.procedure.TIntIntProcedure;
+import gnu.trove.procedure.TLongDoubleProcedure;
+import gnu.trove.set.TLongSet;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+
+/**
+ * Tests for the interleaved primitive-primitive maps.
+ */
+public class TPrimitivePrimitiveInterleavedHashMapTest extends TestCase {
+
+    public TPrimitivePrimitiveInterleavedHashMapTest( String name ) {
+        super( name );
+    }
+
+
+    public void testRandomOperations() {
+        TIntIntInterleavedHashMap map = new TIntIntInterleavedHashMap();
+        Map<Integer,Integer> expected = new HashMap<Integer,Integer>();
+        Random random = new Random( 22 );
+        for ( int i = 0; i < 50000; i++ ) {
+            int key = random.nextInt( 4000 ) - 2000;
+            switch ( random.nextInt( 3 ) ) {
+                case 0:
+                    Integer removed = expected.remove( key );
+                    assertEquals( removed == null ? 0 : removed.intValue(), map.remove( key ) );
+                    break;
+                default:
+                    Integer previous = expected.put( key, i );
+                    assertEquals( previous == null ? 0 : previous.intValue(), map.put( key, i ) );
+            }
+            assertEquals( expected.size(), map.size() );
+        }
+        for ( int key = -2000; key < 2000; key++ ) {
+            assertEquals( expected.containsKey( key ), map.containsKey( key ) );
+        }
+        TIntIntHashMap plain = new TIntIntHashMap();
+        for ( Map.Entry<Integer,Integer> entry : expected.entrySet() ) {
+            plain.put( entry.getKey(), entry.getValue() );
+        }
+        assertEquals( plain, map );
+        assertEquals( map, plain );
+        assertEquals( plain.hashCode(), map.hashCode() );
+        assertEquals( expected.size(), map.keys().length );
+
+        map.clear();
+        assertTrue( map.isEmpty() );
+        assertFalse( map.containsKey( 0 ) );
+    }
+
+
+    public void testNoEntryKey() {
+        // the no entry key marks the free slots, so its entry lives beside the table
+        TIntIntInterleavedHashMap map = new TIntIntInterleavedHashMap( 10, 0.5f, -1, -1 );
+        assertEquals( -1, map.put( -1, 7 ) );
+        assertEquals( -1, map.put( 0, 8 ) );
+        assertEquals( 2, map.size() );
+        assertTrue( map.containsKey( -1 ) );
+        assertEquals( 7, map.get( -1 ) );
+        assertTrue( map.containsValue( 7 ) );
+        assertTrue( map.adjustValue( -1, 3 ) );
+        assertEquals( 10, map.get( -1 ) );
+
+        int seen = 0;
+        for ( TIntIntIterator it = map.iterator(); it.hasNext(); ) {
+            it.advance();
+            if ( it.key() == -1 ) {
+                assertEquals( 10, it.value() );
+                it.remove();
+            }
+            seen++;
+        }
+        assertEquals( 2, seen );
+        assertFalse( map.containsKey( -1 ) );
+        assertEquals( 1, map.size() );
+        assertEquals( 8, map.get( 0 ) );
+    }
+
+
+    public void testIteratorRemove() {
+        TLongDoubleInterleavedHashMap map = new TLongDoubleInterleavedHashMap();
+        for ( long i = 0; i < 5000; i++ ) {
+            map.put( i * 31, i / 2.0 );
+        }
+        TLongSet keys = map.keySet();
+        for ( TLongIterator it = keys.iterator(); it.hasNext(); ) {
+            if ( it.next() % 2 == 0 ) {
+                it.remove();
+            }
+        }
+        assertEquals( 2500, map.size() );
+        for ( long i = 0; i < 5000; i++ ) {
+            assertEquals( i % 2 == 1, map.containsKey( i * 31 ) );
+            if ( i % 2 == 1 ) {
+                assertEquals( i / 2.0, map.get( i * 31 ) );
+            }
+        }
+
+        map.retainEntries( new TLongDoubleProcedure() {
+            public boolean execute( long key, double value ) {
+                return value < 1000;
+            }
+        } );
+        assertEquals( 1000, map.size() );
+    }
+
+
+    public void testFloatingPointKeys() {
+        TFloatIntInterleavedHashMap map = new TFloatIntInterleavedHashMap();
+        map.put( 0.0f, 1 );
+        map.put( -0.0f, 2 );
+        map.put( Float.NaN, 3 );
+        map.put( 1.5f, 4 );
+        assertEquals( 4, map.size() );
+        assertEquals( 1, map.get( 0.0f ) );
+        assertEquals( 2, map.get( -0.0f ) );
+        assertEquals( 3, map.get( Float.NaN ) );
+        assertEquals( 4, map.get( 1.5f ) );
+
+        TCharShortInterleavedHashMap chars = new TCharShortInterleavedHashMap();
+        for ( char c = 'a'; c <= 'z'; c++ ) {
+            chars.put( c, ( short ) -c );
+        }
+        chars.put( Character.MAX_VALUE, ( short ) 1 );
+        assertEquals( 27, chars.size() );
+        assertEquals( ( short ) -'q', chars.get( 'q' ) );
+        assertEquals( ( short ) 1, chars.get( Character.MAX_VALUE ) );
+    }
+
+
+    public void testSerialization() throws Exception {
+        TIntIntMap map = new TIntIntInterleavedHashMap( 10, 0.75f, 5, -5 );
+        for ( int i = 0; i < 1000; i++ ) {
+            map.put( i, i * i );
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream( bytes );
+        out.writeObject( map );
+        out.close();
+        final TIntIntMap copy = ( TIntIntMap ) new ObjectInputStream(
+            new ByteArrayInputStream( bytes.toByteArray() ) ).readObject();
+        assertEquals( map, copy );
+        assertEquals( 5, copy.getNoEntryKey() );
+        assertEquals( -5, copy.getNoEntryValue() );
+        assertEquals( 25, copy.get( 5 ) );
+        assertTrue( map.forEachEntry( new TIntIntProcedure() {
+            public boolean execute( int key, int value ) {
+                return copy.get( key ) == value;
+            }
+        } ) );
+    }
+}
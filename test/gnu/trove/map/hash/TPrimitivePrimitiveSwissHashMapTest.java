@@ -0,0 +1,183 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.hash;
+
+import gnu.trove.iterator.TIntIntIterator;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.procedure.TLongDoubleProcedure;
+import gnu.trove.set.TLongSet;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+
+
+/**
+ *
+ */
+public class TPrimitivePrimitiveSwissHashMapTest extends TestCase {
+
+    public TPrimitivePrimitiveSwissHashMapTest( String name ) {
+        super( name );
+    }
+
+
+    public void testRandomOperations() {
+        TLongLongSwissHashMap map = new TLongLongSwissHashMap( 4 );
+        Map<Long, Long> reference = new HashMap<Long, Long>();
+        Random random = new Random( 42 );
+        for ( int i = 0; i < 200000; i++ ) {
+            // a narrow key range churns through many DELETED markers
+            long key = random.nextInt( 3000 ) * 64L;
+            switch ( random.nextInt( 4 ) ) {
+                case 0:
+                case 1:
+                    Long previous = reference.put( key, ( long ) i );
+                    assertEquals( previous == null ? 0 : previous.longValue(),
+                        map.put( key, i ) );
+                    break;
+                case 2:
+                    previous = reference.remove( key );
+                    assertEquals( previous == null ? 0 : previous.longValue(),
+                        map.remove( key ) );
+                    break;
+                default:
+                    assertEquals( reference.containsKey( key ), map.containsKey( key ) );
+            }
+            assertEquals( reference.size(), map.size() );
+        }
+        for ( Map.Entry<Long, Long> entry : reference.entrySet() ) {
+            assertEquals( entry.getValue().longValue(), map.get( entry.getKey() ) );
+        }
+        assertEquals( new TLongLongHashMap( map ), map );
+    }
+
+
+    public void testLoadFactor() {
+        TIntIntSwissHashMap map = new TIntIntSwissHashMap();
+        assertEquals( TIntIntSwissHashMap.DEFAULT_LOAD_FACTOR, 0.875f );
+        for ( int i = 0; i < 7000; i++ ) {
+            map.put( i, i );
+        }
+        assertEquals( 8192, map.capacity() );
+
+        // a table that is less than half full clears its DELETED markers
+        // instead of growing
+        for ( int i = 0; i < 4000; i++ ) {
+            assertEquals( i, map.remove( i ) );
+        }
+        for ( int i = 4000; i < 100000; i++ ) {
+            assertEquals( i, map.remove( i ) );
+            map.put( i + 3000, i + 3000 );
+        }
+        assertEquals( 8192, map.capacity() );
+        assertEquals( 3000, map.size() );
+
+        TIntIntSwissHashMap sized = new TIntIntSwissHashMap( 7000 );
+        assertEquals( 8192, sized.capacity() );
+        sized.putAll( map );
+        assertEquals( 8192, sized.capacity() );
+        assertEquals( map, sized );
+    }
+
+
+    public void testIterators() {
+        TIntIntMap map = new TIntIntSwissHashMap();
+        for ( int i = 0; i < 1000; i++ ) {
+            map.put( i, i * 2 );
+        }
+        int count = 0;
+        for ( TIntIntIterator iter = map.iterator(); iter.hasNext(); ) {
+            iter.advance();
+            assertEquals( iter.key() * 2, iter.value() );
+            if ( iter.key() % 2 == 0 ) {
+                iter.remove();
+            }
+            else {
+                iter.setValue( -iter.key() );
+            }
+            count++;
+        }
+        assertEquals( 1000, count );
+        assertEquals( 500, map.size() );
+        for ( int i = 0; i < 1000; i++ ) {
+            assertEquals( i % 2 == 1, map.containsKey( i ) );
+            assertEquals( i % 2 == 1 ? -i : 0, map.get( i ) );
+        }
+        assertEquals( 500, map.keys().length );
+        assertTrue( map.valueCollection().contains( -999 ) );
+        assertTrue( map.keySet().remove( 999 ) );
+        assertFalse( map.containsValue( -999 ) );
+    }
+
+
+    public void testViews() {
+        TLongDoubleSwissHashMap map = new TLongDoubleSwissHashMap( 10, 0.75f, -1, Double.NaN );
+        for ( long i = 0; i < 100; i++ ) {
+            map.put( i, i / 2.0 );
+        }
+        assertTrue( Double.isNaN( map.get( 100 ) ) );
+        assertEquals( 1.5, map.adjustOrPutValue( 1, 1.0, 7.0 ) );
+        assertEquals( 7.0, map.adjustOrPutValue( 100, 1.0, 7.0 ) );
+
+        TLongSet keys = map.keySet();
+        assertEquals( 101, keys.size() );
+        for ( TLongIterator iter = keys.iterator(); iter.hasNext(); ) {
+            if ( iter.next() >= 50 ) {
+                iter.remove();
+            }
+        }
+        assertEquals( 50, map.size() );
+        map.retainEntries( new TLongDoubleProcedure() {
+            public boolean execute( long key, double value ) {
+                return key < 10;
+            }
+        } );
+        assertEquals( 10, map.size() );
+        assertTrue( map.keySet().containsAll( new long[] { 0, 5, 9 } ) );
+        map.clear();
+        assertTrue( map.isEmpty() );
+        assertEquals( "{}", map.toString() );
+    }
+
+
+    public void testSerialization() throws Exception {
+        TIntIntSwissHashMap map = new TIntIntSwissHashMap( 10, 0.6f, -1, -2 );
+        for ( int i = 0; i < 1000; i++ ) {
+            map.put( i, i * 3 );
+        }
+        map.remove( 500 );
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream( bytes );
+        out.writeObject( map );
+        out.close();
+        TIntIntSwissHashMap copy = ( TIntIntSwissHashMap ) new ObjectInputStream(
+            new ByteArrayInputStream( bytes.toByteArray() ) ).readObject();
+        assertEquals( map, copy );
+        assertEquals( -1, copy.getNoEntryKey() );
+        assertEquals( -2, copy.get( 500 ) );
+        assertEquals( map.capacity(), copy.capacity() );
+    }
+}
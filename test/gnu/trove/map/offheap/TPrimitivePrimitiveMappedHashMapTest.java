@@ -0,0 +1,221 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.offheap;
+
+import gnu.trove.map.hash.TIntLongHashMap;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ReadOnlyBufferException;
+
+
+
+/**
+ *
+ */
+public class TPrimitivePrimitiveMappedHashMapTest extends TestCase {
+
+    private File file;
+
+
+    public TPrimitivePrimitiveMappedHashMapTest( String name ) {
+        super( name );
+    }
+
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        file = File.createTempFile( "trove", ".map" );
+    }
+
+
+    @Override
+    protected void tearDown() throws Exception {
+        file.delete();
+        super.tearDown();
+    }
+
+
+    public void testReopen() throws IOException {
+        TIntLongHashMap expected = new TIntLongHashMap();
+        TIntLongMappedHashMap map = new TIntLongMappedHashMap( file, 4, 0.5f, -1, -2 );
+        for ( int i = 0; i < 50000; i++ ) {
+            map.put( i * 7, i * 3L );
+            expected.put( i * 7, i * 3L );
+        }
+        for ( int i = 0; i < 50000; i += 5 ) {
+            map.remove( i * 7 );
+            expected.remove( i * 7 );
+        }
+        long capacity = map.capacity();
+        map.close();
+
+        map = TIntLongMappedHashMap.open( file, true );
+        try {
+            assertTrue( map.isReadOnly() );
+            assertEquals( capacity, map.capacity() );
+            assertEquals( -1, map.getNoEntryKey() );
+            assertEquals( -2, map.getNoEntryValue() );
+            assertEquals( -2, map.get( 5 ) );
+            assertEquals( expected, map );
+            assertEquals( map, expected );
+        }
+        finally {
+            map.close();
+        }
+
+        map = TIntLongMappedHashMap.open( file, false );
+        map.put( 1, 1 );
+        map.remove( 7 );
+        map.close();
+        expected.put( 1, 1 );
+        expected.remove( 7 );
+
+        map = TIntLongMappedHashMap.open( file, true );
+        try {
+            assertEquals( expected, map );
+        }
+        finally {
+            map.close();
+        }
+    }
+
+
+    public void testReadOnly() throws IOException {
+        TIntLongMappedHashMap map = new TIntLongMappedHashMap( file );
+        map.put( 1, 2 );
+        map.close();
+
+        map = TIntLongMappedHashMap.open( file, true );
+        try {
+            map.put( 3, 4 );
+            fail( "Expected ReadOnlyBufferException" );
+        }
+        catch ( ReadOnlyBufferException ex ) {
+            // expected
+        }
+        try {
+            map.remove( 1 );
+            fail( "Expected ReadOnlyBufferException" );
+        }
+        catch ( ReadOnlyBufferException ex ) {
+            // expected
+        }
+        assertEquals( 1, map.size() );
+        assertEquals( 2, map.get( 1 ) );
+        map.close();
+    }
+
+
+    public void testDirtyHeaderCountsEntries() throws IOException {
+        TIntLongMappedHashMap map = new TIntLongMappedHashMap( file );
+        try {
+            for ( int i = 0; i < 100; i++ ) {
+                map.put( i, i );
+            }
+            map.flush();
+            for ( int i = 100; i < 150; i++ ) {
+                map.put( i, i );
+            }
+
+            // the writer is still open, so the header is dirty
+            TIntLongMappedHashMap reader = TIntLongMappedHashMap.open( file, true );
+            try {
+                assertEquals( 150, reader.size() );
+                assertEquals( 149, reader.get( 149 ) );
+            }
+            finally {
+                reader.close();
+            }
+        }
+        finally {
+            map.close();
+        }
+    }
+
+
+    public void testFlushLeavesHeaderClean() throws IOException {
+        TIntLongMappedHashMap map = new TIntLongMappedHashMap( file );
+        try {
+            assertFalse( isDirty() );
+            map.put( 1, 2 );
+            assertTrue( isDirty() );
+            map.flush();
+            assertFalse( isDirty() );
+            assertEquals( 2, map.get( 1 ) );
+            assertFalse( isDirty() );
+
+            map.put( 1, 3 );
+            assertTrue( isDirty() );
+            map.flush();
+            assertFalse( isDirty() );
+            map.remove( 1 );
+            assertTrue( isDirty() );
+            map.flush();
+            map.ensureCapacity( 1000 );
+            assertTrue( isDirty() );
+            map.put( 4, 5 );
+            map.flush();
+            assertFalse( isDirty() );
+        }
+        finally {
+            map.close();
+        }
+
+        // opening for writing doesn't mark the header until a change
+        map = TIntLongMappedHashMap.open( file, false );
+        try {
+            assertFalse( isDirty() );
+            assertEquals( 5, map.get( 4 ) );
+            assertFalse( isDirty() );
+            map.clear();
+            assertTrue( isDirty() );
+        }
+        finally {
+            map.close();
+        }
+        assertFalse( isDirty() );
+    }
+
+
+    /** Reads the dirty flag of the header from the file. */
+    private boolean isDirty() throws IOException {
+        RandomAccessFile raf = new RandomAccessFile( file, "r" );
+        try {
+            raf.seek( 11 );
+            return raf.readByte() != 0;
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+
+    public void testWrongType() throws IOException {
+        new TIntLongMappedHashMap( file ).close();
+        try {
+            TLongLongMappedHashMap.open( file, true );
+            fail( "Expected IOException" );
+        }
+        catch ( IOException ex ) {
+            // expected
+        }
+    }
+}
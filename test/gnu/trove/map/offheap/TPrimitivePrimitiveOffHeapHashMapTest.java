@@ -0,0 +1,191 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.offheap;
+
+import gnu.trove.iterator.TIntIntIterator;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+import gnu.trove.procedure.TIntIntProcedure;
+import gnu.trove.procedure.TLongLongProcedure;
+import junit.framework.TestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+
+
+/**
+ *
+ */
+public class TPrimitivePrimitiveOffHeapHashMapTest extends TestCase {
+
+    public TPrimitivePrimitiveOffHeapHashMapTest( String name ) {
+        super( name );
+    }
+
+
+    public void testRandomOperations() {
+        TLongLongOffHeapHashMap map = new TLongLongOffHeapHashMap();
+        Map<Long, Long> reference = new HashMap<Long, Long>();
+        Random random = new Random( 42 );
+        try {
+            for ( int i = 0; i < 200000; i++ ) {
+                long key = random.nextInt( 5000 );
+                switch ( random.nextInt( 4 ) ) {
+                    case 0:
+                    case 1:
+                        Long previous = reference.put( key, ( long ) i );
+                        assertEquals( previous == null ? 0 : previous.longValue(),
+                            map.put( key, i ) );
+                        break;
+                    case 2:
+                        previous = reference.remove( key );
+                        assertEquals( previous == null ? 0 : previous.longValue(),
+                            map.remove( key ) );
+                        break;
+                    default:
+                        assertEquals( reference.containsKey( key ), map.containsKey( key ) );
+                }
+                assertEquals( reference.size(), map.size() );
+            }
+            for ( Map.Entry<Long, Long> entry : reference.entrySet() ) {
+                assertEquals( entry.getValue().longValue(), map.get( entry.getKey() ) );
+            }
+            assertEquals( new TLongLongHashMap( map ), map );
+            assertEquals( map, new TLongLongHashMap( map ) );
+        }
+        finally {
+            map.close();
+        }
+    }
+
+
+    public void testGrowth() {
+        TIntIntOffHeapHashMap map = new TIntIntOffHeapHashMap( 1 );
+        try {
+            for ( int i = 0; i < 100000; i++ ) {
+                map.put( i * 31, i );
+            }
+            assertEquals( 100000, map.size() );
+            assertTrue( map.capacity() >= 200000 );
+            for ( int i = 0; i < 100000; i++ ) {
+                assertEquals( i, map.get( i * 31 ) );
+            }
+            assertFalse( map.containsKey( 1 ) );
+        }
+        finally {
+            map.close();
+        }
+    }
+
+
+    public void testIteratorRemove() {
+        TIntIntOffHeapHashMap map = new TIntIntOffHeapHashMap( 16, 0.9f );
+        TIntIntHashMap expected = new TIntIntHashMap();
+        Random random = new Random( 7 );
+        try {
+            for ( int i = 0; i < 10000; i++ ) {
+                int key = random.nextInt();
+                map.put( key, i );
+                if ( ( i & 1 ) == 0 ) {
+                    expected.put( key, i );
+                }
+            }
+
+            int seen = 0;
+            for ( TIntIntIterator iter = map.iterator(); iter.hasNext(); ) {
+                iter.advance();
+                seen++;
+                if ( ( iter.value() & 1 ) != 0 ) {
+                    iter.remove();
+                }
+            }
+            assertEquals( 10000, seen );
+            assertEquals( expected, map );
+
+            map.retainEntries( new TIntIntProcedure() {
+                public boolean execute( int key, int value ) {
+                    return value % 4 == 0;
+                }
+            } );
+            assertEquals( 2500, map.size() );
+            for ( int value : map.values() ) {
+                assertEquals( 0, value % 4 );
+            }
+        }
+        finally {
+            map.close();
+        }
+    }
+
+
+    public void testViewsAndAdjust() {
+        TLongLongOffHeapHashMap map = new TLongLongOffHeapHashMap( 10, 0.5f, -1, -1 );
+        try {
+            assertEquals( -1, map.get( 5 ) );
+            assertEquals( 3, map.adjustOrPutValue( 5, 10, 3 ) );
+            assertEquals( 13, map.adjustOrPutValue( 5, 10, 3 ) );
+            assertTrue( map.increment( 5 ) );
+            assertFalse( map.adjustValue( 6, 1 ) );
+            assertEquals( 14, map.putIfAbsent( 5, 0 ) );
+            map.put( 6, 60 );
+            map.put( 7, 70 );
+
+            assertTrue( map.keySet().contains( 6 ) );
+            assertTrue( map.valueCollection().remove( 70 ) );
+            assertFalse( map.containsKey( 7 ) );
+            assertTrue( map.keySet().remove( 6 ) );
+            assertEquals( 1, map.size() );
+
+            long sum = 0;
+            for ( TLongIterator iter = map.keySet().iterator(); iter.hasNext(); ) {
+                sum += iter.next();
+            }
+            assertEquals( 5, sum );
+
+            map.clear();
+            assertTrue( map.isEmpty() );
+            assertFalse( map.containsKey( 5 ) );
+            assertTrue( map.forEachEntry( new TLongLongProcedure() {
+                public boolean execute( long key, long value ) {
+                    return false;
+                }
+            } ) );
+        }
+        finally {
+            map.close();
+        }
+    }
+
+
+    public void testClose() {
+        TIntIntOffHeapHashMap map = new TIntIntOffHeapHashMap();
+        map.put( 1, 2 );
+        map.close();
+        assertTrue( map.isClosed() );
+        map.close();
+        try {
+            map.get( 1 );
+            fail( "Expected IllegalStateException" );
+        }
+        catch ( IllegalStateException ex ) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,265 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.map.tree;
+
+import gnu.trove.iterator.TLongIntIterator;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.TLongIntSortedMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import gnu.trove.procedure.TLongIntProcedure;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+
+/**
+ * Tests for the B+tree primitive-primitive maps.
+ */
+public class TPrimitivePrimitiveBTreeMapTest extends TestCase {
+
+    public TPrimitivePrimitiveBTreeMapTest( String name ) {
+        super( name );
+    }
+
+
+    public void testRandomOperations() {
+        TLongIntBTreeMap map = new TLongIntBTreeMap( -1, -1 );
+        TreeMap<Long,Integer> expected = new TreeMap<Long,Integer>();
+        Random random = new Random( 24 );
+        for ( int i = 0; i < 200000; i++ ) {
+            long key = random.nextInt( 20000 );
+            // phases of mostly inserts and mostly removals grow and shrink the tree
+            boolean removing = ( i / 50000 ) % 2 == 1 ? random.nextInt( 4 ) != 0 : random.nextInt( 4 ) == 0;
+            if ( removing ) {
+                Integer removed = expected.remove( key );
+                assertEquals( removed == null ? -1 : removed.intValue(), map.remove( key ) );
+            }
+            else {
+                Integer previous = expected.put( key, i );
+                assertEquals( previous == null ? -1 : previous.intValue(), map.put( key, i ) );
+            }
+            assertEquals( expected.size(), map.size() );
+            if ( i % 1000 == 0 ) {
+                assertSame( expected, map );
+            }
+        }
+        assertSame( expected, map );
+
+        TLongIntMap hashed = new TLongIntHashMap( map );
+        assertEquals( hashed, map );
+        assertEquals( map, hashed );
+        assertEquals( hashed.hashCode(), map.hashCode() );
+
+        map.clear();
+        assertTrue( map.isEmpty() );
+        assertEquals( -1, map.get( 5 ) );
+    }
+
+
+    public void testAscendingInsertion() {
+        TLongIntBTreeMap map = new TLongIntBTreeMap();
+        for ( int i = 0; i < 100000; i++ ) {
+            map.put( 1000000000L + i * 7L, i );
+        }
+        assertEquals( 100000, map.size() );
+        assertEquals( 1000000000L, map.firstKey() );
+        assertEquals( 1000000000L + 99999 * 7L, map.lastKey() );
+        long[] keys = map.keys();
+        for ( int i = 0; i < keys.length; i++ ) {
+            assertEquals( 1000000000L + i * 7L, keys[i] );
+        }
+        for ( int i = 0; i < 100000; i += 2 ) {
+            assertEquals( i, map.remove( 1000000000L + i * 7L ) );
+        }
+        assertEquals( 50000, map.size() );
+        assertEquals( 1000000007L, map.firstKey() );
+    }
+
+
+    public void testNavigation() {
+        TLongIntBTreeMap map = new TLongIntBTreeMap( -1, -1 );
+        TreeMap<Long,Integer> expected = new TreeMap<Long,Integer>();
+        try {
+            map.firstKey();
+            fail( "Expected NoSuchElementException" );
+        }
+        catch ( NoSuchElementException ex ) {
+            // expected
+        }
+        for ( long key = 0; key < 10000; key += 10 ) {
+            map.put( key, ( int ) key );
+            expected.put( key, ( int ) key );
+        }
+        for ( long key = -20; key < 10020; key += 3 ) {
+            assertEquals( orNone( expected.floorKey( key ) ), map.floorKey( key ) );
+            assertEquals( orNone( expected.ceilingKey( key ) ), map.ceilingKey( key ) );
+            assertEquals( orNone( expected.lowerKey( key ) ), map.lowerKey( key ) );
+            assertEquals( orNone( expected.higherKey( key ) ), map.higherKey( key ) );
+        }
+        assertEquals( 0, map.firstKey() );
+        assertEquals( 9990, map.lastKey() );
+    }
+
+
+    public void testRanges() {
+        TLongIntBTreeMap map = new TLongIntBTreeMap( -1, -1 );
+        TreeMap<Long,Integer> expected = new TreeMap<Long,Integer>();
+        for ( long key = 0; key < 5000; key += 5 ) {
+            map.put( key, ( int ) key );
+            expected.put( key, ( int ) key );
+        }
+
+        TLongIntSortedMap sub = map.subMap( 1002, 3000 );
+        assertSame( expected.subMap( 1002L, 3000L ), sub );
+        assertEquals( 1005, sub.firstKey() );
+        assertEquals( 2995, sub.lastKey() );
+        assertEquals( -1, sub.floorKey( 1003 ) );
+        assertEquals( -1, sub.ceilingKey( 3000 ) );
+        assertEquals( 2995, sub.floorKey( 4000 ) );
+        assertEquals( -1, sub.get( 500 ) );
+        assertFalse( sub.containsKey( 3000 ) );
+        assertSame( expected.headMap( 100L ), map.headMap( 100 ) );
+        assertSame( expected.tailMap( 4900L ), map.tailMap( 4900 ) );
+        assertSame( expected.subMap( 2000L, 2100L ), sub.subMap( 2000, 2100 ) );
+
+        // changes show through in both directions
+        sub.put( 1003, 7 );
+        assertEquals( 7, map.get( 1003 ) );
+        map.remove( 1005 );
+        assertEquals( 1003, sub.firstKey() );
+        try {
+            sub.put( 3000, 1 );
+            fail( "Expected IllegalArgumentException" );
+        }
+        catch ( IllegalArgumentException ex ) {
+            // expected
+        }
+        try {
+            sub.subMap( 0, 2000 );
+            fail( "Expected IllegalArgumentException" );
+        }
+        catch ( IllegalArgumentException ex ) {
+            // expected
+        }
+
+        final List<Long> visited = new ArrayList<Long>();
+        assertTrue( map.forEachEntry( 20, 50, new TLongIntProcedure() {
+            public boolean execute( long key, int value ) {
+                visited.add( key );
+                return true;
+            }
+        } ) );
+        assertEquals( "[20, 25, 30, 35, 40, 45]", visited.toString() );
+
+        // clearing a view removes just its range
+        sub.clear();
+        assertTrue( sub.isEmpty() );
+        assertEquals( 1000 - 399, map.size() );
+        assertEquals( 1000, map.lowerKey( 1003 ) );
+        assertEquals( 3000, map.higherKey( 1000 ) );
+    }
+
+
+    public void testIteratorRemove() {
+        TLongIntBTreeMap map = new TLongIntBTreeMap();
+        for ( long key = 0; key < 20000; key++ ) {
+            map.put( key, ( int ) key );
+        }
+        int seen = 0;
+        for ( TLongIntIterator it = map.iterator(); it.hasNext(); ) {
+            it.advance();
+            assertEquals( seen++, it.key() );
+            if ( it.key() % 3 != 0 ) {
+                it.remove();
+            }
+            else {
+                it.setValue( -it.value() );
+            }
+        }
+        assertEquals( 20000, seen );
+        assertEquals( 6667, map.size() );
+        assertEquals( -9, map.get( 9 ) );
+        assertFalse( map.containsKey( 10 ) );
+
+        map.subMap( 0, 10000 ).retainEntries( new TLongIntProcedure() {
+            public boolean execute( long key, int value ) {
+                return key % 2 == 0;
+            }
+        } );
+        assertEquals( 6667 - 1667, map.size() );
+        assertEquals( 9996, map.lowerKey( 10000 ) );
+    }
+
+
+    public void testSerialization() throws Exception {
+        TLongIntBTreeMap map = new TLongIntBTreeMap( 5, -5 );
+        for ( long key = 0; key < 1000; key++ ) {
+            map.put( key * key, ( int ) key );
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream( bytes );
+        out.writeObject( map );
+        out.writeObject( map.headMap( 100 ) );
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(
+            new ByteArrayInputStream( bytes.toByteArray() ) );
+        TLongIntSortedMap copy = ( TLongIntSortedMap ) in.readObject();
+        TLongIntSortedMap head = ( TLongIntSortedMap ) in.readObject();
+        assertEquals( map, copy );
+        assertEquals( 5, copy.getNoEntryKey() );
+        assertEquals( -5, copy.getNoEntryValue() );
+        assertEquals( 998001, copy.lastKey() );
+        assertEquals( 10, head.size() );
+        head.put( 1000, 1 );
+        assertEquals( 1000, head.lastKey() );
+    }
+
+
+    private static long orNone( Long key ) {
+        return key == null ? -1 : key.longValue();
+    }
+
+
+    private static void assertSame( SortedMap<Long,Integer> expected, TLongIntSortedMap map ) {
+        assertEquals( expected.size(), map.size() );
+        assertEquals( expected.isEmpty(), map.isEmpty() );
+        TLongIntIterator it = map.iterator();
+        for ( Map.Entry<Long,Integer> entry : expected.entrySet() ) {
+            assertTrue( it.hasNext() );
+            it.advance();
+            assertEquals( entry.getKey().longValue(), it.key() );
+            assertEquals( entry.getValue().intValue(), it.value() );
+            assertEquals( entry.getValue().intValue(), map.get( entry.getKey() ) );
+        }
+        assertFalse( it.hasNext() );
+        if ( !expected.isEmpty() ) {
+            assertEquals( expected.firstKey().longValue(), map.firstKey() );
+            assertEquals( expected.lastKey().longValue(), map.lastKey() );
+        }
+    }
+}
@@ -0,0 +1,126 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.set.hash;
+
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.set.TLongSet;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+
+
+/**
+ * Tests for the frozen, minimal perfect hashing sets.
+ */
+public class TFrozenHashSetTest extends TestCase {
+
+    public TFrozenHashSetTest( String name ) {
+        super( name );
+    }
+
+
+    public void testContains() {
+        Random random = new Random( 25 );
+        for ( int size : new int[] { 0, 1, 2, 5, 1000, 200000 } ) {
+            TLongHashSet set = new TLongHashSet();
+            while ( set.size() < size ) {
+                set.add( random.nextLong() >> random.nextInt( 64 ) );
+            }
+            TLongFrozenHashSet frozen = set.freeze();
+            assertEquals( size, frozen.size() );
+            assertEquals( set, frozen );
+            assertEquals( frozen, set );
+            assertEquals( set.hashCode(), frozen.hashCode() );
+            for ( TLongIterator it = set.iterator(); it.hasNext(); ) {
+                assertTrue( frozen.contains( it.next() ) );
+            }
+            for ( int i = 0; i < 1000; i++ ) {
+                long value = random.nextLong();
+                assertEquals( set.contains( value ), frozen.contains( value ) );
+            }
+            assertTrue( frozen.containsAll( set ) );
+            assertTrue( set.containsAll( frozen.toArray() ) );
+        }
+    }
+
+
+    public void testCollections() {
+        TIntArrayList list = new TIntArrayList();
+        for ( int i = 0; i < 100; i++ ) {
+            list.add( i % 40 );
+        }
+        TIntFrozenHashSet fromList = new TIntFrozenHashSet( list );
+        assertEquals( 40, fromList.size() );
+        assertEquals( new TIntHashSet( list ), fromList );
+
+        TFloatFrozenHashSet floats = new TFloatFrozenHashSet( new float[] { 1.5f, -0.0f, 0.0f, 1.5f } );
+        assertEquals( 2, floats.size() );
+        assertTrue( floats.contains( 0.0f ) );
+        assertTrue( floats.contains( -0.0f ) );
+        assertFalse( floats.contains( 2.5f ) );
+    }
+
+
+    public void testImmutable() {
+        TLongSet frozen = new TLongFrozenHashSet( new long[] { 1, 2, 3 } );
+        try {
+            frozen.add( 4 );
+            fail( "add() on a frozen set" );
+        }
+        catch ( UnsupportedOperationException expected ) {
+        }
+        try {
+            frozen.retainAll( new long[] { 1 } );
+            fail( "retainAll() on a frozen set" );
+        }
+        catch ( UnsupportedOperationException expected ) {
+        }
+        TLongIterator it = frozen.iterator();
+        it.next();
+        try {
+            it.remove();
+            fail( "remove() through the iterator of a frozen set" );
+        }
+        catch ( UnsupportedOperationException expected ) {
+        }
+        assertEquals( 3, frozen.size() );
+    }
+
+
+    public void testSerialization() throws Exception {
+        TLongHashSet set = new TLongHashSet();
+        for ( int i = 0; i < 5000; i++ ) {
+            set.add( i * 7919L );
+        }
+        TLongFrozenHashSet frozen = set.freeze();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream( bytes );
+        out.writeObject( frozen );
+        out.close();
+        TLongFrozenHashSet copy = ( TLongFrozenHashSet ) new ObjectInputStream(
+            new ByteArrayInputStream( bytes.toByteArray() ) ).readObject();
+        assertEquals( set, copy );
+        assertTrue( copy.contains( 4999 * 7919L ) );
+        assertFalse( copy.contains( 1 ) );
+    }
+}
@@ -0,0 +1,140 @@
+package gnu.trove.set.hash;
+
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.TLongSet;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.*;
+
+
+/**
+ * Test the primitive hash sets that mark free slots with a key.
+ */
+public class TPrimitiveSentinelHashSetTest extends TestCase {
+
+    public TPrimitiveSentinelHashSetTest( String name ) {
+        super( name );
+    }
+
+
+    public void testRandomOperations() {
+        for ( long freeKey : new long[] { 0, -1, 42 } ) {
+            TLongSet set = new TLongSentinelHashSet( freeKey, 4 );
+            Set<Long> reference = new HashSet<Long>();
+            Random random = new Random( freeKey );
+            for ( int i = 0; i < 100000; i++ ) {
+                // the free key itself comes up as well
+                long key = random.nextInt( 2000 ) - 1;
+                switch ( random.nextInt( 3 ) ) {
+                    case 0:
+                        assertEquals( reference.add( key ), set.add( key ) );
+                        break;
+                    case 1:
+                        assertEquals( reference.remove( key ), set.remove( key ) );
+                        break;
+                    default:
+                        assertEquals( reference.contains( key ), set.contains( key ) );
+                }
+                assertEquals( reference.size(), set.size() );
+            }
+            assertEquals( new TLongHashSet( reference ), set );
+            assertEquals( set, new TLongHashSet( reference ) );
+            assertEquals( new TLongHashSet( reference ).hashCode(), set.hashCode() );
+        }
+    }
+
+
+    public void testFreeKey() {
+        TIntSet set = new TIntSentinelHashSet( Integer.MIN_VALUE );
+        assertFalse( set.contains( Integer.MIN_VALUE ) );
+        assertTrue( set.add( Integer.MIN_VALUE ) );
+        assertFalse( set.add( Integer.MIN_VALUE ) );
+        assertTrue( set.contains( Integer.MIN_VALUE ) );
+        assertEquals( 1, set.size() );
+        assertTrue( Arrays.equals( new int[] { Integer.MIN_VALUE }, set.toArray() ) );
+        assertTrue( set.add( 0 ) );
+        assertEquals( 2, set.size() );
+        assertTrue( set.remove( Integer.MIN_VALUE ) );
+        assertFalse( set.remove( Integer.MIN_VALUE ) );
+        assertEquals( 1, set.size() );
+        assertTrue( set.contains( 0 ) );
+
+        try {
+            new TDoubleSentinelHashSet( Double.NaN );
+            fail( "NaN can't mark free slots" );
+        }
+        catch ( IllegalArgumentException expected ) {
+        }
+    }
+
+
+    public void testIteratorRemove() {
+        TLongSentinelHashSet set = new TLongSentinelHashSet( -1 );
+        for ( long i = -1; i < 5000; i++ ) {
+            set.add( i * 7 );
+        }
+        set.add( -1 );
+        int count = 0;
+        for ( TLongIterator iter = set.iterator(); iter.hasNext(); ) {
+            long value = iter.next();
+            if ( value % 2 != 0 ) {
+                iter.remove();
+            }
+            count++;
+        }
+        assertEquals( 5002, count );
+        for ( long i = -1; i < 5000; i++ ) {
+            assertEquals( i % 2 == 0, set.contains( i * 7 ) );
+        }
+        assertFalse( set.contains( -1 ) );
+        assertEquals( 2500, set.size() );
+
+        set.retainAll( new long[] { 0, 14, 28, 35 } );
+        assertEquals( 3, set.size() );
+        set.clear();
+        assertTrue( set.isEmpty() );
+        assertFalse( set.iterator().hasNext() );
+    }
+
+
+    public void testCapacity() {
+        TLongSentinelHashSet set = new TLongSentinelHashSet( 0, 1000 );
+        assertEquals( 2048, set.capacity() );
+        for ( long i = 1; i <= 1000; i++ ) {
+            set.add( i );
+        }
+        assertEquals( 2048, set.capacity() );
+        set.add( 0 );
+        assertEquals( 1001, set.size() );
+        for ( long i = 0; i < 10000; i++ ) {
+            set.remove( i );
+            set.add( i + 1000 );
+        }
+        assertEquals( 2048, set.capacity() );
+    }
+
+
+    public void testSerialization() throws Exception {
+        TIntSentinelHashSet set = new TIntSentinelHashSet( -1, 10, 0.75f );
+        for ( int i = -1; i < 1000; i++ ) {
+            set.add( i );
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream( bytes );
+        out.writeObject( set );
+        out.close();
+        TIntSentinelHashSet copy = ( TIntSentinelHashSet ) new ObjectInputStream(
+            new ByteArrayInputStream( bytes.toByteArray() ) ).readObject();
+        assertEquals( set, copy );
+        assertEquals( -1, copy.getFreeKey() );
+        assertTrue( copy.contains( -1 ) );
+        assertEquals( 1001, copy.size() );
+        assertEquals( set.capacity(), copy.capacity() );
+    }
+}
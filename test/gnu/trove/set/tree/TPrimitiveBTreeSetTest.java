@@ -0,0 +1,236 @@
+///////////////////////////////////////////////////////////////////////////////
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this program; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+///////////////////////////////////////////////////////////////////////////////
+
+package gnu.trove.set.tree;
+
+import gnu.trove.iterator.TIntIterator;
+import gnu.trove.procedure.TIntProcedure;
+import gnu.trove.set.TIntSortedSet;
+import gnu.trove.set.hash.TIntHashSet;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+
+/**
+ * Tests for the B+tree primitive sets.
+ */
+public class TPrimitiveBTreeSetTest extends TestCase {
+
+    public TPrimitiveBTreeSetTest( String name ) {
+        super( name );
+    }
+
+
+    public void testRandomOperations() {
+        TIntBTreeSet set = new TIntBTreeSet( -1 );
+        TreeSet<Integer> expected = new TreeSet<Integer>();
+        Random random = new Random( 24 );
+        for ( int i = 0; i < 200000; i++ ) {
+            int value = random.nextInt( 20000 );
+            // phases of mostly adds and mostly removals grow and shrink the tree
+            boolean removing = ( i / 50000 ) % 2 == 1 ? random.nextInt( 4 ) != 0 : random.nextInt( 4 ) == 0;
+            if ( removing ) {
+                assertEquals( expected.remove( value ), set.remove( value ) );
+            }
+            else {
+                assertEquals( expected.add( value ), set.add( value ) );
+            }
+            assertEquals( expected.size(), set.size() );
+            if ( i % 1000 == 0 ) {
+                assertSame( expected, set );
+            }
+        }
+        assertSame( expected, set );
+
+        TIntHashSet hashed = new TIntHashSet( set );
+        assertEquals( hashed, set );
+        assertEquals( set, hashed );
+        assertEquals( hashed.hashCode(), set.hashCode() );
+
+        set.clear();
+        assertTrue( set.isEmpty() );
+        assertFalse( set.contains( 5 ) );
+    }
+
+
+    public void testNavigation() {
+        TIntBTreeSet set = new TIntBTreeSet( -1 );
+        try {
+            set.first();
+            fail( "first() of an empty set" );
+        }
+        catch ( NoSuchElementException expected ) {
+        }
+        for ( int i = 10; i <= 10000; i += 10 ) {
+            set.add( i );
+        }
+        assertEquals( 10, set.first() );
+        assertEquals( 10000, set.last() );
+        assertEquals( 50, set.floor( 55 ) );
+        assertEquals( 50, set.floor( 50 ) );
+        assertEquals( 40, set.lower( 50 ) );
+        assertEquals( 60, set.ceiling( 55 ) );
+        assertEquals( 50, set.ceiling( 50 ) );
+        assertEquals( 60, set.higher( 50 ) );
+        assertEquals( -1, set.floor( 5 ) );
+        assertEquals( -1, set.lower( 10 ) );
+        assertEquals( -1, set.ceiling( 10001 ) );
+        assertEquals( -1, set.higher( 10000 ) );
+    }
+
+
+    public void testRanges() {
+        TIntBTreeSet set = new TIntBTreeSet( -1 );
+        TreeSet<Integer> expected = new TreeSet<Integer>();
+        for ( int i = 0; i < 5000; i += 3 ) {
+            set.add( i );
+            expected.add( i );
+        }
+
+        TIntSortedSet sub = set.subSet( 100, 2000 );
+        SortedSet<Integer> expectedSub = expected.subSet( 100, 2000 );
+        assertSame( expectedSub, sub );
+        assertEquals( 102, sub.first() );
+        assertEquals( 1998, sub.last() );
+        assertEquals( -1, sub.floor( 50 ) );
+        assertEquals( 102, sub.ceiling( 50 ) );
+        assertEquals( 1998, sub.floor( 4000 ) );
+        assertFalse( sub.contains( 99 ) );
+        assertFalse( sub.contains( 2001 ) );
+        try {
+            sub.add( 2000 );
+            fail( "added a value out of range" );
+        }
+        catch ( IllegalArgumentException ex ) {
+        }
+        try {
+            sub.subSet( 50, 500 );
+            fail( "made a view out of range" );
+        }
+        catch ( IllegalArgumentException ex ) {
+        }
+
+        assertSame( expected.headSet( 700 ), set.headSet( 700 ) );
+        assertSame( expected.tailSet( 4000 ), set.tailSet( 4000 ) );
+        assertSame( expectedSub.subSet( 500, 600 ), sub.subSet( 500, 600 ) );
+        assertTrue( set.subSet( 1, 3 ).isEmpty() );
+
+        // changes show through the views
+        sub.add( 101 );
+        assertTrue( set.contains( 101 ) );
+        set.remove( 102 );
+        assertEquals( 101, sub.first() );
+
+        final List<Integer> visited = new ArrayList<Integer>();
+        set.forEach( 10, 20, new TIntProcedure() {
+            public boolean execute( int value ) {
+                visited.add( value );
+                return true;
+            }
+        } );
+        assertEquals( 12, visited.get( 0 ).intValue() );
+        assertEquals( 18, visited.get( visited.size() - 1 ).intValue() );
+        assertEquals( 3, visited.size() );
+
+        int size = set.size();
+        int subSize = sub.size();
+        sub.clear();
+        assertTrue( sub.isEmpty() );
+        assertEquals( size - subSize, set.size() );
+        assertEquals( 99, set.floor( 1999 ) );
+        assertEquals( 2001, set.ceiling( 100 ) );
+    }
+
+
+    public void testIteratorRemove() {
+        TIntBTreeSet set = new TIntBTreeSet();
+        for ( int i = 0; i < 10000; i++ ) {
+            set.add( i );
+        }
+        TIntIterator it = set.iterator();
+        int expected = 0;
+        while ( it.hasNext() ) {
+            assertEquals( expected++, it.next() );
+            if ( expected % 5 != 0 ) {
+                it.remove();
+            }
+        }
+        assertEquals( 2000, set.size() );
+        it = set.iterator();
+        for ( int i = 4; i < 10000; i += 5 ) {
+            assertEquals( i, it.next() );
+        }
+        assertFalse( it.hasNext() );
+
+        set.retainAll( new int[] { 4, 9, 10, 14 } );
+        assertEquals( 3, set.size() );
+        assertEquals( "{4, 9, 14}", set.toString() );
+    }
+
+
+    public void testSerialization() throws Exception {
+        TIntBTreeSet set = new TIntBTreeSet( -1 );
+        for ( int i = 0; i < 1000; i++ ) {
+            set.add( i * 7 );
+        }
+        TIntBTreeSet copy = ( TIntBTreeSet ) serialize( set );
+        assertEquals( set, copy );
+        assertEquals( -1, copy.getNoEntryValue() );
+        assertEquals( 6993, copy.last() );
+
+        // a view comes back as a set of its own
+        TIntSortedSet view = set.subSet( 70, 140 );
+        TIntBTreeSet viewCopy = ( TIntBTreeSet ) serialize( view );
+        assertEquals( view, viewCopy );
+        viewCopy.add( 5000 );
+        assertEquals( 11, viewCopy.size() );
+        assertEquals( 10, view.size() );
+    }
+
+
+    private static Object serialize( Object object ) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream( bytes );
+        out.writeObject( object );
+        out.close();
+        return new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ).readObject();
+    }
+
+
+    private static void assertSame( SortedSet<Integer> expected, TIntSortedSet set ) {
+        assertEquals( expected.size(), set.size() );
+        TIntIterator it = set.iterator();
+        for ( Integer value : expected ) {
+            assertTrue( it.hasNext() );
+            assertEquals( value.intValue(), it.next() );
+        }
+        assertFalse( it.hasNext() );
+        if ( !expected.isEmpty() ) {
+            assertEquals( expected.first().intValue(), set.first() );
+            assertEquals( expected.last().intValue(), set.last() );
+        }
+    }
+}